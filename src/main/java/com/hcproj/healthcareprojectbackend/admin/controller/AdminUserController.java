@@ -26,9 +26,10 @@ public class AdminUserController {
             @RequestParam(name = "page", defaultValue = "0") int page,
             @RequestParam(name = "size", defaultValue = "10") int size,
             @RequestParam(name = "role", required = false) String role,   // USER, TRAINER, ADMIN
-            @RequestParam(name = "keyword", required = false) String keyword // 닉네임 or 이메일 검색
+            @RequestParam(name = "keyword", required = false) String keyword, // 닉네임 or 이메일 검색
+            @RequestParam(name = "match", required = false) String match      // CONTAINS(기본) or PREFIX
     ) {
-        return ApiResponse.ok(adminUserService.getUserList(page, size, role, keyword));
+        return ApiResponse.ok(adminUserService.getUserList(page, size, role, keyword, match));
     }
 
     @AdminOnly
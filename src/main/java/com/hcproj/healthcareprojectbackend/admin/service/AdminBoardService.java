@@ -10,6 +10,7 @@ import com.hcproj.healthcareprojectbackend.community.repository.PostRepository;
 import com.hcproj.healthcareprojectbackend.community.repository.ReportRepository;
 import com.hcproj.healthcareprojectbackend.global.exception.BusinessException;
 import com.hcproj.healthcareprojectbackend.global.exception.ErrorCode;
+import com.hcproj.healthcareprojectbackend.global.store.feed.FeedVersionStore;
 import com.hcproj.healthcareprojectbackend.global.util.UtilityProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -30,6 +31,7 @@ public class AdminBoardService {
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final ReportRepository reportRepository;
+    private final FeedVersionStore feedVersionStore;
 
     /**
      * 관리자 게시판 통합 조회
@@ -134,9 +136,12 @@ public class AdminBoardService {
                 .isNotice(request.isNotice())
                 .status(PostStatus.POSTED)
                 .viewCount(0L)
+                .commentCount(0L)
+                .likeCount(0L)
                 .build();
 
         PostEntity savedPost = postRepository.save(post);
+        feedVersionStore.bumpAfterCommit();
 
         return PostResponseDTO.builder()
                 .postId(savedPost.getPostId())
@@ -168,6 +173,7 @@ public class AdminBoardService {
         }
 
         post.restore();
+        feedVersionStore.bumpAfterCommit();
     }
 
     @Transactional
@@ -177,6 +183,7 @@ public class AdminBoardService {
 
         // 1. 게시글 삭제 (Soft Delete)
         post.delete();
+        feedVersionStore.bumpAfterCommit();
 
         // 2. 관련 신고 자동 처리 (PostService와 동일한 로직)
         List<ReportEntity> pendingReports = reportRepository.findByTargetIdAndTypeAndStatus(
@@ -11,12 +11,14 @@ import com.hcproj.healthcareprojectbackend.community.repository.PostRepository;
 import com.hcproj.healthcareprojectbackend.community.repository.ReportRepository;
 import com.hcproj.healthcareprojectbackend.global.exception.BusinessException;
 import com.hcproj.healthcareprojectbackend.global.exception.ErrorCode;
+import com.hcproj.healthcareprojectbackend.global.store.feed.FeedVersionStore;
 import com.hcproj.healthcareprojectbackend.pt.entity.PtRoomEntity;
 import com.hcproj.healthcareprojectbackend.pt.repository.PtRoomRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -29,6 +31,7 @@ public class AdminReportService {
     private final CommentRepository commentRepository;
     private final UserRepository userRepository;
     private final PtRoomRepository ptRoomRepository;
+    private final FeedVersionStore feedVersionStore;
 
     @Transactional(readOnly = true)
     public AdminReportListResponseDTO getReportList(String statusStr, String typeStr) {
@@ -210,10 +213,14 @@ public class AdminReportService {
             // 게시글이 존재하고, '공지사항'이 아닐 때만 삭제
             if (post != null && !Boolean.TRUE.equals(post.getIsNotice())) {
                 post.delete();
+                feedVersionStore.bumpAfterCommit();
             }
         }
         else if (currentReport.getType() == ReportType.COMMENT) {
-            commentRepository.findById(currentReport.getTargetId()).ifPresent(CommentEntity::delete);
+            // 작성자 삭제와 겹쳐도 상태를 실제로 바꾼 쪽만 comment_count를 줄인다.
+            commentRepository.findById(currentReport.getTargetId())
+                    .filter(comment -> commentRepository.softDeleteIfActive(comment.getCommentId(), Instant.now()) == 1)
+                    .ifPresent(comment -> postRepository.decreaseCommentCount(comment.getPostId()));
         }
         else if (currentReport.getType() == ReportType.PT_ROOM) {
             ptRoomRepository.findById(currentReport.getTargetId()).ifPresent(PtRoomEntity::forceClose);
@@ -32,7 +32,7 @@ public class AdminUserService {
 
     // 2. 전체 회원 목록 조회
     @Transactional(readOnly = true)
-    public AdminUserListResponseDTO getUserList(int page, int size, String roleStr, String keyword) {
+    public AdminUserListResponseDTO getUserList(int page, int size, String roleStr, String keyword, String match) {
         // Role 파라미터 변환
         String roleParam = null;
         if (roleStr != null && !roleStr.isBlank()) {
@@ -59,8 +59,8 @@ public class AdminUserService {
             users = userRepository.findAllWithFiltersNoKeyword(roleParam, size, offsetSize);
             total = userRepository.countAllWithFiltersNoKeyword(roleParam);
         } else {
-            // 검색어 있음 - 띄어쓰기 제거 + 소문자 변환 + 와일드카드 추가
-            String likePattern = "%" + normalizedKeyword.toLowerCase().replace(" ", "") + "%";
+            // 검색어 있음 - 띄어쓰기 제거 + 소문자 변환 + 와일드카드 추가(match=PREFIX면 앞부분 일치)
+            String likePattern = UtilityProvider.toSearchKeyPattern(normalizedKeyword, match);
             users = userRepository.findAllWithFiltersAndKeyword(roleParam, likePattern, size, offsetSize);
             total = userRepository.countAllWithFiltersAndKeyword(roleParam, likePattern);
         }
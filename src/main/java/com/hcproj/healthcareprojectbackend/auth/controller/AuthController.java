@@ -6,6 +6,8 @@ import com.hcproj.healthcareprojectbackend.auth.dto.response.TokenResponseDTO;
 import com.hcproj.healthcareprojectbackend.auth.service.AuthService;
 import com.hcproj.healthcareprojectbackend.auth.service.EmailVerificationService;
 import com.hcproj.healthcareprojectbackend.auth.service.PasswordResetService;
+import com.hcproj.healthcareprojectbackend.global.ratelimit.RateLimitKey;
+import com.hcproj.healthcareprojectbackend.global.ratelimit.RateLimited;
 import com.hcproj.healthcareprojectbackend.global.response.ApiResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +22,7 @@ public class AuthController {
     private final EmailVerificationService emailVerificationService;
 
     // 회원가입
+    @RateLimited(policy = "signup", keys = RateLimitKey.IP)
     @PostMapping("/signup")
     public ApiResponse<TokenResponseDTO> signup(@Valid @RequestBody SignupRequestDTO request) {
         return ApiResponse.ok(authService.signup(request));
@@ -33,12 +36,14 @@ public class AuthController {
     }
 
     // 로그인
+    @RateLimited(policy = "login", keys = RateLimitKey.IP)
     @PostMapping("/login")
     public ApiResponse<TokenResponseDTO> login(@Valid @RequestBody LoginRequestDTO request) {
         return ApiResponse.ok(authService.login(request));
     }
 
     // 토큰 재발급
+    @RateLimited(policy = "reissue", keys = RateLimitKey.IP)
     @PostMapping("/token/reissue")
     public ApiResponse<TokenResponseDTO> reissue(@Valid @RequestBody TokenReissueRequestDTO request) {
         return ApiResponse.ok(authService.reissue(request));
@@ -52,6 +57,7 @@ public class AuthController {
     }
 
     // 소셜 로그인
+    @RateLimited(policy = "login", keys = RateLimitKey.IP)
     @PostMapping("/social/login")
     public ApiResponse<TokenResponseDTO> socialLogin(@Valid @RequestBody SocialLoginRequestDTO request) {
         return ApiResponse.ok(authService.socialLoginOrSignup(request));
@@ -65,6 +71,7 @@ public class AuthController {
     }
 
     // 패스워드 재설정
+    @RateLimited(policy = "password-reset", keys = RateLimitKey.IP)
     @PostMapping("/password/reset")
     public ApiResponse<Void> resetPassword(@Valid @RequestBody PasswordResetConfirmRequestDTO request) {
         passwordResetService.resetPassword(request.token(),request.email(), request.password());
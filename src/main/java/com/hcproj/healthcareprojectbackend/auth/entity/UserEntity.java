@@ -9,6 +9,7 @@ import lombok.*;
 import java.util.UUID;
 
 import static com.hcproj.healthcareprojectbackend.global.util.UtilityProvider.normalizeNullable;
+import static com.hcproj.healthcareprojectbackend.global.util.UtilityProvider.toSearchKey;
 
 /**
  * 애플리케이션 사용자 계정을 나타내는 엔티티.
@@ -30,6 +31,7 @@ import static com.hcproj.healthcareprojectbackend.global.util.UtilityProvider.no
  * <ul>
  *   <li>email: unique</li>
  *   <li>handle: unique</li>
+ *   <li>search_key: trigram(부분 일치) + B-tree(앞부분 일치) 인덱스</li>
  * </ul>
  *
  * <p><b>식별자 전략</b></p>
@@ -62,6 +64,10 @@ public class UserEntity extends BaseTimeEntity {
     @Column(name = "nickname", nullable = false, length = 50)
     private String nickname;
 
+    /** 닉네임 검색 키(공백 제거 + 소문자). 닉네임이 바뀔 때 함께 갱신된다. */
+    @Column(name = "search_key", nullable = false, length = 50)
+    private String searchKey;
+
     @Column(name = "phone_number", length = 20)
     private String phoneNumber;
 
@@ -111,6 +117,7 @@ public class UserEntity extends BaseTimeEntity {
                 .handle(handle)
                 .passwordHash(passwordHash)
                 .nickname(nickname)
+                .searchKey(toSearchKey(nickname))
                 .phoneNumber(normalizeNullable(phoneNumber))
                 .profileImageUrl(normalizeNullable(profileImageUrl))
                 .role(UserRole.USER)
@@ -148,6 +155,7 @@ public class UserEntity extends BaseTimeEntity {
                 .handle(handle)
                 .passwordHash(null) // 소셜은 비밀번호 없음
                 .nickname(nickname)
+                .searchKey(toSearchKey(nickname))
                 .phoneNumber(normalizeNullable(phoneNumber))
                 .profileImageUrl(normalizeNullable(profileImageUrl))
                 .role(UserRole.USER)
@@ -171,6 +179,7 @@ public class UserEntity extends BaseTimeEntity {
                 .handle(handle)
                 .passwordHash(passwordHash)
                 .nickname(nickname)
+                .searchKey(toSearchKey(nickname))
                 .role(UserRole.ADMIN)
                 .status(UserStatus.ACTIVE)
                 .profileImageUrl(profileImageUrl)
@@ -221,6 +230,7 @@ public class UserEntity extends BaseTimeEntity {
         if (nickname == null || nickname.isEmpty()) throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
         if (this.nickname.equals(nickname)) return;
         this.nickname = nickname;
+        this.searchKey = toSearchKey(nickname);
     }
 
     /**
@@ -320,7 +330,10 @@ public class UserEntity extends BaseTimeEntity {
         undoDeletion();
 
         // 닉네임/프로필은 정책에 따라 갱신(원하면 조건부로만 갱신)
-        if (nickname != null && !nickname.isBlank()) this.nickname = nickname;
+        if (nickname != null && !nickname.isBlank()) {
+            this.nickname = nickname;
+            this.searchKey = toSearchKey(nickname);
+        }
         if (profileImageUrl != null && !profileImageUrl.isBlank()) this.profileImageUrl = profileImageUrl;
 
         // 소셜로 재가입이면 이메일은 보통 검증된 것으로 취급
@@ -7,8 +7,10 @@ import com.hcproj.healthcareprojectbackend.trainer.entity.TrainerInfoEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collection;
 import java.util.List;
@@ -57,6 +59,50 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
 
     boolean existsByRole(UserRole role);
 
+    /**
+     * 비밀번호 해시가 {@code oldHash}일 때만 {@code newHash}로 바꾼다(로그인 시 재해시용).
+     *
+     * <p>트랜잭션 밖에서 호출되므로 자체 트랜잭션으로 실행한다.</p>
+     *
+     * @return 변경된 행 수(0이면 그 사이 비밀번호가 바뀐 것)
+     */
+    @Transactional
+    @Modifying
+    @Query("update UserEntity u set u.passwordHash = :newHash where u.id = :userId and u.passwordHash = :oldHash")
+    int updatePasswordHashIfUnchanged(@Param("userId") Long userId,
+                                      @Param("oldHash") String oldHash,
+                                      @Param("newHash") String newHash);
+
+    /**
+     * 비밀번호 해시가 {@code oldHash}일 때만 {@code newHash}로 바꾸고 수정 시각을 갱신한다(비밀번호 변경용).
+     *
+     * <p>검증/해시는 호출 전에 커넥션 없이 끝내고, 저장만 자체 트랜잭션의 UPDATE 한 문장으로 수행한다.</p>
+     *
+     * @return 변경된 행 수(0이면 검증 이후 비밀번호가 바뀐 것)
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            update UserEntity u set u.passwordHash = :newHash, u.updatedAt = :now
+            where u.id = :userId and u.passwordHash = :oldHash
+            """)
+    int changePasswordHashIfUnchanged(@Param("userId") Long userId,
+                                      @Param("oldHash") String oldHash,
+                                      @Param("newHash") String newHash,
+                                      @Param("now") Instant now);
+
+    /**
+     * 비밀번호 해시를 {@code newHash}로 바꾸고 수정 시각을 갱신한다(비밀번호 재설정용).
+     *
+     * @return 변경된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("update UserEntity u set u.passwordHash = :newHash, u.updatedAt = :now where u.id = :userId")
+    int changePasswordHash(@Param("userId") Long userId,
+                           @Param("newHash") String newHash,
+                           @Param("now") Instant now);
+
     /**
      * 특정 시각 이후 가입(생성)된 사용자 수를 반환한다.
      *
@@ -114,12 +160,13 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
     );
 
     // ============================================================
-    // 관리자용 사용자 목록 조회 - 검색어 있음 (띄어쓰기 무시)
+    // 관리자용 사용자 목록 조회 - 검색어 있음 (띄어쓰기/대소문자 무시)
+    // search_key / LOWER(email) 인덱스 사용, keyword는 UtilityProvider.toSearchKeyPattern 결과(%kw% 또는 PREFIX 모드의 kw%)
     // ============================================================
     @Query(value = "SELECT * FROM users u " +
             "WHERE (:role IS NULL OR u.role = :role) " +
-            "AND (REPLACE(LOWER(u.nickname), ' ', '') LIKE :keyword " +
-            "     OR REPLACE(LOWER(u.email), ' ', '') LIKE :keyword) " +
+            "AND (u.search_key LIKE :keyword " +
+            "     OR LOWER(u.email) LIKE :keyword) " +
             "ORDER BY u.created_at DESC " +
             "OFFSET :offsetSize ROWS FETCH FIRST :limitSize ROWS ONLY",
             nativeQuery = true)
@@ -139,12 +186,12 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
     long countAllWithFiltersNoKeyword(@Param("role") String role);
 
     // ============================================================
-    // 관리자용 사용자 개수 - 검색어 있음 (띄어쓰기 무시)
+    // 관리자용 사용자 개수 - 검색어 있음 (띄어쓰기/대소문자 무시)
     // ============================================================
     @Query(value = "SELECT COUNT(*) FROM users u " +
             "WHERE (:role IS NULL OR u.role = :role) " +
-            "AND (REPLACE(LOWER(u.nickname), ' ', '') LIKE :keyword " +
-            "     OR REPLACE(LOWER(u.email), ' ', '') LIKE :keyword)",
+            "AND (u.search_key LIKE :keyword " +
+            "     OR LOWER(u.email) LIKE :keyword)",
             nativeQuery = true)
     long countAllWithFiltersAndKeyword(
             @Param("role") String role,
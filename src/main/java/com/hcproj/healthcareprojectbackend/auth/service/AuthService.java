@@ -16,9 +16,10 @@ import com.hcproj.healthcareprojectbackend.global.security.jwt.JwtProperties;
 import com.hcproj.healthcareprojectbackend.global.security.jwt.JwtTokenProvider;
 import com.hcproj.healthcareprojectbackend.global.security.jwt.RefreshTokenStore;
 import com.hcproj.healthcareprojectbackend.global.security.jwt.TokenVersionStore;
+import com.hcproj.healthcareprojectbackend.global.security.password.PasswordHashingService;
 import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,8 +39,9 @@ import static com.hcproj.healthcareprojectbackend.global.util.UtilityProvider.no
  * <p><b>Refresh Token whitelist + 회전(Rotation)</b></p>
  * <ul>
  *   <li>로그인/회원가입/재발급 시 refreshToken(jti 포함)을 발급하고 Redis에 저장한다.</li>
- *   <li>재발급 시 기존 refreshToken(jti)이 Redis에 존재하는지 확인한다.</li>
- *   <li>재발급 성공 시 기존 refreshToken을 Redis에서 삭제(무효화)하고 새 refreshToken을 발급/저장한다.</li>
+ *   <li>재발급 시 존재/버전 확인 + 기존 jti 삭제 + 새 jti 저장을
+ *       {@link RefreshTokenStore#rotate} 한 번(Lua)으로 원자적으로 수행한다.</li>
+ *   <li>이미 회전에 사용된 refreshToken이 다시 오면 재사용으로 보고 유저의 refresh를 전부 무효화한다.</li>
  *   <li>로그아웃 시 refreshToken(jti)을 Redis에서 삭제하여 이후 재발급을 차단한다.</li>
  * </ul>
  *
@@ -49,12 +51,13 @@ import static com.hcproj.healthcareprojectbackend.global.util.UtilityProvider.no
  *   <li>JWT 만료: {@link ErrorCode#EXPIRED_TOKEN}</li>
  * </ul>
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtTokenProvider jwtTokenProvider;
     private final JwtProperties jwtProperties;
     private final RefreshTokenStore refreshTokenStore;
@@ -72,9 +75,13 @@ public class AuthService {
      *   <li>handle은 현재 임시 정책(UUID 일부)으로 생성</li>
      * </ul>
      *
+     * <p>
+     * 트랜잭션 없이 동작한다. BCrypt 해시(수백 ms)는 커넥션을 잡지 않은 상태에서 계산하고,
+     * 저장은 repository 호출 한 번으로 끝낸다.
+     * </p>
+     *
      * @throws BusinessException 이메일이 이미 존재하는 경우 {@link ErrorCode#EMAIL_DUPLICATED}
      */
-    @Transactional
     public TokenResponseDTO signup(SignupRequestDTO request) {
         // 이메일은 unique 제약이므로 사전 중복 체크 (UX + 의미있는 에러코드 반환 목적)
         if (userRepository.existsByEmail(request.email())) {
@@ -88,7 +95,7 @@ public class AuthService {
         UserEntity user = UserEntity.localRegister(
                 normalizeEmail(request.email()),
                 handle,
-                passwordEncoder.encode(request.password()),
+                passwordHashingService.encode(request.password()),
                 request.nickname(),
                 request.phoneNumber(),
                 request.profileImageUrl()
@@ -119,15 +126,22 @@ public class AuthService {
      * 로그인.
      *
      * <p>이메일/비밀번호 검증 후 토큰을 발급한다.</p>
+     * <p>저장된 해시의 BCrypt cost가 현재 cost보다 낮으면 검증된 평문으로 재해시해 저장한다.</p>
+     *
+     * <p>
+     * 트랜잭션 없이 동작한다. 사용자 조회는 repository 호출 한 번으로 끝내고,
+     * BCrypt 검증/재해시(수백 ms)는 커넥션을 잡지 않은 상태에서 수행한다.
+     * 재해시 저장은 조건부 UPDATE 한 문장이다.
+     * </p>
      *
      * @throws BusinessException 이메일이 없거나 비밀번호 불일치 시 {@link ErrorCode#LOGIN_FAILED}
      */
-    @Transactional(readOnly = true)
     public TokenResponseDTO login(LoginRequestDTO request) {
         UserEntity user = userRepository.findByEmail(normalizeEmail(request.email()))
                 .orElseThrow(() -> new BusinessException(ErrorCode.LOGIN_FAILED));
 
-        if (user.getPasswordHash() == null || !passwordEncoder.matches(request.password(), user.getPasswordHash())) {
+        String storedHash = user.getPasswordHash();
+        if (storedHash == null || !passwordHashingService.matches(request.password(), storedHash)) {
             throw new BusinessException(ErrorCode.INVALID_PASSWORD);
         }
 
@@ -135,9 +149,29 @@ public class AuthService {
 
         if (user.getStatus().equals(UserStatus.WITHDRAWN)) throw new BusinessException(ErrorCode.ALREADY_WITHDRAWN);
 
+        // 오래된 cost의 해시는 로그인 시점에 투명하게 갱신.
+        // 그 사이 비밀번호가 바뀌었으면(해시 불일치) 갱신하지 않는다.
+        if (passwordHashingService.needsRehash(storedHash)) {
+            rehashIfIdle(user.getId(), storedHash, request.password());
+        }
+
         return issueTokens(user.getId(), user.getHandle(), user.getRole().name());
     }
 
+    /**
+     * 재해시는 선택 작업이므로 해시 큐가 가득 찼으면 건너뛴다.
+     * 검증이 이미 끝난 로그인을 {@link ErrorCode#PASSWORD_HASHING_BUSY}로 실패시키지 않기 위함이며,
+     * 다음 로그인에서 다시 시도된다.
+     */
+    private void rehashIfIdle(Long userId, String storedHash, String rawPassword) {
+        try {
+            userRepository.updatePasswordHashIfUnchanged(userId, storedHash, passwordHashingService.encode(rawPassword));
+        } catch (BusinessException e) {
+            if (e.getErrorCode() != ErrorCode.PASSWORD_HASHING_BUSY) throw e;
+            log.warn("Password rehash skipped (hashing queue full). userId={}", userId);
+        }
+    }
+
     @Transactional
     public TokenResponseDTO socialLoginOrSignup(SocialLoginRequestDTO request) {
         SocialProfile profile = socialOAuthClient.fetchProfileByCode(
@@ -227,29 +261,29 @@ public class AuthService {
         String role = String.valueOf(claims.get("role"));
         String oldJti = extractJtiOrThrow(claims);
 
-        // 3) Redis whitelist 확인: 저장소에 없으면 이미 로그아웃/회전/폐기된 토큰으로 간주
-        if (!refreshTokenStore.exists(userId, oldJti)) {
-            throw new BusinessException(ErrorCode.INVALID_TOKEN);
-        }
-
-        // 2) tokenVersion 확인
+        // 3) tokenVersion claim 추출
         Object verObj = claims.get("version");
         if (!(verObj instanceof Number vn)) {
             throw new BusinessException(ErrorCode.INVALID_TOKEN);
         }
         int tokenVer = vn.intValue();
 
-        int currentVer = tokenVersionStore.getOrInit(userId);
-        if (tokenVer != currentVer) {
-            // 전부 무효화(탈퇴/전체로그아웃)가 발생한 토큰
-            throw new BusinessException(ErrorCode.INVALID_TOKEN);
+        // 4) 회전(Rotation): whitelist/버전 확인 + 기존 jti 폐기 + 새 jti 저장을 한 번에 수행
+        String newJti = UUID.randomUUID().toString();
+        var result = refreshTokenStore.rotate(userId, oldJti, newJti, tokenVer, jwtProperties.refreshTokenValiditySeconds());
+        switch (result) {
+            case ROTATED -> { }
+            case REUSED -> {
+                // 이미 소비된 refresh의 재사용: 탈취 가능성이 있으므로 전체 무효화(스크립트에서 버전 증가)
+                log.warn("Refresh token reuse detected. userId={}", userId);
+                throw new BusinessException(ErrorCode.INVALID_TOKEN);
+            }
+            // 없음(로그아웃/폐기) 또는 전부 무효화(탈퇴/전체로그아웃)가 발생한 토큰
+            default -> throw new BusinessException(ErrorCode.INVALID_TOKEN);
         }
 
-        // 4) 회전(Rotation): 기존 refresh 무효화
-        refreshTokenStore.delete(userId, oldJti);
-
-        // 5) 새 토큰 발급 + 새 refresh 저장
-        return issueTokens(userId, handle, role);
+        // 5) 새 토큰 발급 (refresh는 이미 저장됨)
+        return buildTokens(userId, handle, role, newJti, tokenVer);
     }
 
     /**
@@ -295,17 +329,25 @@ public class AuthService {
      * </ul>
      */
     private TokenResponseDTO issueTokens(long userId, String handle, String role) {
-
-        // Access Token: 서버 저장 X (짧은 만료)
-        String at = jwtTokenProvider.createAccessToken(userId, handle, role);
-
         int version = tokenVersionStore.getOrInit(userId);
         // Refresh Token: jti 생성 후 토큰에 포함, Redis에 저장(whitelist)
         String rJti = UUID.randomUUID().toString();
-        String rt =  jwtTokenProvider.createRefreshToken(userId, handle, role, rJti, version);
 
         // Refresh TTL은 토큰 exp와 동일하게 가져간다(만료 후 자동 삭제)
         refreshTokenStore.save(userId, rJti, jwtProperties.refreshTokenValiditySeconds());
+        return buildTokens(userId, handle, role, rJti, version);
+    }
+
+    /**
+     * 토큰 문자열만 생성한다(Redis 접근 없음).
+     *
+     * <p>refresh jti는 호출 측에서 이미 whitelist에 저장했어야 한다.</p>
+     */
+    private TokenResponseDTO buildTokens(long userId, String handle, String role, String rJti, int version) {
+        // Access Token: 서버 저장 X (짧은 만료)
+        String at = jwtTokenProvider.createAccessToken(userId, handle, role, version);
+        String rt = jwtTokenProvider.createRefreshToken(userId, handle, role, rJti, version);
+
         return TokenResponseDTO.builder()
                 .accessToken(at)
                 .refreshToken(rt)
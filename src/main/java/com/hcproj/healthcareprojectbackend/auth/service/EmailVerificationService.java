@@ -6,6 +6,7 @@ import com.hcproj.healthcareprojectbackend.global.exception.BusinessException;
 import com.hcproj.healthcareprojectbackend.global.exception.ErrorCode;
 import com.hcproj.healthcareprojectbackend.global.mail.port.EmailSender;
 import com.hcproj.healthcareprojectbackend.global.mail.template.EmailTemplateLoader;
+import com.hcproj.healthcareprojectbackend.global.mail.template.RenderedEmail;
 import com.hcproj.healthcareprojectbackend.global.store.verification.VerificationStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -46,13 +47,13 @@ public class EmailVerificationService {
         String hash = sha256Hex(code);
         verificationStore.saveEmailCodeHash(email, hash);
 
-        String html = templateLoader.render(
+        RenderedEmail mail = templateLoader.renderEmail(
                 "mail/email-verify.html",
                 Map.of("code", code)
         );
 
-        // HTML로 전송
-        emailSender.sendHtml(email, "[HCProject] 이메일 인증 코드", html);
+        // HTML + 미리 계산된 텍스트 fallback으로 전송
+        emailSender.sendHtml(email, "[HCProject] 이메일 인증 코드", mail.text(), mail.html());
     }
 
     /** 인증 코드 확인 */
@@ -5,6 +5,8 @@ import com.hcproj.healthcareprojectbackend.global.exception.BusinessException;
 import com.hcproj.healthcareprojectbackend.global.exception.ErrorCode;
 import com.hcproj.healthcareprojectbackend.global.mail.port.EmailSender;
 import com.hcproj.healthcareprojectbackend.global.mail.template.EmailTemplateLoader;
+import com.hcproj.healthcareprojectbackend.global.mail.template.RenderedEmail;
+import com.hcproj.healthcareprojectbackend.global.security.password.PasswordHashingService;
 import com.hcproj.healthcareprojectbackend.global.store.resetpassword.PasswordResetStore;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -13,13 +15,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Map;
 import java.util.UUID;
 
@@ -33,7 +34,7 @@ public class PasswordResetService {
     private final EmailSender emailSender;
     private final EmailTemplateLoader templateLoader;
     private final PasswordResetStore passwordResetStore;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final StringRedisTemplate redis;
 
     // 프론트 reset 페이지 URL (예: https://your-frontend.com/reset-password)
@@ -67,13 +68,13 @@ public class PasswordResetService {
 
             String link = buildResetLink(tokenId, email);
 
-            String html = templateLoader.render(
+            RenderedEmail mail = templateLoader.renderEmail(
                     "mail/password-reset.html",
                     Map.of("link", link)
             );
 
             try {
-                emailSender.sendHtml(email, "[HCProject] 비밀번호 재설정 안내", html);
+                emailSender.sendHtml(email, "[HCProject] 비밀번호 재설정 안내", mail.text(), mail.html());
             } catch (Exception e) {
                 log.error("Password reset mail send failed. email={}", email, e);
                 throw e;
@@ -97,7 +98,14 @@ public class PasswordResetService {
         return resetPasswordBaseUrl + sep + "token=" + encodedToken + "&email=" + encodedEmail;
     }
 
-    @Transactional
+    /**
+     * 비밀번호 재설정.
+     *
+     * <p>
+     * 트랜잭션 없이 동작한다. 토큰/사용자 확인이 끝난 뒤 BCrypt 해시(수백 ms)를 커넥션 없이 계산하고,
+     * 저장은 UPDATE 한 문장으로 수행한다.
+     * </p>
+     */
     public void resetPassword(String rawToken, String rawEmail, String newPassword) {
         String token = rawToken == null ? null : rawToken.trim();
         String email = rawEmail == null ? null : rawEmail.trim().toLowerCase();
@@ -127,8 +135,8 @@ public class PasswordResetService {
         }
 
         // 4) 비밀번호 변경
-        String encoded = passwordEncoder.encode(newPassword);
-        user.changePasswordHash(encoded); // <- 엔티티 메서드명에 맞게 바꿔
+        String encoded = passwordHashingService.encode(newPassword);
+        userRepository.changePasswordHash(user.getId(), encoded, Instant.now());
 
         // 5) 토큰 삭제(재사용 방지)
         passwordResetStore.deleteToken(token);
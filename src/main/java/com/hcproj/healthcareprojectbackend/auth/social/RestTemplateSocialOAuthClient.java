@@ -1,7 +1,8 @@
 package com.hcproj.healthcareprojectbackend.auth.social;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hcproj.healthcareprojectbackend.auth.entity.SocialProvider;
 import com.hcproj.healthcareprojectbackend.global.config.properties.SocialOAuthProperties;
 import com.hcproj.healthcareprojectbackend.global.exception.BusinessException;
@@ -9,6 +10,8 @@ import com.hcproj.healthcareprojectbackend.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
@@ -22,13 +25,21 @@ import org.springframework.web.client.RestTemplate;
  *   <li>공급자별 필드명/응답 구조 차이를 내부 메서드로 캡슐화한다.</li>
  * </ul>
  *
+ * <p><b>HTTP/JSON 처리</b></p>
+ * <ul>
+ *   <li>연결 재사용/HTTP2/공급자별 동시 요청 제한은 {@code RestTemplateConfig}의 공유 HttpClient가 담당한다.</li>
+ *   <li>응답은 String으로 받지 않고 메시지 컨버터가 응답 스트림에서 바로 읽는다.
+ *       토큰 응답은 access_token만 바인딩하고 나머지 필드는 건너뛴다.</li>
+ * </ul>
+ *
  * <p><b>설정 의존성</b></p>
  * {@link SocialOAuthProperties}를 통해 각 공급자의 token/userinfo/me URL 및 client 설정을 주입받는다.
  *
  * <p><b>예외 정책</b></p>
  * <ul>
  *   <li>입력값 검증 실패: {@link ErrorCode#INVALID_INPUT_VALUE}</li>
- *   <li>외부 호출 실패/토큰 문제: {@link ErrorCode#INVALID_TOKEN}</li>
+ *   <li>토큰/코드 문제(공급자 4xx, 필수 필드 누락): {@link ErrorCode#INVALID_TOKEN}</li>
+ *   <li>공급자 일시 장애(연결/응답 타임아웃, 동시 요청 한도 초과, 5xx): {@link ErrorCode#SOCIAL_PROVIDER_UNAVAILABLE}</li>
  * </ul>
  *
  * <p><b>보안 메모</b></p>
@@ -42,9 +53,12 @@ import org.springframework.web.client.RestTemplate;
 public class RestTemplateSocialOAuthClient implements SocialOAuthClient {
 
     private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
     private final SocialOAuthProperties props;
 
+    /** 토큰 엔드포인트 응답 중 필요한 필드만 바인딩 */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private record TokenResponse(@JsonProperty("access_token") String accessToken) {}
+
     /**
      * Access Token으로 소셜 프로필을 조회한다.
      *
@@ -56,7 +70,8 @@ public class RestTemplateSocialOAuthClient implements SocialOAuthClient {
      * @param accessToken OAuth Access Token
      * @return 표준화된 소셜 프로필
      * @throws BusinessException 입력값이 잘못된 경우({@link ErrorCode#INVALID_INPUT_VALUE}),
-     *                           토큰이 유효하지 않거나 외부 호출 실패 시({@link ErrorCode#INVALID_TOKEN})
+     *                           토큰이 유효하지 않은 경우({@link ErrorCode#INVALID_TOKEN}),
+     *                           공급자 일시 장애 시({@link ErrorCode#SOCIAL_PROVIDER_UNAVAILABLE})
      */
     @Override
     public SocialProfile fetchProfile(SocialProvider provider, String accessToken) {
@@ -71,7 +86,7 @@ public class RestTemplateSocialOAuthClient implements SocialOAuthClient {
                 case NAVER -> fetchNaver(accessToken);
             };
         } catch (RestClientException e) {
-            throw new BusinessException(ErrorCode.INVALID_TOKEN);
+            throw toBusinessException(e);
         } catch (BusinessException e) {
             throw e;
         } catch (Exception e) {
@@ -94,7 +109,12 @@ public class RestTemplateSocialOAuthClient implements SocialOAuthClient {
             throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
         }
 
-        String accessToken = exchangeAccessToken(provider, code, redirectUri, state);
+        String accessToken;
+        try {
+            accessToken = exchangeAccessToken(provider, code, redirectUri, state);
+        } catch (RestClientException e) {
+            throw toBusinessException(e);
+        }
         return fetchProfile(provider, accessToken); // 기존 로직 재사용
     }
 
@@ -171,7 +191,7 @@ public class RestTemplateSocialOAuthClient implements SocialOAuthClient {
     }
 
     /**
-     * Bearer 토큰으로 GET 요청을 수행하고 JSON 응답을 {@link JsonNode}로 파싱한다.
+     * Bearer 토큰으로 GET 요청을 수행하고 JSON 응답을 스트림에서 바로 {@link JsonNode}로 읽는다.
      *
      * @param url         호출 URL
      * @param accessToken OAuth Access Token
@@ -190,11 +210,11 @@ public class RestTemplateSocialOAuthClient implements SocialOAuthClient {
 
         HttpEntity<Void> entity = new HttpEntity<>(headers);
 
-        ResponseEntity<String> resp = restTemplate.exchange(url, HttpMethod.GET, entity, String.class);
+        ResponseEntity<JsonNode> resp = restTemplate.exchange(url, HttpMethod.GET, entity, JsonNode.class);
         if (!resp.getStatusCode().is2xxSuccessful() || resp.getBody() == null) {
             throw new BusinessException(ErrorCode.INVALID_TOKEN);
         }
-        return objectMapper.readTree(resp.getBody());
+        return resp.getBody();
     }
 
     /**
@@ -259,7 +279,7 @@ public class RestTemplateSocialOAuthClient implements SocialOAuthClient {
         form.add("client_secret", props.getGoogle().getClientSecret());
         form.add("redirect_uri", redirectUri);
 
-        ResponseEntity<String> resp = restTemplate.postForEntity(tokenUrl, new HttpEntity<>(form, headers), String.class);
+        ResponseEntity<TokenResponse> resp = restTemplate.postForEntity(tokenUrl, new HttpEntity<>(form, headers), TokenResponse.class);
         return extractAccessTokenOrThrow(resp);
     }
 
@@ -293,7 +313,7 @@ public class RestTemplateSocialOAuthClient implements SocialOAuthClient {
             form.add("client_secret", clientSecret);
         }
 
-        ResponseEntity<String> resp = restTemplate.postForEntity(tokenUrl, new HttpEntity<>(form, headers), String.class);
+        ResponseEntity<TokenResponse> resp = restTemplate.postForEntity(tokenUrl, new HttpEntity<>(form, headers), TokenResponse.class);
         return extractAccessTokenOrThrow(resp);
     }
 
@@ -327,10 +347,23 @@ public class RestTemplateSocialOAuthClient implements SocialOAuthClient {
                 .build(true)
                 .toUriString();
 
-        ResponseEntity<String> resp = restTemplate.getForEntity(url, String.class);
+        ResponseEntity<TokenResponse> resp = restTemplate.getForEntity(url, TokenResponse.class);
         return extractAccessTokenOrThrow(resp);
     }
 
+    /**
+     * 외부 호출 예외를 에러 코드로 바꾼다.
+     *
+     * <p>I/O 실패({@link ResourceAccessException}: 타임아웃, 연결 실패, 호스트별 동시 요청 한도 초과)와
+     * 공급자 5xx는 재시도하면 성공할 수 있으므로 사용자 토큰 문제로 보지 않는다.</p>
+     */
+    private static BusinessException toBusinessException(RestClientException e) {
+        if (e instanceof ResourceAccessException || e instanceof HttpServerErrorException) {
+            return new BusinessException(ErrorCode.SOCIAL_PROVIDER_UNAVAILABLE);
+        }
+        return new BusinessException(ErrorCode.INVALID_TOKEN);
+    }
+
     /**
      * 토큰 응답에서 access_token을 추출한다.
      *
@@ -338,19 +371,14 @@ public class RestTemplateSocialOAuthClient implements SocialOAuthClient {
      * @return access_token
      * @throws BusinessException 응답이 비정상이거나 access_token이 없으면 {@link ErrorCode#INVALID_TOKEN}
      */
-    private String extractAccessTokenOrThrow(ResponseEntity<String> resp) {
+    private String extractAccessTokenOrThrow(ResponseEntity<TokenResponse> resp) {
         if (!resp.getStatusCode().is2xxSuccessful() || resp.getBody() == null) {
             throw new BusinessException(ErrorCode.INVALID_TOKEN);
         }
-        try {
-            JsonNode root = objectMapper.readTree(resp.getBody());
-            String accessToken = root.path("access_token").asText(null);
-            if (accessToken == null || accessToken.isBlank()) {
-                throw new BusinessException(ErrorCode.INVALID_TOKEN);
-            }
-            return accessToken;
-        } catch (Exception e) {
+        String accessToken = resp.getBody().accessToken();
+        if (accessToken == null || accessToken.isBlank()) {
             throw new BusinessException(ErrorCode.INVALID_TOKEN);
         }
+        return accessToken;
     }
 }
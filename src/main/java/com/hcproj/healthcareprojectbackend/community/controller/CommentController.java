@@ -4,8 +4,11 @@ import com.hcproj.healthcareprojectbackend.community.dto.request.CommentCreateRe
 import com.hcproj.healthcareprojectbackend.community.dto.request.CommentUpdateRequestDTO;
 import com.hcproj.healthcareprojectbackend.community.dto.response.CommentCreateResponseDTO;
 import com.hcproj.healthcareprojectbackend.community.dto.response.CommentDeleteResponseDTO;
+import com.hcproj.healthcareprojectbackend.community.dto.response.CommentPageResponseDTO;
 import com.hcproj.healthcareprojectbackend.community.dto.response.CommentUpdateResponseDTO;
 import com.hcproj.healthcareprojectbackend.community.service.CommentService;
+import com.hcproj.healthcareprojectbackend.global.ratelimit.RateLimitKey;
+import com.hcproj.healthcareprojectbackend.global.ratelimit.RateLimited;
 import com.hcproj.healthcareprojectbackend.global.response.ApiResponse;
 import com.hcproj.healthcareprojectbackend.global.security.annotation.CurrentUserId;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +22,7 @@ public class CommentController {
     private final CommentService commentService;
 
     // 1. 댓글 작성
+    @RateLimited(policy = "comment-write", ipPolicy = "comment-write-ip", keys = {RateLimitKey.USER, RateLimitKey.IP})
     @PostMapping("/posts/{postId}/comments")
     public ApiResponse<CommentCreateResponseDTO> createComment(
             @CurrentUserId Long userId,
@@ -48,4 +52,25 @@ public class CommentController {
     ) {
         return ApiResponse.ok(commentService.deleteComment(userId, postId, commentId));
     }
+
+    // 4. 최상위 댓글 페이지 조회
+    @GetMapping("/posts/{postId}/comments")
+    public ApiResponse<CommentPageResponseDTO> getComments(
+            @PathVariable Long postId,
+            @RequestParam(name = "cursorId", required = false) Long cursorId,
+            @RequestParam(name = "size", required = false, defaultValue = "20") int size
+    ) {
+        return ApiResponse.ok(commentService.getRootComments(postId, cursorId, size));
+    }
+
+    // 5. 대댓글 페이지 조회 (펼치기)
+    @GetMapping("/posts/{postId}/comments/{commentId}/replies")
+    public ApiResponse<CommentPageResponseDTO> getReplies(
+            @PathVariable Long postId,
+            @PathVariable Long commentId,
+            @RequestParam(name = "cursorId", required = false) Long cursorId,
+            @RequestParam(name = "size", required = false, defaultValue = "20") int size
+    ) {
+        return ApiResponse.ok(commentService.getReplies(postId, commentId, cursorId, size));
+    }
 }
@@ -3,8 +3,12 @@ package com.hcproj.healthcareprojectbackend.community.controller;
 import com.hcproj.healthcareprojectbackend.community.dto.request.PostCreateRequestDTO;
 import com.hcproj.healthcareprojectbackend.community.dto.request.PostUpdateRequestDTO;
 import com.hcproj.healthcareprojectbackend.community.dto.response.PostDetailResponseDTO;
+import com.hcproj.healthcareprojectbackend.community.dto.response.PostLikeResponseDTO;
 import com.hcproj.healthcareprojectbackend.community.dto.response.PostListResponseDTO;
+import com.hcproj.healthcareprojectbackend.community.service.PostLikeService;
 import com.hcproj.healthcareprojectbackend.community.service.PostService;
+import com.hcproj.healthcareprojectbackend.global.ratelimit.RateLimitKey;
+import com.hcproj.healthcareprojectbackend.global.ratelimit.RateLimited;
 import com.hcproj.healthcareprojectbackend.global.response.ApiResponse; // 기존 패키지 유지
 import com.hcproj.healthcareprojectbackend.global.security.annotation.CurrentUserId; // 기존 어노테이션 유지
 import lombok.RequiredArgsConstructor;
@@ -16,6 +20,7 @@ import org.springframework.web.bind.annotation.*;
 public class PostController {
 
     private final PostService postService;
+    private final PostLikeService postLikeService;
 
     /** 1. 게시글 목록 조회 */
     @GetMapping(produces = "application/json")
@@ -23,11 +28,12 @@ public class PostController {
             @RequestParam(name = "category", required = false, defaultValue = "ALL") String category,
             @RequestParam(name = "searchBy", required = false) String searchBy,
             @RequestParam(name = "q", required = false) String q,
+            @RequestParam(name = "match", required = false) String match,
             @RequestParam(name = "cursorId", required = false) Long cursorId,
             @RequestParam(name = "size", required = false, defaultValue = "20") int size
     ) {
         // [수정] 서비스의 인자 순서(cursorId가 첫 번째)에 맞춰서 전달합니다.
-        return ApiResponse.ok(postService.getPostList(cursorId, category, searchBy, q, size));
+        return ApiResponse.ok(postService.getPostList(cursorId, category, searchBy, q, match, size));
     }
 
     /** 2. 게시글 상세 조회 */
@@ -41,6 +47,7 @@ public class PostController {
     }
 
     /** 3. 게시글 작성 */
+    @RateLimited(policy = "post-write", ipPolicy = "post-write-ip", keys = {RateLimitKey.USER, RateLimitKey.IP})
     @PostMapping(consumes = "application/json", produces = "application/json")
     public ApiResponse<Void> createPost(@CurrentUserId Long userId, @RequestBody PostCreateRequestDTO request) {
         // 서비스가 void이므로 호출 후 null을 반환하여 에러 해결
@@ -68,4 +75,24 @@ public class PostController {
         postService.deletePost(userId, postId);
         return ApiResponse.ok(null);
     }
+
+    /** 6. 게시글 좋아요 (이미 눌렀으면 그대로) */
+    @RateLimited(policy = "post-like", keys = RateLimitKey.USER)
+    @PostMapping(path = "/{postId}/like", produces = "application/json")
+    public ApiResponse<PostLikeResponseDTO> likePost(
+            @CurrentUserId Long userId,
+            @PathVariable Long postId
+    ) {
+        return ApiResponse.ok(postLikeService.like(userId, postId));
+    }
+
+    /** 7. 게시글 좋아요 취소 (누르지 않았으면 그대로) */
+    @RateLimited(policy = "post-like", keys = RateLimitKey.USER)
+    @DeleteMapping(path = "/{postId}/like", produces = "application/json")
+    public ApiResponse<PostLikeResponseDTO> unlikePost(
+            @CurrentUserId Long userId,
+            @PathVariable Long postId
+    ) {
+        return ApiResponse.ok(postLikeService.unlike(userId, postId));
+    }
 }
\ No newline at end of file
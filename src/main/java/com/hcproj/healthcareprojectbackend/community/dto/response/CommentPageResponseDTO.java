@@ -0,0 +1,17 @@
+package com.hcproj.healthcareprojectbackend.community.dto.response;
+
+import lombok.Builder;
+import java.util.List;
+
+@Builder
+public record CommentPageResponseDTO(
+        List<PostResponseDTO.CommentDTO> comments, // 작성 순(comment_id 오름차순)
+        PageInfo pageInfo
+) {
+    @Builder
+    public record PageInfo(
+            Long nextCursorId,   // 다음 요청의 cursorId (마지막 댓글 ID)
+            boolean hasNext,
+            int size
+    ) {}
+}
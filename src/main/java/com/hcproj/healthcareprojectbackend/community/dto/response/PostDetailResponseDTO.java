@@ -17,7 +17,9 @@ public record PostDetailResponseDTO(
         Instant createdAt,
         Instant updatedAt,         // [추가] 수정일 (null 가능)
         boolean isOwner,
-        List<PostResponseDTO.CommentDTO> comments
+        boolean isLiked,           // 현재 사용자의 좋아요 여부
+        List<PostResponseDTO.CommentDTO> comments,   // 최상위 댓글 첫 페이지
+        CommentPageResponseDTO.PageInfo commentPageInfo
 ) {
     @Builder
     public record AuthorDTO(
@@ -0,0 +1,7 @@
+package com.hcproj.healthcareprojectbackend.community.dto.response;
+
+public record PostLikeResponseDTO(
+        Long postId,
+        boolean liked,
+        Long likeCount      // DB 값 + 아직 반영되지 않은 누적분
+) {}
@@ -31,6 +31,7 @@ public record PostResponseDTO(
             Instant createdAt, //
             Instant updatedAt,
             Instant deletedAt,
+            long replyCount,           // 직계 대댓글 수 (대댓글은 replies API로 따로 조회)
             List<CommentDTO> children
     ) {}
 }
\ No newline at end of file
@@ -12,5 +12,10 @@ public record PostSummaryDto(
         Instant createdAt,
         Long commentCount,  // 댓글 수 (@Formula로 가져옴)
         Long viewCount,
-        Long likeCount
-) {}
\ No newline at end of file
+        Long likeCount      // posts.like_count (+ 미반영 누적분은 PostLikeService에서 합산, 캐시 window에서는 null)
+) {
+    public PostSummaryDto withLikeCount(Long likeCount) {
+        return new PostSummaryDto(postId, category, isNotice, title, nickname, handle,
+                createdAt, commentCount, viewCount, likeCount);
+    }
+}
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.hcproj.healthcareprojectbackend.community.entity;
 import com.hcproj.healthcareprojectbackend.global.entity.BaseTimeEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 /**
  * 커뮤니티 게시글을 나타내는 엔티티.
@@ -12,11 +13,14 @@ import lombok.*;
  *   <li>{@code category}: 게시글 분류(문자열 기반)</li>
  *   <li>{@code isNotice}: 공지 여부</li>
  *   <li>{@code viewCount}: 조회수(증가 메서드 제공)</li>
+ *   <li>{@code commentCount}: 삭제되지 않은 댓글 수(비정규화, PostRepository의 원자적 UPDATE로만 변경)</li>
+ *   <li>{@code likeCount}: 좋아요 수(비정규화, PostLikeCounter의 주기적 batch UPDATE로만 변경)</li>
  * </ul>
  *
  * <p><b>조회수 정책</b></p>
  * <ul>
  *   <li>{@link #increaseViewCount()}는 null 안전하게 증가시킨다.</li>
+ *   <li>상세 조회의 조회수는 PostViewCounter가 모아서 batch UPDATE로 반영한다.</li>
  * </ul>
  *
  * <p><b>수정 정책</b></p>
@@ -63,6 +67,14 @@ public class PostEntity extends BaseTimeEntity {
     @Column(name = "view_count", nullable = false)
     private Long viewCount;
 
+    @ColumnDefault("0")
+    @Column(name = "comment_count", nullable = false)
+    private Long commentCount;
+
+    @ColumnDefault("0")
+    @Column(name = "like_count", nullable = false)
+    private Long likeCount;
+
     @Column(name = "is_notice", nullable = false)
     private Boolean isNotice;
 
@@ -0,0 +1,44 @@
+package com.hcproj.healthcareprojectbackend.community.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * 게시글 좋아요(사용자당 1회)를 나타내는 엔티티.
+ *
+ * <p><b>모델링 특징</b></p>
+ * <ul>
+ *   <li>(post_id, user_id) unique 제약으로 중복 좋아요를 DB에서 막는다.</li>
+ *   <li>좋아요 수는 이 테이블을 세지 않고 {@code posts.like_count} + Redis 누적분으로 계산한다.</li>
+ * </ul>
+ *
+ * <p>
+ * 쓰기는 {@code PostLikeWriter}가 {@code insert ... on conflict do nothing}으로 수행한다.
+ * </p>
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+@Entity
+@Table(name = "post_likes", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_post_likes_post_user", columnNames = {"post_id", "user_id"})
+})
+public class PostLikeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "post_like_id")
+    private Long postLikeId;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+}
@@ -2,8 +2,11 @@ package com.hcproj.healthcareprojectbackend.community.repository;
 
 import com.hcproj.healthcareprojectbackend.community.entity.CommentEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
 import java.util.List;
 
 /**
@@ -15,10 +18,6 @@ import java.util.List;
  * </p>
  */
 public interface CommentRepository extends JpaRepository<CommentEntity, Long> {
-    interface PostCommentCount {
-        Long getPostId();
-        Long getCount();
-    }
     /**
      * 특정 게시글의 댓글 목록을 조회한다.
      *
@@ -31,16 +30,52 @@ public interface CommentRepository extends JpaRepository<CommentEntity, Long> {
      */
     List<CommentEntity> findAllByPostId(Long postId);
 
-    // [추가] 게시글 상세 조회 시 댓글 개수 카운트용 (PostService에서 사용)
-    long countByPostId(Long postId);
+    interface ParentReplyCount {
+        Long getParentId();
+        Long getCount();
+    }
+
+    // ============================================================
+    // 댓글 페이지 조회 (cursor = 마지막 comment_id, 작성 순)
+    // (post_id, parent_comment_id, comment_id) 인덱스(V8)로 처리된다.
+    // ============================================================
+    @Query(value = "SELECT * FROM comments c " +
+            "WHERE c.post_id = :postId " +
+            "AND c.parent_comment_id IS NULL " +
+            "AND (:cursorId IS NULL OR c.comment_id > :cursorId) " +
+            "ORDER BY c.comment_id ASC " +
+            "FETCH FIRST :limitSize ROWS ONLY",
+            nativeQuery = true)
+    List<CommentEntity> findRootPage(
+            @Param("postId") Long postId,
+            @Param("cursorId") Long cursorId,
+            @Param("limitSize") int limitSize
+    );
 
+    @Query(value = "SELECT * FROM comments c " +
+            "WHERE c.post_id = :postId " +
+            "AND c.parent_comment_id = :parentId " +
+            "AND (:cursorId IS NULL OR c.comment_id > :cursorId) " +
+            "ORDER BY c.comment_id ASC " +
+            "FETCH FIRST :limitSize ROWS ONLY",
+            nativeQuery = true)
+    List<CommentEntity> findReplyPage(
+            @Param("postId") Long postId,
+            @Param("parentId") Long parentId,
+            @Param("cursorId") Long cursorId,
+            @Param("limitSize") int limitSize
+    );
+
+    /**
+     * 부모 댓글별 직계 대댓글 수.
+     */
     @Query("""
-            select c.postId as postId, count(c) as count
+            select c.parentCommentId as parentId, count(c) as count
             from CommentEntity c
-            where c.postId in :postIds
-            group by c.postId
+            where c.postId = :postId and c.parentCommentId in :parentIds
+            group by c.parentCommentId
             """)
-    List<PostCommentCount> countByPostIds(@Param("postIds") List<Long> postIds);
+    List<ParentReplyCount> countRepliesByParentIds(@Param("postId") Long postId, @Param("parentIds") List<Long> parentIds);
 
     interface IdUserIdProjection {
         Long getId();
@@ -50,4 +85,25 @@ public interface CommentRepository extends JpaRepository<CommentEntity, Long> {
     @Query("select c.commentId as id, c.userId as userId from CommentEntity c where c.commentId in :ids")
     List<IdUserIdProjection> findIdAndUserIdByIdIn(@Param("ids") List<Long> ids);
 
+    // ============================================================
+    // 소프트 삭제 (조건부 UPDATE)
+    // 조회 후 상태를 확인하고 바꾸면 동시 요청 둘 다 "삭제 전"을 보고 comment_count를 두 번 줄인다.
+    // 상태 조건을 UPDATE에 넣어 1 row를 바꾼 호출만 comment_count를 줄이게 한다.
+    // ============================================================
+    /**
+     * 아직 삭제되지 않은 댓글을 소프트 삭제한다.
+     *
+     * <p>벌크 UPDATE라 영속성 컨텍스트에 이미 올라온 엔티티에는 반영되지 않는다.</p>
+     *
+     * @return 바뀐 row 수(0이면 이미 삭제됨)
+     */
+    @Modifying
+    @Query("""
+            update CommentEntity c
+            set c.status = com.hcproj.healthcareprojectbackend.community.entity.CommentStatus.DELETED,
+                c.deletedAt = :now, c.updatedAt = :now
+            where c.commentId = :commentId
+              and c.status <> com.hcproj.healthcareprojectbackend.community.entity.CommentStatus.DELETED
+            """)
+    int softDeleteIfActive(@Param("commentId") Long commentId, @Param("now") Instant now);
 }
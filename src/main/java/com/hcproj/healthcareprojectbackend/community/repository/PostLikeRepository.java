@@ -0,0 +1,14 @@
+package com.hcproj.healthcareprojectbackend.community.repository;
+
+import com.hcproj.healthcareprojectbackend.community.entity.PostLikeEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * 게시글 좋아요({@link PostLikeEntity}) 조회용 영속성 접근 인터페이스.
+ *
+ * <p>쓰기는 {@link PostLikeWriter}를 사용한다.</p>
+ */
+public interface PostLikeRepository extends JpaRepository<PostLikeEntity, Long> {
+
+    boolean existsByPostIdAndUserId(Long postId, Long userId);
+}
@@ -0,0 +1,71 @@
+package com.hcproj.healthcareprojectbackend.community.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 좋아요 JDBC writer.
+ *
+ * <p>
+ * <b>쿼리 구성</b>
+ * <ul>
+ *   <li>좋아요: {@code insert ... on conflict do nothing} 1회. 이미 눌렀으면 0행.</li>
+ *   <li>취소: (post_id, user_id) delete 1회. 누르지 않았으면 0행.</li>
+ *   <li>카운트 반영: {@code like_count = like_count + ?} 상대 갱신 batch 1회(post_id 오름차순).</li>
+ * </ul>
+ *
+ * <p>
+ * 좋아요 행은 사용자마다 다른 row이므로 인기 글에 몰려도 같은 row lock을 두고 경합하지 않는다.
+ * </p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostLikeWriter {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 새로 좋아요가 기록되면 true
+     */
+    public boolean insertIfAbsent(Long postId, Long userId) {
+        int rows = jdbcTemplate.update(
+                "insert into post_likes (post_id, user_id, created_at) values (?, ?, ?) "
+                        + "on conflict do nothing",
+                postId, userId, Timestamp.from(Instant.now()));
+        return rows > 0;
+    }
+
+    /**
+     * @return 좋아요가 삭제되면 true
+     */
+    public boolean delete(Long postId, Long userId) {
+        return jdbcTemplate.update("delete from post_likes where post_id = ? and user_id = ?", postId, userId) > 0;
+    }
+
+    /**
+     * 증감분을 {@code posts.like_count}에 반영한다.
+     *
+     * <p>좋아요 트랜잭션의 afterCommit에서도 호출되므로 항상 새 트랜잭션으로 커밋한다.</p>
+     *
+     * @param deltas post_id → 증감분 (post_id 오름차순 정렬된 맵)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void addLikeCounts(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) return;
+
+        List<Object[]> rows = new ArrayList<>(deltas.size());
+        deltas.forEach((postId, delta) -> rows.add(new Object[]{delta, postId}));
+        jdbcTemplate.batchUpdate(
+                "update posts set like_count = greatest(like_count + ?, 0) where post_id = ?",
+                rows);
+    }
+}
@@ -5,10 +5,12 @@ import com.hcproj.healthcareprojectbackend.community.entity.PostStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<PostEntity, Long> {
 
@@ -43,13 +45,14 @@ public interface PostRepository extends JpaRepository<PostEntity, Long> {
     );
 
     // ============================================================
-    // 3. 제목 검색 - 카테고리 있음 (띄어쓰기 무시)
+    // 3. 제목 검색 - 카테고리 있음 (띄어쓰기/대소문자 무시)
+    //    REPLACE(LOWER(title)) 식은 trigram 인덱스(V7)와 동일해야 한다.
     // ============================================================
     @Query(value = "SELECT * FROM posts p " +
             "WHERE p.status = 'POSTED' " +
             "AND (:cursorId IS NULL OR p.post_id < :cursorId) " +
             "AND p.category = :category " +
-            "AND REPLACE(p.title, ' ', '') LIKE :keyword " +
+            "AND REPLACE(LOWER(p.title), ' ', '') LIKE :keyword " +
             "ORDER BY p.post_id DESC " +
             "FETCH FIRST :limitSize ROWS ONLY",
             nativeQuery = true)
@@ -61,12 +64,12 @@ public interface PostRepository extends JpaRepository<PostEntity, Long> {
     );
 
     // ============================================================
-    // 4. 제목 검색 - 카테고리 없음 (띄어쓰기 무시)
+    // 4. 제목 검색 - 카테고리 없음 (띄어쓰기/대소문자 무시)
     // ============================================================
     @Query(value = "SELECT * FROM posts p " +
             "WHERE p.status = 'POSTED' " +
             "AND (:cursorId IS NULL OR p.post_id < :cursorId) " +
-            "AND REPLACE(p.title, ' ', '') LIKE :keyword " +
+            "AND REPLACE(LOWER(p.title), ' ', '') LIKE :keyword " +
             "ORDER BY p.post_id DESC " +
             "FETCH FIRST :limitSize ROWS ONLY",
             nativeQuery = true)
@@ -77,13 +80,14 @@ public interface PostRepository extends JpaRepository<PostEntity, Long> {
     );
 
     // ============================================================
-    // 5. 작성자 검색 - 카테고리 있음 (띄어쓰기 무시)
+    // 5. 작성자 검색 - 카테고리 있음 (띄어쓰기/대소문자 무시)
+    //    users.search_key 인덱스 사용, keyword는 UtilityProvider.toSearchKeyPattern 결과(%kw% 또는 PREFIX 모드의 kw%)
     // ============================================================
     @Query(value = "SELECT * FROM posts p " +
             "WHERE p.status = 'POSTED' " +
             "AND (:cursorId IS NULL OR p.post_id < :cursorId) " +
             "AND p.category = :category " +
-            "AND p.user_id IN (SELECT u.user_id FROM users u WHERE REPLACE(u.nickname, ' ', '') LIKE :keyword) " +
+            "AND p.user_id IN (SELECT u.user_id FROM users u WHERE u.search_key LIKE :keyword) " +
             "ORDER BY p.post_id DESC " +
             "FETCH FIRST :limitSize ROWS ONLY",
             nativeQuery = true)
@@ -95,12 +99,12 @@ public interface PostRepository extends JpaRepository<PostEntity, Long> {
     );
 
     // ============================================================
-    // 6. 작성자 검색 - 카테고리 없음 (띄어쓰기 무시)
+    // 6. 작성자 검색 - 카테고리 없음 (띄어쓰기/대소문자 무시)
     // ============================================================
     @Query(value = "SELECT * FROM posts p " +
             "WHERE p.status = 'POSTED' " +
             "AND (:cursorId IS NULL OR p.post_id < :cursorId) " +
-            "AND p.user_id IN (SELECT u.user_id FROM users u WHERE REPLACE(u.nickname, ' ', '') LIKE :keyword) " +
+            "AND p.user_id IN (SELECT u.user_id FROM users u WHERE u.search_key LIKE :keyword) " +
             "ORDER BY p.post_id DESC " +
             "FETCH FIRST :limitSize ROWS ONLY",
             nativeQuery = true)
@@ -179,6 +183,49 @@ public interface PostRepository extends JpaRepository<PostEntity, Long> {
             @Param("keyword") String keyword
     );
 
+    // ============================================================
+    // 댓글 수(comment_count) 유지
+    // 댓글 작성/삭제 트랜잭션 안에서 상대 갱신으로 원자적으로 반영한다.
+    // ============================================================
+    @Modifying
+    @Query("update PostEntity p set p.commentCount = p.commentCount + 1 where p.postId = :postId")
+    int increaseCommentCount(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("update PostEntity p set p.commentCount = p.commentCount - 1 where p.postId = :postId and p.commentCount > 0")
+    int decreaseCommentCount(@Param("postId") Long postId);
+
+    /**
+     * 실제 댓글 수와 어긋난 comment_count를 일괄 보정한다.
+     *
+     * @return 보정된 게시글 수
+     */
+    @Modifying
+    @Query(value = "UPDATE posts p SET comment_count = " +
+            "(SELECT COUNT(*) FROM comments c WHERE c.post_id = p.post_id AND c.status <> 'DELETED') " +
+            "WHERE p.comment_count <> " +
+            "(SELECT COUNT(*) FROM comments c WHERE c.post_id = p.post_id AND c.status <> 'DELETED')",
+            nativeQuery = true)
+    int reconcileCommentCounts();
+
+    // ============================================================
+    // 좋아요 수(like_count)
+    // 좋아요 경로는 본문까지 읽지 않도록 카운트 컬럼만 조회한다.
+    // ============================================================
+    @Query("select p.likeCount from PostEntity p where p.postId = :postId and p.status = :status")
+    Optional<Long> findLikeCount(@Param("postId") Long postId, @Param("status") PostStatus status);
+
+    interface IdLikeCountProjection {
+        Long getId();
+        Long getLikeCount();
+    }
+
+    /**
+     * 캐시된 목록 한 페이지의 현재 like_count (PK IN 조회 1회).
+     */
+    @Query("select p.postId as id, p.likeCount as likeCount from PostEntity p where p.postId in :ids")
+    List<IdLikeCountProjection> findLikeCountsByIdIn(@Param("ids") List<Long> ids);
+
     interface IdUserIdProjection {
         Long getId();
         Long getUserId();
@@ -0,0 +1,40 @@
+package com.hcproj.healthcareprojectbackend.community.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 모아둔 조회수 증가분을 {@code posts.view_count}에 반영하는 JDBC writer.
+ *
+ * <p>
+ * 엔티티를 읽지 않고 {@code view_count = view_count + ?} 상대 갱신을 batch 1회로 보낸다.
+ * 여러 노드가 각자 증가분을 flush해도 합산 결과가 같다.
+ * row lock 순서를 맞추기 위해 post_id 오름차순으로 갱신한다.
+ * </p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostViewCountWriter {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param deltas post_id → 증가분 (post_id 오름차순 정렬된 맵)
+     */
+    @Transactional
+    public void addViews(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) return;
+
+        List<Object[]> rows = new ArrayList<>(deltas.size());
+        deltas.forEach((postId, delta) -> rows.add(new Object[]{delta, postId}));
+        jdbcTemplate.batchUpdate(
+                "update posts set view_count = coalesce(view_count, 0) + ? where post_id = ?",
+                rows);
+    }
+}
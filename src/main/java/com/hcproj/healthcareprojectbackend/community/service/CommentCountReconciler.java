@@ -0,0 +1,35 @@
+package com.hcproj.healthcareprojectbackend.community.service;
+
+import com.hcproj.healthcareprojectbackend.community.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * {@code posts.comment_count} 보정 작업.
+ *
+ * <p>
+ * 댓글 수는 작성/삭제 트랜잭션에서 원자적으로 갱신되지만,
+ * 직접 SQL 수정이나 누락된 경로로 어긋날 수 있으므로 주기적으로 실제 댓글 수와 맞춘다.
+ * 어긋난 게시글만 갱신하므로 정상 상태에서는 쓰기가 발생하지 않는다.
+ * 여러 노드에서 실행돼도 결과는 같다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentCountReconciler {
+
+    private final PostRepository postRepository;
+
+    @Scheduled(cron = "${app.community.comment-count.reconcile-cron:0 30 4 * * *}")
+    @Transactional
+    public void reconcile() {
+        int fixed = postRepository.reconcileCommentCounts();
+        if (fixed > 0) {
+            log.warn("Comment count drift repaired. posts={}", fixed);
+        }
+    }
+}
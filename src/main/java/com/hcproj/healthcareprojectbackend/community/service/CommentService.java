@@ -7,8 +7,8 @@ import com.hcproj.healthcareprojectbackend.community.dto.request.CommentCreateRe
 import com.hcproj.healthcareprojectbackend.community.dto.request.CommentUpdateRequestDTO;
 import com.hcproj.healthcareprojectbackend.community.dto.response.CommentCreateResponseDTO;
 import com.hcproj.healthcareprojectbackend.community.dto.response.CommentDeleteResponseDTO;
+import com.hcproj.healthcareprojectbackend.community.dto.response.CommentPageResponseDTO;
 import com.hcproj.healthcareprojectbackend.community.dto.response.CommentUpdateResponseDTO;
-import com.hcproj.healthcareprojectbackend.community.dto.response.PostResponseDTO;
 import com.hcproj.healthcareprojectbackend.community.dto.response.PostResponseDTO.AuthorDTO;
 import com.hcproj.healthcareprojectbackend.community.dto.response.PostResponseDTO.CommentDTO;
 import com.hcproj.healthcareprojectbackend.community.entity.CommentEntity;
@@ -22,6 +22,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -32,6 +33,9 @@ import java.util.Map;
 @Transactional(readOnly = true)
 public class CommentService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
@@ -81,6 +85,7 @@ public class CommentService {
                 .build();
 
         CommentEntity saved = commentRepository.save(comment);
+        postRepository.increaseCommentCount(postId);
 
         return CommentCreateResponseDTO.of(saved.getCommentId(), saved.getCreatedAt());
     }
@@ -119,30 +124,68 @@ public class CommentService {
         CommentEntity comment = getCommentEntity(userId, postId, commentId);
 
         // 이미 삭제된 경우에도 에러 없이 성공 응답 (멱등성)
-        if (comment.getStatus() != CommentStatus.DELETED) {
-            comment.delete(); // 상태 변경 및 deletedAt 기록
+        // 실제로 상태를 바꾼 요청만 comment_count를 줄인다(동시 삭제 시 중복 차감 방지).
+        Instant now = Instant.now();
+        if (commentRepository.softDeleteIfActive(commentId, now) == 1) {
+            postRepository.decreaseCommentCount(postId);
+            return CommentDeleteResponseDTO.of(now);
+        }
+
+        // 다른 요청이 방금 삭제했다면 조회 시점 엔티티에는 아직 deletedAt이 없다.
+        return CommentDeleteResponseDTO.of(comment.getDeletedAt() != null ? comment.getDeletedAt() : now);
+    }
+
+    /**
+     * 최상위 댓글을 cursor 페이지로 조회한다.
+     *
+     * <p>대댓글은 포함하지 않고, 각 댓글에 직계 대댓글 수({@code replyCount})만 싣는다.
+     * [PostService에서 첫 페이지 조회용으로도 호출]</p>
+     *
+     * @param cursorId 이전 페이지의 마지막 댓글 ID (첫 페이지는 null)
+     */
+    public CommentPageResponseDTO getRootComments(Long postId, Long cursorId, int size) {
+        int pageSize = clampPageSize(size);
+        List<CommentEntity> entities = commentRepository.findRootPage(postId, cursorId, pageSize + 1);
+        return toPage(postId, entities, pageSize);
+    }
+
+    /**
+     * 특정 댓글의 직계 대댓글을 cursor 페이지로 조회한다(펼치기).
+     */
+    public CommentPageResponseDTO getReplies(Long postId, Long parentId, Long cursorId, int size) {
+        CommentEntity parent = commentRepository.findById(parentId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.COMMENT_NOT_FOUND));
+        if (!parent.getPostId().equals(postId)) {
+            throw new BusinessException(ErrorCode.COMMENT_NOT_FOUND);
         }
 
-        return CommentDeleteResponseDTO.of(comment.getDeletedAt());
+        int pageSize = clampPageSize(size);
+        List<CommentEntity> entities = commentRepository.findReplyPage(postId, parentId, cursorId, pageSize + 1);
+        return toPage(postId, entities, pageSize);
     }
 
     /**
-     * [PostService에서 호출]
-     * 게시글의 댓글을 계층형(Tree) 구조로 변환하여 반환
+     * 조회한 댓글 한 페이지(+1건)를 DTO로 변환한다.
+     * 작성자와 대댓글 수는 페이지 단위로 한 번씩 조회한다(N+1 방지).
      */
-    public List<PostResponseDTO.CommentDTO> getCommentTree(Long postId) {
-        List<CommentEntity> entities = commentRepository.findAllByPostId(postId);
+    private CommentPageResponseDTO toPage(Long postId, List<CommentEntity> entities, int pageSize) {
+        boolean hasNext = entities.size() > pageSize;
+        if (hasNext) {
+            entities = entities.subList(0, pageSize);
+        }
 
-        // 작성자 정보 조회를 위해 ID 수집 (N+1 방지)
         List<Long> userIds = entities.stream().map(CommentEntity::getUserId).distinct().toList();
         Map<Long, UserEntity> userMap = new HashMap<>();
         userRepository.findAllById(userIds).forEach(u -> userMap.put(u.getId(), u));
 
-        // DTO 변환 및 Map 저장
-        Map<Long, PostResponseDTO.CommentDTO> dtoMap = new HashMap<>();
-        List<PostResponseDTO.CommentDTO> roots = new ArrayList<>();
+        List<Long> commentIds = entities.stream().map(CommentEntity::getCommentId).toList();
+        Map<Long, Long> replyCountMap = new HashMap<>();
+        if (!commentIds.isEmpty()) {
+            commentRepository.countRepliesByParentIds(postId, commentIds)
+                    .forEach(rc -> replyCountMap.put(rc.getParentId(), rc.getCount()));
+        }
 
-        // 1. Entity -> DTO 변환 (부모/자식 연결 전)
+        List<CommentDTO> dtos = new ArrayList<>(entities.size());
         for (CommentEntity entity : entities) {
             UserEntity author = userMap.get(entity.getUserId());
             AuthorDTO authorDTO = (author != null)
@@ -154,39 +197,33 @@ public class CommentService {
                     ? "삭제된 댓글입니다."
                     : entity.getContent();
 
-            CommentDTO dto = CommentDTO.builder()
+            dtos.add(CommentDTO.builder()
                     .commentId(entity.getCommentId())
                     .content(content)
                     .author(authorDTO)
                     .createdAt(entity.getCreatedAt())
                     .updatedAt(entity.getUpdatedAt())
                     .deletedAt(entity.getDeletedAt())
-                    .children(new ArrayList<>()) // 자식 리스트 초기화
-                    .build();
-
-            dtoMap.put(entity.getCommentId(), dto);
+                    .replyCount(replyCountMap.getOrDefault(entity.getCommentId(), 0L))
+                    .children(List.of()) // 대댓글은 replies API로 펼친다
+                    .build());
         }
 
-        // 2. 트리 구조 조립
-        for (CommentEntity entity : entities) {
-            CommentDTO currentDto = dtoMap.get(entity.getCommentId());
-            if (entity.getParentCommentId() == null) {
-                // 부모가 없으면 최상위 댓글
-                roots.add(currentDto);
-            } else {
-                // 부모가 있으면 부모 DTO의 children에 추가
-                CommentDTO parentDto = dtoMap.get(entity.getParentCommentId());
-                if (parentDto != null) {
-                    parentDto.children().add(currentDto);
-                } else {
-                    // 부모가 DB에는 없는데 자식만 있는 경우(고아 객체) -> 최상위로 취급하거나 버림
-                    // 여기선 안전하게 최상위로 노출
-                    roots.add(currentDto);
-                }
-            }
-        }
+        Long nextCursorId = hasNext ? entities.get(entities.size() - 1).getCommentId() : null;
+
+        return CommentPageResponseDTO.builder()
+                .comments(dtos)
+                .pageInfo(CommentPageResponseDTO.PageInfo.builder()
+                        .nextCursorId(nextCursorId)
+                        .hasNext(hasNext)
+                        .size(pageSize)
+                        .build())
+                .build();
+    }
 
-        return roots;
+    private static int clampPageSize(int size) {
+        if (size <= 0) return DEFAULT_PAGE_SIZE;
+        return Math.min(size, MAX_PAGE_SIZE);
     }
 
     private @NonNull CommentEntity getCommentEntity(Long userId, Long postId, Long commentId) {
@@ -0,0 +1,172 @@
+package com.hcproj.healthcareprojectbackend.community.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hcproj.healthcareprojectbackend.community.dto.response.PostSummaryDto;
+import com.hcproj.healthcareprojectbackend.global.config.properties.HotFeedProperties;
+import com.hcproj.healthcareprojectbackend.global.store.feed.FeedVersionStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 커뮤니티 목록 앞쪽 페이지(검색어 없음) 캐시.
+ *
+ * <p>
+ * <b>구조</b>
+ * <ul>
+ *   <li>카테고리 × 페이지 크기마다 앞쪽 {@code pages × size + 1}건의 요약 목록(작성자 닉네임/핸들 포함)을
+ *       하나의 window로 보관한다. 좋아요 수는 담지 않고 응답 시 채운다.</li>
+ *   <li>요청 cursor가 window 안에 있으면 window를 잘라 응답한다. 범위를 벗어나면 DB로 조회한다.</li>
+ *   <li>L1: 노드 메모리(짧은 TTL). L2: Redis JSON({@code {prefix}{version}:{category}:{size}}).</li>
+ *   <li>키에 {@link FeedVersionStore} 버전이 들어가므로 게시글 변경 시 모든 노드에서 한꺼번에 무효화된다.</li>
+ * </ul>
+ *
+ * <p>
+ * <b>메트릭</b>
+ * {@code community.feed.cache} 카운터(result=l1/l2/miss/bypass)
+ */
+@Slf4j
+@Component
+public class HotFeedCache {
+
+    /** 캐시되는 window. complete면 window 뒤에 더 이상 글이 없다. */
+    public record Window(List<PostSummaryDto> items, boolean complete) {}
+
+    /** window에서 잘라낸 한 페이지 */
+    public record Page(List<PostSummaryDto> items, boolean hasNext) {}
+
+    private record Local(Window window, long expiresAtMillis) {}
+
+    private static final String ALL = "ALL";
+
+    private final StringRedisTemplate redis;
+    private final ObjectMapper objectMapper;
+    private final FeedVersionStore versionStore;
+    private final HotFeedProperties props;
+    private final ConcurrentHashMap<String, Local> local = new ConcurrentHashMap<>();
+
+    private final Counter l1Counter;
+    private final Counter l2Counter;
+    private final Counter missCounter;
+    private final Counter bypassCounter;
+
+    public HotFeedCache(StringRedisTemplate redis, ObjectMapper objectMapper, FeedVersionStore versionStore,
+                        HotFeedProperties props, MeterRegistry meterRegistry) {
+        this.redis = redis;
+        this.objectMapper = objectMapper;
+        this.versionStore = versionStore;
+        this.props = props;
+        this.l1Counter = meterRegistry.counter("community.feed.cache", "result", "l1");
+        this.l2Counter = meterRegistry.counter("community.feed.cache", "result", "l2");
+        this.missCounter = meterRegistry.counter("community.feed.cache", "result", "miss");
+        this.bypassCounter = meterRegistry.counter("community.feed.cache", "result", "bypass");
+    }
+
+    /** window에 담을 최대 건수(다음 페이지 판단용 1건 포함) */
+    public int windowSize(int size) {
+        return props.getPages() * size + 1;
+    }
+
+    /**
+     * 캐시에서 한 페이지를 찾는다. 없으면 loader로 window를 만들어 저장한 뒤 다시 찾는다.
+     *
+     * @param category 정규화된 카테고리 (null이면 전체)
+     * @param cursorId 이전 페이지의 마지막 post_id (첫 페이지는 null)
+     * @param size     페이지 크기
+     * @param loader   {@link #windowSize(int)}건을 DB에서 읽어 조립하는 함수
+     * @return cursor가 window 범위를 벗어나면 null(호출 측에서 DB 조회)
+     */
+    public Page find(String category, Long cursorId, int size, Supplier<List<PostSummaryDto>> loader) {
+        long version = props.isEnabled() && size > 0 && size <= props.getMaxPageSize() ? versionStore.version() : -1;
+        if (version < 0) {
+            bypassCounter.increment();
+            return null;
+        }
+
+        String key = props.getPrefix() + version + ":" + (category == null ? ALL : category) + ":" + size;
+        Window window = get(key);
+        if (window == null) {
+            missCounter.increment();
+            List<PostSummaryDto> items = loader.get();
+            window = new Window(items, items.size() < windowSize(size));
+            put(key, window);
+        }
+        return slice(window, cursorId, size);
+    }
+
+    /**
+     * window에서 cursor 다음 size건을 잘라낸다.
+     */
+    private static Page slice(Window window, Long cursorId, int size) {
+        List<PostSummaryDto> items = window.items();
+
+        int start = 0;
+        if (cursorId != null) {
+            start = -1;
+            for (int i = 0; i < items.size(); i++) {
+                if (items.get(i).postId().equals(cursorId)) {
+                    start = i + 1;
+                    break;
+                }
+            }
+            if (start < 0) return null;
+        }
+
+        int end = start + size;
+        if (end < items.size()) {
+            // 뒤에 최소 1건이 더 있으므로 hasNext를 확정할 수 있다.
+            return new Page(items.subList(start, end), true);
+        }
+        if (window.complete()) {
+            return new Page(items.subList(Math.min(start, items.size()), items.size()), false);
+        }
+        return null;
+    }
+
+    private Window get(String key) {
+        long now = System.currentTimeMillis();
+        Local l = local.get(key);
+        if (l != null && l.expiresAtMillis() > now) {
+            l1Counter.increment();
+            return l.window();
+        }
+
+        try {
+            String json = redis.opsForValue().get(key);
+            if (json == null) return null;
+            Window window = objectMapper.readValue(json, Window.class);
+            putLocal(key, window, now);
+            l2Counter.increment();
+            return window;
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Feed cache read failed. key={}", key, e);
+            return null;
+        }
+    }
+
+    private void put(String key, Window window) {
+        putLocal(key, window, System.currentTimeMillis());
+        try {
+            redis.opsForValue().set(key, objectMapper.writeValueAsString(window), Duration.ofSeconds(props.getTtlSeconds()));
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Feed cache write failed. key={}", key, e);
+        }
+    }
+
+    /**
+     * L1에 저장한다. 이전 버전 항목은 키가 달라 다시 쓰이지 않으므로 만료된 항목을 함께 비운다.
+     */
+    private void putLocal(String key, Window window, long now) {
+        local.values().removeIf(l -> l.expiresAtMillis() <= now);
+        local.put(key, new Local(window, now + props.getLocalTtlMillis()));
+    }
+}
@@ -0,0 +1,144 @@
+package com.hcproj.healthcareprojectbackend.community.service;
+
+import com.hcproj.healthcareprojectbackend.community.repository.PostLikeWriter;
+import com.hcproj.healthcareprojectbackend.global.config.properties.PostLikeProperties;
+import com.hcproj.healthcareprojectbackend.global.store.postlike.PostLikeCounterStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * 게시글 좋아요 수 write-behind 집계기.
+ *
+ * <p>
+ * <b>설계</b>
+ * <ul>
+ *   <li>좋아요/취소는 {@code posts} row를 갱신하지 않고 {@link PostLikeCounterStore}의 게시글별 카운터에 더한다.
+ *       한 글에 좋아요가 몰려도 row lock이나 단일 Redis 키에 쓰기가 집중되지 않는다.</li>
+ *   <li>{@code app.community.like.flush-millis}마다 누적분을 꺼내 batch UPDATE로 반영한다.
+ *       누적분은 Redis에 있으므로 어느 노드가 flush해도 되고, 노드 재시작에도 유실되지 않는다.</li>
+ *   <li>flush는 feed 캐시를 무효화하지 않는다. 캐시 window에는 좋아요 수가 없고,
+ *       목록은 페이지마다 DB {@code like_count} + 미반영분으로 채운다({@link PostLikeService#withCurrentLikes}).</li>
+ *   <li>Redis 장애 시 누적 대신 DB에 바로 반영하고, 조회는 DB 값만 사용한다.</li>
+ * </ul>
+ *
+ * <p>
+ * drain 직후 DB 반영 전에 노드가 죽으면 그 묶음(최대 {@code flush-batch}개 글)의 증감분은 유실될 수 있다.
+ * drain과 batch UPDATE 커밋 사이(한 번의 UPDATE 시간)에 읽으면 그 묶음만큼 수가 잠깐 작게 보인다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class PostLikeCounter {
+
+    /** flush 한 번에 반복할 최대 drain 횟수 */
+    private static final int MAX_DRAIN_ROUNDS = 20;
+
+    private final PostLikeCounterStore store;
+    private final PostLikeWriter writer;
+    private final PostLikeProperties props;
+    private final Counter flushedCounter;
+    private final Counter fallbackCounter;
+
+    public PostLikeCounter(PostLikeCounterStore store, PostLikeWriter writer, PostLikeProperties props,
+                           MeterRegistry meterRegistry) {
+        this.store = store;
+        this.writer = writer;
+        this.props = props;
+        this.flushedCounter = meterRegistry.counter("community.post.like.flushed");
+        this.fallbackCounter = meterRegistry.counter("community.post.like.fallback");
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 증감분을 누적한다.
+     *
+     * <p>좋아요 행 insert/delete가 롤백되면 카운트도 바뀌지 않는다.</p>
+     */
+    public void addAfterCommit(long postId, long delta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    add(postId, delta);
+                }
+            });
+            return;
+        }
+        add(postId, delta);
+    }
+
+    /** 게시글 하나의 미반영 증감분 (Redis 장애 시 0) */
+    public long pendingOf(long postId) {
+        return pending(List.of(postId)).getOrDefault(postId, 0L);
+    }
+
+    /**
+     * 게시글별 미반영 증감분을 MGET 1회로 조회한다.
+     *
+     * @return postId → 증감분 (없는 글은 포함하지 않음, Redis 장애 시 빈 맵)
+     */
+    public Map<Long, Long> pending(Collection<Long> postIds) {
+        try {
+            return store.pending(postIds);
+        } catch (DataAccessException e) {
+            log.warn("Post like pending lookup skipped (redis unavailable). posts={}", postIds.size(), e);
+            return Map.of();
+        }
+    }
+
+    /**
+     * 누적분을 DB에 반영한다.
+     *
+     * <p>
+     * DB 반영에 실패한 묶음은 카운터에 되돌려 다음 주기에 다시 시도한다.
+     * 한 번에 {@code flush-batch}개씩, 최대 {@value #MAX_DRAIN_ROUNDS}번 꺼낸다.
+     * </p>
+     */
+    @Scheduled(fixedDelayString = "${app.community.like.flush-millis:5000}")
+    public void flush() {
+        int batch = Math.max(1, props.getFlushBatch());
+
+        try {
+            for (int round = 0; round < MAX_DRAIN_ROUNDS; round++) {
+                SortedMap<Long, Long> deltas = store.drain(batch);
+                if (deltas.isEmpty()) break;
+
+                try {
+                    writer.addLikeCounts(deltas);
+                } catch (DataAccessException e) {
+                    log.warn("Post like flush failed. posts={}", deltas.size(), e);
+                    store.restore(deltas);
+                    break;
+                }
+                flushedCounter.increment(deltas.size());
+            }
+        } catch (DataAccessException e) {
+            log.warn("Post like flush skipped (redis unavailable)", e);
+        }
+    }
+
+    private void add(long postId, long delta) {
+        try {
+            store.add(postId, delta);
+        } catch (DataAccessException e) {
+            // Redis 장애 시에는 hot row 경합을 감수하고 DB에 바로 반영한다.
+            fallbackCounter.increment();
+            log.warn("Post like counter unavailable, writing through. postId={}", postId, e);
+            try {
+                writer.addLikeCounts(Map.of(postId, delta));
+            } catch (DataAccessException ex) {
+                log.error("Post like count lost. postId={}, delta={}", postId, delta, ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.hcproj.healthcareprojectbackend.community.service;
+
+import com.hcproj.healthcareprojectbackend.community.dto.response.PostLikeResponseDTO;
+import com.hcproj.healthcareprojectbackend.community.dto.response.PostSummaryDto;
+import com.hcproj.healthcareprojectbackend.community.entity.PostEntity;
+import com.hcproj.healthcareprojectbackend.community.entity.PostStatus;
+import com.hcproj.healthcareprojectbackend.community.repository.PostLikeRepository;
+import com.hcproj.healthcareprojectbackend.community.repository.PostLikeWriter;
+import com.hcproj.healthcareprojectbackend.community.repository.PostRepository;
+import com.hcproj.healthcareprojectbackend.global.exception.BusinessException;
+import com.hcproj.healthcareprojectbackend.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 좋아요 서비스.
+ *
+ * <p>
+ * 좋아요 여부는 {@code post_likes} 행(사용자당 1개)으로 판단하고,
+ * 좋아요 수는 {@code posts.like_count} + {@link PostLikeCounter}의 미반영분으로 계산한다.
+ * 같은 요청을 반복해도 행이 바뀌지 않으면 카운트도 바뀌지 않는다(멱등).
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PostLikeService {
+
+    private final PostRepository postRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final PostLikeWriter postLikeWriter;
+    private final PostLikeCounter postLikeCounter;
+
+    @Transactional
+    public PostLikeResponseDTO like(Long userId, Long postId) {
+        long stored = findStoredLikeCount(postId);
+        boolean changed = postLikeWriter.insertIfAbsent(postId, userId);
+        if (changed) {
+            postLikeCounter.addAfterCommit(postId, 1);
+        }
+        return new PostLikeResponseDTO(postId, true, currentLikeCount(postId, stored, changed ? 1 : 0));
+    }
+
+    @Transactional
+    public PostLikeResponseDTO unlike(Long userId, Long postId) {
+        long stored = findStoredLikeCount(postId);
+        boolean changed = postLikeWriter.delete(postId, userId);
+        if (changed) {
+            postLikeCounter.addAfterCommit(postId, -1);
+        }
+        return new PostLikeResponseDTO(postId, false, currentLikeCount(postId, stored, changed ? -1 : 0));
+    }
+
+    /** 사용자가 게시글에 좋아요를 눌렀는지 여부 (비로그인은 false) */
+    public boolean isLiked(Long postId, Long userId) {
+        return userId != null && postLikeRepository.existsByPostIdAndUserId(postId, userId);
+    }
+
+    /** 상세 응답용 좋아요 수 */
+    public long likeCountOf(PostEntity post) {
+        long stored = (post.getLikeCount() != null) ? post.getLikeCount() : 0L;
+        return currentLikeCount(post.getPostId(), stored, 0);
+    }
+
+    /**
+     * 캐시된 목록에 현재 좋아요 수를 채운다(DB like_count 조회 1회 + 미반영분 MGET 1회).
+     *
+     * <p>
+     * 캐시 window에는 좋아요 수를 담지 않고 페이지마다 여기서 덮어쓴다.
+     * window에 옛 like_count가 남아 있으면 flush가 미반영분을 DB로 옮긴 뒤 그만큼 수가 줄어 보이기 때문이다.
+     * </p>
+     *
+     * @param dtos 캐시에서 잘라낸 한 페이지
+     */
+    public List<PostSummaryDto> withCurrentLikes(List<PostSummaryDto> dtos) {
+        if (dtos.isEmpty()) return dtos;
+
+        List<Long> ids = dtos.stream().map(PostSummaryDto::postId).toList();
+        Map<Long, Long> stored = new HashMap<>();
+        for (PostRepository.IdLikeCountProjection p : postRepository.findLikeCountsByIdIn(ids)) {
+            stored.put(p.getId(), (p.getLikeCount() != null) ? p.getLikeCount() : 0L);
+        }
+        Map<Long, Long> pending = postLikeCounter.pending(ids);
+
+        return dtos.stream()
+                .map(dto -> dto.withLikeCount(Math.max(0,
+                        stored.getOrDefault(dto.postId(), 0L) + pending.getOrDefault(dto.postId(), 0L))))
+                .toList();
+    }
+
+    /**
+     * 목록의 좋아요 수에 미반영분을 더한다(페이지당 MGET 1회).
+     *
+     * @param dtos likeCount에 DB 값이 담긴 목록
+     */
+    public List<PostSummaryDto> withPendingLikes(List<PostSummaryDto> dtos) {
+        if (dtos.isEmpty()) return dtos;
+
+        Map<Long, Long> pending = postLikeCounter.pending(dtos.stream().map(PostSummaryDto::postId).toList());
+        if (pending.isEmpty()) return dtos;
+
+        return dtos.stream()
+                .map(dto -> {
+                    Long delta = pending.get(dto.postId());
+                    if (delta == null) return dto;
+                    long stored = (dto.likeCount() != null) ? dto.likeCount() : 0L;
+                    return dto.withLikeCount(Math.max(0, stored + delta));
+                })
+                .toList();
+    }
+
+    private long findStoredLikeCount(Long postId) {
+        return postRepository.findLikeCount(postId, PostStatus.POSTED)
+                .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
+    }
+
+    /**
+     * @param ownDelta 아직 커밋 전이라 카운터에 들어가지 않은 이번 요청의 증감분
+     */
+    private long currentLikeCount(long postId, long stored, long ownDelta) {
+        return Math.max(0, stored + postLikeCounter.pendingOf(postId) + ownDelta);
+    }
+}
@@ -5,36 +5,44 @@ import com.hcproj.healthcareprojectbackend.auth.entity.UserStatus;
 import com.hcproj.healthcareprojectbackend.auth.repository.UserRepository;
 import com.hcproj.healthcareprojectbackend.community.dto.request.PostCreateRequestDTO;
 import com.hcproj.healthcareprojectbackend.community.dto.request.PostUpdateRequestDTO;
+import com.hcproj.healthcareprojectbackend.community.dto.response.CommentPageResponseDTO;
 import com.hcproj.healthcareprojectbackend.community.dto.response.PostDetailResponseDTO;
 import com.hcproj.healthcareprojectbackend.community.dto.response.PostListResponseDTO;
-import com.hcproj.healthcareprojectbackend.community.dto.response.PostResponseDTO;
 import com.hcproj.healthcareprojectbackend.community.dto.response.PostSummaryDto;
 import com.hcproj.healthcareprojectbackend.community.entity.*;
-import com.hcproj.healthcareprojectbackend.community.repository.CommentRepository;
 import com.hcproj.healthcareprojectbackend.community.repository.PostRepository;
 import com.hcproj.healthcareprojectbackend.community.repository.ReportRepository;
 import com.hcproj.healthcareprojectbackend.global.exception.BusinessException;
 import com.hcproj.healthcareprojectbackend.global.exception.ErrorCode;
+import com.hcproj.healthcareprojectbackend.global.store.feed.FeedVersionStore;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 import static com.hcproj.healthcareprojectbackend.global.util.UtilityProvider.normalizeKeyword;
+import static com.hcproj.healthcareprojectbackend.global.util.UtilityProvider.toSearchKeyPattern;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class PostService {
 
+    /** 상세 응답에 싣는 최상위 댓글 수(이후는 댓글 API로 페이지 조회) */
+    private static final int DETAIL_COMMENT_PAGE_SIZE = 20;
+
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final CommentService commentService;
-    private final CommentRepository commentRepository;
     private final ReportRepository reportRepository;
+    private final PostViewCounter postViewCounter;
+    private final HotFeedCache hotFeedCache;
+    private final FeedVersionStore feedVersionStore;
+    private final PostLikeService postLikeService;
 
     @Transactional
     public void createPost(Long userId, PostCreateRequestDTO request) {
@@ -54,16 +62,21 @@ public class PostService {
                 .content(request.content())
                 .status(PostStatus.POSTED)
                 .viewCount(0L)
+                .commentCount(0L)
+                .likeCount(0L)
                 .isNotice(false)
                 .build();
 
         postRepository.save(post);
+        feedVersionStore.bumpAfterCommit();
     }
 
     /**
      * 게시글 목록 조회 (커서 기반 페이지네이션 + 동적 필터링 + 띄어쓰기 무시 검색)
+     *
+     * @param match 작성자 검색 일치 방식(CONTAINS 기본, PREFIX면 닉네임 앞부분 일치)
      */
-    public PostListResponseDTO getPostList(Long cursorId, String category, String searchBy, String q, int size) {
+    public PostListResponseDTO getPostList(Long cursorId, String category, String searchBy, String q, String match, int size) {
         int limitSize = size + 1;  // hasNext 판단용
         List<PostEntity> entities;
 
@@ -79,29 +92,36 @@ public class PostService {
 
         // 4. 6가지 케이스 분기 (Native Query 사용)
         if (keyword == null) {
-            // 검색어 없음
-            if (normalizedCategory == null) {
-                entities = postRepository.findPostListAll(cursorId, limitSize);
-            } else {
-                entities = postRepository.findPostListByCategory(cursorId, normalizedCategory, limitSize);
+            // 검색어 없음 - 앞쪽 페이지는 hot feed 캐시에서 응답
+            // 좋아요 수는 window에 담지 않고 페이지마다 DB 값 + 미반영분으로 채운다.
+            HotFeedCache.Page cached = hotFeedCache.find(normalizedCategory, cursorId, size,
+                    () -> toSummaryDtos(findLatest(normalizedCategory, null, hotFeedCache.windowSize(size))).stream()
+                            .map(dto -> dto.withLikeCount(null))
+                            .toList());
+            if (cached != null) {
+                return toListResponse(postLikeService.withCurrentLikes(cached.items()), cached.hasNext(), size);
             }
+            entities = findLatest(normalizedCategory, cursorId, limitSize);
         } else {
             // 검색어 있음 - 띄어쓰기 제거 후 와일드카드 추가
             String likePattern = "%" + keyword.replace(" ", "") + "%";
+            // 제목 검색은 trigram 인덱스 식(REPLACE(LOWER(title)))에 맞춰 소문자로 비교한다.
+            String titlePattern = likePattern.toLowerCase(Locale.ROOT);
 
             if (isAuthorSearch) {
-                // 작성자 검색
+                // 작성자 검색 - users.search_key 기준(match=PREFIX면 앞부분 일치)
+                String authorPattern = toSearchKeyPattern(keyword, match);
                 if (normalizedCategory == null) {
-                    entities = postRepository.findPostListByAuthor(cursorId, likePattern, limitSize);
+                    entities = postRepository.findPostListByAuthor(cursorId, authorPattern, limitSize);
                 } else {
-                    entities = postRepository.findPostListByAuthorAndCategory(cursorId, normalizedCategory, likePattern, limitSize);
+                    entities = postRepository.findPostListByAuthorAndCategory(cursorId, normalizedCategory, authorPattern, limitSize);
                 }
             } else {
                 // 제목 검색
                 if (normalizedCategory == null) {
-                    entities = postRepository.findPostListByTitle(cursorId, likePattern, limitSize);
+                    entities = postRepository.findPostListByTitle(cursorId, titlePattern, limitSize);
                 } else {
-                    entities = postRepository.findPostListByTitleAndCategory(cursorId, normalizedCategory, likePattern, limitSize);
+                    entities = postRepository.findPostListByTitleAndCategory(cursorId, normalizedCategory, titlePattern, limitSize);
                 }
             }
         }
@@ -112,46 +132,33 @@ public class PostService {
             entities = entities.subList(0, size);
         }
 
-        // 6. 작성자 정보 조회
-        Map<Long, UserEntity> userMap = getUserMap(entities);
-
-        // 6-1. 댓글 수 조회
-        Map<Long, Long> commentCountMap = getCommentCountMap(entities);
-
-        // 7. 다음 커서 ID
-        Long nextCursorId = entities.isEmpty() ? null : entities.get(entities.size() - 1).getPostId();
+        // 6. 작성자 정보 조회 + DTO 변환 (좋아요 수는 미반영분을 MGET 1회로 더한다)
+        List<PostSummaryDto> dtos = postLikeService.withPendingLikes(toSummaryDtos(entities));
 
-        // 8. DTO 변환
-        List<PostSummaryDto> dtos = entities.stream()
-                .map(entity -> toSummaryDto(entity, userMap, commentCountMap))
-                .toList();
-
-        return PostListResponseDTO.builder()
-                .notices(List.of())
-                .list(dtos)
-                .pageInfo(PostListResponseDTO.PageInfo.builder()
-                        .nextCursorId(nextCursorId)
-                        .hasNext(hasNext)
-                        .size(size)
-                        .build())
-                .build();
+        return toListResponse(dtos, hasNext, size);
     }
 
-    @Transactional
+    /**
+     * 게시글 상세 조회.
+     *
+     * <p>조회수는 {@link PostViewCounter}에 기록만 하고 DB는 갱신하지 않는다(읽기 전용 트랜잭션).
+     * 응답의 조회수는 DB 값 + 이 노드의 미반영 증가분이다.
+     * 좋아요 수도 DB 값 + Redis의 미반영 누적분이다.</p>
+     */
     public PostDetailResponseDTO getPostDetail(Long postId, Long currentUserId) {
         PostEntity post = postRepository.findById(postId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
 
-        post.increaseViewCount();
+        long pendingViews = postViewCounter.record(postId, currentUserId);
 
         UserEntity writer = userRepository.findById(post.getUserId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
-        long views = (post.getViewCount() != null) ? post.getViewCount() : 0L;
+        long views = ((post.getViewCount() != null) ? post.getViewCount() : 0L) + pendingViews;
         boolean isOwner = currentUserId != null && currentUserId.equals(post.getUserId());
 
-        List<PostResponseDTO.CommentDTO> comments = commentService.getCommentTree(postId);
-        long commentCount = commentRepository.countByPostId(postId);
+        CommentPageResponseDTO firstPage = commentService.getRootComments(postId, null, DETAIL_COMMENT_PAGE_SIZE);
+        long commentCount = (post.getCommentCount() != null) ? post.getCommentCount() : 0L;
 
         return PostDetailResponseDTO.builder()
                 .postId(post.getPostId())
@@ -166,11 +173,13 @@ public class PostService {
                 .content(post.getContent())
                 .viewCount(views)
                 .commentCount(commentCount)
-                .likeCount(0L)
+                .likeCount(postLikeService.likeCountOf(post))
                 .createdAt(post.getCreatedAt())
                 .updatedAt(post.getUpdatedAt())
                 .isOwner(isOwner)
-                .comments(comments)
+                .isLiked(postLikeService.isLiked(postId, currentUserId))
+                .comments(firstPage.comments())
+                .commentPageInfo(firstPage.pageInfo())
                 .build();
     }
 
@@ -197,6 +206,7 @@ public class PostService {
                 request.category(),
                 request.isNotice()
         );
+        feedVersionStore.bumpAfterCommit();
     }
 
     @Transactional
@@ -209,6 +219,7 @@ public class PostService {
         }
 
         post.delete();
+        feedVersionStore.bumpAfterCommit();
 
         List<ReportEntity> pendingReports = reportRepository.findByTargetIdAndTypeAndStatus(
                 postId,
@@ -232,6 +243,35 @@ public class PostService {
         return trimmed;
     }
 
+    /** 검색어 없는 최신순 목록 */
+    private List<PostEntity> findLatest(String category, Long cursorId, int limitSize) {
+        return (category == null)
+                ? postRepository.findPostListAll(cursorId, limitSize)
+                : postRepository.findPostListByCategory(cursorId, category, limitSize);
+    }
+
+    private List<PostSummaryDto> toSummaryDtos(List<PostEntity> entities) {
+        Map<Long, UserEntity> userMap = getUserMap(entities);
+        return entities.stream()
+                .map(entity -> toSummaryDto(entity, userMap))
+                .toList();
+    }
+
+    private PostListResponseDTO toListResponse(List<PostSummaryDto> dtos, boolean hasNext, int size) {
+        // 다음 커서 ID
+        Long nextCursorId = dtos.isEmpty() ? null : dtos.get(dtos.size() - 1).postId();
+
+        return PostListResponseDTO.builder()
+                .notices(List.of())
+                .list(dtos)
+                .pageInfo(PostListResponseDTO.PageInfo.builder()
+                        .nextCursorId(nextCursorId)
+                        .hasNext(hasNext)
+                        .size(size)
+                        .build())
+                .build();
+    }
+
     private Map<Long, UserEntity> getUserMap(List<PostEntity> entities) {
         List<Long> userIds = entities.stream()
                 .map(PostEntity::getUserId)
@@ -241,28 +281,13 @@ public class PostService {
                 .collect(Collectors.toMap(UserEntity::getId, u -> u));
     }
 
-    private Map<Long, Long> getCommentCountMap(List<PostEntity> entities) {
-        List<Long> postIds = entities.stream()
-                .map(PostEntity::getPostId)
-                .distinct()
-                .toList();
-
-        if (postIds.isEmpty()) {
-            return Map.of();
-        }
-
-        return commentRepository.countByPostIds(postIds).stream()
-                .collect(Collectors.toMap(
-                        CommentRepository.PostCommentCount::getPostId,
-                        CommentRepository.PostCommentCount::getCount
-                ));
-    }
-
-    private PostSummaryDto toSummaryDto(PostEntity entity, Map<Long, UserEntity> userMap, Map<Long, Long> commentCountMap) {
+    private PostSummaryDto toSummaryDto(PostEntity entity, Map<Long, UserEntity> userMap) {
         UserEntity author = userMap.get(entity.getUserId());
         String nickname = (author != null) ? author.getNickname() : "알 수 없음";
         String handle = (author != null) ? author.getHandle() : "";
-        Long commentCount = commentCountMap.getOrDefault(entity.getPostId(), 0L);
+        // 댓글 수는 posts.comment_count를 그대로 사용한다(추가 쿼리 없음).
+        Long commentCount = (entity.getCommentCount() != null) ? entity.getCommentCount() : 0L;
+        Long likeCount = (entity.getLikeCount() != null) ? entity.getLikeCount() : 0L;
 
         return new PostSummaryDto(
                 entity.getPostId(),
@@ -274,7 +299,7 @@ public class PostService {
                 entity.getCreatedAt(),
                 commentCount,
                 entity.getViewCount(),
-                0L
+                likeCount
         );
     }
 }
@@ -0,0 +1,131 @@
+package com.hcproj.healthcareprojectbackend.community.service;
+
+import com.hcproj.healthcareprojectbackend.community.repository.PostViewCountWriter;
+import com.hcproj.healthcareprojectbackend.global.config.properties.PostViewProperties;
+import com.hcproj.healthcareprojectbackend.global.store.postview.PostViewDedupStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수 write-behind 집계기.
+ *
+ * <p>
+ * <b>설계</b>
+ * <ul>
+ *   <li>조회 시 DB를 갱신하지 않고 post별 {@link LongAdder}에 더한다.
+ *       인기 글에 조회가 몰려도 같은 row lock을 두고 경합하지 않는다.</li>
+ *   <li>{@code app.community.view.flush-millis}마다 증가분을 꺼내 batch UPDATE 1회로 반영한다.</li>
+ *   <li>로그인 사용자는 {@link PostViewDedupStore}로 dedup window 안의 재조회를 무시한다.
+ *       Redis 장애 시에는 dedup 없이 집계한다.</li>
+ *   <li>flush 실패 시 증가분을 되돌려 다음 주기에 다시 시도한다.
+ *       종료 시 남은 증가분을 한 번 더 flush한다.</li>
+ * </ul>
+ *
+ * <p>
+ * 노드가 비정상 종료되면 마지막 flush 이후 증가분(최대 flush 주기만큼)은 유실될 수 있다.
+ * 조회수는 근사치로 충분하다는 전제다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class PostViewCounter {
+
+    private final PostViewDedupStore dedupStore;
+    private final PostViewCountWriter writer;
+    private final PostViewProperties props;
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private final Counter flushedCounter;
+    private final Counter dedupedCounter;
+
+    public PostViewCounter(PostViewDedupStore dedupStore, PostViewCountWriter writer,
+                           PostViewProperties props, MeterRegistry meterRegistry) {
+        this.dedupStore = dedupStore;
+        this.writer = writer;
+        this.props = props;
+        this.flushedCounter = meterRegistry.counter("community.post.view.flushed");
+        this.dedupedCounter = meterRegistry.counter("community.post.view.deduped");
+        meterRegistry.gaugeMapSize("community.post.view.pending", Tags.empty(), pending);
+    }
+
+    /**
+     * 조회 1건을 기록한다.
+     *
+     * @param postId   게시글 ID
+     * @param viewerId 조회자 ID (null이면 dedup 없이 집계)
+     * @return 이 노드에 쌓여 있는 아직 반영되지 않은 증가분(이번 조회 포함)
+     */
+    public long record(long postId, Long viewerId) {
+        if (viewerId != null && props.getDedupSeconds() > 0 && !isFirstView(postId, viewerId)) {
+            dedupedCounter.increment();
+            return pendingOf(postId);
+        }
+
+        LongAdder adder = pending.computeIfAbsent(postId, k -> new LongAdder());
+        adder.increment();
+        return adder.sum();
+    }
+
+    /** 이 노드에 쌓여 있는 아직 반영되지 않은 증가분 */
+    public long pendingOf(long postId) {
+        LongAdder adder = pending.get(postId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    /**
+     * 쌓인 증가분을 DB에 반영한다.
+     *
+     * <p>
+     * {@link LongAdder#sumThenReset()}은 셀 단위로 값을 꺼내므로 flush 중 들어온 증가분은
+     * 이번 또는 다음 flush 중 한 곳에 반드시 포함된다.
+     * 증가분이 0인 항목은 맵에서 제거한다(제거 순간 같은 항목에 들어온 1건은 드물게 유실될 수 있다).
+     * </p>
+     */
+    @Scheduled(fixedDelayString = "${app.community.view.flush-millis:5000}")
+    public void flush() {
+        if (pending.isEmpty()) return;
+
+        Map<Long, Long> deltas = new TreeMap<>();
+        for (Map.Entry<Long, LongAdder> e : pending.entrySet()) {
+            long delta = e.getValue().sumThenReset();
+            if (delta > 0) {
+                deltas.put(e.getKey(), delta);
+            } else {
+                pending.remove(e.getKey(), e.getValue());
+            }
+        }
+        if (deltas.isEmpty()) return;
+
+        try {
+            writer.addViews(deltas);
+            flushedCounter.increment(deltas.values().stream().mapToLong(Long::longValue).sum());
+        } catch (DataAccessException e) {
+            log.warn("Post view flush failed. posts={}", deltas.size(), e);
+            deltas.forEach((postId, delta) -> pending.computeIfAbsent(postId, k -> new LongAdder()).add(delta));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private boolean isFirstView(long postId, long viewerId) {
+        try {
+            return dedupStore.markViewed(postId, viewerId);
+        } catch (DataAccessException e) {
+            log.warn("Post view dedup skipped (redis unavailable). postId={}", postId, e);
+            return true;
+        }
+    }
+}
@@ -3,16 +3,20 @@ package com.hcproj.healthcareprojectbackend.diet.ai;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hcproj.healthcareprojectbackend.diet.ai.dto.AllowedFoodDTO;
-import com.hcproj.healthcareprojectbackend.diet.entity.FoodEntity;
+import com.hcproj.healthcareprojectbackend.diet.ai.dto.FoodCatalogRow;
 import com.hcproj.healthcareprojectbackend.diet.repository.FoodRepository;
 import com.hcproj.healthcareprojectbackend.global.exception.BusinessException;
 import com.hcproj.healthcareprojectbackend.global.exception.ErrorCode;
+import com.hcproj.healthcareprojectbackend.global.store.catalog.CatalogType;
+import com.hcproj.healthcareprojectbackend.global.store.catalog.CatalogVersionStore;
+import com.hcproj.healthcareprojectbackend.profile.entity.AllergyType;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * AI 식단 생성에 사용할 "허용 음식 목록(allowlist)"을 구성하는 서비스.
@@ -26,8 +30,11 @@ import java.util.stream.Collectors;
  *
  * <p><b>알레르기 필터 정책</b></p>
  * <ul>
- *   <li>{@code allergies}는 CSV 문자열이므로, 서버에서 단순 부분 문자열 매칭으로 제외한다.</li>
- *   <li>여러 알레르기는 "하나라도 포함되면 제외"하는 방식으로 필터링한다.</li>
+ *   <li>알레르기 코드는 {@link AllergyType} 비트 마스크({@code allergy_mask})로 정규화되어 있다.</li>
+ *   <li>요청 알레르기를 같은 방식의 마스크로 바꾸고, {@code (foodMask & excludeMask) == 0}인 음식만 남긴다.</li>
+ *   <li>foodId 오름차순으로 한 번 순회하며 허용 음식이 요청 개수만큼 모이면 멈춘다.
+ *       (허용 음식이 충분하면 항상 정확히 요청 개수를 반환한다)</li>
+ *   <li>알 수 없는 알레르기 코드는 필터에 반영하지 않는다.</li>
  * </ul>
  *
  * <p><b>용량 제한</b></p>
@@ -36,6 +43,14 @@ import java.util.stream.Collectors;
  *   <li>현재 구현은 최소 10, 최대 300 범위로 clamp한다.</li>
  * </ul>
  *
+ * <p><b>스냅샷</b></p>
+ * <ul>
+ *   <li>카탈로그 세대마다 활성 음식 전체를 projection으로 한 번 읽어 마스크 배열과 함께 메모리에 둔다.</li>
+ *   <li>알레르기 마스크 + 개수 단위로 불변 payload(DTO 리스트 + JSON)를 보관하고 재사용한다.</li>
+ *   <li>음식 등록/삭제 시 {@link CatalogVersionStore}의 세대가 바뀌며, 다음 조회에서 다시 만든다.</li>
+ *   <li>조합 수가 {@value #MAX_SNAPSHOTS}개를 넘으면 전체를 비우고 다시 채운다.</li>
+ * </ul>
+ *
  * <p><b>예외</b></p>
  * 직렬화 실패 시 {@link BusinessException}({@link ErrorCode#AI_ALLOWED_FOODS_BUILD_FAILED})를 발생시킨다.
  */
@@ -43,8 +58,14 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class DietAiFoodCatalogService {
 
+    private static final int MAX_SNAPSHOTS = 256;
+
     private final FoodRepository foodRepository;
     private final ObjectMapper objectMapper;
+    private final CatalogVersionStore catalogVersionStore;
+
+    private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private volatile CatalogIndex index;
 
     /**
      * 허용 음식 목록 payload를 생성한다.
@@ -52,6 +73,7 @@ public class DietAiFoodCatalogService {
      * <p>
      * 반환값에는 DTO 리스트와 동일 데이터의 JSON 문자열이 함께 포함된다.
      * JSON은 pretty print 없이 compact 형태로 생성한다.
+     * 같은 카탈로그 세대에서 같은 조건으로 다시 호출하면 DB 조회/직렬화 없이 스냅샷을 반환한다.
      * </p>
      *
      * @param allergies 알레르기 코드 목록(선택)
@@ -61,37 +83,54 @@ public class DietAiFoodCatalogService {
      */
     public AllowedFoodsPayload buildAllowedFoodsPayload(List<String> allergies, int maxFoods) {
         int pageSize = Math.max(10, Math.min(maxFoods, 300)); // 안전 범위
-        PageRequest pr = PageRequest.of(0, pageSize);
-
-        List<FoodEntity> foods;
-
-        if (allergies == null || allergies.isEmpty()) {
-            foods = foodRepository.findByIsActiveTrue(pr);
-        } else {
-            // 여러 알레르기를 한 번의 쿼리로 완벽히 처리하기 까다로워서(CSV + LIKE),
-            // 여기서는 "각 코드별 제외" 후 교집합 느낌으로 필터링한다.
-            // (즉, allergy 중 하나라도 포함되면 제거)
-            foods = foodRepository.findByIsActiveTrue(pr);
-            Set<String> lowerAllergies = allergies.stream()
-                    .filter(Objects::nonNull)
-                    .map(a -> a.trim().toLowerCase(Locale.ROOT))
-                    .collect(Collectors.toSet());
-
-            foods = foods.stream()
-                    .filter(f -> isAllowedByAllergies(f.getAllergyCodes(), lowerAllergies))
-                    .limit(pageSize)
-                    .toList();
+        long excludeMask = AllergyType.maskOf(allergies);
+        String key = excludeMask + "#" + pageSize;
+
+        long generation = catalogVersionStore.generation(CatalogType.FOOD);
+        Snapshot snapshot = snapshots.get(key);
+        if (snapshot != null && snapshot.generation() == generation) {
+            return snapshot.payload();
         }
 
-        List<AllowedFoodDTO> allowed = foods.stream()
-                .map(f -> new AllowedFoodDTO(
-                        f.getFoodId(),
-                        f.getName(),
-                        f.getCalories(),
-                        f.getNutritionUnit(),
-                        f.getNutritionAmount()
-                ))
-                .toList();
+        AllowedFoodsPayload payload = select(indexOf(generation), excludeMask, pageSize);
+        if (snapshots.size() >= MAX_SNAPSHOTS) {
+            snapshots.clear();
+        }
+        // 적재 중 세대가 바뀌었다면 이전 세대로 기록되어 다음 조회에서 다시 만들어진다.
+        snapshots.put(key, new Snapshot(generation, payload));
+        return payload;
+    }
+
+    private CatalogIndex indexOf(long generation) {
+        CatalogIndex current = index;
+        if (current != null && current.generation() == generation) {
+            return current;
+        }
+        List<FoodCatalogRow> rows = foodRepository.findActiveCatalogRows();
+        long[] masks = new long[rows.size()];
+        for (int i = 0; i < masks.length; i++) {
+            Long mask = rows.get(i).allergyMask();
+            masks[i] = mask == null ? 0L : mask;
+        }
+        CatalogIndex loaded = new CatalogIndex(generation, rows, masks);
+        index = loaded;
+        return loaded;
+    }
+
+    private AllowedFoodsPayload select(CatalogIndex catalog, long excludeMask, int pageSize) {
+        List<AllowedFoodDTO> allowed = new ArrayList<>(pageSize);
+        long[] masks = catalog.masks();
+        for (int i = 0; i < masks.length && allowed.size() < pageSize; i++) {
+            if ((masks[i] & excludeMask) != 0) continue;
+            FoodCatalogRow f = catalog.rows().get(i);
+            allowed.add(new AllowedFoodDTO(
+                    f.id(),
+                    f.name(),
+                    f.calories(),
+                    f.nutritionUnit(),
+                    f.nutritionAmount()
+            ));
+        }
 
         String json;
         try {
@@ -101,17 +140,12 @@ public class DietAiFoodCatalogService {
             throw new BusinessException(ErrorCode.AI_ALLOWED_FOODS_BUILD_FAILED);
         }
 
-        return new AllowedFoodsPayload(allowed, json);
+        return new AllowedFoodsPayload(List.copyOf(allowed), json);
     }
 
-    private boolean isAllowedByAllergies(String allergyCodesCsv, Set<String> lowerAllergies) {
-        if (allergyCodesCsv == null || allergyCodesCsv.isBlank()) return true;
-        String hay = allergyCodesCsv.toLowerCase(Locale.ROOT);
-        for (String code : lowerAllergies) {
-            if (hay.contains(code)) return false;
-        }
-        return true;
-    }
+    private record CatalogIndex(long generation, List<FoodCatalogRow> rows, long[] masks) {}
+
+    private record Snapshot(long generation, AllowedFoodsPayload payload) {}
 
     /**
      * 허용 음식 목록 payload.
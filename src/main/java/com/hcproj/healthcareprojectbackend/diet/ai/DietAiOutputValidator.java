@@ -28,6 +28,12 @@ import java.util.Set;
  *   <li>각 item은 allowlist에 포함된 foodId이며 count는 양수</li>
  * </ul>
  *
+ * <p><b>검증 시점</b></p>
+ * <ul>
+ *   <li>{@link #validateDay}: 응답을 읽는 도중 day 객체가 완성될 때마다(첫 위반에서 즉시 중단)</li>
+ *   <li>{@link #validateWeek}: 모든 day 통과 후 7일 구성(범위/개수/누락/중복)만 확인</li>
+ * </ul>
+ *
  * <p><b>실패 처리</b></p>
  * 검증 실패 시 {@link BusinessException}({@link ErrorCode#AI_INVALID_OUTPUT})를 발생시킨다.
  */
@@ -35,14 +41,15 @@ import java.util.Set;
 public class DietAiOutputValidator {
 
     /**
-     * 주간 식단 결과를 검증한다.
+     * 주간 식단 결과의 7일 구성을 검증한다.
      *
-     * @param startDate      요청한 주간 시작일
-     * @param result         AI 생성 결과
-     * @param allowedFoodIds 허용된 foodId 집합(allowlist)
+     * <p>day 내부 규칙은 {@link #validateDay}로 이미 검증되었다고 보고 다시 순회하지 않는다.</p>
+     *
+     * @param startDate 요청한 주간 시작일
+     * @param result    AI 생성 결과
      * @throws BusinessException 검증 실패 시
      */
-    public void validate(LocalDate startDate, DietAiWeekPlanResult result, Set<Long> allowedFoodIds) {
+    public void validateWeek(LocalDate startDate, DietAiWeekPlanResult result) {
         try {
             if (result == null) fail("result is null");
 
@@ -58,32 +65,7 @@ public class DietAiOutputValidator {
 
             Set<LocalDate> daySet = new HashSet<>();
             for (var day : result.days()) {
-                if (day.logDate() == null) fail("day.logDate is null");
                 daySet.add(day.logDate());
-
-                if (day.meals() == null || day.meals().isEmpty()) fail("meals empty. date=" + day.logDate());
-
-                int expectedOrder = 0;
-                for (var meal : day.meals()) {
-                    if (meal.displayOrder() == null || meal.displayOrder() != expectedOrder) {
-                        fail("meal displayOrder invalid. date=" + day.logDate()
-                                + ", expected=" + expectedOrder + ", got=" + meal.displayOrder());
-                    }
-                    expectedOrder++;
-
-                    if (meal.title() == null || meal.title().isBlank()) fail("meal title blank. date=" + day.logDate());
-                    if (meal.items() == null || meal.items().isEmpty()) fail("meal items empty. date=" + day.logDate());
-
-                    for (var item : meal.items()) {
-                        if (item.foodId() == null || !allowedFoodIds.contains(item.foodId())) {
-                            fail("foodId not allowed. date=" + day.logDate() + ", foodId=" + item.foodId());
-                        }
-                        if (item.count() == null || item.count() <= 0) {
-                            fail("count invalid. date=" + day.logDate()
-                                    + ", foodId=" + item.foodId() + ", count=" + item.count());
-                        }
-                    }
-                }
             }
 
             for (int i = 0; i < 7; i++) {
@@ -91,13 +73,68 @@ public class DietAiOutputValidator {
                 if (!daySet.contains(d)) fail("missing date in days: " + d);
             }
         } catch (IllegalStateException e) {
-            // 여기서 로깅
-            org.slf4j.LoggerFactory.getLogger(DietAiOutputValidator.class)
-                    .warn("AI output invalid: {}", e.getMessage());
-            throw new BusinessException(ErrorCode.AI_INVALID_OUTPUT);
+            throw invalid(e);
+        }
+    }
+
+    /**
+     * day 하나를 검증한다. (응답을 읽는 도중 day가 완성될 때마다 호출)
+     *
+     * <p>날짜가 요청 범위(startDate..startDate+6) 안인지와 meal/item 규칙만 본다.
+     * 7일 전체 구성(누락/중복)은 모든 day를 읽은 뒤 {@link #validateWeek}에서 확인한다.</p>
+     *
+     * @param startDate      요청한 주간 시작일
+     * @param day            AI가 생성한 day
+     * @param allowedFoodIds 허용된 foodId 집합(allowlist)
+     * @throws BusinessException 검증 실패 시
+     */
+    public void validateDay(LocalDate startDate, DietAiWeekPlanResult.Day day, Set<Long> allowedFoodIds) {
+        try {
+            if (day == null) fail("day is null");
+            checkDay(startDate, day, allowedFoodIds);
+        } catch (IllegalStateException e) {
+            throw invalid(e);
         }
     }
 
+    private void checkDay(LocalDate startDate, DietAiWeekPlanResult.Day day, Set<Long> allowedFoodIds) {
+        if (day.logDate() == null) fail("day.logDate is null");
+        if (day.logDate().isBefore(startDate) || day.logDate().isAfter(startDate.plusDays(6))) {
+            fail("day.logDate out of range. date=" + day.logDate());
+        }
+
+        if (day.meals() == null || day.meals().isEmpty()) fail("meals empty. date=" + day.logDate());
+
+        int expectedOrder = 0;
+        for (var meal : day.meals()) {
+            if (meal.displayOrder() == null || meal.displayOrder() != expectedOrder) {
+                fail("meal displayOrder invalid. date=" + day.logDate()
+                        + ", expected=" + expectedOrder + ", got=" + meal.displayOrder());
+            }
+            expectedOrder++;
+
+            if (meal.title() == null || meal.title().isBlank()) fail("meal title blank. date=" + day.logDate());
+            if (meal.items() == null || meal.items().isEmpty()) fail("meal items empty. date=" + day.logDate());
+
+            for (var item : meal.items()) {
+                if (item.foodId() == null || !allowedFoodIds.contains(item.foodId())) {
+                    fail("foodId not allowed. date=" + day.logDate() + ", foodId=" + item.foodId());
+                }
+                if (item.count() == null || item.count() <= 0) {
+                    fail("count invalid. date=" + day.logDate()
+                            + ", foodId=" + item.foodId() + ", count=" + item.count());
+                }
+            }
+        }
+    }
+
+    private static BusinessException invalid(IllegalStateException e) {
+        // 여기서 로깅
+        org.slf4j.LoggerFactory.getLogger(DietAiOutputValidator.class)
+                .warn("AI output invalid: {}", e.getMessage());
+        return new BusinessException(ErrorCode.AI_INVALID_OUTPUT);
+    }
+
     private static void fail(String msg) {
         throw new IllegalStateException(msg);
     }
@@ -13,10 +13,12 @@ import java.util.List;
  * </p>
  *
  * @param allergies 알레르기 코드 목록(선택)
- * @param note      추가 요청/주의사항(선택, 최대 500자)
+ * @param note        추가 요청/주의사항(선택, 최대 500자)
+ * @param bypassCache true면 동일 요청의 캐시된 AI 응답을 쓰지 않고 새로 생성(선택)
  */
 public record AiDietWeekPlanPutRequestDTO(
         List<String> allergies,
         @Size(max = 500)
-        String note
+        String note,
+        Boolean bypassCache
 ) {}
\ No newline at end of file
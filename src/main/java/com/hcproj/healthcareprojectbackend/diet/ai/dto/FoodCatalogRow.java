@@ -0,0 +1,20 @@
+package com.hcproj.healthcareprojectbackend.diet.ai.dto;
+
+/**
+ * 허용 음식 목록 구성을 위한 음식 카탈로그 행(조회 전용 projection).
+ *
+ * @param id              음식 ID(foodId)
+ * @param name            음식 이름
+ * @param calories        칼로리
+ * @param nutritionUnit   영양 단위
+ * @param nutritionAmount 단위 기준량
+ * @param allergyMask     알레르기 비트 마스크
+ */
+public record FoodCatalogRow(
+        Long id,
+        String name,
+        Integer calories,
+        String nutritionUnit,
+        Integer nutritionAmount,
+        Long allergyMask
+) {}
@@ -7,7 +7,9 @@ import com.hcproj.healthcareprojectbackend.global.response.ApiResponse;
 import com.hcproj.healthcareprojectbackend.global.security.annotation.CurrentUserId;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequiredArgsConstructor
@@ -23,4 +25,13 @@ public class DietAiController {
     ) {
         return ApiResponse.ok(dietAiWeekPlanFacade.replaceWeekPlan(userId, request));
     }
+
+    /** 주간 식단 스트리밍 생성 (SSE: day → done | error) */
+    @PutMapping(path = "/diets/ai/week-plans/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamWeekPlans(
+            @CurrentUserId Long userId,
+            @Valid @RequestBody AiDietWeekPlanPutRequestDTO request
+    ) {
+        return dietAiWeekPlanFacade.streamWeekPlan(userId, request);
+    }
 }
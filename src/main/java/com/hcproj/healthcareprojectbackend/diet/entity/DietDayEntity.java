@@ -37,7 +37,8 @@ public class DietDayEntity extends BaseTimeEntity {
 
     // 식단 기록 ID
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "diet_days_seq_gen")
+    @SequenceGenerator(name = "diet_days_seq_gen", sequenceName = "diet_days_diet_day_id_seq", allocationSize = 50)
     @Column(name = "diet_day_id")
     private Long dietDayId;
 
@@ -33,7 +33,8 @@ import lombok.*;
 public class DietMealEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "diet_meals_seq_gen")
+    @SequenceGenerator(name = "diet_meals_seq_gen", sequenceName = "diet_meals_diet_meal_id_seq", allocationSize = 50)
     @Column(name = "diet_meal_id")
     private Long dietMealId;
 
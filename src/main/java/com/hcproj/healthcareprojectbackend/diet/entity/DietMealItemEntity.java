@@ -34,7 +34,8 @@ import lombok.*;
 public class DietMealItemEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "diet_meal_items_seq_gen")
+    @SequenceGenerator(name = "diet_meal_items_seq_gen", sequenceName = "diet_meal_items_diet_meal_item_id_seq", allocationSize = 50)
     @Column(name = "diet_meal_item_id")
     private Long dietMealItemId;
 
@@ -1,6 +1,7 @@
 package com.hcproj.healthcareprojectbackend.diet.entity;
 
 import com.hcproj.healthcareprojectbackend.global.entity.BaseTimeEntity;
+import com.hcproj.healthcareprojectbackend.profile.entity.AllergyType;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -25,6 +26,7 @@ import java.math.BigDecimal;
  * <ul>
  *   <li>{@code displayServing}: 사용자에게 보여줄 서빙 기준 설명</li>
  *   <li>{@code allergies}: 알레르기 코드 목록(CSV 형태)</li>
+ *   <li>{@code allergyMask}: CSV를 {@link AllergyType} 비트 마스크로 정규화한 값(저장 시 자동 계산)</li>
  *   <li>{@code isActive}: 비활성 음식은 선택/검색 대상에서 제외 가능</li>
  * </ul>
  */
@@ -71,6 +73,15 @@ public class FoodEntity extends BaseTimeEntity {
     @Column(name = "allergy_codes", length = 1000)
     private String allergyCodes; // CSV
 
+    @Column(name = "allergy_mask", nullable = false)
+    private Long allergyMask;
+
     @Column(name = "is_active", nullable = false)
     private Boolean isActive;
+
+    @PrePersist
+    @PreUpdate
+    void syncAllergyMask() {
+        this.allergyMask = AllergyType.maskOfCsv(allergyCodes);
+    }
 }
@@ -0,0 +1,210 @@
+package com.hcproj.healthcareprojectbackend.diet.repository;
+
+import com.hcproj.healthcareprojectbackend.diet.ai.dto.DietAiWeekPlanResult;
+import com.hcproj.healthcareprojectbackend.diet.entity.DietDayEntity;
+import com.hcproj.healthcareprojectbackend.diet.entity.DietMealEntity;
+import com.hcproj.healthcareprojectbackend.diet.entity.DietMealItemEntity;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 주간 식단 교체(기존 범위 삭제 + 새 식단 insert)를 JPA 영속성 컨텍스트 없이
+ * 소수의 set-based SQL로 수행하는 JDBC writer.
+ *
+ * <p><b>쿼리 구성</b></p>
+ * <ul>
+ *   <li>삭제: 기간 내 day를 서브쿼리로 묶어 item → meal 순으로 각각 DELETE 1회</li>
+ *   <li>day: 기존 day 1회 조회 후, 없는 날짜만 batch insert</li>
+ *   <li>meal/item: 시퀀스에서 id 블록을 먼저 확보한 뒤 batch insert 1회씩</li>
+ * </ul>
+ *
+ * <p><b>ID 발급</b></p>
+ * <p>
+ * 엔티티의 pooled sequence(allocationSize=50)와 같은 규칙으로,
+ * {@code nextval} 한 번이 돌려준 값 v에 대해 [v-49, v] 구간을 사용한다.
+ * 따라서 Hibernate가 발급하는 id와 겹치지 않으며,
+ * insert 후 id를 다시 읽어올 필요가 없다(RETURNING 불필요).
+ * 단, Hibernate는 시퀀스가 시작값(1)을 돌려준 첫 호출에서만 [1, 다음 nextval] 전체를 쓰므로
+ * 새로 만든 시퀀스(dev H2)에서 첫 발급이 동시에 일어나면 겹칠 수 있다.
+ * prod 시퀀스는 V5의 setval 이후 시작값을 돌려주지 않는다.
+ * </p>
+ *
+ * <p>
+ * 반드시 호출 측 트랜잭션 안에서 사용한다.
+ * 반환되는 엔티티는 응답 조립용 detached 객체다.
+ * </p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class DietPlanBulkWriter {
+
+    /** 엔티티 {@code @SequenceGenerator#allocationSize}와 반드시 같아야 한다. */
+    private static final int ALLOCATION_SIZE = 50;
+
+    private static final String DAY_SEQ = "diet_days_diet_day_id_seq";
+    private static final String MEAL_SEQ = "diet_meals_diet_meal_id_seq";
+    private static final String ITEM_SEQ = "diet_meal_items_diet_meal_item_id_seq";
+
+    private static final String RANGE_DAY_IDS =
+            "select d.diet_day_id from diet_days d where d.user_id = ? and d.log_date between ? and ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * 기간 내 기존 식단(meal/item)을 지우고 주어진 day 목록으로 교체한다.
+     *
+     * <p>day row 자체는 삭제하지 않고 재사용한다(기존 JPA 경로와 동일).</p>
+     *
+     * @param userId 사용자 ID
+     * @param start  교체 범위 시작일(포함)
+     * @param end    교체 범위 종료일(포함)
+     * @param days   저장할 day 목록(날짜 오름차순, 모두 범위 안)
+     * @return 저장된 day/meal/item 엔티티 묶음
+     */
+    public Written replaceRange(Long userId, LocalDate start, LocalDate end, List<DietAiWeekPlanResult.Day> days) {
+        Date from = Date.valueOf(start);
+        Date to = Date.valueOf(end);
+
+        // 1) delete-by-join: item → meal
+        jdbcTemplate.update(
+                "delete from diet_meal_items where diet_meal_id in ("
+                        + "select m.diet_meal_id from diet_meals m where m.diet_day_id in (" + RANGE_DAY_IDS + "))",
+                userId, from, to);
+        jdbcTemplate.update(
+                "delete from diet_meals where diet_day_id in (" + RANGE_DAY_IDS + ")",
+                userId, from, to);
+
+        // 2) day upsert: 있는 날짜는 재사용, 없는 날짜만 insert
+        Map<LocalDate, Long> dayIds = new HashMap<>();
+        jdbcTemplate.query(
+                "select diet_day_id, log_date from diet_days where user_id = ? and log_date between ? and ?",
+                rs -> { dayIds.put(rs.getDate(2).toLocalDate(), rs.getLong(1)); },
+                userId, from, to);
+
+        List<LocalDate> missing = days.stream()
+                .map(DietAiWeekPlanResult.Day::logDate)
+                .filter(d -> !dayIds.containsKey(d))
+                .toList();
+
+        if (!missing.isEmpty()) {
+            Iterator<Long> ids = allocateIds(DAY_SEQ, missing.size()).iterator();
+            Timestamp now = Timestamp.from(Instant.now());
+            List<Object[]> rows = new ArrayList<>(missing.size());
+            for (LocalDate date : missing) {
+                long id = ids.next();
+                dayIds.put(date, id);
+                // JPA auditing(BaseTimeEntity)과 같이 생성 시 created_at/updated_at을 함께 채운다
+                rows.add(new Object[]{id, userId, Date.valueOf(date), now, now});
+            }
+            jdbcTemplate.batchUpdate(
+                    "insert into diet_days (diet_day_id, user_id, log_date, created_at, updated_at) values (?, ?, ?, ?, ?)",
+                    rows);
+        }
+
+        // 3) meal / item: id를 먼저 확보하고 각각 batch insert 1회
+        int mealCount = 0;
+        int itemCount = 0;
+        for (var day : days) {
+            mealCount += day.meals().size();
+            for (var meal : day.meals()) itemCount += meal.items().size();
+        }
+        Iterator<Long> mealIds = allocateIds(MEAL_SEQ, mealCount).iterator();
+        Iterator<Long> itemIds = allocateIds(ITEM_SEQ, itemCount).iterator();
+
+        List<DietDayEntity> savedDays = new ArrayList<>(days.size());
+        List<DietMealEntity> savedMeals = new ArrayList<>(mealCount);
+        List<DietMealItemEntity> savedItems = new ArrayList<>(itemCount);
+        List<Object[]> mealRows = new ArrayList<>(mealCount);
+        List<Object[]> itemRows = new ArrayList<>(itemCount);
+
+        for (var day : days) {
+            Long dayId = dayIds.get(day.logDate());
+            savedDays.add(DietDayEntity.builder()
+                    .dietDayId(dayId)
+                    .userId(userId)
+                    .logDate(day.logDate())
+                    .build());
+
+            for (var meal : day.meals()) {
+                Long mealId = mealIds.next();
+                mealRows.add(new Object[]{mealId, meal.title(), dayId, meal.displayOrder()});
+                savedMeals.add(DietMealEntity.builder()
+                        .dietMealId(mealId)
+                        .title(meal.title())
+                        .dietDayId(dayId)
+                        .sortOrder(meal.displayOrder())
+                        .build());
+
+                for (var item : meal.items()) {
+                    Long itemId = itemIds.next();
+                    itemRows.add(new Object[]{itemId, mealId, item.foodId(), item.count(), false});
+                    savedItems.add(DietMealItemEntity.builder()
+                            .dietMealItemId(itemId)
+                            .dietMealId(mealId)
+                            .foodId(item.foodId())
+                            .count(item.count())
+                            .isChecked(false)
+                            .build());
+                }
+            }
+        }
+
+        if (!mealRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    "insert into diet_meals (diet_meal_id, diet_meal_title, diet_day_id, sort_order) values (?, ?, ?, ?)",
+                    mealRows);
+        }
+        if (!itemRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    "insert into diet_meal_items (diet_meal_item_id, diet_meal_id, food_id, count, is_checked) values (?, ?, ?, ?, ?)",
+                    itemRows);
+        }
+
+        return new Written(savedDays, savedMeals, savedItems);
+    }
+
+    /**
+     * pooled 규칙으로 n개의 id를 확보한다.
+     *
+     * <p>{@code nextval} 1회당 최대 {@value #ALLOCATION_SIZE}개를 얻으므로 주간 식단 기준 호출 수는 1~3회다.</p>
+     */
+    private List<Long> allocateIds(String sequence, int n) {
+        List<Long> ids = new ArrayList<>(n);
+        if (n == 0) return ids;
+
+        String sql = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect()
+                .getSequenceSupport()
+                .getSequenceNextValString(sequence);
+
+        while (ids.size() < n) {
+            Long hi = jdbcTemplate.queryForObject(sql, Long.class);
+            if (hi == null) throw new IllegalStateException("sequence returned null: " + sequence);
+            // 시퀀스 시작값(1) 부근에서는 0 이하 구간을 건너뛴다.
+            for (long id = Math.max(1, hi - ALLOCATION_SIZE + 1); id <= hi && ids.size() < n; id++) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * 교체 결과로 저장된 엔티티 묶음(detached).
+     */
+    public record Written(
+            List<DietDayEntity> days,
+            List<DietMealEntity> meals,
+            List<DietMealItemEntity> items
+    ) {}
+}
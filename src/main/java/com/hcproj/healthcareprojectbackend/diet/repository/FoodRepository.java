@@ -1,5 +1,6 @@
 package com.hcproj.healthcareprojectbackend.diet.repository;
 
+import com.hcproj.healthcareprojectbackend.diet.ai.dto.FoodCatalogRow;
 import com.hcproj.healthcareprojectbackend.diet.entity.FoodEntity;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -68,6 +69,20 @@ public interface FoodRepository extends JpaRepository<FoodEntity, Long> {
         """)
     List<FoodEntity> findActiveExcludingAllergyCode(String code, Pageable pageable);
 
+    /**
+     * 활성 음식 카탈로그를 AI 허용 목록용 projection으로 조회한다(foodId 오름차순).
+     *
+     * <p>엔티티를 만들지 않고 필요한 컬럼과 알레르기 마스크만 읽는다.</p>
+     */
+    @Query("""
+        select new com.hcproj.healthcareprojectbackend.diet.ai.dto.FoodCatalogRow(
+            f.foodId, f.name, f.calories, f.nutritionUnit, f.nutritionAmount, f.allergyMask)
+        from FoodEntity f
+        where f.isActive = true
+        order by f.foodId asc
+        """)
+    List<FoodCatalogRow> findActiveCatalogRows();
+
     /** 알레르기 필터 없이 활성 음식만 페이지 단위로 조회한다. */
     List<FoodEntity> findByIsActiveTrue(Pageable pageable);
 
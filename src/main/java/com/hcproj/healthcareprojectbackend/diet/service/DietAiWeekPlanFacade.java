@@ -8,13 +8,17 @@ import com.hcproj.healthcareprojectbackend.diet.ai.dto.AllowedFoodDTO;
 import com.hcproj.healthcareprojectbackend.diet.ai.dto.DietAiWeekPlanResult;
 import com.hcproj.healthcareprojectbackend.diet.dto.response.AiDietWeekPlanResponseDTO;
 import com.hcproj.healthcareprojectbackend.diet.entity.*;
-import com.hcproj.healthcareprojectbackend.diet.repository.*;
-import com.hcproj.healthcareprojectbackend.global.ai.AiJsonCaller;
+import com.hcproj.healthcareprojectbackend.diet.repository.FoodRepository;
+import com.hcproj.healthcareprojectbackend.diet.service.manager.DietAiWeekPlanManager;
+import com.hcproj.healthcareprojectbackend.diet.service.manager.DietAiWeekPlanManager.Persisted;
+import com.hcproj.healthcareprojectbackend.global.ai.AiGateway;
+import com.hcproj.healthcareprojectbackend.global.ai.AiJsonSpec;
+import com.hcproj.healthcareprojectbackend.global.ai.AiSseStreamer;
 import com.hcproj.healthcareprojectbackend.global.exception.BusinessException;
 import com.hcproj.healthcareprojectbackend.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -22,180 +26,134 @@ import java.time.LocalDate;
 import java.util.*;
 import java.util.stream.Collectors;
 
+/**
+ * AI 주간 식단 생성 유스케이스 파사드.
+ *
+ * <p><b>3단계 파이프라인</b></p>
+ * <ol>
+ *   <li>읽기: 허용 음식 목록(allowlist) 구성 (짧은 readOnly 조회)</li>
+ *   <li>생성: AI 호출 + 서버 검증 (트랜잭션 없음 → DB 커넥션 미점유)</li>
+ *   <li>쓰기: {@link DietAiWeekPlanManager}의 짧은 쓰기 트랜잭션에서 기존 범위 삭제 + insert</li>
+ * </ol>
+ *
+ * <p>
+ * 스트리밍 경로({@link #streamWeekPlan})는 2단계에서 day가 완성될 때마다 검증 후 SSE로 먼저 내려주고,
+ * 3단계 저장은 7일 전체 검증이 끝난 뒤 한 번에(원자적으로) 수행한다.
+ * </p>
+ *
+ * <p>
+ * 이 클래스 자체에는 {@code @Transactional}을 두지 않는다.
+ * LLM 응답 대기(수 초 이상) 동안 Hikari 커넥션과 row lock을 잡고 있지 않게 하기 위함이다.
+ * </p>
+ */
 @Service
 @RequiredArgsConstructor
 public class DietAiWeekPlanFacade {
 
     private final DietAiPrompts dietAiPrompts;
 
-    private final AiJsonCaller aiJsonCaller;
+    private final AiGateway aiGateway;
 
-    private final DietDayRepository dietDayRepository;
-    private final DietMealRepository dietMealRepository;
-    private final DietMealItemRepository dietMealItemRepository;
     private final FoodRepository foodRepository;
 
     private final DietAiFoodCatalogService foodCatalogService;
     private final DietAiOutputValidator outputValidator;
+    private final DietAiWeekPlanManager weekPlanManager;
+    private final AiSseStreamer sseStreamer;
 
-    @Transactional
     public AiDietWeekPlanResponseDTO replaceWeekPlan(Long userId, AiDietWeekPlanPutRequestDTO req) {
         LocalDate startDate = LocalDate.now();
         LocalDate endDate = startDate.plusDays(6);
 
-        // 1) 기존 데이터 삭제 (range)
-        deleteExistingRange(userId, startDate, endDate);
-
-        // 2) allowedFoods 생성 (화이트리스트)
+        // 1) allowedFoods 생성 (화이트리스트) - 읽기 단계
         var payload = foodCatalogService.buildAllowedFoodsPayload(req.allergies(), 120);
         if (payload.allowedFoods().isEmpty()) {
             throw new BusinessException(ErrorCode.AI_ALLOWED_FOODS_BUILD_FAILED);
         }
         Set<Long> allowedFoodIds = payload.allowedFoods().stream().map(AllowedFoodDTO::id).collect(Collectors.toSet());
 
-        // 3) AI 호출 (foodId 기반 JSON)
-        DietAiWeekPlanResult aiResult = aiJsonCaller.callJson(
+        // 2) AI 호출 (foodId 기반 JSON) - 트랜잭션 밖
+        // 3) 서버 검증 (foodId 화이트리스트 + 날짜/정렬 규칙) - 통과한 응답만 캐시된다
+        DietAiWeekPlanResult aiResult = aiGateway.callJson(
+                userId,
                 dietAiPrompts.system(),
                 dietAiPrompts.user(startDate, req.allergies(), req.note(), payload.allowedFoodsJson()),
-                DietAiWeekPlanResult.class
+                weekPlanSpec(startDate, allowedFoodIds),
+                Boolean.TRUE.equals(req.bypassCache())
         );
 
-        // 4) 서버 검증 (foodId 화이트리스트 + 날짜/정렬 규칙)
-        outputValidator.validate(startDate, aiResult, allowedFoodIds);
-
-        // 5) insert
-        Persisted persisted = persistAiResult(userId, aiResult);
+        // 4) 기존 범위 삭제 + insert - 짧은 쓰기 트랜잭션
+        Persisted persisted = weekPlanManager.replaceWeekPlan(userId, startDate, endDate, aiResult);
 
-        // 6) 응답 조립 (foods 조인 + nutrition 계산)
+        // 5) 응답 조립 (foods 조인 + nutrition 계산)
         return buildResponse(startDate, endDate, aiResult.considerations(), persisted);
     }
 
-    private void deleteExistingRange(Long userId, LocalDate start, LocalDate end) {
-        List<DietDayEntity> existingDays = dietDayRepository.findAllByUserIdAndLogDateBetween(userId, start, end);
-        if (existingDays.isEmpty()) return;
-
-        List<Long> dayIds = existingDays.stream()
-                .map(DietDayEntity::getDietDayId)
-                .toList();
-
-        List<DietMealEntity> meals = dietMealRepository.findByDietDayIdIn(dayIds);
-        if (meals.isEmpty()) return;
-
-        List<Long> mealIds = meals.stream()
-                .map(DietMealEntity::getDietMealId)
-                .toList();
-
-        dietMealItemRepository.deleteByDietMealIdIn(mealIds);
-        dietMealRepository.deleteByDietDayIdIn(dayIds);
-    }
-
-    private Persisted persistAiResult(Long userId, DietAiWeekPlanResult ai) {
-        // 0) ai days 정렬
-        List<DietAiWeekPlanResult.Day> aiDays = ai.days().stream()
-                .sorted(Comparator.comparing(DietAiWeekPlanResult.Day::logDate))
-                .toList();
-
-        List<LocalDate> dates = aiDays.stream()
-                .map(DietAiWeekPlanResult.Day::logDate)
-                .toList();
-
-        // 1) 기존 day 조회 (upsert 준비)
-        Map<LocalDate, DietDayEntity> existing =
-                dietDayRepository.findAllByUserIdAndLogDateBetween(userId, dates.get(0), dates.get(dates.size() - 1)).stream()
-                        .filter(d -> dates.contains(d.getLogDate()))
-                        .collect(Collectors.toMap(DietDayEntity::getLogDate, d -> d));
-
-        // 2) day upsert (있으면 재사용, 없으면 생성)
-        List<DietDayEntity> daysToSave = new ArrayList<>();
-        for (var d : aiDays) {
-            DietDayEntity day = existing.get(d.logDate());
-            if (day == null) {
-                day = DietDayEntity.builder()
-                        .userId(userId)
-                        .logDate(d.logDate())
-                        .build();
-            }
-            daysToSave.add(day);
-        }
-
-        List<DietDayEntity> savedDays = dietDayRepository.saveAll(daysToSave);
-
-        Map<LocalDate, Long> dateToDayId = savedDays.stream()
-                .collect(Collectors.toMap(DietDayEntity::getLogDate, DietDayEntity::getDietDayId));
-
-        // 3) 해당 day들의 기존 meal/item 전량 삭제 (덮어쓰기)
-        List<Long> dayIds = savedDays.stream().map(DietDayEntity::getDietDayId).toList();
-        List<DietMealEntity> existingMeals = dietMealRepository.findByDietDayIdIn(dayIds);
-        if (!existingMeals.isEmpty()) {
-            List<Long> mealIds = existingMeals.stream().map(DietMealEntity::getDietMealId).toList();
-            dietMealItemRepository.deleteByDietMealIdIn(mealIds);
-            dietMealRepository.deleteByDietDayIdIn(dayIds);
-        }
+    /**
+     * 주간 식단을 스트리밍으로 생성한다.
+     *
+     * <p>
+     * AI 응답에서 day 객체가 완성될 때마다 {@link DietAiOutputValidator#validateDay}로 검증하고 {@code day} 이벤트로 보낸다.
+     * 스트림이 끝나면 7일 구성 검증 → 저장 → {@code done} 이벤트 순으로 진행하며,
+     * 중간에 실패하면 아무것도 저장하지 않고 {@code error} 이벤트로 끝난다.
+     * </p>
+     */
+    public SseEmitter streamWeekPlan(Long userId, AiDietWeekPlanPutRequestDTO req) {
+        LocalDate startDate = LocalDate.now();
+        LocalDate endDate = startDate.plusDays(6);
 
-        // 4) meal insert
-        List<DietMealEntity> mealEntities = new ArrayList<>();
-        for (var day : aiDays) {
-            Long dayId = dateToDayId.get(day.logDate());
-            if (dayId == null) throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
-
-            for (var meal : day.meals()) {
-                mealEntities.add(DietMealEntity.builder()
-                        .dietDayId(dayId)
-                        .sortOrder(meal.displayOrder())
-                        .title(meal.title())
-                        .build());
+        return sseStreamer.start("diet-week-plan", daySink -> {
+            var payload = foodCatalogService.buildAllowedFoodsPayload(req.allergies(), 120);
+            if (payload.allowedFoods().isEmpty()) {
+                throw new BusinessException(ErrorCode.AI_ALLOWED_FOODS_BUILD_FAILED);
             }
-        }
-        List<DietMealEntity> savedMeals = dietMealRepository.saveAll(mealEntities);
-
-        // 5) (dietDayId, sortOrder) -> dietMealId 매핑을 "재조회 없이" 안전하게 만들기
-        // 저장된 meal 엔티티들로 맵핑: (dietDayId, sortOrder)는 유니크니까 key로 사용 가능
-        Map<MealKey, Long> mealKeyToId = savedMeals.stream()
-                .collect(Collectors.toMap(
-                        m -> new MealKey(m.getDietDayId(), m.getSortOrder()),
-                        DietMealEntity::getDietMealId
-                ));
-
-        // 6) item insert
-        List<DietMealItemEntity> itemEntities = new ArrayList<>();
-        for (var day : aiDays) {
-            Long dayId = dateToDayId.get(day.logDate());
-            for (var meal : day.meals()) {
-                Long mealId = mealKeyToId.get(new MealKey(dayId, meal.displayOrder()));
-                if (mealId == null) throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
-
-                for (var item : meal.items()) {
-                    itemEntities.add(DietMealItemEntity.builder()
-                            .dietMealId(mealId)
-                            .foodId(item.foodId())
-                            .count(item.count())
-                            .isChecked(false)
-                            .build());
-                }
-            }
-        }
-        List<DietMealItemEntity> savedItems = dietMealItemRepository.saveAll(itemEntities);
+            Set<Long> allowedFoodIds = payload.allowedFoods().stream().map(AllowedFoodDTO::id).collect(Collectors.toSet());
+            Set<LocalDate> seenDates = new HashSet<>();
+
+            DietAiWeekPlanResult aiResult = aiGateway.streamJson(
+                    userId,
+                    dietAiPrompts.system(),
+                    dietAiPrompts.user(startDate, req.allergies(), req.note(), payload.allowedFoodsJson()),
+                    weekPlanSpec(startDate, allowedFoodIds),
+                    day -> {
+                        if (!seenDates.add(day.logDate())) throw new BusinessException(ErrorCode.AI_INVALID_OUTPUT);
+                        daySink.accept(day);
+                    }
+            );
 
-        return new Persisted(savedDays, savedMeals, savedItems);
+            Persisted persisted = weekPlanManager.replaceWeekPlan(userId, startDate, endDate, aiResult);
+            return buildResponse(startDate, endDate, aiResult.considerations(), persisted);
+        });
     }
 
-    private record MealKey(Long dietDayId, Integer sortOrder) {}
+    /**
+     * 주간 식단 응답 규격: day가 완성될 때마다 day 규칙을 검증하고, 끝나면 7일 구성만 확인한다.
+     */
+    private AiJsonSpec<DietAiWeekPlanResult, DietAiWeekPlanResult.Day> weekPlanSpec(LocalDate startDate, Set<Long> allowedFoodIds) {
+        return new AiJsonSpec<>(
+                DietAiWeekPlanResult.class,
+                "days",
+                DietAiWeekPlanResult.Day.class,
+                day -> outputValidator.validateDay(startDate, day, allowedFoodIds),
+                r -> outputValidator.validateWeek(startDate, r)
+        );
+    }
 
     private AiDietWeekPlanResponseDTO buildResponse(LocalDate startDate, LocalDate endDate, List<String> considerations, Persisted persisted) {
 
         // food map
-        Set<Long> usedFoodIds = persisted.items.stream().map(DietMealItemEntity::getFoodId).collect(Collectors.toSet());
+        Set<Long> usedFoodIds = persisted.items().stream().map(DietMealItemEntity::getFoodId).collect(Collectors.toSet());
         Map<Long, FoodEntity> foodMap = foodRepository.findByFoodIdIn(usedFoodIds).stream()
                 .collect(Collectors.toMap(FoodEntity::getFoodId, f -> f));
 
         // dayId -> meals, mealId -> items
-        Map<Long, List<DietMealEntity>> mealsByDayId = persisted.meals.stream()
+        Map<Long, List<DietMealEntity>> mealsByDayId = persisted.meals().stream()
                 .collect(Collectors.groupingBy(DietMealEntity::getDietDayId));
 
-        Map<Long, List<DietMealItemEntity>> itemsByMealId = persisted.items.stream()
+        Map<Long, List<DietMealItemEntity>> itemsByMealId = persisted.items().stream()
                 .collect(Collectors.groupingBy(DietMealItemEntity::getDietMealId));
 
-        List<AiDietWeekPlanResponseDTO.Day> days = persisted.days.stream()
+        List<AiDietWeekPlanResponseDTO.Day> days = persisted.days().stream()
                 .sorted(Comparator.comparing(DietDayEntity::getLogDate))
                 .map(day -> {
                     List<DietMealEntity> dayMeals = mealsByDayId.getOrDefault(day.getDietDayId(), List.of())
@@ -284,10 +242,4 @@ public class DietAiWeekPlanFacade {
     private int safeInt(Integer v) { return v == null ? 0 : v; }
     private BigDecimal safeBd(BigDecimal v) { return v == null ? BigDecimal.ZERO : v; }
     private BigDecimal scale2(BigDecimal v) { return v.setScale(2, RoundingMode.HALF_UP); }
-
-    private record Persisted(
-            List<DietDayEntity> days,
-            List<DietMealEntity> meals,
-            List<DietMealItemEntity> items
-    ) {}
 }
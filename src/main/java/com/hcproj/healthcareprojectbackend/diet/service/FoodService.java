@@ -8,6 +8,8 @@ import com.hcproj.healthcareprojectbackend.diet.entity.FoodEntity;
 import com.hcproj.healthcareprojectbackend.diet.repository.FoodRepository;
 import com.hcproj.healthcareprojectbackend.global.exception.BusinessException;
 import com.hcproj.healthcareprojectbackend.global.exception.ErrorCode;
+import com.hcproj.healthcareprojectbackend.global.store.catalog.CatalogType;
+import com.hcproj.healthcareprojectbackend.global.store.catalog.CatalogVersionStore;
 import com.hcproj.healthcareprojectbackend.global.util.UtilityProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -23,6 +25,7 @@ import java.util.List;
 public class FoodService {
 
     private final FoodRepository foodRepository;
+    private final CatalogVersionStore catalogVersionStore;
     private static final int DEFAULT_LIMIT = 20;
     private static final int MAX_LIMIT = 50;
 
@@ -122,6 +125,7 @@ public class FoodService {
                 .build();
 
         FoodEntity saved = foodRepository.save(food);
+        catalogVersionStore.bumpAfterCommit(CatalogType.FOOD);
 
         return FoodCreateResponseDTO.builder()
                 .foodId(saved.getFoodId())
@@ -144,6 +148,7 @@ public class FoodService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.FOOD_NOT_FOUND));
 
         foodRepository.delete(food);
+        catalogVersionStore.bumpAfterCommit(CatalogType.FOOD);
 
         return FoodCreateResponseDTO.builder()
                 .foodId(foodId)
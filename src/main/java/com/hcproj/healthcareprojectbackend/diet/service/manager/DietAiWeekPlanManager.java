@@ -0,0 +1,71 @@
+package com.hcproj.healthcareprojectbackend.diet.service.manager;
+
+import com.hcproj.healthcareprojectbackend.diet.ai.dto.DietAiWeekPlanResult;
+import com.hcproj.healthcareprojectbackend.diet.entity.DietDayEntity;
+import com.hcproj.healthcareprojectbackend.diet.entity.DietMealEntity;
+import com.hcproj.healthcareprojectbackend.diet.entity.DietMealItemEntity;
+import com.hcproj.healthcareprojectbackend.diet.repository.DietPlanBulkWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * AI 주간 식단의 "쓰기 단계"만 담당하는 매니저.
+ *
+ * <p><b>분리 이유</b></p>
+ * <ul>
+ *   <li>AI 호출(수 초~수십 초)은 트랜잭션 밖에서 수행하고,
+ *       검증이 끝난 결과를 이 매니저의 짧은 쓰기 트랜잭션에서 한 번에 교체한다.</li>
+ *   <li>따라서 LLM 대기 중에는 DB 커넥션/row lock을 점유하지 않는다.</li>
+ * </ul>
+ *
+ * <p>
+ * 기존 범위 삭제와 새 식단 insert가 같은 트랜잭션에서 실행되므로,
+ * 실패 시 기존 식단이 그대로 유지된다.
+ * </p>
+ *
+ * <p>
+ * 실제 SQL은 {@link DietPlanBulkWriter}가 영속성 컨텍스트를 거치지 않고
+ * set-based 삭제 + batch insert로 수행한다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class DietAiWeekPlanManager {
+
+    private final DietPlanBulkWriter dietPlanBulkWriter;
+
+    /**
+     * 기간 내 기존 식단(meal/item)을 지우고 AI 결과로 교체한다.
+     *
+     * @param userId 사용자 ID
+     * @param start  교체 범위 시작일(포함)
+     * @param end    교체 범위 종료일(포함)
+     * @param ai     검증을 통과한 AI 결과
+     * @return 저장된 day/meal/item 엔티티 묶음
+     */
+    @Transactional
+    public Persisted replaceWeekPlan(Long userId, LocalDate start, LocalDate end, DietAiWeekPlanResult ai) {
+        List<DietAiWeekPlanResult.Day> aiDays = ai.days().stream()
+                .sorted(Comparator.comparing(DietAiWeekPlanResult.Day::logDate))
+                .toList();
+
+        DietPlanBulkWriter.Written written = dietPlanBulkWriter.replaceRange(userId, start, end, aiDays);
+        return new Persisted(written.days(), written.meals(), written.items());
+    }
+
+    /**
+     * 쓰기 단계에서 저장된 엔티티 묶음.
+     *
+     * <p>트랜잭션 종료 후 응답 조립에만 사용하므로 detached 상태여도 무방하다.</p>
+     */
+    public record Persisted(
+            List<DietDayEntity> days,
+            List<DietMealEntity> meals,
+            List<DietMealItemEntity> items
+    ) {}
+}
@@ -0,0 +1,111 @@
+package com.hcproj.healthcareprojectbackend.global.ai;
+
+import com.hcproj.healthcareprojectbackend.global.config.properties.AiGatewayProperties;
+
+import java.util.Arrays;
+
+/**
+ * 최근 N회 호출의 실패율로 열리고 닫히는 단순 circuit breaker.
+ *
+ * <ul>
+ *   <li>CLOSED: 모든 호출 허용. 최근 {@code windowSize}회 중 실패율이 임계치를 넘으면 OPEN.</li>
+ *   <li>OPEN: {@code openSeconds} 동안 모든 호출 즉시 거절.</li>
+ *   <li>HALF_OPEN: 시험 호출 1건만 허용. 성공하면 CLOSED(기록 초기화), 실패하면 다시 OPEN.</li>
+ * </ul>
+ *
+ * <p>노드 로컬 상태이며, 호출 빈도가 낮으므로 단일 모니터로 동기화한다.</p>
+ */
+final class AiCircuitBreaker {
+
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final AiGatewayProperties.CircuitBreaker props;
+    private final boolean[] window;
+
+    private State state = State.CLOSED;
+    private int next;
+    private int recorded;
+    private int failures;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    AiCircuitBreaker(AiGatewayProperties.CircuitBreaker props) {
+        this.props = props;
+        this.window = new boolean[Math.max(1, props.getWindowSize())];
+    }
+
+    /** 호출 허용 여부. OPEN 유지 시간이 지났으면 HALF_OPEN으로 바꾸고 시험 호출 1건을 허용한다. */
+    synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED -> {
+                return true;
+            }
+            case OPEN -> {
+                if (System.currentTimeMillis() - openedAt < props.getOpenSeconds() * 1000) return false;
+                state = State.HALF_OPEN;
+                probeInFlight = true;
+                return true;
+            }
+            default -> {
+                if (probeInFlight) return false;
+                probeInFlight = true;
+                return true;
+            }
+        }
+    }
+
+    synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            reset();
+            return;
+        }
+        record(false);
+    }
+
+    synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        record(true);
+        if (recorded >= Math.max(1, props.getMinimumCalls())
+                && failures * 100 >= props.getFailureRateThreshold() * recorded) {
+            open();
+        }
+    }
+
+    /** 결과 판단 없이 허용만 반납한다(호출자 측 오류 등). */
+    synchronized void release() {
+        if (state == State.HALF_OPEN) probeInFlight = false;
+    }
+
+    synchronized State state() {
+        return state;
+    }
+
+    private void record(boolean failed) {
+        if (recorded == window.length) {
+            if (window[next]) failures--;
+        } else {
+            recorded++;
+        }
+        window[next] = failed;
+        if (failed) failures++;
+        next = (next + 1) % window.length;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = System.currentTimeMillis();
+        probeInFlight = false;
+    }
+
+    private void reset() {
+        state = State.CLOSED;
+        Arrays.fill(window, false);
+        next = 0;
+        recorded = 0;
+        failures = 0;
+        probeInFlight = false;
+    }
+}
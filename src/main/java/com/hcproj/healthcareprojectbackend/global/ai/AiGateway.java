@@ -0,0 +1,265 @@
+package com.hcproj.healthcareprojectbackend.global.ai;
+
+import com.hcproj.healthcareprojectbackend.global.config.properties.AiGatewayProperties;
+import com.hcproj.healthcareprojectbackend.global.exception.BusinessException;
+import com.hcproj.healthcareprojectbackend.global.exception.ErrorCode;
+import com.hcproj.healthcareprojectbackend.global.store.airate.AiRateLimitStore;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * LLM 호출 앞단의 보호 계층(AI 게이트웨이).
+ *
+ * <p>
+ * 도메인 서비스는 {@link AiJsonCaller}를 직접 쓰지 않고 이 클래스를 통해 호출한다.
+ * </p>
+ *
+ * <p>
+ * <b>적용 순서</b>
+ * <ol>
+ *   <li>사용자별 token bucket(Redis) → 초과 시 {@link ErrorCode#AI_RATE_LIMITED}</li>
+ *   <li>circuit breaker → OPEN이면 즉시 {@link ErrorCode#AI_UNAVAILABLE}</li>
+ *   <li>노드당 bulkhead(semaphore) → 슬롯이 없으면 {@link ErrorCode#AI_BUSY}</li>
+ *   <li>timeout → 초과 시 호출을 취소하고 {@link ErrorCode#AI_TIMEOUT}</li>
+ * </ol>
+ *
+ * <p>
+ * 응답 캐시({@link AiJsonCaller#findCached})는 위 단계보다 먼저 확인하므로 hit는 어떤 한도도 쓰지 않는다.
+ * bulkhead 슬롯은 upstream 호출이 실제로 끝날 때 반납된다. timeout으로 호출 측이 먼저 돌아가도
+ * 블로킹 HTTP 호출이 끝나기 전까지는 슬롯을 계속 차지한다.
+ * </p>
+ *
+ * <p>
+ * <b>실패 판정</b>
+ * <ul>
+ *   <li>timeout과 모델 엔드포인트 예외(네트워크/5xx 등)만 circuit breaker 실패로 센다.</li>
+ *   <li>파싱/검증 실패({@link BusinessException})는 엔드포인트가 응답한 것이므로 성공으로 본다.</li>
+ *   <li>엔드포인트 예외는 {@link ErrorCode#AI_UPSTREAM_FAILED}로 바꿔 던진다.</li>
+ * </ul>
+ *
+ * <p>
+ * <b>메트릭</b>
+ * <ul>
+ *   <li>{@code ai.gateway.inflight}: 진행 중인 upstream 호출 수(timeout 후 남은 호출 포함)</li>
+ *   <li>{@code ai.gateway.rejected}: 거절 수(reason=rate_limit/circuit_open/bulkhead/timeout)</li>
+ *   <li>{@code ai.gateway.latency}: 호출 지연 히스토그램(outcome=success/failure)</li>
+ *   <li>{@code ai.gateway.circuit.open}: circuit OPEN 여부(1/0)</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class AiGateway {
+
+    private final AiJsonCaller aiJsonCaller;
+    private final AiRateLimitStore rateLimitStore;
+    private final AiGatewayProperties props;
+    private final MeterRegistry meterRegistry;
+
+    private final Semaphore bulkhead;
+    private final AiCircuitBreaker circuitBreaker;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final Timer successTimer;
+    private final Timer failureTimer;
+
+    public AiGateway(AiJsonCaller aiJsonCaller, AiRateLimitStore rateLimitStore,
+                     AiGatewayProperties props, MeterRegistry meterRegistry) {
+        this.aiJsonCaller = aiJsonCaller;
+        this.rateLimitStore = rateLimitStore;
+        this.props = props;
+        this.meterRegistry = meterRegistry;
+        this.bulkhead = new Semaphore(Math.max(1, props.getBulkhead().getMaxConcurrent()));
+        this.circuitBreaker = new AiCircuitBreaker(props.getCircuitBreaker());
+
+        Gauge.builder("ai.gateway.inflight", inFlight, AtomicInteger::get).register(meterRegistry);
+        Gauge.builder("ai.gateway.circuit.open", circuitBreaker,
+                cb -> cb.state() == AiCircuitBreaker.State.OPEN ? 1 : 0).register(meterRegistry);
+        this.successTimer = Timer.builder("ai.gateway.latency").tag("outcome", "success")
+                .publishPercentileHistogram().register(meterRegistry);
+        this.failureTimer = Timer.builder("ai.gateway.latency").tag("outcome", "failure")
+                .publishPercentileHistogram().register(meterRegistry);
+    }
+
+    /**
+     * 보호 계층을 거쳐 {@link AiJsonCaller#generate}를 호출한다.
+     *
+     * <p>응답 캐시는 보호 계층보다 먼저 확인한다. 캐시 hit는 토큰과 bulkhead 슬롯을 쓰지 않는다.</p>
+     *
+     * @param userId 호출 사용자 ID(rate limit 대상). null이면 rate limit을 적용하지 않는다.
+     */
+    public <T, E> T callJson(Long userId, String systemPrompt, String userPrompt,
+                             AiJsonSpec<T, E> spec, boolean bypassCache) {
+        if (!bypassCache) {
+            T cached = findCached(systemPrompt, userPrompt, spec);
+            if (cached != null) return cached;
+        }
+        return guard(userId, props.getTimeoutSeconds(),
+                () -> aiJsonCaller.generate(systemPrompt, userPrompt, spec, bypassCache));
+    }
+
+    /**
+     * 보호 계층을 거쳐 {@link AiJsonCaller#streamJson}을 호출한다.
+     *
+     * <p>검증기와 {@code onElement}는 게이트웨이 작업 스레드에서 호출된다.</p>
+     *
+     * @param userId 호출 사용자 ID(rate limit 대상). null이면 rate limit을 적용하지 않는다.
+     */
+    public <T, E> T streamJson(Long userId, String systemPrompt, String userPrompt,
+                               AiJsonSpec<T, E> spec, Consumer<E> onElement) {
+        return guard(userId, props.getStreamTimeoutSeconds(),
+                () -> aiJsonCaller.streamJson(systemPrompt, userPrompt, spec, onElement));
+    }
+
+    private <T> T guard(Long userId, long timeoutSeconds, Supplier<T> call) {
+        if (userId != null && props.getRateLimit().isEnabled() && !takeToken(userId)) {
+            reject("rate_limit");
+            throw new BusinessException(ErrorCode.AI_RATE_LIMITED);
+        }
+
+        if (!circuitBreaker.tryAcquire()) {
+            reject("circuit_open");
+            throw new BusinessException(ErrorCode.AI_UNAVAILABLE);
+        }
+
+        if (!acquireBulkhead()) {
+            circuitBreaker.release();
+            reject("bulkhead");
+            throw new BusinessException(ErrorCode.AI_BUSY);
+        }
+
+        // 슬롯은 실제 호출이 끝날 때 작업 스레드에서 반납한다.
+        // timeout으로 호출 측이 먼저 돌아가도 cancel이 블로킹 HTTP 호출을 멈추지 못하므로,
+        // 여기서 반납하면 upstream이 느릴 때 진행 중인 호출 수가 bulkhead를 넘어선다.
+        inFlight.incrementAndGet();
+        AtomicBoolean claimed = new AtomicBoolean();
+        Runnable releaseSlot = () -> {
+            inFlight.decrementAndGet();
+            bulkhead.release();
+        };
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                // 시작 전에 호출 측이 포기했다면 실행하지 않는다(슬롯은 호출 측이 반납).
+                if (!claimed.compareAndSet(false, true)) return null;
+                try {
+                    return call.get();
+                } finally {
+                    releaseSlot.run();
+                }
+            });
+        } catch (RuntimeException e) {
+            // executor.submit 거절 등
+            releaseSlot.run();
+            circuitBreaker.release();
+            throw e;
+        }
+
+        long start = System.nanoTime();
+        boolean failed = false;
+        try {
+            T result = future.get(timeoutSeconds, TimeUnit.SECONDS);
+            circuitBreaker.onSuccess();
+            return result;
+        } catch (TimeoutException e) {
+            abandon(future, claimed, releaseSlot);
+            failed = true;
+            circuitBreaker.onFailure();
+            reject("timeout");
+            throw new BusinessException(ErrorCode.AI_TIMEOUT);
+        } catch (InterruptedException e) {
+            abandon(future, claimed, releaseSlot);
+            Thread.currentThread().interrupt();
+            circuitBreaker.release();
+            throw new BusinessException(ErrorCode.AI_TIMEOUT);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof BusinessException be) {
+                // 엔드포인트는 응답했고, 파싱/검증 단계에서 실패한 경우
+                circuitBreaker.onSuccess();
+                throw be;
+            }
+            if (cause instanceof UncheckedIOException uio) {
+                // SSE 클라이언트 이탈 등 호출자 측 오류
+                circuitBreaker.release();
+                throw uio;
+            }
+            failed = true;
+            circuitBreaker.onFailure();
+            log.warn("AI upstream call failed", cause);
+            throw new BusinessException(ErrorCode.AI_UPSTREAM_FAILED);
+        } finally {
+            (failed ? failureTimer : successTimer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 호출 측이 결과를 기다리지 않기로 했을 때 작업을 취소한다.
+     *
+     * <p>작업이 아직 시작되지 않았으면 실행을 막고 슬롯을 여기서 반납한다.
+     * 이미 실행 중이면 interrupt만 보내고, 슬롯은 호출이 실제로 끝날 때 작업 스레드가 반납한다.</p>
+     */
+    private static void abandon(Future<?> future, AtomicBoolean claimed, Runnable releaseSlot) {
+        future.cancel(true);
+        if (claimed.compareAndSet(false, true)) {
+            releaseSlot.run();
+        }
+    }
+
+    private <T, E> T findCached(String systemPrompt, String userPrompt, AiJsonSpec<T, E> spec) {
+        try {
+            return aiJsonCaller.findCached(systemPrompt, userPrompt, spec);
+        } catch (DataAccessException e) {
+            // 캐시 장애는 LLM 호출로 대신한다.
+            log.warn("AI response cache lookup failed", e);
+            return null;
+        }
+    }
+
+    private boolean takeToken(long userId) {
+        try {
+            return rateLimitStore.tryTake(userId);
+        } catch (DataAccessException e) {
+            // Redis 장애 시 AI 기능 전체를 막지 않도록 허용(fail-open)
+            log.warn("AI rate limit check failed. userId={}", userId, e);
+            return true;
+        }
+    }
+
+    private boolean acquireBulkhead() {
+        try {
+            return bulkhead.tryAcquire(props.getBulkhead().getMaxWaitMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void reject(String reason) {
+        meterRegistry.counter("ai.gateway.rejected", "reason", reason).increment();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
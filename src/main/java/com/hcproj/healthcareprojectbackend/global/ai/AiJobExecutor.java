@@ -0,0 +1,69 @@
+package com.hcproj.healthcareprojectbackend.global.ai;
+
+import com.hcproj.healthcareprojectbackend.global.config.properties.AiJobProperties;
+import com.hcproj.healthcareprojectbackend.global.exception.BusinessException;
+import com.hcproj.healthcareprojectbackend.global.exception.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * AI 생성 작업 전용 실행기.
+ *
+ * <p>
+ * <b>설계</b>
+ * <ul>
+ *   <li>작업 하나당 virtual thread 하나를 사용한다(LLM 대기는 대부분 I/O).</li>
+ *   <li>{@link Semaphore}로 노드당 동시 실행 수를 {@link AiJobProperties#getMaxConcurrency()}로 제한한다.</li>
+ *   <li>슬롯이 없으면 큐에 쌓지 않고 즉시 {@link ErrorCode#AI_JOB_REJECTED}로 거절한다.</li>
+ * </ul>
+ *
+ * <p>
+ * Tomcat 워커 스레드는 작업 제출 직후 반환되므로, AI 응답 지연이 다른 API로 전파되지 않는다.
+ */
+@Slf4j
+@Component
+public class AiJobExecutor {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore permits;
+
+    public AiJobExecutor(AiJobProperties props) {
+        this.permits = new Semaphore(Math.max(1, props.getMaxConcurrency()));
+    }
+
+    /**
+     * 작업을 제출한다.
+     *
+     * @param task 실행할 작업(예외는 작업 내부에서 상태로 기록해야 한다)
+     * @throws BusinessException 동시 실행 한도 초과 시 {@link ErrorCode#AI_JOB_REJECTED}
+     */
+    public void submit(Runnable task) {
+        if (!permits.tryAcquire()) {
+            throw new BusinessException(ErrorCode.AI_JOB_REJECTED);
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    log.error("AI job crashed", e);
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
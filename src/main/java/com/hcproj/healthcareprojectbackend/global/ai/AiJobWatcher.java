@@ -0,0 +1,170 @@
+package com.hcproj.healthcareprojectbackend.global.ai;
+
+import com.hcproj.healthcareprojectbackend.global.config.properties.AiJobProperties;
+import com.hcproj.healthcareprojectbackend.global.store.aijob.AiJobStatus;
+import com.hcproj.healthcareprojectbackend.global.store.aijob.AiJobStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * AI 비동기 작업 상태를 SSE 구독자에게 내려주는 공유 watcher.
+ *
+ * <p>
+ * <b>설계</b>
+ * <ul>
+ *   <li>노드당 스레드 1개가 {@code app.ai.job.stream-poll-millis}마다 구독 중인 작업을 한 번씩 읽는다.
+ *       구독자 수와 무관하게 작업당 Redis 조회는 주기마다 1회다.</li>
+ *   <li>상태가 바뀐 구독자에게만 {@code status} 이벤트를 보내고,
+ *       DONE/FAILED가 되거나 {@code app.ai.job.stream-timeout-seconds}가 지나면 스트림을 닫는다.</li>
+ *   <li>클라이언트가 끊기면 emitter 콜백에서 구독을 해제한다.</li>
+ * </ul>
+ *
+ * <p>
+ * 소유자 확인은 호출 측에서 첫 상태를 조회할 때 끝낸다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class AiJobWatcher {
+
+    private record JobRef(String type, String jobId) {}
+
+    private final AiJobStore jobStore;
+    private final AiJobProperties props;
+    private final Map<JobRef, List<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService poller;
+
+    public AiJobWatcher(AiJobStore jobStore, AiJobProperties props, MeterRegistry meterRegistry) {
+        this.jobStore = jobStore;
+        this.props = props;
+        this.poller = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "ai-job-watcher");
+            t.setDaemon(true);
+            return t;
+        });
+        long period = Math.max(50, props.getStreamPollMillis());
+        poller.scheduleWithFixedDelay(this::pollSafely, period, period, TimeUnit.MILLISECONDS);
+        meterRegistry.gaugeMapSize("ai.job.watch.jobs", Tags.empty(), subscribers);
+    }
+
+    /**
+     * 작업 상태 스트림을 연다.
+     *
+     * @param type      작업 종류
+     * @param first     소유자 확인이 끝난 현재 상태(즉시 전송)
+     * @param toPayload 상태 → 이벤트 data 변환
+     */
+    public SseEmitter watch(String type, AiJobStore.AiJobState first, Function<AiJobStore.AiJobState, Object> toPayload) {
+        long timeoutMs = props.getStreamTimeoutSeconds() * 1000;
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, toPayload, System.currentTimeMillis() + timeoutMs);
+
+        if (!subscriber.push(first)) {
+            return emitter;
+        }
+
+        JobRef ref = new JobRef(type, first.jobId());
+        subscribers.computeIfAbsent(ref, k -> new CopyOnWriteArrayList<>()).add(subscriber);
+
+        Runnable unsubscribe = () -> subscribers.computeIfPresent(ref, (k, list) -> {
+            list.remove(subscriber);
+            return list.isEmpty() ? null : list;
+        });
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(e -> unsubscribe.run());
+        return emitter;
+    }
+
+    private void pollSafely() {
+        try {
+            poll();
+        } catch (RuntimeException e) {
+            // 예외가 나가면 스케줄이 멈추므로 여기서 끊는다.
+            log.warn("AI job watcher poll failed", e);
+        }
+    }
+
+    void poll() {
+        for (Map.Entry<JobRef, List<Subscriber>> entry : subscribers.entrySet()) {
+            JobRef ref = entry.getKey();
+            AiJobStore.AiJobState state;
+            try {
+                state = jobStore.find(ref.type(), ref.jobId());
+            } catch (DataAccessException e) {
+                log.warn("AI job status lookup failed. jobId={}", ref.jobId(), e);
+                continue;
+            }
+
+            entry.getValue().removeIf(subscriber -> !subscriber.push(state));
+            subscribers.computeIfPresent(ref, (k, list) -> list.isEmpty() ? null : list);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        poller.shutdownNow();
+        subscribers.values().forEach(list -> list.forEach(s -> s.emitter.complete()));
+        subscribers.clear();
+    }
+
+    /**
+     * SSE 구독자 1명.
+     *
+     * <p>등록 전에는 요청 스레드, 등록 후에는 poller 스레드에서만 {@link #push}가 호출된다.</p>
+     */
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Function<AiJobStore.AiJobState, Object> toPayload;
+        private final long deadlineMillis;
+        private AiJobStatus lastSent;
+
+        private Subscriber(SseEmitter emitter, Function<AiJobStore.AiJobState, Object> toPayload, long deadlineMillis) {
+            this.emitter = emitter;
+            this.toPayload = toPayload;
+            this.deadlineMillis = deadlineMillis;
+        }
+
+        /**
+         * @param state 현재 상태 (null이면 작업이 만료된 것)
+         * @return 계속 구독하면 true, 스트림을 닫았으면 false
+         */
+        boolean push(AiJobStore.AiJobState state) {
+            try {
+                if (state == null) {
+                    emitter.complete();
+                    return false;
+                }
+                if (state.status() != lastSent) {
+                    emitter.send(SseEmitter.event().name("status").data(toPayload.apply(state)));
+                    lastSent = state.status();
+                }
+                if (state.status().isTerminal() || System.currentTimeMillis() > deadlineMillis) {
+                    emitter.complete();
+                    return false;
+                }
+                return true;
+            } catch (IOException | RuntimeException e) {
+                // 클라이언트 연결 종료, 결과 역직렬화 실패 등
+                emitter.completeWithError(e);
+                return false;
+            }
+        }
+    }
+}
@@ -4,10 +4,14 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hcproj.healthcareprojectbackend.global.exception.BusinessException;
 import com.hcproj.healthcareprojectbackend.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Component;
 
 import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * AI(ChatGPT 등 LLM) 호출 결과를 JSON으로 받아
@@ -17,8 +21,11 @@ import java.util.Objects;
  * <b>역할</b>
  * <ul>
  *   <li>Spring AI {@link ChatClient}를 이용해 시스템 프롬프트 + 유저 프롬프트를 호출한다.</li>
- *   <li>LLM 응답에서 Markdown 코드 펜스(```json ... ```)를 제거한다.</li>
- *   <li>정제된 JSON 문자열을 Jackson {@link ObjectMapper}로 파싱한다.</li>
+ *   <li>LLM 응답에서 Markdown 코드 펜스(```json ... ```)를 건너뛴다.</li>
+ *   <li>응답을 {@link IncrementalJsonReader}로 한 번만 읽으면서 배열 원소를 즉시 검증하고 DTO로 바인딩한다.
+ *       ({@link AiJsonSpec} 참고)</li>
+ *   <li>(선택) 동일 프롬프트 응답을 {@link AiResponseCache}에서 재사용한다.</li>
+ *   <li>(스트리밍) 응답 조각을 받으면서 배열 원소(예: day)를 완성되는 즉시 콜백으로 넘긴다.</li>
  * </ul>
  *
  * <p>
@@ -35,12 +42,14 @@ import java.util.Objects;
  *   <li>상위 레이어에서는 AI 응답 신뢰 실패로 처리한다.</li>
  * </ul>
  */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class AiJsonCaller {
 
     private final ChatClient chatClient;
     private final ObjectMapper objectMapper;
+    private final AiResponseCache responseCache;
 
     /**
      * AI를 호출하고 JSON 응답을 지정한 타입으로 변환한다.
@@ -53,6 +62,66 @@ public class AiJsonCaller {
      * @throws BusinessException JSON 파싱 실패 시
      */
     public <T> T callJson(String systemPrompt, String userPrompt, Class<T> clazz) {
+        return callJson(systemPrompt, userPrompt, AiJsonSpec.of(clazz), false);
+    }
+
+    /**
+     * AI를 호출하고 JSON 응답을 규격에 따라 검증하며 변환한다. (응답 캐시 포함)
+     *
+     * <p>
+     * <b>캐시 동작</b> ({@link AiResponseCache}가 활성화된 경우)
+     * <ul>
+     *   <li>동일 프롬프트의 응답이 캐시에 있으면 LLM을 호출하지 않고 재사용한다.</li>
+     *   <li>캐시된 응답이 파싱/검증에 실패하면 캐시에서 제거하고 LLM을 다시 호출한다.</li>
+     *   <li>검증을 통과한 응답만 캐시에 저장한다.</li>
+     *   <li>{@code bypassCache=true}이면 조회를 건너뛰고 항상 새로 생성한다(결과는 저장).</li>
+     * </ul>
+     *
+     * @param spec        결과 타입 + 원소/결과 검증 규격
+     * @param bypassCache 요청 단위 캐시 우회 여부
+     * @throws BusinessException JSON 파싱 실패 또는 검증기가 던진 예외
+     */
+    public <T, E> T callJson(String systemPrompt, String userPrompt, AiJsonSpec<T, E> spec, boolean bypassCache) {
+        if (!bypassCache) {
+            T cached = findCached(systemPrompt, userPrompt, spec);
+            if (cached != null) return cached;
+        }
+        return generate(systemPrompt, userPrompt, spec, bypassCache);
+    }
+
+    /**
+     * 캐시된 응답만 조회한다. LLM은 호출하지 않는다.
+     *
+     * <p>{@link AiGateway}가 보호 계층(rate limit/bulkhead)을 거치기 전에 먼저 확인하는 용도다.</p>
+     *
+     * @return 캐시가 꺼져 있거나, 없거나, 더 이상 유효하지 않으면 null
+     */
+    public <T, E> T findCached(String systemPrompt, String userPrompt, AiJsonSpec<T, E> spec) {
+        if (!responseCache.isEnabled()) return null;
+
+        String hash = responseCache.keyOf(systemPrompt, userPrompt);
+        String cached = responseCache.get(hash);
+        if (cached == null) return null;
+        try {
+            return read(cached, spec);
+        } catch (Exception e) {
+            // 스키마/규칙이 바뀌어 더 이상 유효하지 않은 응답: 버리고 새로 생성
+            responseCache.evict(hash);
+            return null;
+        }
+    }
+
+    /**
+     * 캐시를 조회하지 않고 LLM을 호출한다. 검증을 통과한 응답은 캐시에 저장한다.
+     *
+     * @param bypassCache 요청 단위 캐시 우회 여부(메트릭 기록용)
+     * @throws BusinessException JSON 파싱 실패 또는 검증기가 던진 예외
+     */
+    public <T, E> T generate(String systemPrompt, String userPrompt, AiJsonSpec<T, E> spec, boolean bypassCache) {
+        if (bypassCache && responseCache.isEnabled()) {
+            responseCache.recordBypass();
+        }
+
         String raw = chatClient
                 .prompt()
                 .system(systemPrompt)
@@ -60,38 +129,75 @@ public class AiJsonCaller {
                 .call()
                 .content();
 
-        try {
-            String cleaned = stripCodeFences(Objects.requireNonNull(raw));
-            return objectMapper.readValue(cleaned, clazz);
-        } catch (Exception e) {
-            throw new BusinessException(ErrorCode.AI_JSON_PARSE_FAILED);
-        }
+        T result = read(Objects.requireNonNull(raw, "AI response is null"), spec);
+
+        saveToCache(systemPrompt, userPrompt, raw);
+        return result;
     }
 
     /**
-     * LLM 응답에 포함된 Markdown 코드 펜스(```json ... ```)를 제거한다.
+     * AI를 스트리밍으로 호출하고, 배열 원소가 완성되어 검증을 통과하는 즉시 {@code onElement}로 넘긴다.
+     *
+     * <p>
+     * 스트림이 끝나면 이미 읽은 토큰으로 결과를 만들고 {@link AiJsonSpec#validator()}로 검증해 반환한다.
+     * 원소 검증기나 {@code onElement}가 예외를 던지면 스트림을 취소하고(LLM 생성 중단) 그대로 전파한다.
+     * </p>
      *
      * <p>
-     * 예:
-     * <pre>
-     * ```json
-     * { "key": "value" }
-     * ```
-     * </pre>
+     * <b>캐시</b>: 스트리밍 경로는 캐시를 조회하지 않는다.
+     * 검증을 통과한 전체 응답은 비스트리밍 호출과 같은 키로 저장되어 이후 재사용된다.
+     * </p>
+     *
+     * @param spec      결과 타입 + 원소/결과 검증 규격 ({@code arrayField} 필수)
+     * @param onElement 검증된 원소 콜백(예: SSE 전송)
+     * @throws BusinessException JSON 파싱 실패 또는 검증기/콜백이 던진 예외
+     */
+    public <T, E> T streamJson(String systemPrompt, String userPrompt, AiJsonSpec<T, E> spec, Consumer<E> onElement) {
+        IncrementalJsonReader<T, E> reader = new IncrementalJsonReader<>(objectMapper, spec, onElement);
+        StringBuilder raw = new StringBuilder();
+
+        // Stream.close()가 구독을 취소하므로, 콜백 예외/클라이언트 이탈 시 LLM 스트림도 끊긴다.
+        try (Stream<String> chunks = chatClient
+                .prompt()
+                .system(systemPrompt)
+                .user(userPrompt)
+                .stream()
+                .content()
+                .toStream()) {
+            chunks.forEach(chunk -> {
+                raw.append(chunk);
+                reader.feed(chunk);
+            });
+        }
+
+        T result = reader.finish();
+
+        // 원소는 이미 클라이언트로 나갔으므로 캐시 저장 실패가 스트림을 error로 바꾸면 안 된다.
+        saveToCache(systemPrompt, userPrompt, raw.toString());
+        return result;
+    }
+
+    /**
+     * 검증을 통과한 응답을 캐시에 저장한다.
      *
-     * @param s 원본 문자열
-     * @return 코드 펜스가 제거된 JSON 문자열
+     * <p>이미 비용을 치른 응답이므로 Redis 장애로 저장하지 못해도 요청은 실패시키지 않는다(fail-open).</p>
      */
-    private String stripCodeFences(String s) {
-        String t = s.trim();
-        if (t.startsWith("```")) {
-            // ```json\n{...}\n``` 형태 제거
-            int firstNewline = t.indexOf('\n');
-            int lastFence = t.lastIndexOf("```");
-            if (firstNewline > 0 && lastFence > firstNewline) {
-                return t.substring(firstNewline + 1, lastFence).trim();
-            }
+    private void saveToCache(String systemPrompt, String userPrompt, String raw) {
+        if (!responseCache.isEnabled()) return;
+        try {
+            responseCache.put(responseCache.keyOf(systemPrompt, userPrompt), raw.strip());
+        } catch (DataAccessException e) {
+            log.warn("AI response cache write skipped (redis unavailable)", e);
         }
-        return t;
+    }
+
+    /**
+     * 완성된 응답 문자열을 규격에 따라 한 번에 읽는다.
+     * 코드 펜스는 {@link IncrementalJsonReader}가 건너뛰므로 별도로 잘라내지 않는다.
+     */
+    private <T, E> T read(String json, AiJsonSpec<T, E> spec) {
+        IncrementalJsonReader<T, E> reader = new IncrementalJsonReader<>(objectMapper, spec, null);
+        reader.feed(json);
+        return reader.finish();
     }
 }
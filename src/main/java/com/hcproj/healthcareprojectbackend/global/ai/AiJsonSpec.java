@@ -0,0 +1,35 @@
+package com.hcproj.healthcareprojectbackend.global.ai;
+
+import java.util.function.Consumer;
+
+/**
+ * AI JSON 응답의 파싱/검증 규격.
+ *
+ * <p>
+ * {@link AiJsonCaller}는 응답을 토큰 스트림으로 한 번만 읽으면서,
+ * 루트 객체의 {@code arrayField} 배열 원소가 완성될 때마다 {@code elementValidator}를 호출한다.
+ * 원소 하나라도 검증에 실패하면 나머지를 읽지 않고 즉시 중단한다.
+ * 모두 통과하면 결과 객체를 만들고 {@code validator}로 원소 간 규칙(개수/날짜 구성 등)만 확인한다.
+ * </p>
+ *
+ * @param type             결과 타입
+ * @param arrayField       원소 단위로 검증할 루트 배열 필드명(없으면 null)
+ * @param elementType      배열 원소 타입(없으면 null)
+ * @param elementValidator 원소 검증기(선택). 실패 시 예외를 던져야 한다.
+ * @param validator        결과 검증기(선택). 실패 시 예외를 던져야 한다.
+ * @param <T>              결과 타입
+ * @param <E>              배열 원소 타입
+ */
+public record AiJsonSpec<T, E>(
+        Class<T> type,
+        String arrayField,
+        Class<E> elementType,
+        Consumer<E> elementValidator,
+        Consumer<T> validator
+) {
+
+    /** 원소 단위 검증 없이 결과 타입만 지정한다. */
+    public static <T> AiJsonSpec<T, Void> of(Class<T> type) {
+        return new AiJsonSpec<>(type, null, null, null, null);
+    }
+}
@@ -0,0 +1,129 @@
+package com.hcproj.healthcareprojectbackend.global.ai;
+
+import com.hcproj.healthcareprojectbackend.global.config.properties.AiCacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.security.crypto.codec.Hex;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * LLM 응답(JSON 문자열)을 프롬프트 해시 기준으로 저장하는 Redis 캐시.
+ *
+ * <p>
+ * <b>키</b>
+ * <ul>
+ *   <li>SHA-256(model, temperature, system prompt, user prompt) → 동일 입력이면 동일 키(content-addressed)</li>
+ *   <li>{@code {prefix}{hash}} → 코드 펜스가 제거된 JSON 문자열</li>
+ *   <li>{@code {prefix}index} → ZSET(member=hash, score=저장 시각). 개수 상한 관리용</li>
+ * </ul>
+ *
+ * <p>
+ * <b>용량 제한</b>
+ * 저장 후 index 크기가 {@link AiCacheProperties#getMaxEntries()}를 넘으면
+ * 가장 오래된 항목부터 제거한다. 개별 항목은 TTL로도 만료된다.
+ *
+ * <p>
+ * <b>메트릭</b>
+ * {@code ai.response.cache} 카운터(result=hit/miss/bypass)
+ */
+@Component
+public class AiResponseCache {
+
+    private final StringRedisTemplate redis;
+    private final AiCacheProperties props;
+    private final String model;
+    private final String temperature;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter bypassCounter;
+
+    public AiResponseCache(
+            StringRedisTemplate redis,
+            AiCacheProperties props,
+            MeterRegistry meterRegistry,
+            @Value("${spring.ai.openai.chat.options.model:}") String model,
+            @Value("${spring.ai.openai.chat.options.temperature:}") String temperature
+    ) {
+        this.redis = redis;
+        this.props = props;
+        this.model = model;
+        this.temperature = temperature;
+        this.hitCounter = meterRegistry.counter("ai.response.cache", "result", "hit");
+        this.missCounter = meterRegistry.counter("ai.response.cache", "result", "miss");
+        this.bypassCounter = meterRegistry.counter("ai.response.cache", "result", "bypass");
+    }
+
+    public boolean isEnabled() {
+        return props.isEnabled();
+    }
+
+    /**
+     * 프롬프트 조합의 캐시 키(hash)를 계산한다.
+     */
+    public String keyOf(String systemPrompt, String userPrompt) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            // 구분자(\0)를 넣어 필드 경계가 모호해지지 않게 한다.
+            for (String part : new String[]{model, temperature, systemPrompt, userPrompt}) {
+                md.update((part == null ? "" : part).getBytes(StandardCharsets.UTF_8));
+                md.update((byte) 0);
+            }
+            return new String(Hex.encode(md.digest()));
+        } catch (Exception e) {
+            throw new IllegalStateException("SHA-256 unavailable", e);
+        }
+    }
+
+    /**
+     * 캐시된 응답을 조회한다.
+     *
+     * @return 없으면 null
+     */
+    public String get(String hash) {
+        String cached = redis.opsForValue().get(props.getPrefix() + hash);
+        if (cached == null) missCounter.increment();
+        else hitCounter.increment();
+        return cached;
+    }
+
+    /** 요청 단위로 캐시를 건너뛴 횟수를 기록한다. */
+    public void recordBypass() {
+        bypassCounter.increment();
+    }
+
+    /**
+     * 응답을 저장하고, 개수 상한을 넘으면 오래된 항목을 제거한다.
+     */
+    public void put(String hash, String json) {
+        Duration ttl = Duration.ofSeconds(props.getTtlSeconds());
+        String indexKey = props.getPrefix() + "index";
+
+        redis.opsForValue().set(props.getPrefix() + hash, json, ttl);
+        redis.opsForZSet().add(indexKey, hash, System.currentTimeMillis());
+
+        Long size = redis.opsForZSet().size(indexKey);
+        if (size != null && size > props.getMaxEntries()) {
+            Set<ZSetOperations.TypedTuple<String>> evicted = redis.opsForZSet().popMin(indexKey, size - props.getMaxEntries());
+            if (evicted != null) {
+                for (var t : evicted) {
+                    if (t.getValue() != null) redis.delete(props.getPrefix() + t.getValue());
+                }
+            }
+        }
+    }
+
+    /** 캐시 항목을 제거한다(검증 실패한 응답이 재사용되지 않도록). */
+    public void evict(String hash) {
+        redis.delete(props.getPrefix() + hash);
+        redis.opsForZSet().remove(props.getPrefix() + "index", hash);
+    }
+}
@@ -0,0 +1,103 @@
+package com.hcproj.healthcareprojectbackend.global.ai;
+
+import com.hcproj.healthcareprojectbackend.global.config.properties.AiJobProperties;
+import com.hcproj.healthcareprojectbackend.global.exception.BusinessException;
+import com.hcproj.healthcareprojectbackend.global.exception.ErrorCode;
+import com.hcproj.healthcareprojectbackend.global.response.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * AI 생성 결과를 SSE로 점진 전송하는 공통 실행기.
+ *
+ * <p><b>이벤트</b></p>
+ * <ul>
+ *   <li>{@code day}: 검증을 통과한 day 하나 ({@link ApiResponse#ok(Object)})</li>
+ *   <li>{@code done}: 저장까지 끝난 최종 응답 ({@link ApiResponse#ok(Object)})</li>
+ *   <li>{@code error}: 실패 ({@link ApiResponse#fail(String, String)}), 이후 스트림 종료</li>
+ * </ul>
+ *
+ * <p><b>실행</b></p>
+ * <ul>
+ *   <li>생성은 {@link AiJobExecutor}에서 실행되므로 비동기 작업과 같은 동시 실행 한도를 공유한다.</li>
+ *   <li>슬롯이 없으면 스트림을 열기 전에 {@link ErrorCode#AI_JOB_REJECTED}를 던진다(일반 에러 응답).</li>
+ *   <li>클라이언트가 연결을 끊으면 전송 실패가 작업으로 전파되어 LLM 스트림과 저장이 모두 중단된다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AiSseStreamer {
+
+    private final AiJobExecutor jobExecutor;
+    private final AiJobProperties jobProperties;
+
+    /**
+     * 생성 작업.
+     *
+     * @param <R> 최종 응답 타입
+     */
+    @FunctionalInterface
+    public interface StreamTask<R> {
+        /**
+         * @param daySink 검증된 day를 클라이언트로 보내는 콜백
+         * @return 저장까지 끝난 최종 응답
+         */
+        R run(Consumer<Object> daySink);
+    }
+
+    /**
+     * 작업을 시작하고 SSE emitter를 반환한다.
+     *
+     * @throws BusinessException 동시 실행 한도 초과 시 {@link ErrorCode#AI_JOB_REJECTED}
+     */
+    public <R> SseEmitter start(String name, StreamTask<R> task) {
+        SseEmitter emitter = new SseEmitter(jobProperties.getGenerationStreamTimeoutSeconds() * 1000);
+
+        jobExecutor.submit(() -> {
+            try {
+                R result = task.run(day -> send(emitter, "day", ApiResponse.ok(day)));
+                send(emitter, "done", ApiResponse.ok(result));
+                emitter.complete();
+            } catch (UncheckedIOException e) {
+                // 클라이언트 연결 종료: 더 보낼 곳이 없다
+                log.debug("AI stream client disconnected. name={}", name);
+                emitter.completeWithError(e.getCause());
+            } catch (BusinessException e) {
+                log.warn("AI stream failed. name={}, code={}", name, e.getErrorCode().code());
+                sendErrorAndComplete(emitter, e.getErrorCode());
+            } catch (Exception e) {
+                log.error("AI stream failed. name={}", name, e);
+                sendErrorAndComplete(emitter, ErrorCode.INTERNAL_ERROR);
+            }
+        });
+
+        return emitter;
+    }
+
+    private void send(SseEmitter emitter, String event, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(event).data(data));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (IllegalStateException e) {
+            // 이미 완료/타임아웃된 emitter
+            throw new UncheckedIOException(new IOException(e));
+        }
+    }
+
+    private void sendErrorAndComplete(SseEmitter emitter, ErrorCode code) {
+        try {
+            emitter.send(SseEmitter.event().name("error").data(ApiResponse.fail(code.code(), code.message())));
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            emitter.completeWithError(e);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.hcproj.healthcareprojectbackend.global.ai;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.hcproj.healthcareprojectbackend.global.exception.BusinessException;
+import com.hcproj.healthcareprojectbackend.global.exception.ErrorCode;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * AI JSON 응답을 조각 단위로 한 번만 읽으면서 배열 원소를 즉시 검증/전달하는 리더.
+ *
+ * <p>
+ * 예: {@code arrayField="days"}이면 {@code {"days":[{...},{...}]}}에서
+ * 각 day 객체의 닫는 괄호가 도착하는 순간 {@code elementType}으로 변환해 콜백을 호출한다.
+ * 콜백이 예외를 던지면 이후 입력은 읽지 않는다(조기 중단).
+ * </p>
+ *
+ * <p><b>동작</b></p>
+ * <ul>
+ *   <li>Jackson non-blocking 파서에 조각을 그대로 공급하므로 응답 문자열을 다시 스캔하지 않는다.</li>
+ *   <li>루트 '{' 이전의 코드 펜스(```json) 등은 버리고, 루트 객체가 닫힌 뒤의 입력은 무시한다.</li>
+ *   <li>읽은 토큰은 {@link TokenBuffer}에 쌓아 두었다가 {@link #finish()}에서 결과 타입으로 바인딩한다.
+ *       (텍스트 재파싱/트리 생성 없음)</li>
+ * </ul>
+ *
+ * <p>스레드 안전하지 않으며, 응답 하나당 인스턴스 하나를 사용한다.</p>
+ */
+final class IncrementalJsonReader<T, E> {
+
+    private final ObjectMapper objectMapper;
+    private final AiJsonSpec<T, E> spec;
+    private final Consumer<E> onElement;
+
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+    private final TokenBuffer root;
+
+    private boolean started;
+    private boolean done;
+    private char pendingHighSurrogate;
+    private int depth;
+    private boolean arrayFieldNext;
+    private boolean inArray;
+    private TokenBuffer element;
+
+    /**
+     * @param onElement 원소 검증을 통과한 뒤 호출할 콜백(선택)
+     */
+    IncrementalJsonReader(ObjectMapper objectMapper, AiJsonSpec<T, E> spec, Consumer<E> onElement) {
+        this.objectMapper = objectMapper;
+        this.spec = spec;
+        this.onElement = onElement;
+        try {
+            this.parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new IllegalStateException("non-blocking JSON parser unavailable", e);
+        }
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        this.root = new TokenBuffer(parser);
+    }
+
+    /**
+     * 응답 조각을 공급한다. 이 조각으로 완성된 원소가 있으면 검증 후 콜백이 호출된다.
+     *
+     * <p>조각이 서로게이트 쌍 가운데서 잘려 도착하면 앞쪽 절반은 다음 조각과 합쳐 인코딩한다.</p>
+     *
+     * @throws BusinessException JSON 문법 오류 또는 원소 변환 실패 시 {@link ErrorCode#AI_JSON_PARSE_FAILED},
+     *                           원소 검증 실패 시 검증기가 던진 예외
+     */
+    void feed(String chunk) {
+        if (done || chunk == null || chunk.isEmpty()) return;
+
+        String text = (pendingHighSurrogate != 0) ? pendingHighSurrogate + chunk : chunk;
+        pendingHighSurrogate = 0;
+        char last = text.charAt(text.length() - 1);
+        if (Character.isHighSurrogate(last)) {
+            pendingHighSurrogate = last;
+            text = text.substring(0, text.length() - 1);
+        }
+
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        feed(bytes, 0, bytes.length);
+    }
+
+    /**
+     * UTF-8 바이트 조각을 공급한다. 멀티바이트 문자나 토큰 중간에서 잘려도 된다.
+     *
+     * @param end 마지막 바이트 다음 위치(exclusive)
+     */
+    void feed(byte[] bytes, int offset, int end) {
+        if (done || offset >= end) return;
+
+        int from = offset;
+        if (!started) {
+            // '{'(0x7B)는 UTF-8 멀티바이트 시퀀스 안에 나오지 않으므로 바이트 단위로 찾아도 된다.
+            while (from < end && bytes[from] != '{') from++;
+            if (from == end) return;
+            started = true;
+        }
+
+        try {
+            feeder.feedInput(bytes, from, end);
+            JsonToken token;
+            while (!done && (token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                handle(token);
+            }
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.AI_JSON_PARSE_FAILED);
+        }
+    }
+
+    /**
+     * 입력이 끝났음을 알리고 결과를 만든 뒤 {@link AiJsonSpec#validator()}로 검증한다.
+     *
+     * @throws BusinessException 루트 객체가 닫히지 않았거나 바인딩 실패 시 {@link ErrorCode#AI_JSON_PARSE_FAILED}
+     */
+    T finish() {
+        if (!done) {
+            throw new BusinessException(ErrorCode.AI_JSON_PARSE_FAILED);
+        }
+
+        T result;
+        try (JsonParser p = root.asParser(objectMapper)) {
+            result = objectMapper.readValue(p, spec.type());
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.AI_JSON_PARSE_FAILED);
+        }
+
+        if (result == null) throw new BusinessException(ErrorCode.AI_JSON_PARSE_FAILED);
+        if (spec.validator() != null) spec.validator().accept(result);
+        return result;
+    }
+
+    private void handle(JsonToken token) throws IOException {
+        root.copyCurrentEvent(parser);
+        if (element != null) element.copyCurrentEvent(parser);
+
+        switch (token) {
+            case START_OBJECT, START_ARRAY -> {
+                depth++;
+                if (depth == 2 && token == JsonToken.START_ARRAY && arrayFieldNext) {
+                    inArray = true;
+                } else if (depth == 3 && token == JsonToken.START_OBJECT && inArray && element == null) {
+                    element = new TokenBuffer(parser);
+                    element.copyCurrentEvent(parser);
+                }
+            }
+            case END_OBJECT, END_ARRAY -> {
+                depth--;
+                if (depth == 2 && element != null) {
+                    emit(element);
+                    element = null;
+                } else if (depth == 1 && inArray) {
+                    inArray = false;
+                } else if (depth == 0) {
+                    done = true;
+                }
+            }
+            default -> {
+                // scalar/field name: 깊이 변화 없음
+            }
+        }
+
+        arrayFieldNext = spec.arrayField() != null
+                && token == JsonToken.FIELD_NAME && depth == 1
+                && spec.arrayField().equals(parser.currentName());
+    }
+
+    private void emit(TokenBuffer buffer) {
+        E value;
+        try (JsonParser p = buffer.asParser(objectMapper)) {
+            value = objectMapper.readValue(p, spec.elementType());
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.AI_JSON_PARSE_FAILED);
+        }
+        if (value == null) throw new BusinessException(ErrorCode.AI_JSON_PARSE_FAILED);
+        if (spec.elementValidator() != null) spec.elementValidator().accept(value);
+        if (onElement != null) onElement.accept(value);
+    }
+}
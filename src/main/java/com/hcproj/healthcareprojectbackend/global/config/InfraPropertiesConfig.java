@@ -1,6 +1,14 @@
 package com.hcproj.healthcareprojectbackend.global.config;
 
+import com.hcproj.healthcareprojectbackend.global.config.properties.AiCacheProperties;
+import com.hcproj.healthcareprojectbackend.global.config.properties.AiGatewayProperties;
+import com.hcproj.healthcareprojectbackend.global.config.properties.AiJobProperties;
 import com.hcproj.healthcareprojectbackend.global.config.properties.BootstrapAdminProperties;
+import com.hcproj.healthcareprojectbackend.global.config.properties.HotFeedProperties;
+import com.hcproj.healthcareprojectbackend.global.config.properties.PostLikeProperties;
+import com.hcproj.healthcareprojectbackend.global.config.properties.PasswordHashingProperties;
+import com.hcproj.healthcareprojectbackend.global.config.properties.PostViewProperties;
+import com.hcproj.healthcareprojectbackend.global.config.properties.RateLimitProperties;
 import com.hcproj.healthcareprojectbackend.global.config.properties.ResetPasswordProperties;
 import com.hcproj.healthcareprojectbackend.global.config.properties.VerificationProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -21,8 +29,19 @@ import org.springframework.context.annotation.Configuration;
  * <ul>
  *   <li>{@link VerificationProperties}</li>
  *   <li>{@link ResetPasswordProperties}</li>
+ *   <li>{@link AiJobProperties}</li>
+ *   <li>{@link AiCacheProperties}</li>
+ *   <li>{@link AiGatewayProperties}</li>
+ *   <li>{@link PasswordHashingProperties}</li>
+ *   <li>{@link RateLimitProperties}</li>
+ *   <li>{@link PostViewProperties}</li>
+ *   <li>{@link HotFeedProperties}</li>
+ *   <li>{@link PostLikeProperties}</li>
  * </ul>
  */
 @Configuration
-@EnableConfigurationProperties({VerificationProperties.class, ResetPasswordProperties.class, BootstrapAdminProperties.class})
+@EnableConfigurationProperties({VerificationProperties.class, ResetPasswordProperties.class, BootstrapAdminProperties.class,
+        AiJobProperties.class, AiCacheProperties.class, AiGatewayProperties.class,
+        PasswordHashingProperties.class, RateLimitProperties.class,
+        PostViewProperties.class, HotFeedProperties.class, PostLikeProperties.class})
 public class InfraPropertiesConfig {}
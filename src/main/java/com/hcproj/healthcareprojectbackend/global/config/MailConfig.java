@@ -1,6 +1,7 @@
 package com.hcproj.healthcareprojectbackend.global.config;
 
 import com.hcproj.healthcareprojectbackend.global.config.properties.MailFromProperties;
+import com.hcproj.healthcareprojectbackend.global.config.properties.MailOutboxProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
@@ -12,11 +13,12 @@ import org.springframework.context.annotation.Configuration;
  * <ul>
  *   <li>메일 발신자 정보({@link MailFromProperties})를 ConfigurationProperties로 바인딩</li>
  *   <li>이메일 인증, 비밀번호 재설정 등 메일 전송 기능에서 공통 사용</li>
+ *   <li>outbox 비동기 발송 설정({@link MailOutboxProperties}) 바인딩</li>
  * </ul>
  *
  * <p>
  * 실제 메일 전송 로직(SMTP, API)은 별도의 서비스/인프라 레이어에서 담당한다.
  */
 @Configuration
-@EnableConfigurationProperties(MailFromProperties.class)
+@EnableConfigurationProperties({MailFromProperties.class, MailOutboxProperties.class})
 public class MailConfig {}
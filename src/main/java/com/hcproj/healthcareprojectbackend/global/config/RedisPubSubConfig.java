@@ -0,0 +1,59 @@
+package com.hcproj.healthcareprojectbackend.global.config;
+
+import com.hcproj.healthcareprojectbackend.global.security.jwt.TokenVersionStore;
+import com.hcproj.healthcareprojectbackend.global.store.catalog.CatalogVersionStore;
+import com.hcproj.healthcareprojectbackend.global.store.feed.FeedVersionStore;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Redis pub/sub 구독 설정 클래스.
+ *
+ * <p>
+ * <b>역할</b>
+ * <ul>
+ *   <li>노드 간 로컬 캐시 무효화 메시지를 수신하기 위한 {@link RedisMessageListenerContainer} Bean 설정</li>
+ *   <li>카탈로그 스냅샷 무효화 채널({@link CatalogVersionStore#CHANNEL}) 구독</li>
+ *   <li>유저 토큰 버전 변경 채널({@link TokenVersionStore#CHANNEL}) 구독</li>
+ *   <li>커뮤니티 목록 캐시 무효화 채널({@link FeedVersionStore#CHANNEL}) 구독</li>
+ * </ul>
+ */
+@Configuration
+public class RedisPubSubConfig {
+
+    /**
+     * {@link RedisMessageListenerContainer} Bean 생성.
+     *
+     * @param connectionFactory Redis 연결 팩토리
+     * @param catalogVersionStore 카탈로그 버전 스토어
+     * @param tokenVersionStore 토큰 버전 스토어
+     * @param feedVersionStore 커뮤니티 목록 캐시 버전 스토어
+     * @return 리스너 컨테이너
+     */
+    @Bean
+    RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                CatalogVersionStore catalogVersionStore,
+                                                                TokenVersionStore tokenVersionStore,
+                                                                FeedVersionStore feedVersionStore) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> catalogVersionStore.onInvalidate(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(CatalogVersionStore.CHANNEL)
+        );
+        container.addMessageListener(
+                (message, pattern) -> tokenVersionStore.onInvalidate(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(TokenVersionStore.CHANNEL)
+        );
+        container.addMessageListener(
+                (message, pattern) -> feedVersionStore.onInvalidate(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(FeedVersionStore.CHANNEL)
+        );
+        return container;
+    }
+}
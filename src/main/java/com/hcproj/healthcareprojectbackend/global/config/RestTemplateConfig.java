@@ -3,9 +3,19 @@ package com.hcproj.healthcareprojectbackend.global.config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
 /**
  * 외부 HTTP 통신을 위한 {@link RestTemplate} 설정 클래스.
  *
@@ -17,10 +27,21 @@ import org.springframework.web.client.RestTemplate;
  * </ul>
  *
  * <p>
+ * <b>연결 관리</b>
+ * <ul>
+ *   <li>JDK {@link HttpClient} 하나를 공유해 공급자별 TCP/TLS 연결을 keep-alive로 재사용한다.</li>
+ *   <li>HTTP/2를 우선 시도하고(ALPN), 지원하지 않는 서버는 HTTP/1.1로 내려간다.</li>
+ *   <li>호스트(공급자)별 동시 요청 수를 {@code social.http.max-concurrent-per-host}로 제한한다.
+ *       한도에 걸리면 {@code social.http.connect-timeout-ms}만큼 기다린 뒤
+ *       {@link ResourceAccessException}으로 실패한다(타임아웃과 같은 일시 장애로 처리된다).</li>
+ * </ul>
+ *
+ * <p>
  * <b>설정 값</b>
  * <ul>
  *   <li>{@code social.http.connect-timeout-ms}</li>
  *   <li>{@code social.http.read-timeout-ms}</li>
+ *   <li>{@code social.http.max-concurrent-per-host}</li>
  * </ul>
  *
  * <p>
@@ -30,20 +51,71 @@ import org.springframework.web.client.RestTemplate;
 public class RestTemplateConfig {
 
     /**
-     * RestTemplate Bean 생성.
+     * 외부 호출용 공유 {@link HttpClient}.
+     *
+     * <p>연결 풀은 클라이언트 인스턴스에 묶이므로 반드시 하나만 만든다.</p>
      *
      * @param connectTimeoutMs 연결 타임아웃 (ms)
-     * @param readTimeoutMs    응답 타임아웃 (ms)
+     * @return HttpClient
+     */
+    @Bean
+    public HttpClient externalHttpClient(@Value("${social.http.connect-timeout-ms:3000}") int connectTimeoutMs) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    /**
+     * RestTemplate Bean 생성.
+     *
+     * @param httpClient        공유 HttpClient
+     * @param connectTimeoutMs  연결 타임아웃 (ms), 동시 요청 한도 대기 시간으로도 사용
+     * @param readTimeoutMs     응답 타임아웃 (ms)
+     * @param maxConcurrentPerHost 호스트별 동시 요청 수
      * @return RestTemplate
      */
     @Bean
     public RestTemplate restTemplate(
+            HttpClient httpClient,
             @Value("${social.http.connect-timeout-ms:3000}") int connectTimeoutMs,
-            @Value("${social.http.read-timeout-ms:5000}") int readTimeoutMs
+            @Value("${social.http.read-timeout-ms:5000}") int readTimeoutMs,
+            @Value("${social.http.max-concurrent-per-host:32}") int maxConcurrentPerHost
     ) {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(connectTimeoutMs);
+        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
         factory.setReadTimeout(readTimeoutMs);
-        return new RestTemplate(factory);
+
+        RestTemplate restTemplate = new RestTemplate(factory);
+        restTemplate.getInterceptors().add(perHostLimit(Math.max(1, maxConcurrentPerHost), connectTimeoutMs));
+        return restTemplate;
+    }
+
+    /**
+     * 호스트별 동시 요청 수를 제한하는 인터셉터.
+     *
+     * <p>한 공급자의 지연이 다른 공급자 호출이나 요청 스레드 전체로 번지지 않게 한다.</p>
+     */
+    private static ClientHttpRequestInterceptor perHostLimit(int permitsPerHost, long waitMillis) {
+        Map<String, Semaphore> limits = new ConcurrentHashMap<>();
+        return (request, body, execution) -> {
+            String host = String.valueOf(request.getURI().getHost());
+            Semaphore limit = limits.computeIfAbsent(host, h -> new Semaphore(permitsPerHost));
+            try {
+                if (!limit.tryAcquire(waitMillis, TimeUnit.MILLISECONDS)) {
+                    throw new ResourceAccessException("Too many concurrent requests to " + host);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ResourceAccessException("Interrupted while waiting for " + host);
+            }
+            try {
+                // 응답 body는 호출 측에서 읽으므로, 여기서는 요청-응답 헤더 수신까지만 한도를 적용한다.
+                return execution.execute(request, body);
+            } finally {
+                limit.release();
+            }
+        };
     }
 }
@@ -0,0 +1,17 @@
+package com.hcproj.healthcareprojectbackend.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * {@code @Scheduled} 기반 백그라운드 작업 활성화 설정.
+ *
+ * <p>
+ * <b>대상 작업</b>
+ * <ul>
+ *   <li>이메일 outbox polling ({@link com.hcproj.healthcareprojectbackend.global.mail.outbox.EmailOutboxDispatcher})</li>
+ * </ul>
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {}
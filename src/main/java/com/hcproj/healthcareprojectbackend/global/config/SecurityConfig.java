@@ -6,6 +6,7 @@ import com.hcproj.healthcareprojectbackend.global.security.RestAuthEntryPoint;
 import com.hcproj.healthcareprojectbackend.global.security.jwt.JwtAuthenticationFilter;
 import com.hcproj.healthcareprojectbackend.global.security.jwt.JwtProperties;
 import com.hcproj.healthcareprojectbackend.global.security.jwt.JwtTokenProvider;
+import com.hcproj.healthcareprojectbackend.global.security.jwt.TokenVersionStore;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -57,8 +58,10 @@ public class SecurityConfig {
      * Authorization: Bearer {accessToken}을 검사하는 JWT 인증 필터 빈 등록.
      */
     @Bean
-    public JwtAuthenticationFilter jwtAuthenticationFilter(JwtTokenProvider provider, ObjectMapper objectMapper) {
-        return new JwtAuthenticationFilter(provider, objectMapper);
+    public JwtAuthenticationFilter jwtAuthenticationFilter(JwtTokenProvider provider,
+                                                           TokenVersionStore tokenVersionStore,
+                                                           ObjectMapper objectMapper) {
+        return new JwtAuthenticationFilter(provider, tokenVersionStore, objectMapper);
     }
 
     /**
@@ -1,9 +1,11 @@
 package com.hcproj.healthcareprojectbackend.global.config;
 
+import com.hcproj.healthcareprojectbackend.global.ratelimit.RateLimitInterceptor;
 import com.hcproj.healthcareprojectbackend.global.security.resolver.CurrentUserArgumentResolver;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import java.util.List;
@@ -14,6 +16,7 @@ import java.util.List;
  * <p><b>현재 역할</b></p>
  * <ul>
  *   <li>{@link CurrentUserArgumentResolver}를 MVC ArgumentResolver 체인에 등록한다.</li>
+ *   <li>{@link RateLimitInterceptor}를 등록한다(@RateLimited 핸들러에만 적용).</li>
  * </ul>
  *
  * <p>이 설정을 통해 컨트롤러에서 @CurrentUserId, @CurrentHandle을 사용 가능해진다.</p>
@@ -23,6 +26,7 @@ import java.util.List;
 public class WebConfig implements WebMvcConfigurer {
 
     private final CurrentUserArgumentResolver currentUserArgumentResolver;
+    private final RateLimitInterceptor rateLimitInterceptor;
 
     /**
      * 커스텀 ArgumentResolver 등록.
@@ -33,4 +37,12 @@ public class WebConfig implements WebMvcConfigurer {
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
         resolvers.add(currentUserArgumentResolver);
     }
+
+    /**
+     * rate limit 인터셉터 등록.
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(rateLimitInterceptor).addPathPatterns("/api/**");
+    }
 }
@@ -0,0 +1,38 @@
+package com.hcproj.healthcareprojectbackend.global.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * AI 응답 캐시 설정 프로퍼티.
+ *
+ * <p>
+ * <b>설정 예</b>
+ * <pre>
+ * app.ai.cache.enabled=true
+ * app.ai.cache.ttl-seconds=86400
+ * app.ai.cache.max-entries=1000
+ * app.ai.cache.prefix=ai:resp:
+ * </pre>
+ *
+ * <p>
+ * 캐시 키는 (model, temperature, system prompt, user prompt)의 SHA-256이다.
+ */
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "app.ai.cache")
+public class AiCacheProperties {
+
+    /** 캐시 사용 여부 (기본 비활성) */
+    private boolean enabled = false;
+
+    /** 응답 보관 시간 (초) */
+    private long ttlSeconds = 86400;
+
+    /** 최대 보관 개수. 초과 시 오래된 항목부터 제거한다. */
+    private long maxEntries = 1000;
+
+    /** Redis 키 prefix */
+    private String prefix = "ai:resp:";
+}
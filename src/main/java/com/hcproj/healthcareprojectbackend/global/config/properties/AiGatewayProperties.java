@@ -0,0 +1,93 @@
+package com.hcproj.healthcareprojectbackend.global.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * AI 게이트웨이(bulkhead / rate limit / timeout / circuit breaker) 설정 프로퍼티.
+ *
+ * <p>
+ * <b>구성</b>
+ * <ul>
+ *   <li>{@link Bulkhead} : 노드당 동시 LLM 호출 수 제한</li>
+ *   <li>{@link RateLimit} : 사용자별 token bucket (Redis)</li>
+ *   <li>{@link CircuitBreaker} : 실패율 기반 호출 차단</li>
+ * </ul>
+ *
+ * <p>
+ * <b>설정 예</b>
+ * <pre>
+ * app.ai.gateway.timeout-seconds=60
+ * app.ai.gateway.stream-timeout-seconds=240
+ * app.ai.gateway.bulkhead.max-concurrent=16
+ * app.ai.gateway.rate-limit.capacity=10
+ * app.ai.gateway.rate-limit.refill-per-minute=5
+ * app.ai.gateway.circuit-breaker.failure-rate-threshold=50
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.ai.gateway")
+public class AiGatewayProperties {
+
+    /** 단건(JSON) 호출 최대 대기 시간 (초) */
+    private long timeoutSeconds = 60;
+
+    /** 스트리밍 호출 최대 대기 시간 (초) */
+    private long streamTimeoutSeconds = 240;
+
+    private final Bulkhead bulkhead = new Bulkhead();
+    private final RateLimit rateLimit = new RateLimit();
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    /**
+     * 노드당 동시 호출 제한
+     */
+    @Setter @Getter
+    public static class Bulkhead {
+
+        /** 동시에 진행 가능한 LLM 호출 수 */
+        private int maxConcurrent = 16;
+
+        /** 슬롯 대기 시간 (ms). 초과 시 거절 */
+        private long maxWaitMillis = 200;
+    }
+
+    /**
+     * 사용자별 token bucket
+     */
+    @Setter @Getter
+    public static class RateLimit {
+
+        private boolean enabled = true;
+
+        /** 버킷 최대 토큰 수(순간 허용량) */
+        private int capacity = 10;
+
+        /** 분당 보충 토큰 수(지속 허용량) */
+        private int refillPerMinute = 5;
+
+        /** Redis 키 prefix */
+        private String prefix = "ai:rl:";
+    }
+
+    /**
+     * 실패율 기반 circuit breaker
+     */
+    @Setter @Getter
+    public static class CircuitBreaker {
+
+        /** 실패율 계산에 쓰는 최근 호출 수 */
+        private int windowSize = 20;
+
+        /** 실패율을 판단하기 위한 최소 호출 수 */
+        private int minimumCalls = 10;
+
+        /** OPEN 전환 실패율 (%) */
+        private int failureRateThreshold = 50;
+
+        /** OPEN 유지 시간 (초). 이후 HALF_OPEN에서 시험 호출 1건을 허용한다 */
+        private long openSeconds = 30;
+    }
+}
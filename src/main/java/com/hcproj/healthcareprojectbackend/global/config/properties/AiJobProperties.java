@@ -0,0 +1,46 @@
+package com.hcproj.healthcareprojectbackend.global.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * AI 비동기 생성 작업(job) 관련 설정 프로퍼티.
+ *
+ * <p>
+ * <b>설정 예</b>
+ * <pre>
+ * app.ai.job.max-concurrency=8
+ * app.ai.job.ttl-seconds=600
+ * app.ai.job.prefix=ai:job:
+ * app.ai.job.stream-poll-millis=500
+ * app.ai.job.stream-timeout-seconds=120
+ * app.ai.job.generation-stream-timeout-seconds=300
+ * </pre>
+ *
+ * <p>
+ * 작업 상태는 Redis에 저장되므로 어느 노드에서든 polling/SSE 조회가 가능하다.
+ */
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "app.ai.job")
+public class AiJobProperties {
+
+    /** 노드당 동시에 실행 가능한 AI 생성 작업 수 (초과 시 즉시 거절) */
+    private int maxConcurrency = 8;
+
+    /** 작업 상태/결과 보관 시간 (초) */
+    private long ttlSeconds = 600;
+
+    /** Redis 키 prefix */
+    private String prefix = "ai:job:";
+
+    /** SSE 구독 중인 작업 상태를 다시 읽는 주기 (ms, 노드당 watcher 1개가 공유) */
+    private long streamPollMillis = 500;
+
+    /** SSE 스트림 최대 유지 시간 (초) */
+    private long streamTimeoutSeconds = 120;
+
+    /** 생성 결과를 day 단위로 흘려보내는 SSE 스트림 최대 유지 시간 (초) */
+    private long generationStreamTimeoutSeconds = 300;
+}
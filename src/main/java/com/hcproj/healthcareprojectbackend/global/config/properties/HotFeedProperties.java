@@ -0,0 +1,47 @@
+package com.hcproj.healthcareprojectbackend.global.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 커뮤니티 목록 앞쪽 페이지(hot feed) 캐시 설정 프로퍼티.
+ *
+ * <p>
+ * <b>설정 예</b>
+ * <pre>
+ * app.community.feed.enabled=true
+ * app.community.feed.pages=5
+ * app.community.feed.max-page-size=50
+ * app.community.feed.ttl-seconds=30
+ * app.community.feed.local-ttl-millis=3000
+ * app.community.feed.prefix=feed:
+ * </pre>
+ *
+ * <p>
+ * 게시글 작성/수정/삭제 시 전역 버전이 올라가 즉시 무효화되며,
+ * 댓글 수/조회수/닉네임 변경은 TTL 만큼 늦게 반영될 수 있다.
+ */
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "app.community.feed")
+public class HotFeedProperties {
+
+    /** 캐시 사용 여부 */
+    private boolean enabled = true;
+
+    /** 카테고리별로 캐시할 앞쪽 페이지 수 */
+    private int pages = 5;
+
+    /** 캐시를 적용할 최대 페이지 크기 (초과 요청은 DB 직행) */
+    private int maxPageSize = 50;
+
+    /** Redis(L2) 보관 시간 (초) */
+    private long ttlSeconds = 30;
+
+    /** 노드 로컬(L1) 보관 시간 (ms) */
+    private long localTtlMillis = 3000;
+
+    /** Redis 키 prefix */
+    private String prefix = "feed:";
+}
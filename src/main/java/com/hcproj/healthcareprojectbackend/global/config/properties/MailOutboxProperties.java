@@ -0,0 +1,46 @@
+package com.hcproj.healthcareprojectbackend.global.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 이메일 outbox 비동기 발송 관련 설정 프로퍼티.
+ *
+ * <p>
+ * <b>설정 예</b>
+ * <pre>
+ * app.mail.outbox.poll-millis=2000
+ * app.mail.outbox.batch-size=50
+ * app.mail.outbox.max-attempts=6
+ * app.mail.outbox.backoff-base-seconds=30
+ * app.mail.outbox.backoff-max-seconds=3600
+ * app.mail.outbox.lease-seconds=120
+ * </pre>
+ *
+ * <p>
+ * n번째 실패 후 재시도까지 대기 시간은 {@code min(base * 2^(n-1), max)}초다.
+ */
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "app.mail.outbox")
+public class MailOutboxProperties {
+
+    /** 발송 대상 polling 주기 (ms). 커밋 직후에는 polling을 기다리지 않고 바로 깨운다. */
+    private long pollMillis = 2000;
+
+    /** 한 번의 SMTP 연결로 보낼 최대 메일 수 */
+    private int batchSize = 50;
+
+    /** 최대 발송 시도 횟수 (초과 시 FAILED) */
+    private int maxAttempts = 6;
+
+    /** 재시도 백오프 기준 (초) */
+    private long backoffBaseSeconds = 30;
+
+    /** 재시도 백오프 상한 (초) */
+    private long backoffMaxSeconds = 3600;
+
+    /** 선점 후 발송 결과 기록 전까지 다른 노드가 다시 가져가지 못하는 시간 (초) */
+    private long leaseSeconds = 120;
+}
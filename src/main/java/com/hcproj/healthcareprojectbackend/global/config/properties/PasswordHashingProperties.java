@@ -0,0 +1,43 @@
+package com.hcproj.healthcareprojectbackend.global.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 비밀번호 해시(BCrypt) 실행 관련 설정 프로퍼티.
+ *
+ * <p>
+ * <b>설정 예</b>
+ * <pre>
+ * app.security.password.threads=0
+ * app.security.password.queue-capacity=64
+ * app.security.password.target-millis=250
+ * app.security.password.min-cost=10
+ * app.security.password.max-cost=14
+ * </pre>
+ *
+ * <p>
+ * threads가 0이면 CPU 코어 수를 사용한다.
+ * 큐가 가득 차면 요청을 429로 거절해 해시 폭주가 다른 API로 번지지 않게 한다.
+ */
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "app.security.password")
+public class PasswordHashingProperties {
+
+    /** 해시 전용 스레드 수 (0이면 CPU 코어 수) */
+    private int threads = 0;
+
+    /** 대기 큐 최대 길이 (초과 시 즉시 거절) */
+    private int queueCapacity = 64;
+
+    /** 기동 시 BCrypt cost를 맞출 목표 해시 시간 (ms) */
+    private long targetMillis = 250;
+
+    /** 보정 결과와 무관하게 보장할 최소 cost */
+    private int minCost = 10;
+
+    /** 보정 결과의 상한 cost */
+    private int maxCost = 14;
+}
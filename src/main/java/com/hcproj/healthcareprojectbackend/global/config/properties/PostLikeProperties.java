@@ -0,0 +1,35 @@
+package com.hcproj.healthcareprojectbackend.global.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 게시글 좋아요 카운터 관련 설정 프로퍼티.
+ *
+ * <p>
+ * <b>설정 예</b>
+ * <pre>
+ * app.community.like.flush-millis=5000
+ * app.community.like.flush-batch=500
+ * app.community.like.prefix=like:
+ * </pre>
+ *
+ * <p>
+ * 좋아요 증감은 Redis의 게시글별 카운터에 누적되고,
+ * flush 주기마다 {@code posts.like_count}에 batch로 반영된다.
+ */
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "app.community.like")
+public class PostLikeProperties {
+
+    /** 누적분을 DB에 반영하는 주기 (ms) */
+    private long flushMillis = 5000;
+
+    /** flush 한 번에 꺼낼 최대 게시글 수 */
+    private int flushBatch = 500;
+
+    /** Redis 키 prefix */
+    private String prefix = "like:";
+}
@@ -0,0 +1,35 @@
+package com.hcproj.healthcareprojectbackend.global.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 게시글 조회수 집계 관련 설정 프로퍼티.
+ *
+ * <p>
+ * <b>설정 예</b>
+ * <pre>
+ * app.community.view.flush-millis=5000
+ * app.community.view.dedup-seconds=600
+ * app.community.view.dedup-prefix=pv:
+ * </pre>
+ *
+ * <p>
+ * 조회수 증가분은 노드 메모리에 모았다가 flush 주기마다 DB에 반영한다.
+ * 같은 사용자가 dedup window 안에 다시 조회하면 조회수를 올리지 않는다.
+ */
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "app.community.view")
+public class PostViewProperties {
+
+    /** 증가분을 DB에 반영하는 주기 (ms) */
+    private long flushMillis = 5000;
+
+    /** 같은 사용자의 재조회를 무시하는 기간 (초, 0이면 dedup 없음) */
+    private long dedupSeconds = 600;
+
+    /** dedup Redis 키 prefix */
+    private String dedupPrefix = "pv:";
+}
@@ -0,0 +1,65 @@
+package com.hcproj.healthcareprojectbackend.global.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * API 요청 rate limit 관련 설정 프로퍼티.
+ *
+ * <p>
+ * <b>설정 예</b>
+ * <pre>
+ * app.rate-limit.enabled=true
+ * app.rate-limit.prefix=rl:
+ * app.rate-limit.policies.login.limit=10
+ * app.rate-limit.policies.login.window-seconds=60
+ * </pre>
+ *
+ * <p>
+ * 정책 이름은 {@code @RateLimited(policy = "...")}와 매칭된다.
+ * 정의되지 않은 정책은 {@link #defaultPolicy}를 사용한다.
+ */
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    /** 전체 on/off */
+    private boolean enabled = true;
+
+    /** Redis 키 prefix */
+    private String prefix = "rl:";
+
+    /** 노드 로컬 사전 차단 맵의 최대 키 수 (초과 시 비움) */
+    private int localMaxKeys = 100_000;
+
+    /** 정책 이름 → 한도 */
+    private Map<String, Policy> policies = new HashMap<>();
+
+    /** 정의되지 않은 정책에 적용할 한도 */
+    private Policy defaultPolicy = new Policy();
+
+    /**
+     * 정책 조회(없으면 기본 정책).
+     */
+    public Policy policy(String name) {
+        return policies.getOrDefault(name, defaultPolicy);
+    }
+
+    /**
+     * sliding window 한도
+     */
+    @Setter @Getter
+    public static class Policy {
+
+        /** window 동안 허용할 요청 수 */
+        private int limit = 60;
+
+        /** window 길이 (초) */
+        private long windowSeconds = 60;
+    }
+}
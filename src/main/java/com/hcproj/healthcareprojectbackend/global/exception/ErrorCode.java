@@ -52,6 +52,9 @@ public enum ErrorCode {
     /** 유효하지 않은 상태 변경 요청 */
     INVALID_STATUS_TRANSITION(HttpStatus.CONFLICT, "COMMON-410", "유효하지 않은 상태 변경 요청입니다"),
 
+    /** 요청 빈도 제한 초과 (@RateLimited, Retry-After 헤더 동반) */
+    RATE_LIMITED(HttpStatus.TOO_MANY_REQUESTS, "COMMON-429", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요"),
+
     // -------------------------
     // AI
     // -------------------------
@@ -68,6 +71,27 @@ public enum ErrorCode {
     /** AI 화이트리스트(exercises) 구성 실패 */
     AI_ALLOWED_EXERCISES_BUILD_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "AI-004", "AI 생성 준비에 실패했습니다"),
 
+    /** AI 비동기 작업이 없거나 만료됨(또는 다른 사용자의 작업) */
+    AI_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "AI-005", "AI 생성 작업을 찾을 수 없습니다"),
+
+    /** AI 작업 실행 슬롯 부족(노드 동시 실행 한도 초과) */
+    AI_JOB_REJECTED(HttpStatus.SERVICE_UNAVAILABLE, "AI-006", "AI 생성 요청이 많습니다. 잠시 후 다시 시도해주세요"),
+
+    /** 사용자별 AI 호출 한도(token bucket) 초과 */
+    AI_RATE_LIMITED(HttpStatus.TOO_MANY_REQUESTS, "AI-007", "AI 생성 요청이 너무 잦습니다. 잠시 후 다시 시도해주세요"),
+
+    /** AI 모델 응답 시간 초과 */
+    AI_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, "AI-008", "AI 응답이 지연되고 있습니다. 잠시 후 다시 시도해주세요"),
+
+    /** AI 모델 엔드포인트 장애로 호출 차단(circuit open) */
+    AI_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "AI-009", "AI 서비스를 일시적으로 사용할 수 없습니다"),
+
+    /** 노드의 AI 동시 호출 한도(bulkhead) 초과 */
+    AI_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "AI-010", "AI 생성 요청이 많습니다. 잠시 후 다시 시도해주세요"),
+
+    /** AI 모델 엔드포인트 호출 실패(네트워크/5xx 등) */
+    AI_UPSTREAM_FAILED(HttpStatus.BAD_GATEWAY, "AI-011", "AI 서비스 호출에 실패했습니다"),
+
     // -------------------------
     // Auth/Security
     // -------------------------
@@ -126,6 +150,12 @@ public enum ErrorCode {
     /** 이메일이 인증되지 않음 */
     USER_EMAIL_NOT_VERIFIED(HttpStatus.UNAUTHORIZED, "AUTH-018", "인증되지 않은 이메일입니다."),
 
+    /** 비밀번호 해시 대기열 초과(로그인/가입 폭주) */
+    PASSWORD_HASHING_BUSY(HttpStatus.TOO_MANY_REQUESTS, "AUTH-019", "요청이 많습니다. 잠시 후 다시 시도해주세요"),
+
+    /** 소셜 공급자 일시 장애(동시 요청 한도 초과/타임아웃/5xx) */
+    SOCIAL_PROVIDER_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "AUTH-020", "소셜 로그인 서비스에 일시적으로 연결할 수 없습니다. 잠시 후 다시 시도해주세요"),
+
     // -------------------------
     // User
     // -------------------------
@@ -0,0 +1,63 @@
+package com.hcproj.healthcareprojectbackend.global.mail.adapter;
+
+import com.hcproj.healthcareprojectbackend.global.mail.outbox.EmailOutboxDispatcher;
+import com.hcproj.healthcareprojectbackend.global.mail.outbox.EmailOutboxEntity;
+import com.hcproj.healthcareprojectbackend.global.mail.outbox.EmailOutboxRepository;
+import com.hcproj.healthcareprojectbackend.global.mail.port.EmailSender;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 메일을 즉시 보내지 않고 outbox 테이블에 적재하는 {@link EmailSender} 구현체.
+ *
+ * <p>
+ * 서비스 레이어에 주입되는 기본 구현체다({@link Primary}).
+ * 요청 스레드는 outbox 행 insert만 수행하므로 SMTP 핸드셰이크/타임아웃을 기다리지 않는다.
+ * </p>
+ *
+ * <p>
+ * 호출 측 트랜잭션이 있으면 같은 트랜잭션에 묶이므로, 롤백되면 메일도 나가지 않는다.
+ * 커밋(또는 트랜잭션이 없으면 저장) 직후 {@link EmailOutboxDispatcher}를 깨워 polling 주기를 기다리지 않게 한다.
+ * </p>
+ */
+@Primary
+@Component
+@RequiredArgsConstructor
+public class OutboxEmailSender implements EmailSender {
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final EmailOutboxDispatcher emailOutboxDispatcher;
+
+    @Override
+    public void sendText(String to, String subject, String textBody) {
+        enqueue(EmailOutboxEntity.pending(to, subject, textBody, null));
+    }
+
+    @Override
+    public void sendHtml(String to, String subject, String htmlBody) {
+        enqueue(EmailOutboxEntity.pending(to, subject, null, htmlBody));
+    }
+
+    @Override
+    public void sendHtml(String to, String subject, String textFallback, String htmlBody) {
+        enqueue(EmailOutboxEntity.pending(to, subject, textFallback, htmlBody));
+    }
+
+    private void enqueue(EmailOutboxEntity entity) {
+        emailOutboxRepository.save(entity);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    emailOutboxDispatcher.wakeUp();
+                }
+            });
+            return;
+        }
+        emailOutboxDispatcher.wakeUp();
+    }
+}
@@ -2,16 +2,30 @@ package com.hcproj.healthcareprojectbackend.global.mail.adapter;
 
 import com.hcproj.healthcareprojectbackend.global.config.properties.MailFromProperties;
 import com.hcproj.healthcareprojectbackend.global.mail.port.EmailSender;
+import com.hcproj.healthcareprojectbackend.global.mail.template.HtmlTextFallback;
 import jakarta.mail.internet.InternetAddress;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 
+/**
+ * {@link EmailSender}의 SMTP 구현체.
+ *
+ * <p>
+ * 요청 경로에서는 {@link OutboxEmailSender}가 주입되고, 이 클래스는 outbox dispatcher가
+ * {@link #createMessage}/{@link #sendAll}로 여러 메일을 하나의 SMTP 연결로 보낼 때 사용한다.
+ * </p>
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -45,7 +59,7 @@ public class SmtpEmailSender implements EmailSender {
     @Override
     public void sendHtml(String to, String subject, String htmlBody) {
         // 텍스트 fallback 없이 HTML만 보내는 버전
-        sendHtml(to, subject, stripToTextFallback(htmlBody), htmlBody);
+        sendHtml(to, subject, HtmlTextFallback.of(htmlBody), htmlBody);
     }
 
     @Override
@@ -73,6 +87,56 @@ public class SmtpEmailSender implements EmailSender {
         }
     }
 
+    /**
+     * 발송할 MimeMessage를 만든다.
+     *
+     * @param htmlBody null이면 텍스트 메일, 아니면 text + html multipart 메일
+     */
+    public MimeMessage createMessage(String to, String subject, String textBody, String htmlBody) throws Exception {
+        MimeMessage message = javaMailSender.createMimeMessage();
+        boolean html = htmlBody != null;
+        MimeMessageHelper helper = new MimeMessageHelper(
+                message,
+                html ? MimeMessageHelper.MULTIPART_MODE_MIXED_RELATED : MimeMessageHelper.MULTIPART_MODE_NO,
+                StandardCharsets.UTF_8.name()
+        );
+
+        helper.setTo(to);
+        helper.setSubject(subject);
+        if (html) {
+            helper.setText(textBody != null ? textBody : HtmlTextFallback.of(htmlBody), htmlBody);
+        } else {
+            helper.setText(textBody, false);
+        }
+        helper.setFrom(buildFrom());
+        return message;
+    }
+
+    /**
+     * 여러 메일을 하나의 SMTP transport 연결로 발송한다.
+     *
+     * @return 실패한 메시지 → 원인. 연결 자체가 실패하면 전부 포함된다.
+     */
+    public Map<MimeMessage, Exception> sendAll(List<MimeMessage> messages) {
+        Map<MimeMessage, Exception> failures = new IdentityHashMap<>();
+        if (messages.isEmpty()) return failures;
+
+        try {
+            javaMailSender.send(messages.toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            Map<Object, Exception> failed = e.getFailedMessages();
+            if (failed.isEmpty()) {
+                messages.forEach(m -> failures.put(m, e));
+            } else {
+                failed.forEach((m, ex) -> failures.put((MimeMessage) m, ex));
+            }
+        } catch (MailException e) {
+            // 인증 실패/연결 실패 등: 한 통도 나가지 않음
+            messages.forEach(m -> failures.put(m, e));
+        }
+        return failures;
+    }
+
     private InternetAddress buildFrom() {
         try {
             return new InternetAddress(
@@ -84,23 +148,4 @@ public class SmtpEmailSender implements EmailSender {
             throw new IllegalStateException("Invalid from address/name", e);
         }
     }
-
-    /**
-     * HTML에서 대충 텍스트 fallback을 뽑는 간단 버전.
-     * (완벽할 필요 없음. “링크/코드”가 포함되면 충분)
-     */
-    private String stripToTextFallback(String html) {
-        if (html == null) return "";
-        return html
-                .replaceAll("(?is)<style.*?>.*?</style>", "")
-                .replaceAll("(?is)<script.*?>.*?</script>", "")
-                .replaceAll("(?is)<br\\s*/?>", "\n")
-                .replaceAll("(?is)</p>", "\n\n")
-                .replaceAll("(?is)<[^>]+>", "")
-                .replace("&nbsp;", " ")
-                .replace("&lt;", "<")
-                .replace("&gt;", ">")
-                .replace("&amp;", "&")
-                .trim();
-    }
 }
\ No newline at end of file
@@ -0,0 +1,148 @@
+package com.hcproj.healthcareprojectbackend.global.mail.outbox;
+
+import com.hcproj.healthcareprojectbackend.global.config.properties.MailOutboxProperties;
+import com.hcproj.healthcareprojectbackend.global.mail.adapter.SmtpEmailSender;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 이메일 outbox를 비우는 백그라운드 발송기.
+ *
+ * <p>
+ * <b>동작</b>
+ * <ul>
+ *   <li>전용 스레드 하나에서만 발송한다. 여러 번 깨워도 실행 중이면 한 번으로 합쳐진다.</li>
+ *   <li>{@link EmailOutboxManager#claimDue}로 최대 batchSize개를 선점하고,
+ *       {@link SmtpEmailSender#sendAll}로 하나의 SMTP 연결에 묶어 보낸다.</li>
+ *   <li>성공분은 삭제, 실패분은 지수 백오프로 재시도 예약(최대 횟수 초과 시 FAILED).</li>
+ *   <li>선점 결과가 batchSize만큼 차면 큐가 빌 때까지 이어서 보낸다.</li>
+ * </ul>
+ *
+ * <p>
+ * <b>메트릭</b>
+ * <ul>
+ *   <li>{@code mail.outbox.pending}: PENDING 행 수(발송 라운드마다 갱신)</li>
+ *   <li>{@code mail.outbox.sent} / {@code mail.outbox.failed}: 발송 성공/실패 건수</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class EmailOutboxDispatcher {
+
+    private final EmailOutboxManager emailOutboxManager;
+    private final SmtpEmailSender smtpEmailSender;
+    private final MailOutboxProperties props;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "mail-outbox");
+        t.setDaemon(true);
+        return t;
+    });
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+    private final AtomicLong pending = new AtomicLong();
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+
+    public EmailOutboxDispatcher(EmailOutboxManager emailOutboxManager,
+                                 SmtpEmailSender smtpEmailSender,
+                                 MailOutboxProperties props,
+                                 MeterRegistry meterRegistry) {
+        this.emailOutboxManager = emailOutboxManager;
+        this.smtpEmailSender = smtpEmailSender;
+        this.props = props;
+        meterRegistry.gauge("mail.outbox.pending", pending);
+        this.sentCounter = meterRegistry.counter("mail.outbox.sent");
+        this.failedCounter = meterRegistry.counter("mail.outbox.failed");
+    }
+
+    /**
+     * 발송 라운드를 예약한다. 이미 예약/실행 대기 중이면 아무것도 하지 않는다.
+     */
+    public void wakeUp() {
+        if (!scheduled.compareAndSet(false, true)) return;
+        try {
+            executor.execute(this::drain);
+        } catch (RuntimeException e) {
+            scheduled.set(false);
+            log.warn("Mail outbox dispatch could not be scheduled", e);
+        }
+    }
+
+    /**
+     * 커밋 직후 깨우기를 놓친 항목과 재시도 대상을 주기적으로 처리한다.
+     */
+    @Scheduled(fixedDelayString = "${app.mail.outbox.poll-millis:2000}")
+    public void poll() {
+        wakeUp();
+    }
+
+    void drain() {
+        // 실행 시작 시점에 플래그를 내려, 실행 중 들어온 깨우기가 다음 라운드를 예약하도록 한다.
+        scheduled.set(false);
+        int batchSize = Math.max(1, props.getBatchSize());
+        try {
+            List<EmailOutboxManager.Claimed> claimed;
+            do {
+                claimed = emailOutboxManager.claimDue(batchSize);
+                dispatch(claimed);
+            } while (claimed.size() == batchSize);
+
+            pending.set(emailOutboxManager.pendingCount());
+        } catch (Exception e) {
+            log.error("Mail outbox dispatch failed", e);
+        }
+    }
+
+    private void dispatch(List<EmailOutboxManager.Claimed> claimed) {
+        if (claimed.isEmpty()) return;
+
+        Map<MimeMessage, EmailOutboxManager.Claimed> byMessage = new IdentityHashMap<>();
+        Map<EmailOutboxManager.Claimed, String> failures = new HashMap<>();
+
+        for (var c : claimed) {
+            try {
+                byMessage.put(smtpEmailSender.createMessage(c.recipient(), c.subject(), c.textBody(), c.htmlBody()), c);
+            } catch (Exception e) {
+                failures.put(c, summarize(e));
+            }
+        }
+
+        List<MimeMessage> messages = new ArrayList<>(byMessage.keySet());
+        smtpEmailSender.sendAll(messages).forEach((m, e) -> failures.put(byMessage.get(m), summarize(e)));
+
+        List<Long> sentIds = new ArrayList<>();
+        for (var c : claimed) {
+            if (!failures.containsKey(c)) sentIds.add(c.id());
+        }
+
+        emailOutboxManager.markSent(sentIds);
+        emailOutboxManager.markFailed(failures);
+
+        sentCounter.increment(sentIds.size());
+        failedCounter.increment(failures.size());
+        if (!failures.isEmpty()) {
+            log.warn("Mail outbox batch partially failed. sent={}, failed={}", sentIds.size(), failures.size());
+        }
+    }
+
+    private static String summarize(Exception e) {
+        String msg = e.getClass().getSimpleName() + ": " + e.getMessage();
+        return msg.length() > 1000 ? msg.substring(0, 1000) : msg;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
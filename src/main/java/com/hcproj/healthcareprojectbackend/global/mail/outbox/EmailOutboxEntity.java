@@ -0,0 +1,110 @@
+package com.hcproj.healthcareprojectbackend.global.mail.outbox;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * 발송 대기 중인 이메일(transactional outbox) 엔티티.
+ *
+ * <p><b>동작</b></p>
+ * <ul>
+ *   <li>요청 경로는 이 행만 저장하고 즉시 반환한다(SMTP 대기 없음).</li>
+ *   <li>{@link EmailOutboxDispatcher}가 {@code next_attempt_at}이 지난 PENDING 행을 묶어 발송한다.</li>
+ *   <li>발송 성공 시 행을 삭제한다. 본문(인증 코드/재설정 링크)이 DB에 오래 남지 않게 하기 위함이다.</li>
+ *   <li>실패 시 지수 백오프로 {@code next_attempt_at}을 미루고, 최대 횟수를 넘기면 FAILED로 남긴다.</li>
+ * </ul>
+ *
+ * <p><b>조회 최적화</b></p>
+ * <ul>
+ *   <li>{@code idx_email_outbox_status_next}: (status, next_attempt_at) 발송 대상 조회</li>
+ * </ul>
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+@Entity
+@Table(name = "email_outbox", indexes = {
+        @Index(name = "idx_email_outbox_status_next", columnList = "status, next_attempt_at")
+})
+public class EmailOutboxEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "email_outbox_id")
+    private Long emailOutboxId;
+
+    @Column(name = "recipient", nullable = false, length = 320)
+    private String recipient;
+
+    @Column(name = "subject", nullable = false, length = 255)
+    private String subject;
+
+    @Column(name = "text_body", columnDefinition = "text")
+    private String textBody;
+
+    @Column(name = "html_body", columnDefinition = "text")
+    private String htmlBody;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private EmailOutboxStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(name = "last_error", columnDefinition = "text")
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    /**
+     * 즉시 발송 대상인 outbox 항목을 만든다.
+     *
+     * @param htmlBody null이면 텍스트 메일로 발송한다.
+     */
+    public static EmailOutboxEntity pending(String recipient, String subject, String textBody, String htmlBody) {
+        Instant now = Instant.now();
+        return EmailOutboxEntity.builder()
+                .recipient(recipient)
+                .subject(subject)
+                .textBody(textBody)
+                .htmlBody(htmlBody)
+                .status(EmailOutboxStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+    }
+
+    /**
+     * 발송을 선점한다.
+     *
+     * <p>시도 횟수를 올리고 lease 동안 다른 노드가 다시 가져가지 않도록 다음 시도 시각을 미룬다.
+     * 발송 도중 노드가 죽으면 lease가 끝난 뒤 다시 발송된다.</p>
+     */
+    public void claim(Instant leaseUntil) {
+        this.attempts = this.attempts + 1;
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    /**
+     * 발송 실패를 기록한다.
+     *
+     * @param retryAt null이면 재시도를 포기하고 FAILED로 전이한다.
+     */
+    public void fail(String error, Instant retryAt) {
+        this.lastError = error;
+        if (retryAt == null) {
+            this.status = EmailOutboxStatus.FAILED;
+        } else {
+            this.nextAttemptAt = retryAt;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.hcproj.healthcareprojectbackend.global.mail.outbox;
+
+import com.hcproj.healthcareprojectbackend.global.config.properties.MailOutboxProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * outbox 항목의 선점/결과 기록을 담당하는 짧은 쓰기 트랜잭션 모음.
+ *
+ * <p>SMTP 발송은 이 트랜잭션들 사이(트랜잭션 밖)에서 수행되므로
+ * 발송 중에는 DB 커넥션/row lock을 점유하지 않는다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class EmailOutboxManager {
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final MailOutboxProperties props;
+
+    /** 발송을 위해 선점된 메일 */
+    public record Claimed(Long id, int attempts, String recipient, String subject, String textBody, String htmlBody) {}
+
+    /**
+     * 발송할 메일을 최대 batchSize개 선점한다.
+     */
+    @Transactional
+    public List<Claimed> claimDue(int batchSize) {
+        Instant now = Instant.now();
+        Instant leaseUntil = now.plusSeconds(props.getLeaseSeconds());
+
+        return emailOutboxRepository.findDueForUpdate(EmailOutboxStatus.PENDING, now, PageRequest.of(0, batchSize))
+                .stream()
+                .map(o -> {
+                    o.claim(leaseUntil);
+                    return new Claimed(o.getEmailOutboxId(), o.getAttempts(), o.getRecipient(),
+                            o.getSubject(), o.getTextBody(), o.getHtmlBody());
+                })
+                .toList();
+    }
+
+    /**
+     * 발송 성공 항목을 삭제한다.
+     */
+    @Transactional
+    public void markSent(Collection<Long> ids) {
+        if (ids.isEmpty()) return;
+        emailOutboxRepository.deleteAllByIdInBatch(ids);
+    }
+
+    /**
+     * 발송 실패를 기록하고 다음 재시도 시각을 정한다.
+     *
+     * @param failures 선점 항목 → 오류 메시지
+     */
+    @Transactional
+    public void markFailed(Map<Claimed, String> failures) {
+        if (failures.isEmpty()) return;
+        Instant now = Instant.now();
+
+        failures.forEach((claimed, error) -> emailOutboxRepository.findById(claimed.id()).ifPresent(o -> {
+            Instant retryAt = claimed.attempts() >= props.getMaxAttempts()
+                    ? null
+                    : now.plusSeconds(backoffSeconds(claimed.attempts()));
+            o.fail(error, retryAt);
+        }));
+    }
+
+    /** PENDING 항목 수(큐 깊이) */
+    @Transactional(readOnly = true)
+    public long pendingCount() {
+        return emailOutboxRepository.countByStatus(EmailOutboxStatus.PENDING);
+    }
+
+    private long backoffSeconds(int attempts) {
+        long base = Math.max(1, props.getBackoffBaseSeconds());
+        int shift = Math.min(20, Math.max(0, attempts - 1));
+        return Math.min(props.getBackoffMaxSeconds(), base << shift);
+    }
+}
@@ -0,0 +1,40 @@
+package com.hcproj.healthcareprojectbackend.global.mail.outbox;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * {@link EmailOutboxEntity} 영속성 접근 인터페이스.
+ */
+public interface EmailOutboxRepository extends JpaRepository<EmailOutboxEntity, Long> {
+
+    /**
+     * 발송 시각이 된 PENDING 항목을 잠그고 가져온다.
+     *
+     * <p>lock timeout -2는 Hibernate에서 SKIP LOCKED로 번역된다(지원하는 DB에 한함).
+     * 여러 노드의 dispatcher가 같은 행을 동시에 가져가지 않는다.</p>
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+            SELECT o FROM EmailOutboxEntity o
+            WHERE o.status = :status AND o.nextAttemptAt <= :now
+            ORDER BY o.nextAttemptAt ASC
+            """)
+    List<EmailOutboxEntity> findDueForUpdate(
+            @Param("status") EmailOutboxStatus status,
+            @Param("now") Instant now,
+            Pageable pageable
+    );
+
+    long countByStatus(EmailOutboxStatus status);
+}
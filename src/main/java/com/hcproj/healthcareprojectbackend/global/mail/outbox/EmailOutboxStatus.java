@@ -0,0 +1,13 @@
+package com.hcproj.healthcareprojectbackend.global.mail.outbox;
+
+/**
+ * 이메일 outbox 항목 상태.
+ *
+ * <p>발송에 성공한 항목은 행 자체를 삭제하므로 별도 상태를 두지 않는다.</p>
+ */
+public enum EmailOutboxStatus {
+    /** 발송 대기(재시도 대기 포함) */
+    PENDING,
+    /** 최대 재시도 횟수를 넘겨 발송을 포기함 */
+    FAILED
+}
@@ -0,0 +1,80 @@
+package com.hcproj.healthcareprojectbackend.global.mail.template;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code {{name}}} 치환자를 미리 분해해 둔 템플릿.
+ *
+ * <p>
+ * 본문은 literal/placeholder 세그먼트 목록으로 보관하고,
+ * 렌더링 시 예상 길이로 크기를 잡은 {@link StringBuilder} 하나에 이어 붙인다.
+ * 없는 변수는 원문({@code {{name}}}) 그대로 남긴다(기존 String.replace 동작과 동일).
+ * </p>
+ */
+final class CompiledTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    /** literal이면 text, placeholder면 변수명 */
+    private record Segment(String value, boolean placeholder) {}
+
+    private final List<Segment> segments;
+    private final int literalLength;
+
+    private CompiledTemplate(List<Segment> segments, int literalLength) {
+        this.segments = segments;
+        this.literalLength = literalLength;
+    }
+
+    static CompiledTemplate compile(String source) {
+        List<Segment> segments = new ArrayList<>();
+        int literalLength = 0;
+        int pos = 0;
+
+        while (pos < source.length()) {
+            int open = source.indexOf(OPEN, pos);
+            int close = open < 0 ? -1 : source.indexOf(CLOSE, open + OPEN.length());
+            if (open < 0 || close < 0) break;
+
+            if (open > pos) {
+                segments.add(new Segment(source.substring(pos, open), false));
+                literalLength += open - pos;
+            }
+            segments.add(new Segment(source.substring(open + OPEN.length(), close), true));
+            pos = close + CLOSE.length();
+        }
+        if (pos < source.length()) {
+            segments.add(new Segment(source.substring(pos), false));
+            literalLength += source.length() - pos;
+        }
+        return new CompiledTemplate(List.copyOf(segments), literalLength);
+    }
+
+    String render(Map<String, String> variables) {
+        int size = literalLength;
+        for (Segment s : segments) {
+            if (s.placeholder()) {
+                String v = variables.get(s.value());
+                size += v != null ? v.length() : s.value().length() + OPEN.length() + CLOSE.length();
+            }
+        }
+
+        StringBuilder sb = new StringBuilder(size);
+        for (Segment s : segments) {
+            if (!s.placeholder()) {
+                sb.append(s.value());
+                continue;
+            }
+            String v = variables.get(s.value());
+            if (v != null) {
+                sb.append(v);
+            } else {
+                sb.append(OPEN).append(s.value()).append(CLOSE);
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -1,25 +1,83 @@
 package com.hcproj.healthcareprojectbackend.global.mail.template;
 
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * 메일 HTML 템플릿 렌더러.
+ *
+ * <p>
+ * <b>동작</b>
+ * <ul>
+ *   <li>기동 시 {@code classpath:mail/*.html}을 읽어 {@link CompiledTemplate}으로 컴파일해 둔다.</li>
+ *   <li>텍스트 fallback도 템플릿 단위로 한 번만 변환해 같은 방식으로 컴파일한다.</li>
+ *   <li>발송 시에는 classpath I/O나 정규식 없이 세그먼트만 이어 붙인다.</li>
+ * </ul>
+ *
+ * <p>
+ * 미리 로드되지 않은 경로는 첫 호출 때 컴파일해 캐시한다.
+ */
+@Slf4j
 @Component
 public class EmailTemplateLoader {
-    public String render(String classpathLocation, Map<String, String> variables) {
+
+    private static final String PRELOAD_PATTERN = "classpath:mail/*.html";
+
+    private record Compiled(CompiledTemplate html, CompiledTemplate text) {}
+
+    private final Map<String, Compiled> templates = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void preload() {
         try {
-            var resource = new ClassPathResource(classpathLocation);
-            String html = resource.getContentAsString(StandardCharsets.UTF_8);
+            Resource[] resources = new PathMatchingResourcePatternResolver().getResources(PRELOAD_PATTERN);
+            for (Resource r : resources) {
+                String location = "mail/" + r.getFilename();
+                templates.put(location, compile(r));
+            }
+            log.info("Email templates compiled: {}", templates.keySet());
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to load email templates: " + PRELOAD_PATTERN, e);
+        }
+    }
 
-            for (var e : variables.entrySet()) {
-                html = html.replace("{{" + e.getKey() + "}}", e.getValue());
+    /**
+     * HTML 본문만 렌더링한다.
+     */
+    public String render(String classpathLocation, Map<String, String> variables) {
+        return get(classpathLocation).html().render(variables);
+    }
+
+    /**
+     * HTML 본문과 텍스트 fallback을 함께 렌더링한다.
+     */
+    public RenderedEmail renderEmail(String classpathLocation, Map<String, String> variables) {
+        Compiled c = get(classpathLocation);
+        return new RenderedEmail(c.html().render(variables), c.text().render(variables));
+    }
+
+    private Compiled get(String classpathLocation) {
+        return templates.computeIfAbsent(classpathLocation, loc -> {
+            try {
+                return compile(new ClassPathResource(loc));
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to render email template: " + loc, e);
             }
+        });
+    }
 
-            return html;
-        } catch (Exception e) {
-            throw new IllegalStateException("Failed to render email template: " + classpathLocation, e);
-        }
+    private static Compiled compile(Resource resource) throws IOException {
+        String html = resource.getContentAsString(StandardCharsets.UTF_8);
+        // 치환자({{name}})에는 태그가 없으므로 fallback 변환 후에도 그대로 남는다.
+        return new Compiled(CompiledTemplate.compile(html), CompiledTemplate.compile(HtmlTextFallback.of(html)));
     }
 }
@@ -0,0 +1,38 @@
+package com.hcproj.healthcareprojectbackend.global.mail.template;
+
+import java.util.regex.Pattern;
+
+/**
+ * HTML 메일 본문에서 텍스트 fallback을 뽑는 유틸리티.
+ *
+ * <p>
+ * 완벽할 필요는 없고 "링크/코드"가 포함되면 충분하다.
+ * 템플릿은 {@link EmailTemplateLoader}가 컴파일할 때 한 번만 변환하므로,
+ * 발송마다 실행되는 경로는 템플릿을 거치지 않은 HTML뿐이다.
+ * </p>
+ */
+public final class HtmlTextFallback {
+
+    private static final Pattern STYLE = Pattern.compile("(?is)<style.*?>.*?</style>");
+    private static final Pattern SCRIPT = Pattern.compile("(?is)<script.*?>.*?</script>");
+    private static final Pattern BR = Pattern.compile("(?is)<br\\s*/?>");
+    private static final Pattern P_END = Pattern.compile("(?is)</p>");
+    private static final Pattern TAG = Pattern.compile("(?is)<[^>]+>");
+
+    private HtmlTextFallback() {}
+
+    public static String of(String html) {
+        if (html == null) return "";
+        String text = STYLE.matcher(html).replaceAll("");
+        text = SCRIPT.matcher(text).replaceAll("");
+        text = BR.matcher(text).replaceAll("\n");
+        text = P_END.matcher(text).replaceAll("\n\n");
+        text = TAG.matcher(text).replaceAll("");
+        return text
+                .replace("&nbsp;", " ")
+                .replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&amp;", "&")
+                .trim();
+    }
+}
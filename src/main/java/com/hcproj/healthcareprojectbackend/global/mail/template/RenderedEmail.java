@@ -0,0 +1,9 @@
+package com.hcproj.healthcareprojectbackend.global.mail.template;
+
+/**
+ * 렌더링된 메일 본문.
+ *
+ * @param html HTML 본문
+ * @param text 텍스트 fallback 본문
+ */
+public record RenderedEmail(String html, String text) {}
@@ -0,0 +1,51 @@
+package com.hcproj.healthcareprojectbackend.global.ratelimit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Redis를 거치지 않는 노드 로컬 사전 차단기.
+ *
+ * <p>
+ * 키마다 고정 window 카운터를 메모리에 둔다. 이 노드 하나가 허용한 요청만으로 이미 한도를 넘었다면
+ * 전역 카운트는 당연히 한도를 넘으므로 Redis 호출 없이 거절한다.
+ * 분산된 정상 트래픽은 항상 Redis 검사로 넘어가므로 판정이 더 엄격해지지 않는다.
+ * </p>
+ */
+class LocalRateLimitPreFilter {
+
+    private record Window(long index, AtomicInteger count) {}
+
+    private final int maxKeys;
+    private final ConcurrentHashMap<String, Window> windows = new ConcurrentHashMap<>();
+
+    LocalRateLimitPreFilter(int maxKeys) {
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * 이 노드에서 이미 한도를 넘었는지 확인한다(카운트는 올리지 않는다).
+     *
+     * @return 이 노드에서만 한도를 넘었으면 재시도까지 남은 ms, 아니면 0
+     */
+    long check(String key, int limit, long windowMillis, long nowMillis) {
+        long index = nowMillis / windowMillis;
+        Window w = windows.get(key);
+        if (w != null && w.index() == index && w.count().get() >= limit) {
+            return Math.max(1, (index + 1) * windowMillis - nowMillis);
+        }
+        return 0;
+    }
+
+    /**
+     * 허용된 요청 1건을 로컬에 기록한다.
+     */
+    void record(String key, long windowMillis, long nowMillis) {
+        long index = nowMillis / windowMillis;
+        if (windows.size() >= maxKeys) windows.clear();
+
+        windows.compute(key, (k, old) ->
+                old != null && old.index() == index ? old : new Window(index, new AtomicInteger()))
+                .count().incrementAndGet();
+    }
+}
@@ -0,0 +1,152 @@
+package com.hcproj.healthcareprojectbackend.global.ratelimit;
+
+import com.hcproj.healthcareprojectbackend.global.config.properties.RateLimitProperties;
+import com.hcproj.healthcareprojectbackend.global.exception.BusinessException;
+import com.hcproj.healthcareprojectbackend.global.exception.ErrorCode;
+import com.hcproj.healthcareprojectbackend.global.store.ratelimit.SlidingWindowRateLimitStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link RateLimited}가 붙은 핸들러에 rate limit을 적용하는 인터셉터.
+ *
+ * <p>
+ * <b>처리 순서</b>
+ * <ol>
+ *   <li>노드 로컬 사전 차단({@link LocalRateLimitPreFilter}): 이 노드만으로 한도를 넘으면 Redis 없이 거절</li>
+ *   <li>Redis sliding window({@link SlidingWindowRateLimitStore#hitAll}): 모든 키를 Lua 1회로 검사하고,
+ *       전부 허용할 때만 함께 증가. 한 키가 거절하면 다른 키의 카운트도 소모하지 않는다.</li>
+ * </ol>
+ *
+ * <p>
+ * 거절 시 {@code Retry-After}(초)를 설정하고 {@link ErrorCode#RATE_LIMITED}를 던진다.
+ * Redis 장애 시에는 요청을 막지 않는다(fail-open). 로컬 사전 차단은 계속 동작한다.
+ * </p>
+ *
+ * <p>
+ * JwtAuthenticationFilter 이후에 실행되므로 USER 키는 SecurityContext의 uid를 사용한다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private final RateLimitProperties props;
+    private final SlidingWindowRateLimitStore store;
+    private final LocalRateLimitPreFilter localPreFilter;
+    private final Counter rejectedLocal;
+    private final Counter rejectedRedis;
+    private final Counter redisErrors;
+
+    public RateLimitInterceptor(RateLimitProperties props, SlidingWindowRateLimitStore store, MeterRegistry meterRegistry) {
+        this.props = props;
+        this.store = store;
+        this.localPreFilter = new LocalRateLimitPreFilter(props.getLocalMaxKeys());
+        this.rejectedLocal = meterRegistry.counter("http.rate_limit.rejected", "source", "local");
+        this.rejectedRedis = meterRegistry.counter("http.rate_limit.rejected", "source", "redis");
+        this.redisErrors = meterRegistry.counter("http.rate_limit.redis_errors");
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!props.isEnabled() || !(handler instanceof HandlerMethod hm)) return true;
+
+        RateLimited rl = hm.getMethodAnnotation(RateLimited.class);
+        if (rl == null) return true;
+
+        List<SlidingWindowRateLimitStore.Limit> limits = resolveLimits(rl, request);
+        if (limits.isEmpty()) return true;
+
+        // 1) 로컬 사전 차단: 모든 키를 먼저 확인(카운트 증가 없음)
+        long now = System.currentTimeMillis();
+        long retryAfterMillis = 0;
+        for (var limit : limits) {
+            retryAfterMillis = Math.max(retryAfterMillis,
+                    localPreFilter.check(limit.key(), limit.limit(), limit.windowMillis(), now));
+        }
+        if (retryAfterMillis > 0) {
+            rejectedLocal.increment();
+            reject(response, retryAfterMillis);
+        }
+
+        // 2) Redis: 모든 키를 한 스크립트에서 검사하고, 전부 허용할 때만 함께 증가
+        try {
+            retryAfterMillis = store.hitAll(limits);
+        } catch (DataAccessException e) {
+            redisErrors.increment();
+            log.warn("Rate limit check skipped (redis unavailable). keys={}", limits, e);
+            retryAfterMillis = 0;
+        }
+        if (retryAfterMillis > 0) {
+            rejectedRedis.increment();
+            reject(response, retryAfterMillis);
+        }
+
+        for (var limit : limits) {
+            localPreFilter.record(limit.key(), limit.windowMillis(), now);
+        }
+        return true;
+    }
+
+    /**
+     * 어노테이션의 키 단위마다 집계 키와 한도를 정한다.
+     *
+     * <p>IP 키는 {@link RateLimited#ipPolicy()}가 있으면 그 정책을 쓴다.
+     * 비로그인이라 USER 키가 IP로 대체되는데 IP 키도 함께 있으면 USER 키는 건너뛴다(같은 요청자를 두 번 세지 않음).</p>
+     */
+    private List<SlidingWindowRateLimitStore.Limit> resolveLimits(RateLimited rl, HttpServletRequest request) {
+        List<RateLimitKey> types = List.of(rl.keys());
+        List<SlidingWindowRateLimitStore.Limit> limits = new ArrayList<>(types.size());
+        for (RateLimitKey type : types) {
+            String suffix = resolveKey(type, request);
+            if (type == RateLimitKey.USER && suffix.startsWith("ip:") && types.contains(RateLimitKey.IP)) continue;
+
+            String policyName = type == RateLimitKey.IP && !rl.ipPolicy().isEmpty() ? rl.ipPolicy() : rl.policy();
+            RateLimitProperties.Policy policy = props.policy(policyName);
+            if (policy.getLimit() <= 0 || policy.getWindowSeconds() <= 0) continue;
+
+            limits.add(new SlidingWindowRateLimitStore.Limit(
+                    props.getPrefix() + policyName + ":" + suffix,
+                    policy.getLimit(),
+                    policy.getWindowSeconds() * 1000));
+        }
+        return limits;
+    }
+
+    /**
+     * 집계 키 suffix: {@code {type}:{value}}.
+     * USER는 비로그인 요청이면 IP로 대체한다.
+     *
+     * <p>IP는 {@code server.forward-headers-strategy=native}로 신뢰 프록시의
+     * X-Forwarded-For가 반영된 {@link HttpServletRequest#getRemoteAddr()}를 쓴다.
+     * 헤더를 직접 읽으면 클라이언트가 값을 바꿔 한도를 우회할 수 있다.</p>
+     */
+    private static String resolveKey(RateLimitKey type, HttpServletRequest request) {
+        if (type == RateLimitKey.USER) {
+            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+            if (auth != null && auth.getDetails() instanceof Number uid) {
+                return "user:" + uid.longValue();
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private static void reject(HttpServletResponse response, long retryAfterMillis) {
+        long seconds = Math.max(1, (retryAfterMillis + 999) / 1000);
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(seconds));
+        throw new BusinessException(ErrorCode.RATE_LIMITED);
+    }
+}
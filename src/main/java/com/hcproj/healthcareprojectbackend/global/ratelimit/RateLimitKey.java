@@ -0,0 +1,11 @@
+package com.hcproj.healthcareprojectbackend.global.ratelimit;
+
+/**
+ * rate limit 집계 단위.
+ */
+public enum RateLimitKey {
+    /** 클라이언트 IP (인증 전 API에 사용) */
+    IP,
+    /** 인증된 사용자 ID. 비로그인 요청이면 IP로 대체된다. */
+    USER
+}
@@ -0,0 +1,49 @@
+package com.hcproj.healthcareprojectbackend.global.ratelimit;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 메서드에 sliding window rate limit을 적용하는 어노테이션.
+ *
+ * <p>
+ * {@link RateLimitInterceptor}가 핸들러 실행 전에 검사하며,
+ * 한도를 넘으면 {@code Retry-After} 헤더와 함께 429(COMMON-429)를 반환한다.
+ * </p>
+ *
+ * <p>
+ * {@link #keys()}에 여러 단위를 주면 각각 따로 집계하고, 하나라도 넘으면 거절한다.
+ * 이때 어느 키의 카운트도 올리지 않는다(모든 키를 먼저 검사한 뒤 함께 증가).
+ * 집계 키는 {@code {policy}:{key type}:{value}}이므로 같은 정책을 쓰는 라우트는 한도를 공유한다.
+ * </p>
+ *
+ * <p>
+ * IP 하나 뒤에 여러 사용자가 있을 수 있으므로(NAT, 사내망) USER와 IP를 함께 쓰는 라우트는
+ * {@link #ipPolicy()}로 더 느슨한 IP 전용 정책을 지정한다.
+ * </p>
+ *
+ * <pre>{@code
+ * @RateLimited(policy = "login", keys = RateLimitKey.IP)
+ * @PostMapping("/login")
+ * public ApiResponse<TokenResponseDTO> login(...) { ... }
+ *
+ * @RateLimited(policy = "post-write", ipPolicy = "post-write-ip", keys = {RateLimitKey.USER, RateLimitKey.IP})
+ * @PostMapping
+ * public ApiResponse<Void> createPost(...) { ... }
+ * }</pre>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimited {
+
+    /** {@code app.rate-limit.policies.{policy}} 정책 이름 */
+    String policy();
+
+    /** IP 키에 적용할 정책 이름. 비우면 {@link #policy()}를 쓴다. */
+    String ipPolicy() default "";
+
+    /** 집계 단위 */
+    RateLimitKey[] keys() default {RateLimitKey.USER};
+}
@@ -2,6 +2,7 @@ package com.hcproj.healthcareprojectbackend.global.security.jwt;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hcproj.healthcareprojectbackend.global.exception.BusinessException;
+import com.hcproj.healthcareprojectbackend.global.exception.ErrorCode;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -24,7 +25,8 @@ import java.io.IOException;
  * <ol>
  *   <li>Authorization 헤더에서 Bearer 토큰 추출</li>
  *   <li>토큰이 있으면 validate()</li>
- *   <li>getAuthentication()으로 Authentication 생성</li>
+ *   <li>parseAccessToken()으로 Authentication 생성</li>
+ *   <li>토큰 version이 현재 유저 버전({@link TokenVersionStore} near-cache)과 다르면 거절</li>
  *   <li>SecurityContext에 저장</li>
  * </ol>
  *
@@ -39,10 +41,12 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenVersionStore tokenVersionStore;
     private final ObjectMapper objectMapper;
 
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, ObjectMapper objectMapper) {
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, TokenVersionStore tokenVersionStore, ObjectMapper objectMapper) {
         this.jwtTokenProvider = jwtTokenProvider;
+        this.tokenVersionStore = tokenVersionStore;
         this.objectMapper = objectMapper;
     }
 
@@ -73,8 +77,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
             if (token != null) {
                 // validate() 제거: getAuthentication()이 검증+파싱+예외매핑까지 담당
-                var auth = jwtTokenProvider.getAuthentication(token);
-                SecurityContextHolder.getContext().setAuthentication(auth);
+                var access = jwtTokenProvider.parseAccessToken(token);
+
+                // 탈퇴/전체 로그아웃으로 버전이 올라간 뒤의 토큰 거절 (near-cache hit면 Redis I/O 없음)
+                // version claim이 없는 이전 발급 토큰은 만료까지 허용한다.
+                if (access.version() != null) {
+                    Integer current = tokenVersionStore.currentVersion(access.userId());
+                    if (current != null && !current.equals(access.version())) {
+                        throw new BusinessException(ErrorCode.INVALID_TOKEN);
+                    }
+                }
+
+                SecurityContextHolder.getContext().setAuthentication(access.authentication());
             }
 
             filterChain.doFilter(request, response);
@@ -6,6 +6,7 @@ import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 import javax.crypto.SecretKey;
@@ -13,6 +14,7 @@ import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * JWT 생성/검증/Authentication 변환을 담당하는 Provider.
@@ -24,6 +26,7 @@ import java.util.List;
  *   <li>role: USER/TRAINER/ADMIN 등</li>
  *   <li>iat/exp: 발급/만료 시각</li>
  *   <li>jti: (Refresh Token에만) 토큰 고유 식별자</li>
+ *   <li>version: 유저 토큰 버전({@link TokenVersionStore}). 전체 무효화 검사에 사용</li>
  * </ul>
  *
  * <p><b>설계 의도</b></p>
@@ -37,6 +40,14 @@ import java.util.List;
  *   <li>만료: {@link ErrorCode#EXPIRED_TOKEN}</li>
  *   <li>위변조/형식 오류: {@link ErrorCode#INVALID_TOKEN}</li>
  * </ul>
+ *
+ * <p><b>요청당 비용</b></p>
+ * <ul>
+ *   <li>{@link JwtParser}는 thread-safe하므로 생성자에서 한 번만 만든다.</li>
+ *   <li>검증된 Access Token은 {@link VerifiedTokenCache}에 exp까지 보관해,
+ *       같은 토큰의 반복 요청은 HMAC 재검증/JSON 파싱 없이 digest 조회로 끝낸다.</li>
+ *   <li>role별 authority 리스트는 불변 객체로 재사용한다.</li>
+ * </ul>
  */
 public class JwtTokenProvider {
 
@@ -44,6 +55,15 @@ public class JwtTokenProvider {
     private final SecretKey key;
     /** JWT 설정값(secret/만료시간) */
     private final JwtProperties props;
+    /** 서명 검증 parser (thread-safe, 재사용) */
+    private final JwtParser parser;
+    /** 검증된 Access Token 캐시 */
+    private final VerifiedTokenCache verifiedTokens = new VerifiedTokenCache(MAX_CACHED_TOKENS);
+    /** "ROLE_{role}" → 불변 authority 리스트 */
+    private final ConcurrentHashMap<String, List<GrantedAuthority>> authoritiesByRole = new ConcurrentHashMap<>();
+
+    /** 캐시에 보관할 최대 토큰 수 */
+    private static final int MAX_CACHED_TOKENS = 10_000;
 
     /**
      * @param props app.jwt.* 설정값
@@ -58,15 +78,17 @@ public class JwtTokenProvider {
             throw new IllegalStateException("JWT secret must be at least 32 characters.");
         }
         this.key = Keys.hmacShaKeyFor(props.secret().getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(key).build();
     }
 
     /**
      * Access Token 발급.
      *
      * <p>Access Token은 Redis 저장/블랙리스트 대상이 아니므로 jti를 넣지 않는다.</p>
+     * <p>version은 탈퇴/전체 로그아웃 이후 남은 Access Token을 필터에서 거절하는 데 쓰인다.</p>
      */
-    public String createAccessToken(Long userId, String handle, String role) {
-        return createToken(userId, handle, role, props.accessTokenValiditySeconds(), null, null);
+    public String createAccessToken(Long userId, String handle, String role, Integer version) {
+        return createToken(userId, handle, role, props.accessTokenValiditySeconds(), null, version);
     }
 
     /**
@@ -117,8 +139,7 @@ public class JwtTokenProvider {
      * <p>Refresh Token의 uid/jti를 꺼내는 데 주로 사용.</p>
      */
     public Claims parseClaims(String token) {
-        return Jwts.parser().verifyWith(key).build()
-                .parseSignedClaims(token).getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 
     /**
@@ -130,7 +151,7 @@ public class JwtTokenProvider {
     public boolean validate(String token) {
         try {
             // 서명 검증 + 만료(exp) 검증이 동시에 수행된다.
-            Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
+            parser.parseSignedClaims(token);
             return true;
         } catch (ExpiredJwtException e) {
             // 만료된 토큰: 401 AUTH-004
@@ -151,29 +172,61 @@ public class JwtTokenProvider {
      * 컨트롤러/서비스에서 Authentication에서 userId를 꺼내 쓰기 편하다.</p>
      */
     public Authentication getAuthentication(String token) {
+        return parseAccessToken(token).authentication();
+    }
+
+    /**
+     * Access Token을 검증하고 Authentication과 함께 uid/version을 반환한다.
+     *
+     * <p>{@link JwtAuthenticationFilter}가 version을 현재 유저 버전과 비교하는 데 사용한다.</p>
+     */
+    public AccessToken parseAccessToken(String token) {
+        long now = System.currentTimeMillis();
+        String digest = VerifiedTokenCache.digest(token);
+
+        VerifiedTokenCache.Verified verified = verifiedTokens.get(digest, now);
+        if (verified == null) {
+            verified = verify(token);
+            verifiedTokens.put(digest, verified, now);
+        }
+
+        // Authentication은 가변 객체(setDetails 등)라 요청마다 새로 만들고, authority 리스트만 공유한다.
+        var auth = new UsernamePasswordAuthenticationToken(verified.handle(), null, authoritiesOf(verified.role()));
+
+        // @CurrentUserId가 details에서 Long을 꺼낼 수 있게 고정
+        auth.setDetails(verified.uid());
+
+        return new AccessToken(auth, verified.uid(), verified.version());
+    }
+
+    /**
+     * 검증된 Access Token.
+     *
+     * @param version version claim. 이 claim이 생기기 전에 발급된 토큰이면 null
+     */
+    public record AccessToken(Authentication authentication, Long userId, Integer version) {}
+
+    /**
+     * 서명/만료를 검증하고 필수 claim을 꺼낸다(캐시 miss 경로).
+     */
+    private VerifiedTokenCache.Verified verify(String token) {
         try {
-            Claims claims = Jwts.parser().verifyWith(key).build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            Claims claims = parser.parseSignedClaims(token).getPayload();
 
             String handle = claims.getSubject();
             String role = claims.get("role", String.class);
             Long uid = claims.get("uid", Long.class);
+            Date exp = claims.getExpiration();
+            Integer version = claims.get("version", Integer.class);
 
-            if (handle == null || handle.isBlank() || role == null || role.isBlank() || uid == null) {
+            if (handle == null || handle.isBlank() || role == null || role.isBlank() || uid == null || exp == null) {
                 throw new BusinessException(ErrorCode.INVALID_TOKEN);
             }
 
             // 방어(혹시 role 값에 ROLE_가 들어와도 정상화)
             if (role.startsWith("ROLE_")) role = role.substring(5);
 
-            var authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role));
-            var auth = new UsernamePasswordAuthenticationToken(handle, null, authorities);
-
-            // @CurrentUserId가 details에서 Long을 꺼낼 수 있게 고정
-            auth.setDetails(uid);
-
-            return auth;
+            return new VerifiedTokenCache.Verified(handle, uid, role, version, exp.getTime());
 
         } catch (ExpiredJwtException e) {
             throw new BusinessException(ErrorCode.EXPIRED_TOKEN);
@@ -182,4 +235,9 @@ public class JwtTokenProvider {
         }
     }
 
+    private List<GrantedAuthority> authoritiesOf(String role) {
+        return authoritiesByRole.computeIfAbsent(role,
+                r -> List.of(new SimpleGrantedAuthority("ROLE_" + r)));
+    }
+
 }
@@ -2,9 +2,11 @@ package com.hcproj.healthcareprojectbackend.global.security.jwt;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.List;
 
 /**
  * Refresh Token을 Redis에 whitelist 방식으로 저장/관리하는 컴포넌트.
@@ -18,7 +20,8 @@ import java.time.Duration;
  *
  * <p>Redis Key 구조:</p>
  * <pre>
- *   rt:{userId}:{jti}
+ *   rt:{userId}:{jti}    -> "1" (유효한 refresh)
+ *   rtu:{userId}:{jti}   -> "1" (회전으로 이미 소비된 refresh, 재사용 탐지용) / "2" (재사용 처리 완료)
  * </pre>
  *
  * <p>TTL은 Refresh Token의 만료 시간과 동일하게 설정한다.</p>
@@ -27,8 +30,61 @@ import java.time.Duration;
 @RequiredArgsConstructor
 public class RefreshTokenStore {
 
+    /**
+     * 회전 스크립트.
+     *
+     * <p>KEYS: [1] rt:old, [2] rt:new, [3] rtv, [4] rtu:old / ARGV: [1] expectedVersion, [2] ttlSeconds, [3] 버전 채널, [4] userId</p>
+     * <p>반환: 1=회전 성공, 0=없음, -1=버전 불일치, -2=재사용(전체 무효화 수행)</p>
+     */
+    private static final DefaultRedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+              local used = redis.call('GET', KEYS[4])
+              if used then
+                -- 마커당 한 번만 버전을 올린다('1' → '2').
+                if used == '1' then
+                  redis.call('SET', KEYS[4], '2', 'KEEPTTL')
+                  local bumped = redis.call('INCR', KEYS[3])
+                  redis.call('PUBLISH', ARGV[3], ARGV[4] .. ':' .. bumped)
+                end
+                return -2
+              end
+              return 0
+            end
+
+            local ver = redis.call('GET', KEYS[3])
+            if not ver then
+              ver = '1'
+              redis.call('SET', KEYS[3], ver)
+            end
+            if tonumber(ver) ~= tonumber(ARGV[1]) then
+              return -1
+            end
+
+            local remaining = redis.call('PTTL', KEYS[1])
+            redis.call('DEL', KEYS[1])
+            if remaining > 0 then
+              redis.call('SET', KEYS[4], '1', 'PX', remaining)
+            end
+            redis.call('SET', KEYS[2], '1', 'EX', tonumber(ARGV[2]))
+            return 1
+            """, Long.class);
+
     private final StringRedisTemplate redisTemplate;
 
+    /**
+     * {@link #rotate} 결과.
+     */
+    public enum RotateResult {
+        /** 기존 jti를 소비하고 새 jti를 저장했다. */
+        ROTATED,
+        /** 기존 jti가 없다(로그아웃/만료/폐기). */
+        NOT_FOUND,
+        /** 토큰 버전이 현재 버전과 다르다(전체 무효화 이후의 토큰). */
+        VERSION_MISMATCH,
+        /** 이미 회전에 사용된 jti가 다시 제시됐다. 유저 버전을 올려 모든 refresh를 무효화했다. */
+        REUSED
+    }
+
     /**
      * Redis에 저장되는 Refresh Token key 생성 규칙.
      *
@@ -39,6 +95,10 @@ public class RefreshTokenStore {
         return "rt:%d:%s".formatted(userId, jti);
     }
 
+    private static String usedKey(long userId, String jti) {
+        return "rtu:%d:%s".formatted(userId, jti);
+    }
+
     /**
      * Refresh Token을 whitelist에 저장한다.
      *
@@ -69,4 +129,43 @@ public class RefreshTokenStore {
     public void delete(long userId, String jti) {
         redisTemplate.delete(key(userId, jti));
     }
+
+    /**
+     * Refresh Token을 원자적으로 회전한다(Redis 1 round trip).
+     *
+     * <p>존재 확인, 버전 확인, 기존 jti 삭제, 새 jti 저장을 Lua 스크립트 하나로 수행하므로
+     * 같은 refresh로 동시에 재발급을 요청해도 정확히 하나만 성공한다.</p>
+     *
+     * <p>소비된 jti는 남은 TTL 동안 {@code rtu:} 마커로 기억한다.
+     * 이후 같은 jti가 다시 오면 탈취된 토큰의 재사용으로 보고
+     * 유저 토큰 버전을 올리고 {@link TokenVersionStore#CHANNEL}로 발행해 해당 유저의 모든 토큰을 무효화한다.</p>
+     *
+     * <p>같은 refresh로 동시에 N개 요청이 오면 1개가 {@link RotateResult#ROTATED},
+     * 나머지는 모두 {@link RotateResult#REUSED}가 되고 버전은 한 번만 오른다.
+     * 즉 두 탭이 같은 refresh로 동시에 재발급하면 해당 유저는 전체 로그아웃된다.</p>
+     *
+     * @param userId          사용자 ID
+     * @param oldJti          제시된 refresh의 jti
+     * @param newJti          새로 저장할 refresh의 jti
+     * @param expectedVersion 제시된 refresh의 version claim
+     * @param ttlSeconds      새 refresh TTL(초)
+     * @return 회전 결과
+     */
+    public RotateResult rotate(long userId, String oldJti, String newJti, int expectedVersion, long ttlSeconds) {
+        Long r = redisTemplate.execute(
+                ROTATE_SCRIPT,
+                List.of(key(userId, oldJti), key(userId, newJti), TokenVersionStore.key(userId), usedKey(userId, oldJti)),
+                String.valueOf(expectedVersion),
+                String.valueOf(ttlSeconds),
+                TokenVersionStore.CHANNEL,
+                String.valueOf(userId)
+        );
+        if (r == null) return RotateResult.NOT_FOUND;
+        return switch (r.intValue()) {
+            case 1 -> RotateResult.ROTATED;
+            case -1 -> RotateResult.VERSION_MISMATCH;
+            case -2 -> RotateResult.REUSED;
+            default -> RotateResult.NOT_FOUND;
+        };
+    }
 }
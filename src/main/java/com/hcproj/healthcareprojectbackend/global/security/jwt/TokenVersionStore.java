@@ -1,27 +1,61 @@
 package com.hcproj.healthcareprojectbackend.global.security.jwt;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * 유저 단위 Refresh Token "전체 무효화"를 위한 버전 저장소.
+ * 유저 단위 토큰 "전체 무효화"를 위한 버전 저장소.
  * <p>
  * Key: rtv:{userId} -> int (문자열)
  * <p>
- * - refresh 발급 시 토큰에 ver 클레임을 넣는다.
+ * - refresh/access 발급 시 토큰에 version 클레임을 넣는다.
  * - 재발급 시 토큰 ver == 현재 ver 일치 여부를 검사한다.
- * - 탈퇴/전체 로그아웃 시 ver를 증가시키면 기존 refresh는 전부 무효화된다.
+ * - access는 요청마다 {@link JwtAuthenticationFilter}에서 같은 검사를 한다.
+ * - 탈퇴/전체 로그아웃 시 ver를 증가시키면 기존 토큰은 전부 무효화된다.
+ * <p>
+ * <b>Near-cache</b>
+ * <p>
+ * access 검사는 모든 요청의 hot path이므로 노드 메모리에 버전을 캐시한다.
+ * {@link #bump}는 Redis INCR 후 {@link #CHANNEL}로 "{userId}:{version}"을 발행하고,
+ * 각 노드는 수신 즉시 캐시를 갱신한다. 메시지 유실에 대비해 항목은 {@link #NEAR_CACHE_TTL} 후 다시 읽는다.
+ * <p>
+ * 캐시 항목은 TTL 안에서 버전이 내려가지 않는다. bump 직전에 읽은 Redis 값이 발행 메시지보다 늦게 캐시에
+ * 들어오거나 메시지 순서가 바뀌어도 더 높은 버전을 유지한다. TTL이 지난 항목은 Redis 값으로 교체한다.
  */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class TokenVersionStore {
 
+    public static final String CHANNEL = "token:version:invalidate";
+
+    /** pub/sub 유실 시 최대 지연 */
+    private static final Duration NEAR_CACHE_TTL = Duration.ofSeconds(60);
+    /** near-cache 최대 항목 수(초과 시 비움) */
+    private static final int NEAR_CACHE_MAX_SIZE = 100_000;
+
+    private record Cached(int version, long loadedAtMillis) {}
+
     private final StringRedisTemplate redisTemplate;
+    private final ConcurrentHashMap<Long, Cached> nearCache = new ConcurrentHashMap<>();
+    private final Counter hitCounter;
+    private final Counter missCounter;
 
-    private static String key(long userId) {
+    public TokenVersionStore(StringRedisTemplate redisTemplate, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.hitCounter = meterRegistry.counter("auth.token.version.near_cache", "result", "hit");
+        this.missCounter = meterRegistry.counter("auth.token.version.near_cache", "result", "miss");
+        meterRegistry.gaugeMapSize("auth.token.version.near_cache.size", Tags.empty(), nearCache);
+    }
+
+    static String key(long userId) {
         return "rtv:%d".formatted(userId);
     }
 
@@ -39,18 +73,71 @@ public class TokenVersionStore {
         return 1;
     }
 
+    /**
+     * near-cache를 거쳐 현재 버전을 조회한다(access token 검사용).
+     *
+     * <p>캐시 hit면 Redis I/O가 없다. miss면 {@link #getOrInit}으로 읽어 캐시에 넣는다.</p>
+     *
+     * @return 현재 버전. miss 상태에서 Redis 장애가 나면 null(호출 측에서 검사 생략)
+     */
+    public Integer currentVersion(long userId) {
+        long now = System.currentTimeMillis();
+        Cached cached = nearCache.get(userId);
+        if (cached != null && now - cached.loadedAtMillis() < NEAR_CACHE_TTL.toMillis()) {
+            hitCounter.increment();
+            return cached.version();
+        }
+
+        missCounter.increment();
+        try {
+            return putNear(userId, getOrInit(userId), now);
+        } catch (DataAccessException e) {
+            // 인증 hot path를 Redis 장애에 묶지 않는다. 재발급 경로는 여전히 Redis 검사를 거친다.
+            log.warn("Token version lookup failed. userId={}", userId, e);
+            return null;
+        }
+    }
+
     /**
      * 버전 증가(전부 무효화 스위치).
      * - 탈퇴/전체 로그아웃 등에 사용
+     * - 로컬 near-cache를 즉시 갱신하고 다른 노드에 발행한다.
      */
     public int bump(long userId) {
         String k = key(userId);
         Long newVal = redisTemplate.opsForValue().increment(k);
+        int version;
         if (newVal == null) {
             redisTemplate.opsForValue().set(k, "2");
-            return 2;
+            version = 2;
+        } else {
+            version = newVal.intValue();
+        }
+
+        putNear(userId, version, System.currentTimeMillis());
+        try {
+            redisTemplate.convertAndSend(CHANNEL, userId + ":" + version);
+        } catch (DataAccessException e) {
+            log.warn("Token version publish failed. userId={}", userId, e);
+        }
+        return version;
+    }
+
+    /**
+     * pub/sub 채널로 수신한 버전 변경을 near-cache에 반영한다.
+     *
+     * @param message "{userId}:{version}" 형식의 메시지
+     */
+    public void onInvalidate(String message) {
+        int idx = message.indexOf(':');
+        try {
+            long userId = Long.parseLong(message.substring(0, idx));
+            int version = Integer.parseInt(message.substring(idx + 1));
+            // 순서가 뒤바뀐 메시지로 버전이 내려가지 않게 한다.
+            putNear(userId, version, System.currentTimeMillis());
+        } catch (RuntimeException e) {
+            log.warn("Unknown token version message: {}", message);
         }
-        return newVal.intValue();
     }
 
     /**
@@ -60,4 +147,16 @@ public class TokenVersionStore {
     public void expire(long userId, Duration ttl) {
         redisTemplate.expire(key(userId), ttl);
     }
+
+    /**
+     * near-cache에 버전을 넣는다. TTL 안의 더 높은 버전이 이미 있으면 그대로 둔다.
+     *
+     * @return 반영 후 캐시에 남은 버전
+     */
+    private int putNear(long userId, int version, long now) {
+        if (nearCache.size() >= NEAR_CACHE_MAX_SIZE) nearCache.clear();
+        return nearCache.merge(userId, new Cached(version, now), (old, incoming) ->
+                old.version() > incoming.version() && now - old.loadedAtMillis() < NEAR_CACHE_TTL.toMillis()
+                        ? old : incoming).version();
+    }
 }
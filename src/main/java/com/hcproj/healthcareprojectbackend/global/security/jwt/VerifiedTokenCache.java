@@ -0,0 +1,68 @@
+package com.hcproj.healthcareprojectbackend.global.security.jwt;
+
+import org.springframework.security.crypto.codec.Hex;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서명/만료 검증을 통과한 Access Token의 파싱 결과를 메모리에 보관하는 캐시.
+ *
+ * <p><b>설계</b></p>
+ * <ul>
+ *   <li>key: 토큰 원문이 아닌 SHA-256 digest(hex). 메모리에 토큰 원문을 남기지 않는다.</li>
+ *   <li>value: handle/uid/role/version + 토큰의 exp. exp가 지나면 hit로 취급하지 않는다.</li>
+ *   <li>크기 제한: 가득 차면 만료 항목을 먼저 비우고, 그래도 가득 차면 전체를 비운다.</li>
+ * </ul>
+ *
+ * <p>
+ * 캐시는 "이미 한 번 검증된 동일 토큰"에만 적용되므로,
+ * 위변조 토큰은 digest가 달라 항상 정식 검증 경로를 탄다.
+ * </p>
+ */
+class VerifiedTokenCache {
+
+    /** 검증이 끝난 토큰의 핵심 claim */
+    record Verified(String handle, Long uid, String role, Integer version, long expiresAtMillis) {}
+
+    private final int maxSize;
+    private final ConcurrentHashMap<String, Verified> entries = new ConcurrentHashMap<>();
+
+    VerifiedTokenCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 유효한 캐시 항목을 반환한다. 없거나 만료됐으면 null.
+     */
+    Verified get(String digest, long nowMillis) {
+        Verified v = entries.get(digest);
+        if (v == null) return null;
+        if (v.expiresAtMillis() <= nowMillis) {
+            entries.remove(digest, v);
+            return null;
+        }
+        return v;
+    }
+
+    void put(String digest, Verified verified, long nowMillis) {
+        if (entries.size() >= maxSize) {
+            entries.values().removeIf(v -> v.expiresAtMillis() <= nowMillis);
+            if (entries.size() >= maxSize) entries.clear();
+        }
+        entries.put(digest, verified);
+    }
+
+    /**
+     * 토큰 원문의 SHA-256 digest(hex).
+     */
+    static String digest(String token) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return new String(Hex.encode(md.digest(token.getBytes(StandardCharsets.UTF_8))));
+        } catch (Exception e) {
+            throw new IllegalStateException("SHA-256 unavailable", e);
+        }
+    }
+}
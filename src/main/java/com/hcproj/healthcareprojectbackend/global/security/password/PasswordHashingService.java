@@ -0,0 +1,139 @@
+package com.hcproj.healthcareprojectbackend.global.security.password;
+
+import com.hcproj.healthcareprojectbackend.global.config.properties.PasswordHashingProperties;
+import com.hcproj.healthcareprojectbackend.global.exception.BusinessException;
+import com.hcproj.healthcareprojectbackend.global.exception.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해시/검증 전용 서비스.
+ *
+ * <p>
+ * <b>설계</b>
+ * <ul>
+ *   <li>BCrypt 연산은 코어 수만큼의 전용 스레드에서만 실행한다. 로그인 폭주가 나도 CPU를 전부 점유하지 않는다.</li>
+ *   <li>대기 큐는 {@link PasswordHashingProperties#getQueueCapacity()}로 제한하고,
+ *       가득 차면 {@link ErrorCode#PASSWORD_HASHING_BUSY}(429)로 즉시 거절한다.</li>
+ *   <li>기동 시 BCrypt cost를 목표 시간({@link PasswordHashingProperties#getTargetMillis()})에 맞춰 보정한다.</li>
+ *   <li>저장된 해시의 cost가 현재 cost보다 낮으면 {@link #needsRehash(String)}가 true를 반환한다.
+ *       로그인 성공 시 호출 측에서 재해시해 저장한다.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class PasswordHashingService {
+
+    private final ThreadPoolExecutor executor;
+    private final BCryptPasswordEncoder encoder;
+    private final int cost;
+
+    public PasswordHashingService(PasswordHashingProperties props, MeterRegistry meterRegistry) {
+        int threads = props.getThreads() > 0 ? props.getThreads() : Runtime.getRuntime().availableProcessors();
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, props.getQueueCapacity())),
+                r -> {
+                    Thread t = new Thread(r, "password-hash-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.cost = calibrate(props);
+        this.encoder = new BCryptPasswordEncoder(cost);
+
+        meterRegistry.gauge("auth.password.hash.queue", executor, e -> e.getQueue().size());
+        meterRegistry.gauge("auth.password.hash.active", executor, ThreadPoolExecutor::getActiveCount);
+        log.info("Password hashing ready. threads={}, queueCapacity={}, bcryptCost={}",
+                threads, props.getQueueCapacity(), cost);
+    }
+
+    /**
+     * 평문 비밀번호를 해시한다.
+     *
+     * @throws BusinessException 대기 큐 초과 시 {@link ErrorCode#PASSWORD_HASHING_BUSY}
+     */
+    public String encode(CharSequence rawPassword) {
+        return run(() -> encoder.encode(rawPassword));
+    }
+
+    /**
+     * 평문 비밀번호가 저장된 해시와 일치하는지 검증한다.
+     *
+     * @throws BusinessException 대기 큐 초과 시 {@link ErrorCode#PASSWORD_HASHING_BUSY}
+     */
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> encoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 저장된 해시가 현재 cost보다 약하면 true.
+     *
+     * <p>해시 문자열의 cost 필드만 읽으므로 전용 스레드를 거치지 않는다.</p>
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return encodedPassword != null && encoder.upgradeEncoding(encodedPassword);
+    }
+
+    /** 현재 적용 중인 BCrypt cost */
+    public int cost() {
+        return cost;
+    }
+
+    private <T> T run(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new BusinessException(ErrorCode.PASSWORD_HASHING_BUSY);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new BusinessException(ErrorCode.INTERNAL_ERROR);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw new BusinessException(ErrorCode.INTERNAL_ERROR);
+        }
+    }
+
+    /**
+     * 목표 시간을 넘지 않는 가장 큰 cost를 찾는다.
+     *
+     * <p>cost가 1 오를 때마다 시간이 약 2배가 되므로, 목표를 넘는 순간 측정을 멈춘다.
+     * 측정 오차를 줄이기 위해 최소 cost로 한 번 예열한다.</p>
+     */
+    private static int calibrate(PasswordHashingProperties props) {
+        int min = Math.max(4, props.getMinCost());
+        int max = Math.max(min, Math.min(31, props.getMaxCost()));
+
+        new BCryptPasswordEncoder(min).encode("calibration");
+
+        int chosen = min;
+        for (int c = min; c <= max; c++) {
+            long start = System.nanoTime();
+            new BCryptPasswordEncoder(c).encode("calibration");
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            if (elapsedMillis > props.getTargetMillis()) break;
+            chosen = c;
+        }
+        return chosen;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,23 @@
+package com.hcproj.healthcareprojectbackend.global.store.aijob;
+
+/**
+ * AI 비동기 작업 상태.
+ *
+ * <ul>
+ *   <li>PENDING: 제출됨(실행 대기)</li>
+ *   <li>RUNNING: AI 호출/저장 진행 중</li>
+ *   <li>DONE: 완료(결과 조회 가능)</li>
+ *   <li>FAILED: 실패(errorCode 조회 가능)</li>
+ * </ul>
+ */
+public enum AiJobStatus {
+    PENDING,
+    RUNNING,
+    DONE,
+    FAILED;
+
+    /** 더 이상 상태가 바뀌지 않는 종료 상태인지 여부 */
+    public boolean isTerminal() {
+        return this == DONE || this == FAILED;
+    }
+}
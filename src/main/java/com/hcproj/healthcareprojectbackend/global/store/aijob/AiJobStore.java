@@ -0,0 +1,183 @@
+package com.hcproj.healthcareprojectbackend.global.store.aijob;
+
+import com.hcproj.healthcareprojectbackend.global.config.properties.AiJobProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * AI 비동기 작업 상태를 Redis에 저장·조회하는 스토어.
+ *
+ * <p>
+ * <b>Redis Key 구조</b>
+ * <pre>
+ *   {prefix}{type}:{jobId}                      -> Hash(userId, status, result, errorCode)
+ *   {prefix}{type}:dedup:{userId}:{requestHash} -> jobId
+ * </pre>
+ *
+ * <p>
+ * <b>중복 제출 방지</b>
+ * <ul>
+ *   <li>같은 사용자가 같은 요청(requestHash)을 다시 제출하면 진행 중/완료된 기존 jobId를 돌려준다.</li>
+ *   <li>기존 작업이 실패했거나 dedup 키가 만료되었다면 새 작업을 만든다.</li>
+ *   <li>확인과 생성은 Lua 스크립트 한 번으로 원자적으로 처리한다.</li>
+ * </ul>
+ *
+ * <p>
+ * 상태가 Redis에 있으므로 어느 노드에서든 polling 조회가 가능하다.
+ * TTL은 {@link AiJobProperties#getTtlSeconds()}를 따른다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AiJobStore {
+
+    private static final String F_USER_ID = "userId";
+    private static final String F_STATUS = "status";
+    private static final String F_RESULT = "result";
+    private static final String F_ERROR_CODE = "errorCode";
+
+    /**
+     * KEYS[1]=dedup 키, KEYS[2]=새 job 키 / ARGV: job 키 prefix, 새 jobId, userId, TTL(초)
+     *
+     * <p>
+     * dedup 키가 가리키는 작업이 FAILED가 아니면 그 jobId를 돌려준다.
+     * 작업 hash가 없더라도 dedup 키가 살아 있으면 진행 중(PENDING)으로 보고 재사용한다.
+     * 그 외에는 dedup 키와 job hash를 함께 만들고 새 jobId를 돌려준다.
+     * 기존 job 키는 dedup 값으로 스크립트 안에서 만들므로 단일 Redis(비클러스터)를 전제로 한다.
+     * </p>
+     */
+    private static final DefaultRedisScript<String> CREATE_OR_REUSE_SCRIPT = new DefaultRedisScript<>("""
+            local existing = redis.call('GET', KEYS[1])
+            if existing then
+              local status = redis.call('HGET', ARGV[1] .. existing, 'status')
+              if status ~= 'FAILED' then
+                return existing
+              end
+            end
+
+            local ttl = tonumber(ARGV[4])
+            redis.call('SET', KEYS[1], ARGV[2], 'EX', ttl)
+            redis.call('HSET', KEYS[2], 'userId', ARGV[3], 'status', 'PENDING')
+            redis.call('EXPIRE', KEYS[2], ttl)
+            return ARGV[2]
+            """, String.class);
+
+    private final StringRedisTemplate redis;
+    private final AiJobProperties props;
+
+    private String jobKey(String type, String jobId) {
+        return props.getPrefix() + type + ":" + jobId;
+    }
+
+    private String dedupKey(String type, long userId, String requestHash) {
+        return props.getPrefix() + type + ":dedup:" + userId + ":" + requestHash;
+    }
+
+    private Duration ttl() {
+        return Duration.ofSeconds(props.getTtlSeconds());
+    }
+
+    /**
+     * 작업을 생성하거나, 같은 요청의 기존 작업을 재사용한다.
+     *
+     * <p>
+     * dedup 키 확인과 job hash 생성을 Lua 스크립트 한 번으로 처리하므로,
+     * 동시에 같은 요청이 들어와도 작업은 하나만 만들어진다.
+     * </p>
+     *
+     * @param type        작업 종류(예: workout-routine)
+     * @param userId      사용자 ID
+     * @param requestHash 요청 내용 해시(중복 판단 기준)
+     * @return 생성 여부 + jobId
+     */
+    public Submission createOrReuse(String type, long userId, String requestHash) {
+        String newJobId = UUID.randomUUID().toString();
+        String jobId = redis.execute(
+                CREATE_OR_REUSE_SCRIPT,
+                List.of(dedupKey(type, userId, requestHash), jobKey(type, newJobId)),
+                jobKey(type, ""),
+                newJobId,
+                String.valueOf(userId),
+                String.valueOf(props.getTtlSeconds())
+        );
+        if (jobId == null) {
+            throw new IllegalStateException("AI job create script returned null");
+        }
+        return new Submission(jobId, newJobId.equals(jobId));
+    }
+
+    /**
+     * 작업 상태를 조회한다.
+     *
+     * @return 없거나 만료되었으면 null
+     */
+    public AiJobState find(String type, String jobId) {
+        Map<Object, Object> m = redis.opsForHash().entries(jobKey(type, jobId));
+        if (m.isEmpty()) return null;
+        return new AiJobState(
+                jobId,
+                Long.parseLong((String) m.get(F_USER_ID)),
+                AiJobStatus.valueOf((String) m.get(F_STATUS)),
+                (String) m.get(F_RESULT),
+                (String) m.get(F_ERROR_CODE)
+        );
+    }
+
+    /** 작업을 RUNNING으로 전환한다. */
+    public void markRunning(String type, String jobId) {
+        redis.opsForHash().put(jobKey(type, jobId), F_STATUS, AiJobStatus.RUNNING.name());
+    }
+
+    /**
+     * 작업을 완료 처리하고 결과(JSON)를 저장한다.
+     *
+     * @param resultJson 직렬화된 결과
+     */
+    public void complete(String type, String jobId, String resultJson) {
+        String k = jobKey(type, jobId);
+        redis.opsForHash().putAll(k, Map.of(
+                F_STATUS, AiJobStatus.DONE.name(),
+                F_RESULT, resultJson
+        ));
+        redis.expire(k, ttl());
+    }
+
+    /**
+     * 작업을 실패 처리한다.
+     *
+     * @param errorCode 클라이언트에 노출할 ErrorCode.code
+     */
+    public void fail(String type, String jobId, String errorCode) {
+        String k = jobKey(type, jobId);
+        redis.opsForHash().putAll(k, Map.of(
+                F_STATUS, AiJobStatus.FAILED.name(),
+                F_ERROR_CODE, errorCode
+        ));
+        redis.expire(k, ttl());
+    }
+
+    /**
+     * 작업 제출 결과.
+     *
+     * @param jobId   작업 ID
+     * @param created 새로 만들어졌으면 true, 기존 작업 재사용이면 false
+     */
+    public record Submission(String jobId, boolean created) {}
+
+    /**
+     * Redis에 저장된 작업 상태 스냅샷.
+     *
+     * @param jobId      작업 ID
+     * @param userId     작업 소유자
+     * @param status     상태
+     * @param resultJson 완료 결과(JSON, DONE일 때만)
+     * @param errorCode  실패 코드(FAILED일 때만)
+     */
+    public record AiJobState(String jobId, long userId, AiJobStatus status, String resultJson, String errorCode) {}
+}
@@ -0,0 +1,75 @@
+package com.hcproj.healthcareprojectbackend.global.store.airate;
+
+import com.hcproj.healthcareprojectbackend.global.config.properties.AiGatewayProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 사용자별 AI 호출 token bucket을 Redis에 저장하는 스토어.
+ *
+ * <p>
+ * <b>Redis Key 구조</b>
+ * <pre>
+ *   {prefix}{userId} -> Hash(tokens, ts)
+ * </pre>
+ *
+ * <p>
+ * 보충/차감은 Lua 스크립트 한 번으로 원자적으로 처리하므로 여러 노드가 동시에 호출해도 안전하다.
+ * 시각은 Redis 서버 시간({@code TIME})을 사용해 노드 간 시계 차이의 영향을 받지 않는다.
+ * 버킷이 가득 찬 상태로 방치되면 TTL로 만료된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AiRateLimitStore {
+
+    private static final DefaultRedisScript<Long> TAKE_SCRIPT = new DefaultRedisScript<>("""
+            local capacity = tonumber(ARGV[1])
+            local refillPerMs = tonumber(ARGV[2])
+            local t = redis.call('TIME')
+            local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+
+            local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(state[1])
+            local ts = tonumber(state[2])
+            if tokens == nil then
+              tokens = capacity
+              ts = now
+            end
+
+            tokens = math.min(capacity, tokens + math.max(0, now - ts) * refillPerMs)
+            local allowed = 0
+            if tokens >= 1 then
+              tokens = tokens - 1
+              allowed = 1
+            end
+
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now))
+            redis.call('PEXPIRE', KEYS[1], math.ceil((capacity - tokens) / refillPerMs) + 1000)
+            return allowed
+            """, Long.class);
+
+    private final StringRedisTemplate redis;
+    private final AiGatewayProperties props;
+
+    /**
+     * 토큰 1개를 차감한다.
+     *
+     * @param userId 사용자 ID
+     * @return 차감에 성공하면 true, 버킷이 비어 있으면 false
+     */
+    public boolean tryTake(long userId) {
+        AiGatewayProperties.RateLimit rl = props.getRateLimit();
+        double refillPerMs = Math.max(1, rl.getRefillPerMinute()) / 60_000.0;
+        Long allowed = redis.execute(
+                TAKE_SCRIPT,
+                List.of(rl.getPrefix() + userId),
+                String.valueOf(Math.max(1, rl.getCapacity())),
+                String.valueOf(refillPerMs)
+        );
+        return allowed != null && allowed == 1L;
+    }
+}
@@ -0,0 +1,14 @@
+package com.hcproj.healthcareprojectbackend.global.store.catalog;
+
+/**
+ * AI 프롬프트용 허용 목록(allowlist)을 구성하는 카탈로그 종류.
+ *
+ * <ul>
+ *   <li>FOOD: 음식 카탈로그(foods)</li>
+ *   <li>EXERCISE: 운동 카탈로그(exercises)</li>
+ * </ul>
+ */
+public enum CatalogType {
+    FOOD,
+    EXERCISE
+}
@@ -0,0 +1,166 @@
+package com.hcproj.healthcareprojectbackend.global.store.catalog;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 카탈로그(음식/운동) 스냅샷 버전을 관리하는 스토어.
+ *
+ * <p>
+ * <b>Redis Key / Channel 구조</b>
+ * <pre>
+ *   catalog:ver:{type}  -> 전역 버전(INCR)
+ *   catalog:invalidate  -> pub/sub 채널, 메시지: "{type}:{version}"
+ * </pre>
+ *
+ * <p>
+ * <b>동작</b>
+ * <ul>
+ *   <li>각 노드는 카탈로그별 로컬 세대(generation)를 메모리에 들고 있고,
+ *       조회 경로에서는 {@link #RECHECK_INTERVAL}마다 한 번만 Redis 버전을 읽는다.</li>
+ *   <li>카탈로그가 변경되면 커밋 이후 로컬 세대를 올리고, Redis 버전을 INCR 한 뒤 채널로 발행한다.</li>
+ *   <li>다른 노드는 메시지를 받아 자신의 로컬 세대를 올린다. 세대가 바뀐 스냅샷은 다음 조회 시 재생성된다.</li>
+ *   <li>메시지를 놓친 노드도 주기적으로 읽은 Redis 버전이 마지막으로 본 값과 다르면 세대를 올리므로,
+ *       오래된 스냅샷은 최대 {@link #RECHECK_INTERVAL} 동안만 남는다.</li>
+ * </ul>
+ *
+ * <p>
+ * Redis 발행에 실패해도 변경을 일으킨 노드의 스냅샷은 즉시 무효화된다.
+ * Redis 조회에 실패하면 현재 세대를 그대로 쓰고 다음 주기에 다시 읽는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogVersionStore {
+
+    public static final String CHANNEL = "catalog:invalidate";
+    /** pub/sub 메시지를 놓쳤을 때를 대비해 Redis 버전을 다시 읽는 주기 */
+    static final Duration RECHECK_INTERVAL = Duration.ofSeconds(30);
+    private static final String VERSION_KEY_PREFIX = "catalog:ver:";
+    private static final long UNKNOWN = -1;
+
+    private final StringRedisTemplate redis;
+    private final Map<CatalogType, State> states = initStates();
+
+    /** 카탈로그 하나의 로컬 세대와, 마지막으로 본 Redis 버전/확인 시각 */
+    private static final class State {
+        final AtomicLong generation = new AtomicLong();
+        final AtomicLong remoteVersion = new AtomicLong(UNKNOWN);
+        final AtomicLong checkedAtMillis = new AtomicLong();
+    }
+
+    private static Map<CatalogType, State> initStates() {
+        Map<CatalogType, State> map = new EnumMap<>(CatalogType.class);
+        for (CatalogType type : CatalogType.values()) {
+            map.put(type, new State());
+        }
+        return map;
+    }
+
+    /**
+     * 현재 노드가 알고 있는 카탈로그 세대를 반환한다.
+     *
+     * <p>
+     * 마지막 확인 후 {@link #RECHECK_INTERVAL}이 지났으면 한 호출만 Redis 버전을 읽어 대조한다.
+     *
+     * @param type 카탈로그 종류
+     * @return 로컬 세대 값
+     */
+    public long generation(CatalogType type) {
+        return generation(type, System.currentTimeMillis());
+    }
+
+    long generation(CatalogType type, long now) {
+        State state = states.get(type);
+        long checkedAt = state.checkedAtMillis.get();
+        if (now - checkedAt >= RECHECK_INTERVAL.toMillis() && state.checkedAtMillis.compareAndSet(checkedAt, now)) {
+            reconcile(type, state);
+        }
+        return state.generation.get();
+    }
+
+    /**
+     * Redis 버전이 마지막으로 본 값과 다르면 세대를 올린다.
+     *
+     * <p>
+     * 처음 읽을 때는 비교 대상이 없으므로 기록만 한다. 같지 않음으로 비교하므로
+     * Redis가 초기화되어 버전이 내려간 경우에도 무효화된다.
+     */
+    private void reconcile(CatalogType type, State state) {
+        try {
+            String stored = redis.opsForValue().get(VERSION_KEY_PREFIX + type.name());
+            long remote = stored == null ? 0 : Long.parseLong(stored);
+            long previous = state.remoteVersion.getAndSet(remote);
+            if (previous != UNKNOWN && previous != remote) {
+                state.generation.incrementAndGet();
+            }
+        } catch (DataAccessException | NumberFormatException e) {
+            log.warn("Catalog version lookup failed. type={}", type, e);
+        }
+    }
+
+    /**
+     * 카탈로그 변경을 알린다.
+     *
+     * <p>
+     * 트랜잭션 안에서 호출되면 커밋 이후에 반영하여,
+     * 다른 노드가 커밋 전 데이터로 스냅샷을 다시 만드는 일을 막는다.
+     *
+     * @param type 변경된 카탈로그 종류
+     */
+    public void bumpAfterCommit(CatalogType type) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump(type);
+                }
+            });
+            return;
+        }
+        bump(type);
+    }
+
+    private void bump(CatalogType type) {
+        State state = states.get(type);
+        state.generation.incrementAndGet();
+        try {
+            Long version = redis.opsForValue().increment(VERSION_KEY_PREFIX + type.name());
+            if (version != null) state.remoteVersion.accumulateAndGet(version, Math::max);
+            redis.convertAndSend(CHANNEL, type.name() + ":" + version);
+        } catch (DataAccessException e) {
+            log.warn("Catalog invalidation publish failed. type={}", type, e);
+        }
+    }
+
+    /**
+     * pub/sub 채널로 수신한 무효화 메시지를 반영한다.
+     *
+     * <p>
+     * 자신이 발행한 메시지도 수신하므로 한 번 더 재생성될 수 있으나 정합성에는 영향이 없다.
+     *
+     * @param message "{type}:{version}" 형식의 메시지
+     */
+    public void onInvalidate(String message) {
+        int sep = message.indexOf(':');
+        String typeName = sep < 0 ? message : message.substring(0, sep);
+        try {
+            State state = states.get(CatalogType.valueOf(typeName));
+            state.generation.incrementAndGet();
+            // 다음 주기적 대조에서 같은 변경으로 한 번 더 무효화하지 않도록 본 버전을 기록한다.
+            if (sep >= 0) state.remoteVersion.accumulateAndGet(Long.parseLong(message.substring(sep + 1)), Math::max);
+        } catch (IllegalArgumentException e) {
+            log.warn("Unknown catalog invalidation message: {}", message);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.hcproj.healthcareprojectbackend.global.store.feed;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 커뮤니티 목록 캐시(hot feed)의 전역 버전을 관리하는 스토어.
+ *
+ * <p>
+ * <b>Redis Key / Channel 구조</b>
+ * <pre>
+ *   feed:ver         -> 전역 버전(INCR)
+ *   feed:invalidate  -> pub/sub 채널, 메시지: "{version}"
+ * </pre>
+ *
+ * <p>
+ * <b>동작</b>
+ * <ul>
+ *   <li>각 노드는 마지막으로 알게 된 전역 버전을 메모리에 들고 있고, 조회 경로에서는 Redis를 호출하지 않는다.
+ *       (첫 조회 시 한 번만 읽는다)</li>
+ *   <li>캐시 키에 버전이 들어가므로 버전이 오르면 L1/L2 항목이 한꺼번에 무효화된다.</li>
+ *   <li>게시글이 변경되면 커밋 이후 INCR 하고 채널로 발행한다. 다른 노드는 수신한 버전으로 올린다.</li>
+ * </ul>
+ *
+ * <p>
+ * 메시지를 놓친 노드는 이전 버전 항목을 Redis TTL 동안 더 볼 수 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedVersionStore {
+
+    public static final String CHANNEL = "feed:invalidate";
+    private static final String VERSION_KEY = "feed:ver";
+    private static final long UNKNOWN = -1;
+
+    private final StringRedisTemplate redis;
+    private final AtomicLong version = new AtomicLong(UNKNOWN);
+
+    /**
+     * 현재 노드가 알고 있는 전역 버전.
+     *
+     * @return 버전. Redis 장애로 아직 읽지 못했다면 -1(호출 측에서 캐시 생략)
+     */
+    public long version() {
+        long v = version.get();
+        if (v != UNKNOWN) return v;
+        try {
+            String stored = redis.opsForValue().get(VERSION_KEY);
+            advance(stored == null ? 0 : Long.parseLong(stored));
+        } catch (DataAccessException e) {
+            log.warn("Feed version lookup failed", e);
+        }
+        return version.get();
+    }
+
+    /**
+     * 게시글 목록이 바뀌었음을 알린다.
+     *
+     * <p>트랜잭션 안에서 호출되면 커밋 이후에 반영하여,
+     * 다른 노드가 커밋 전 데이터로 캐시를 다시 채우는 일을 막는다.</p>
+     */
+    public void bumpAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump();
+                }
+            });
+            return;
+        }
+        bump();
+    }
+
+    private void bump() {
+        try {
+            Long v = redis.opsForValue().increment(VERSION_KEY);
+            if (v != null) {
+                advance(v);
+                redis.convertAndSend(CHANNEL, String.valueOf(v));
+            }
+        } catch (DataAccessException e) {
+            // 버전을 올리지 못하면 이 노드는 캐시를 쓰지 않다가 다음 조회에서 다시 읽는다.
+            version.set(UNKNOWN);
+            log.warn("Feed invalidation publish failed", e);
+        }
+    }
+
+    /**
+     * pub/sub 채널로 수신한 버전을 반영한다.
+     *
+     * @param message "{version}" 형식의 메시지
+     */
+    public void onInvalidate(String message) {
+        try {
+            advance(Long.parseLong(message.trim()));
+        } catch (NumberFormatException e) {
+            log.warn("Unknown feed invalidation message: {}", message);
+        }
+    }
+
+    /** 순서가 뒤바뀐 메시지로 버전이 내려가지 않게 한다. */
+    private void advance(long v) {
+        version.accumulateAndGet(v, Math::max);
+    }
+}
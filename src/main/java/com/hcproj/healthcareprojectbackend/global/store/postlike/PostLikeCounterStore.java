@@ -0,0 +1,125 @@
+package com.hcproj.healthcareprojectbackend.global.store.postlike;
+
+import com.hcproj.healthcareprojectbackend.global.config.properties.PostLikeProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 게시글 좋아요 증감분을 Redis 카운터에 누적하는 스토어.
+ *
+ * <p>
+ * <b>Redis Key 구조</b>
+ * <pre>
+ *   {prefix}c:{postId} -> 아직 DB에 반영되지 않은 증감분
+ *   {prefix}dirty      -> Set(증감분이 있는 postId)
+ * </pre>
+ *
+ * <p>
+ * <b>동작</b>
+ * <ul>
+ *   <li>증감은 글마다 키 하나에 INCRBY 한다. INCRBY는 O(1)이라 한 글에 좋아요가 몰려도
+ *       키를 나눌 만큼의 병목이 되지 않는다.</li>
+ *   <li>조회는 페이지 내 글의 카운터 키를 MGET 1회로 읽는다.</li>
+ *   <li>flush는 dirty set에서 SPOP으로 글을 꺼내고 카운터를 GETDEL 한다.
+ *       두 명령 모두 원자적이므로 여러 노드가 동시에 flush해도 같은 증감분을 두 번 가져가지 않는다.</li>
+ * </ul>
+ *
+ * <p>
+ * 여러 글에 걸친 MGET은 standalone/sentinel Redis를 전제로 한다(다른 스토어와 같음).
+ * 클러스터로 옮기면 글마다 다른 slot이라 CROSSSLOT이 나므로 {@link #pending}을 글 단위 GET으로 나눠야 한다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class PostLikeCounterStore {
+
+    private final StringRedisTemplate redis;
+    private final PostLikeProperties props;
+
+    /**
+     * 증감분을 누적한다(pipeline 1회).
+     */
+    public void add(long postId, long delta) {
+        String counterKey = counterKey(postId);
+        String dirtyKey = dirtyKey();
+        redis.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                operations.opsForValue().increment(counterKey, delta);
+                operations.opsForSet().add(dirtyKey, String.valueOf(postId));
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 게시글별 미반영 증감분을 MGET 1회로 조회한다.
+     *
+     * @return postId → 증감분 (없는 글은 포함하지 않음)
+     */
+    public Map<Long, Long> pending(Collection<Long> postIds) {
+        if (postIds.isEmpty()) return Map.of();
+
+        List<Long> ids = new ArrayList<>(postIds);
+        List<String> keys = ids.stream().map(this::counterKey).toList();
+
+        List<String> values = redis.opsForValue().multiGet(keys);
+        if (values == null) return Map.of();
+
+        Map<Long, Long> result = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            String v = values.get(i);
+            if (v != null && Long.parseLong(v) != 0) result.put(ids.get(i), Long.parseLong(v));
+        }
+        return result;
+    }
+
+    /**
+     * 증감분이 쌓인 글을 최대 {@code maxPosts}개 꺼내고 카운터를 비운다.
+     *
+     * @return postId 오름차순 맵(postId → 증감분, 0인 글은 제외)
+     */
+    public SortedMap<Long, Long> drain(int maxPosts) {
+        List<String> popped = redis.opsForSet().pop(dirtyKey(), maxPosts);
+        SortedMap<Long, Long> deltas = new TreeMap<>();
+        if (popped == null || popped.isEmpty()) return deltas;
+
+        List<Object> values = redis.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                for (String id : popped) operations.opsForValue().getAndDelete(counterKey(Long.parseLong(id)));
+                return null;
+            }
+        });
+
+        for (int i = 0; i < popped.size(); i++) {
+            Object v = values.get(i);
+            long delta = v == null ? 0 : Long.parseLong(v.toString());
+            if (delta != 0) deltas.put(Long.parseLong(popped.get(i)), delta);
+        }
+        return deltas;
+    }
+
+    /**
+     * DB 반영에 실패한 증감분을 되돌린다.
+     */
+    public void restore(Map<Long, Long> deltas) {
+        deltas.forEach(this::add);
+    }
+
+    private String counterKey(long postId) {
+        return props.getPrefix() + "c:" + postId;
+    }
+
+    private String dirtyKey() {
+        return props.getPrefix() + "dirty";
+    }
+}
@@ -0,0 +1,42 @@
+package com.hcproj.healthcareprojectbackend.global.store.postview;
+
+import com.hcproj.healthcareprojectbackend.global.config.properties.PostViewProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 게시글 조회수 중복 집계 방지용 스토어.
+ *
+ * <p>
+ * <b>Redis Key 구조</b>
+ * <pre>
+ *   {prefix}{postId}:{userId} -> "1" (TTL = dedup window)
+ * </pre>
+ *
+ * <p>
+ * {@code SET NX EX} 한 번으로 "window 안의 첫 조회"인지 판정한다.
+ * 키가 여러 노드에서 공유되므로 어느 노드로 요청이 가도 한 번만 집계된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostViewDedupStore {
+
+    private final StringRedisTemplate redis;
+    private final PostViewProperties props;
+
+    /**
+     * dedup window 안의 첫 조회인지 확인하고 기록한다.
+     *
+     * @param postId 게시글 ID
+     * @param userId 조회자 ID
+     * @return 첫 조회면 true
+     */
+    public boolean markViewed(long postId, long userId) {
+        String key = props.getDedupPrefix() + postId + ":" + userId;
+        Boolean first = redis.opsForValue().setIfAbsent(key, "1", Duration.ofSeconds(props.getDedupSeconds()));
+        return Boolean.TRUE.equals(first);
+    }
+}
@@ -0,0 +1,137 @@
+package com.hcproj.healthcareprojectbackend.global.store.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * sliding window 카운터 기반 rate limit 스토어.
+ *
+ * <p>
+ * <b>Redis Key 구조</b>
+ * <pre>
+ *   {prefix}{policy}:{key type}:{value} -> Hash(idx, cur, prev)
+ * </pre>
+ *
+ * <p>
+ * 현재/직전 고정 window 카운트를 들고, 직전 window를 남은 비율만큼 가중해 합산한다
+ * ({@code prev * (1 - elapsed) + cur}). 키당 필드 3개로 sliding window log에 가까운 정확도를 얻는다.
+ * 검사와 증가는 Lua 스크립트 한 번(1 round trip)으로 원자적으로 처리하며, 시각은 Redis 서버 시간을 쓴다.
+ * 키는 window 2개 분량의 TTL로 자동 만료된다.
+ *
+ * <p>
+ * {@link #hitAll}은 사용자 키와 IP 키처럼 서로 다른 키를 한 스크립트에서 다루므로
+ * 단일 Redis(standalone/sentinel)를 전제로 한다. Cluster에서는 키들이 같은 slot에 있어야 한다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class SlidingWindowRateLimitStore {
+
+    /**
+     * KEYS: 집계 키 N개 / ARGV: 키마다 (limit, windowMs) 쌍.
+     * 반환: 0이면 허용(모든 키 카운트 증가), 양수면 거절이며 재시도까지 남은 ms(키 중 최댓값).
+     */
+    private static final DefaultRedisScript<Long> HIT_SCRIPT = new DefaultRedisScript<>("""
+            local t = redis.call('TIME')
+            local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+
+            local states = {}
+            local retry = 0
+            for i = 1, #KEYS do
+              local limit = tonumber(ARGV[2 * i - 1])
+              local windowMs = tonumber(ARGV[2 * i])
+              local idx = math.floor(now / windowMs)
+
+              local s = redis.call('HMGET', KEYS[i], 'idx', 'cur', 'prev')
+              local sidx = tonumber(s[1])
+              local cur = tonumber(s[2]) or 0
+              local prev = tonumber(s[3]) or 0
+              if sidx == nil then
+                cur = 0
+                prev = 0
+              elseif sidx == idx - 1 then
+                prev = cur
+                cur = 0
+              elseif sidx ~= idx then
+                cur = 0
+                prev = 0
+              end
+
+              local offset = now - idx * windowMs
+              local elapsed = offset / windowMs
+              local estimate = prev * (1 - elapsed) + cur
+
+              if estimate >= limit then
+                local result
+                if cur >= limit or prev == 0 then
+                  result = windowMs - offset
+                else
+                  result = math.ceil(((1 - (limit - cur) / prev) - elapsed) * windowMs)
+                end
+                if result < 1 then result = 1 end
+                if result > retry then retry = result end
+              end
+              states[i] = {idx, cur, prev, windowMs}
+            end
+
+            -- 모든 키가 허용할 때만 증가한다. 거절 시에는 window 이동만 반영한다.
+            for i = 1, #KEYS do
+              local st = states[i]
+              local cur = st[2]
+              if retry == 0 then cur = cur + 1 end
+              redis.call('HSET', KEYS[i], 'idx', tostring(st[1]), 'cur', tostring(cur), 'prev', tostring(st[3]))
+              redis.call('PEXPIRE', KEYS[i], st[4] * 2)
+            end
+            return retry
+            """, Long.class);
+
+    private final StringRedisTemplate redis;
+
+    /**
+     * 한 키에 적용할 한도.
+     *
+     * @param key          집계 키(prefix 포함)
+     * @param limit        window당 허용 수
+     * @param windowMillis window 길이(ms)
+     */
+    public record Limit(String key, int limit, long windowMillis) {}
+
+    /**
+     * 요청 1건을 기록한다.
+     *
+     * @param key          집계 키(prefix 포함)
+     * @param limit        window당 허용 수
+     * @param windowMillis window 길이(ms)
+     * @return 0이면 허용, 양수면 거절이며 재시도까지 남은 ms
+     */
+    public long hit(String key, int limit, long windowMillis) {
+        return hitAll(List.of(new Limit(key, limit, windowMillis)));
+    }
+
+    /**
+     * 여러 키를 한 번에 검사하고, 모두 허용할 때만 전부 증가시킨다(Lua 1회).
+     *
+     * <p>한 키라도 거절하면 어느 키의 카운트도 올리지 않는다.</p>
+     *
+     * @return 0이면 허용, 양수면 거절이며 재시도까지 남은 ms(키 중 최댓값)
+     */
+    public long hitAll(List<Limit> limits) {
+        if (limits.isEmpty()) return 0;
+
+        List<String> keys = new ArrayList<>(limits.size());
+        String[] args = new String[limits.size() * 2];
+        for (int i = 0; i < limits.size(); i++) {
+            Limit l = limits.get(i);
+            keys.add(l.key());
+            args[2 * i] = String.valueOf(l.limit());
+            args[2 * i + 1] = String.valueOf(l.windowMillis());
+        }
+        Long r = redis.execute(HIT_SCRIPT, keys, (Object[]) args);
+        return r == null ? 0 : r;
+    }
+}
@@ -63,6 +63,45 @@ public final class UtilityProvider {
         return email.trim().toLowerCase();
     }
 
+    /**
+     * 검색용 키를 만든다(공백 제거 + 소문자).
+     *
+     * <p>
+     * {@code users.search_key}와 검색어 양쪽에 같은 규칙을 적용해
+     * DB에서 함수 없이 컬럼을 그대로 비교(인덱스 사용)할 수 있게 한다.
+     *
+     * @param s 입력 문자열
+     * @return 정규화된 검색 키 (null 입력 시 null)
+     */
+    public static String toSearchKey(String s) {
+        if (s == null) return null;
+        return s.replace(" ", "").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 검색어를 LIKE 패턴으로 만든다.
+     *
+     * <p>
+     * 기본은 길이와 무관하게 부분 일치({@code %kw%})다. 3글자 이상은 trigram 인덱스를 타고,
+     * 더 짧은 검색어는 trigram을 만들 수 없어 스캔이 되지만 결과는 바뀌지 않는다("철수"로 "김철수"를 찾는다).
+     * 호출 측이 {@code PREFIX}를 명시하면 앞부분 일치({@code kw%}, pattern_ops B-tree 인덱스)로 검색한다.
+     *
+     * @param keyword {@link #normalizeKeyword(String)}를 거친 검색어
+     * @param match   일치 방식({@code PREFIX}면 앞부분 일치, 그 외/null은 부분 일치)
+     * @return LIKE 패턴
+     */
+    public static String toSearchKeyPattern(String keyword, String match) {
+        String key = toSearchKey(keyword);
+        return isPrefixMatch(match) ? key + "%" : "%" + key + "%";
+    }
+
+    /**
+     * 일치 방식 파라미터가 앞부분 일치({@code PREFIX})인지 확인한다(대소문자 무시).
+     */
+    public static boolean isPrefixMatch(String match) {
+        return match != null && "PREFIX".equals(match.trim().toUpperCase(Locale.ROOT));
+    }
+
     // ============================================================
     // Private Helper Methods
     // ============================================================
@@ -7,6 +7,7 @@ import com.hcproj.healthcareprojectbackend.auth.repository.UserRepository;
 import com.hcproj.healthcareprojectbackend.global.exception.BusinessException;
 import com.hcproj.healthcareprojectbackend.global.exception.ErrorCode;
 import com.hcproj.healthcareprojectbackend.global.security.jwt.TokenVersionStore;
+import com.hcproj.healthcareprojectbackend.global.security.password.PasswordHashingService;
 import com.hcproj.healthcareprojectbackend.me.dto.internal.InjuriesRequestDTO;
 import com.hcproj.healthcareprojectbackend.me.dto.internal.ProfileDTO;
 import com.hcproj.healthcareprojectbackend.me.dto.request.*;
@@ -21,10 +22,10 @@ import com.hcproj.healthcareprojectbackend.profile.repository.UserProfileReposit
 import com.hcproj.healthcareprojectbackend.trainer.entity.TrainerInfoEntity;
 import com.hcproj.healthcareprojectbackend.trainer.repository.TrainerInfoRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
 
 /**
@@ -37,7 +38,7 @@ import java.util.List;
 public class MeService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final TokenVersionStore tokenVersionStore;
     private final UserProfileRepository userProfileRepository;
     private final UserInjuryRepository userInjuryRepository;
@@ -50,7 +51,14 @@ public class MeService {
         return toMeResponse(user);
     }
 
-    @Transactional
+    /**
+     * 비밀번호 변경.
+     *
+     * <p>
+     * 트랜잭션 없이 동작한다. BCrypt 검증/해시(수백 ms)는 커넥션을 잡지 않은 상태에서 수행하고,
+     * 저장은 검증한 해시가 그대로일 때만 바꾸는 조건부 UPDATE 한 문장이다.
+     * </p>
+     */
     public void changePassword(Long userId, PasswordChangeRequestDTO request) {
         UserEntity user = getUserOrThrow(userId);
 
@@ -59,12 +67,17 @@ public class MeService {
             throw new BusinessException(ErrorCode.FORBIDDEN);
         }
 
-        if (!passwordEncoder.matches(request.currentPassword(), user.getPasswordHash())) {
+        String currentHash = user.getPasswordHash();
+        if (currentHash == null || !passwordHashingService.matches(request.currentPassword(), currentHash)) {
             throw new BusinessException(ErrorCode.INVALID_PASSWORD);
         }
 
-        user.changePasswordHash(passwordEncoder.encode(request.newPassword()));
-        // JPA dirty checking으로 저장됨
+        String newHash = passwordHashingService.encode(request.newPassword());
+
+        // 검증 이후 다른 요청이 비밀번호를 먼저 바꿨으면 현재 비밀번호가 더 이상 유효하지 않다
+        if (userRepository.changePasswordHashIfUnchanged(userId, currentHash, newHash, Instant.now()) == 0) {
+            throw new BusinessException(ErrorCode.INVALID_PASSWORD);
+        }
     }
 
     // 회원탈퇴
@@ -3,6 +3,20 @@ package com.hcproj.healthcareprojectbackend.profile.entity;
 import com.hcproj.healthcareprojectbackend.global.exception.BusinessException;
 import com.hcproj.healthcareprojectbackend.global.exception.ErrorCode;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 알레르기 코드.
+ *
+ * <p>
+ * 각 값은 {@link #bit()}로 64비트 마스크의 한 비트에 대응한다(음식의 {@code allergy_mask} 컬럼).
+ * 비트 위치는 선언 순서(ordinal)이므로 <b>새 값은 반드시 맨 끝에 추가</b>해야 하며,
+ * 추가 시 기존 데이터의 마스크를 재계산하는 마이그레이션이 필요하다.
+ * </p>
+ */
 public enum AllergyType {
     // 곡물
     WHEAT,          // 밀
@@ -31,6 +45,58 @@ public enum AllergyType {
     FISH,           // 생선
     SULFITE;         // 아황산류
 
+    /** 과거 데이터에 쓰이던 포괄 코드 → 해당하는 알레르기 비트 */
+    private static final Map<String, Long> ALIASES = Map.of(
+            "NUT", PEANUT.bit() | TREE_NUT.bit(),
+            "SHELLFISH", CRUSTACEAN.bit() | MOLLUSK.bit()
+    );
+
+    /** 마스크에서 이 알레르기에 해당하는 비트 */
+    public long bit() {
+        return 1L << ordinal();
+    }
+
+    /**
+     * CSV 알레르기 코드 문자열을 비트 마스크로 변환한다.
+     *
+     * <p>알 수 없는 코드는 무시한다.</p>
+     *
+     * @param csv 알레르기 코드 CSV (예: "MILK,SOY")
+     * @return 비트 마스크, 코드가 없으면 0
+     */
+    public static long maskOfCsv(String csv) {
+        if (csv == null || csv.isBlank()) return 0L;
+        return maskOf(Arrays.asList(csv.split(",")));
+    }
+
+    /**
+     * 알레르기 코드 목록을 비트 마스크로 변환한다.
+     *
+     * <p>대소문자/공백을 무시하며, 알 수 없는 코드는 무시한다.</p>
+     *
+     * @param codes 알레르기 코드 목록
+     * @return 비트 마스크, 코드가 없으면 0
+     */
+    public static long maskOf(Collection<String> codes) {
+        if (codes == null) return 0L;
+        long mask = 0L;
+        for (String code : codes) {
+            if (code == null || code.isBlank()) continue;
+            String normalized = code.trim().toUpperCase(Locale.ROOT);
+            Long alias = ALIASES.get(normalized);
+            if (alias != null) {
+                mask |= alias;
+                continue;
+            }
+            try {
+                mask |= AllergyType.valueOf(normalized).bit();
+            } catch (IllegalArgumentException ignored) {
+                // 알 수 없는 코드는 마스크에 반영하지 않는다.
+            }
+        }
+        return mask;
+    }
+
     public static AllergyType from(String value) {
         try {
             return AllergyType.valueOf(value.toUpperCase());
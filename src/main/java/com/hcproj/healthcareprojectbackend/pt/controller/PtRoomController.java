@@ -1,5 +1,7 @@
 package com.hcproj.healthcareprojectbackend.pt.controller;
 
+import com.hcproj.healthcareprojectbackend.global.ratelimit.RateLimitKey;
+import com.hcproj.healthcareprojectbackend.global.ratelimit.RateLimited;
 import com.hcproj.healthcareprojectbackend.global.response.ApiResponse;
 import com.hcproj.healthcareprojectbackend.global.security.annotation.CurrentUserId;
 import com.hcproj.healthcareprojectbackend.pt.dto.request.PtRoomCreateRequestDTO;
@@ -49,6 +51,7 @@ public class PtRoomController {
         return ApiResponse.ok(ptRoomQueryService.getPtRoomDetail(ptRoomId, userId));
     }
 
+    @RateLimited(policy = "pt-join", ipPolicy = "pt-join-ip", keys = {RateLimitKey.USER, RateLimitKey.IP})
     @PostMapping("/{ptRoomId}/join")
     public ApiResponse<Void> joinRoom(
             @PathVariable Long ptRoomId,
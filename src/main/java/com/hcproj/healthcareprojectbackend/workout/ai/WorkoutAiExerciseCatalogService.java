@@ -4,6 +4,8 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hcproj.healthcareprojectbackend.global.exception.BusinessException;
 import com.hcproj.healthcareprojectbackend.global.exception.ErrorCode;
+import com.hcproj.healthcareprojectbackend.global.store.catalog.CatalogType;
+import com.hcproj.healthcareprojectbackend.global.store.catalog.CatalogVersionStore;
 import com.hcproj.healthcareprojectbackend.workout.entity.ExerciseEntity;
 import com.hcproj.healthcareprojectbackend.workout.repository.ExerciseRepository;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +13,8 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * AI 루틴 생성에 사용할 "허용 운동 목록(allowlist)"을 구성하는 서비스.
@@ -27,6 +31,12 @@ import java.util.List;
  *   <li>현재 구현은 최소 20, 최대 250 범위로 clamp한다.</li>
  * </ul>
  *
+ * <p><b>스냅샷</b></p>
+ * <ul>
+ *   <li>조회 개수별로 불변 payload(DTO 리스트 + JSON)를 메모리에 보관하고 재사용한다.</li>
+ *   <li>운동 등록/삭제 시 {@link CatalogVersionStore}의 세대가 바뀌며, 다음 조회에서 다시 만든다.</li>
+ * </ul>
+ *
  * <p><b>예외</b></p>
  * <ul>
  *   <li>직렬화 실패 시 {@link BusinessException}으로 래핑한다.</li>
@@ -38,12 +48,16 @@ public class WorkoutAiExerciseCatalogService {
 
     private final ExerciseRepository exerciseRepository;
     private final ObjectMapper objectMapper;
+    private final CatalogVersionStore catalogVersionStore;
+
+    private final Map<Integer, Snapshot> snapshots = new ConcurrentHashMap<>();
 
     /**
      * 허용 운동 목록 payload를 생성한다.
      *
      * <p>
      * 반환값에는 DTO 리스트와, 동일 데이터를 JSON 문자열로 직렬화한 값이 함께 포함된다.
+     * 같은 카탈로그 세대에서 같은 개수로 다시 호출하면 DB 조회/직렬화 없이 스냅샷을 반환한다.
      * </p>
      *
      * @param max 요청 최대치(입력). 내부 정책에 따라 20~250 사이로 조정된다.
@@ -52,6 +66,19 @@ public class WorkoutAiExerciseCatalogService {
      */
     public AllowedExercisesPayload buildAllowedExercisesPayload(int max) {
         int size = Math.max(20, Math.min(max, 250));
+
+        long generation = catalogVersionStore.generation(CatalogType.EXERCISE);
+        Snapshot snapshot = snapshots.get(size);
+        if (snapshot != null && snapshot.generation() == generation) {
+            return snapshot.payload();
+        }
+
+        AllowedExercisesPayload payload = load(size);
+        snapshots.put(size, new Snapshot(generation, payload));
+        return payload;
+    }
+
+    private AllowedExercisesPayload load(int size) {
         List<ExerciseEntity> ex = exerciseRepository.findByIsActiveTrue(PageRequest.of(0, size));
 
         List<AllowedExerciseDTO> allowed = ex.stream()
@@ -65,6 +92,8 @@ public class WorkoutAiExerciseCatalogService {
         }
     }
 
+    private record Snapshot(long generation, AllowedExercisesPayload payload) {}
+
     /**
      * AI에게 제공할 허용 운동 DTO.
      *
@@ -1,12 +1,18 @@
 package com.hcproj.healthcareprojectbackend.workout.ai;
 
+import com.hcproj.healthcareprojectbackend.global.ai.AiGateway;
 import com.hcproj.healthcareprojectbackend.global.ai.AiJsonCaller;
+import com.hcproj.healthcareprojectbackend.global.ai.AiJsonSpec;
 import com.hcproj.healthcareprojectbackend.workout.ai.dto.WorkoutAiRoutineResult;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * 운동 루틴 생성 AI 유스케이스 서비스.
@@ -21,6 +27,7 @@ import java.util.List;
  * <p><b>안전 장치</b></p>
  * <ul>
  *   <li>{@link WorkoutAiExerciseCatalogService}가 제공하는 allowedExercises 목록 안에서만 exerciseId를 선택하도록 프롬프트로 강제한다.</li>
+ *   <li>AI 호출은 {@link AiGateway}(rate limit/bulkhead/timeout/circuit breaker)를 거친다.</li>
  *   <li>{@link AiJsonCaller}는 JSON 이외 출력 또는 파싱 실패 시 프로젝트 예외로 래핑한다.</li>
  * </ul>
  *
@@ -34,7 +41,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class WorkoutAiService {
 
-    private final AiJsonCaller aiJsonCaller;
+    private final AiGateway aiGateway;
     private final WorkoutAiExerciseCatalogService catalogService;
 
     private final WorkoutAiPrompts workoutAiPrompts;
@@ -42,22 +49,91 @@ public class WorkoutAiService {
     /**
      * 지정된 날짜들에 대한 운동 루틴을 생성한다.
      *
+     * <p>
+     * 응답을 읽는 도중 day 객체가 완성될 때마다 {@code dayValidator}(day, 허용 exerciseId 집합)로 검증하고,
+     * 첫 위반에서 즉시 중단한다. 모든 day가 통과하면 {@code validator}로 날짜 구성만 확인한다.
+     * 검증을 통과한 응답만 응답 캐시에 저장되고, 캐시된 응답도 같은 검증을 거친다.
+     * </p>
+     *
+     * @param userId            요청 사용자 ID(AI 호출 rate limit 대상)
      * @param dates             루틴을 생성할 날짜 목록
      * @param additionalRequest 추가 요청(선택). null/blank이면 NONE으로 처리한다.
+     * @param bypassCache       true면 캐시된 응답을 쓰지 않고 새로 생성한다.
+     * @param dayValidator      day 단위 검증기(day, 허용 exerciseId 집합)
+     * @param validator         결과 검증기(날짜 구성 등)
      * @return 생성 결과 + 허용 운동 목록 payload
      */
-    public Generated generate(List<LocalDate> dates, String additionalRequest) {
+    public Generated generate(Long userId, List<LocalDate> dates, String additionalRequest, boolean bypassCache,
+                              BiConsumer<WorkoutAiRoutineResult.Day, Set<Long>> dayValidator,
+                              Consumer<WorkoutAiRoutineResult> validator) {
         var payload = catalogService.buildAllowedExercisesPayload(180);
+        Set<Long> allowedIds = allowedIdsOf(payload);
 
-        WorkoutAiRoutineResult result = aiJsonCaller.callJson(
+        WorkoutAiRoutineResult result = aiGateway.callJson(
+                userId,
                 workoutAiPrompts.system(),
                 workoutAiPrompts.user(dates, additionalRequest, payload.allowedExercisesJson()),
-                WorkoutAiRoutineResult.class
+                routineSpec(allowedIds, dayValidator, validator),
+                bypassCache
         );
 
         return new Generated(result, payload);
     }
 
+    /**
+     * 지정된 날짜들에 대한 운동 루틴을 스트리밍으로 생성한다.
+     *
+     * <p>
+     * day 객체가 완성될 때마다 {@code dayValidator}로 검증한 뒤 {@code onDay}로 넘긴다.
+     * 스트림이 끝나면 {@code validator}로 날짜 구성만 확인한다.
+     * </p>
+     *
+     * @param userId            요청 사용자 ID(AI 호출 rate limit 대상)
+     * @param dates             루틴을 생성할 날짜 목록
+     * @param additionalRequest 추가 요청(선택)
+     * @param dayValidator      day 단위 검증기(day, 허용 exerciseId 집합)
+     * @param onDay             검증된 day 콜백
+     * @param validator         결과 검증기(날짜 구성 등)
+     * @return 생성 결과 + 허용 운동 목록 payload
+     */
+    public Generated generateStreaming(Long userId, List<LocalDate> dates, String additionalRequest,
+                                       BiConsumer<WorkoutAiRoutineResult.Day, Set<Long>> dayValidator,
+                                       Consumer<WorkoutAiRoutineResult.Day> onDay,
+                                       Consumer<WorkoutAiRoutineResult> validator) {
+        var payload = catalogService.buildAllowedExercisesPayload(180);
+        Set<Long> allowedIds = allowedIdsOf(payload);
+
+        WorkoutAiRoutineResult result = aiGateway.streamJson(
+                userId,
+                workoutAiPrompts.system(),
+                workoutAiPrompts.user(dates, additionalRequest, payload.allowedExercisesJson()),
+                routineSpec(allowedIds, dayValidator, validator),
+                onDay
+        );
+
+        return new Generated(result, payload);
+    }
+
+    private Set<Long> allowedIdsOf(WorkoutAiExerciseCatalogService.AllowedExercisesPayload payload) {
+        return payload.allowedExercises().stream()
+                .map(WorkoutAiExerciseCatalogService.AllowedExerciseDTO::id)
+                .collect(Collectors.toSet());
+    }
+
+    private AiJsonSpec<WorkoutAiRoutineResult, WorkoutAiRoutineResult.Day> routineSpec(
+            Set<Long> allowedIds,
+            BiConsumer<WorkoutAiRoutineResult.Day, Set<Long>> dayValidator,
+            Consumer<WorkoutAiRoutineResult> validator
+    ) {
+        return new AiJsonSpec<>(
+                WorkoutAiRoutineResult.class,
+                "days",
+                WorkoutAiRoutineResult.Day.class,
+                day -> dayValidator.accept(day, allowedIds),
+                validator
+        );
+    }
+
     /**
      * 루틴 생성 결과와, AI 입력으로 사용한 허용 운동 목록을 함께 묶은 반환 타입.
      *
@@ -3,11 +3,15 @@ package com.hcproj.healthcareprojectbackend.workout.controller;
 import com.hcproj.healthcareprojectbackend.global.response.ApiResponse;
 import com.hcproj.healthcareprojectbackend.global.security.annotation.CurrentUserId;
 import com.hcproj.healthcareprojectbackend.workout.dto.request.AiWorkoutRoutinesPutRequestDTO;
+import com.hcproj.healthcareprojectbackend.workout.dto.response.AiWorkoutRoutineJobResponseDTO;
 import com.hcproj.healthcareprojectbackend.workout.dto.response.AiWorkoutRoutinesResponseDTO;
+import com.hcproj.healthcareprojectbackend.workout.service.WorkoutAiRoutineJobService;
 import com.hcproj.healthcareprojectbackend.workout.service.WorkoutAiRoutinesFacade;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequiredArgsConstructor
@@ -15,6 +19,7 @@ import org.springframework.web.bind.annotation.*;
 public class WorkoutAiController {
 
     private final WorkoutAiRoutinesFacade facade;
+    private final WorkoutAiRoutineJobService jobService;
 
     @PutMapping("/workouts/ai/routines")
     public ApiResponse<AiWorkoutRoutinesResponseDTO> replaceRoutines(
@@ -23,4 +28,40 @@ public class WorkoutAiController {
     ) {
         return ApiResponse.ok(facade.replaceRoutines(userId, request));
     }
+
+    /** 운동 루틴 스트리밍 생성 (SSE: day → done | error) */
+    @PutMapping(path = "/workouts/ai/routines/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamRoutines(
+            @CurrentUserId Long userId,
+            @Valid @RequestBody AiWorkoutRoutinesPutRequestDTO request
+    ) {
+        return facade.streamRoutines(userId, request);
+    }
+
+    /** 비동기 생성 작업 제출 (jobId 즉시 반환) */
+    @PutMapping("/workouts/ai/routines/jobs")
+    public ApiResponse<AiWorkoutRoutineJobResponseDTO> submitRoutinesJob(
+            @CurrentUserId Long userId,
+            @Valid @RequestBody AiWorkoutRoutinesPutRequestDTO request
+    ) {
+        return ApiResponse.ok(jobService.submit(userId, request));
+    }
+
+    /** 비동기 생성 작업 상태/결과 조회 (polling) */
+    @GetMapping("/workouts/ai/routines/jobs/{jobId}")
+    public ApiResponse<AiWorkoutRoutineJobResponseDTO> getRoutinesJob(
+            @CurrentUserId Long userId,
+            @PathVariable String jobId
+    ) {
+        return ApiResponse.ok(jobService.getJob(userId, jobId));
+    }
+
+    /** 비동기 생성 작업 상태 스트림 (SSE) */
+    @GetMapping(path = "/workouts/ai/routines/jobs/{jobId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamRoutinesJob(
+            @CurrentUserId Long userId,
+            @PathVariable String jobId
+    ) {
+        return jobService.stream(userId, jobId);
+    }
 }
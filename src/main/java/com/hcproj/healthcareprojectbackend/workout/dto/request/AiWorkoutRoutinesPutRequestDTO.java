@@ -7,5 +7,6 @@ import java.util.List;
 
 public record AiWorkoutRoutinesPutRequestDTO(
         @NotEmpty List<LocalDate> dates,
-        String additionalRequest
+        String additionalRequest,
+        Boolean bypassCache
         ) {}
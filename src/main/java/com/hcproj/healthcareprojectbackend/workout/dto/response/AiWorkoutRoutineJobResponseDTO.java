@@ -0,0 +1,20 @@
+package com.hcproj.healthcareprojectbackend.workout.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.hcproj.healthcareprojectbackend.global.store.aijob.AiJobStatus;
+
+/**
+ * AI 운동 루틴 비동기 생성 작업의 상태 응답 DTO.
+ *
+ * @param jobId     작업 ID
+ * @param status    작업 상태
+ * @param result    생성 결과(DONE일 때만)
+ * @param errorCode 실패 코드(FAILED일 때만)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AiWorkoutRoutineJobResponseDTO(
+        String jobId,
+        AiJobStatus status,
+        AiWorkoutRoutinesResponseDTO result,
+        String errorCode
+) {}
@@ -37,7 +37,8 @@ import java.util.Objects;
 public class WorkoutDayEntity extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "workout_days_seq_gen")
+    @SequenceGenerator(name = "workout_days_seq_gen", sequenceName = "workout_days_workout_day_id_seq", allocationSize = 50)
     @Column(name = "workout_day_id")
     private Long workoutDayId;
 
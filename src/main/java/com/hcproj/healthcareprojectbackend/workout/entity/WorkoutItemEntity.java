@@ -43,7 +43,8 @@ import java.math.BigDecimal;
 public class WorkoutItemEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "workout_items_seq_gen")
+    @SequenceGenerator(name = "workout_items_seq_gen", sequenceName = "workout_items_workout_item_id_seq", allocationSize = 50)
     @Column(name = "workout_item_id")
     private Long workoutItemId;
 
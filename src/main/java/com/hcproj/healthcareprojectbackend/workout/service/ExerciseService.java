@@ -2,6 +2,8 @@ package com.hcproj.healthcareprojectbackend.workout.service;
 
 import com.hcproj.healthcareprojectbackend.global.exception.BusinessException;
 import com.hcproj.healthcareprojectbackend.global.exception.ErrorCode;
+import com.hcproj.healthcareprojectbackend.global.store.catalog.CatalogType;
+import com.hcproj.healthcareprojectbackend.global.store.catalog.CatalogVersionStore;
 import com.hcproj.healthcareprojectbackend.global.util.UtilityProvider;
 import com.hcproj.healthcareprojectbackend.workout.dto.response.AlternativeExerciseDTO;
 import com.hcproj.healthcareprojectbackend.workout.dto.response.ExerciseDetailResponseDTO;
@@ -27,6 +29,7 @@ import java.util.List;
 public class ExerciseService {
 
     private final ExerciseRepository exerciseRepository;
+    private final CatalogVersionStore catalogVersionStore;
     private static final int DEFAULT_LIMIT = 20;
     private static final int MAX_LIMIT = 50;
 
@@ -143,6 +146,7 @@ public class ExerciseService {
                 .build();
 
         ExerciseEntity saved = exerciseRepository.save(exercise);
+        catalogVersionStore.bumpAfterCommit(CatalogType.EXERCISE);
 
         return ExerciseCreateResponseDTO.builder()
                 .exerciseId(saved.getExerciseId())
@@ -161,6 +165,7 @@ public class ExerciseService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.EXERCISE_NOT_FOUND));
 
         exerciseRepository.delete(exercise);
+        catalogVersionStore.bumpAfterCommit(CatalogType.EXERCISE);
 
         return ExerciseCreateResponseDTO.builder()
                 .exerciseId(exerciseId)
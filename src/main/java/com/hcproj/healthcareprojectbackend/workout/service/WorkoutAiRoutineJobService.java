@@ -0,0 +1,146 @@
+package com.hcproj.healthcareprojectbackend.workout.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hcproj.healthcareprojectbackend.global.ai.AiJobExecutor;
+import com.hcproj.healthcareprojectbackend.global.ai.AiJobWatcher;
+import com.hcproj.healthcareprojectbackend.global.exception.BusinessException;
+import com.hcproj.healthcareprojectbackend.global.exception.ErrorCode;
+import com.hcproj.healthcareprojectbackend.global.response.ApiResponse;
+import com.hcproj.healthcareprojectbackend.global.store.aijob.AiJobStatus;
+import com.hcproj.healthcareprojectbackend.global.store.aijob.AiJobStore;
+import com.hcproj.healthcareprojectbackend.workout.dto.request.AiWorkoutRoutinesPutRequestDTO;
+import com.hcproj.healthcareprojectbackend.workout.dto.response.AiWorkoutRoutineJobResponseDTO;
+import com.hcproj.healthcareprojectbackend.workout.dto.response.AiWorkoutRoutinesResponseDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.codec.Hex;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * AI 운동 루틴 비동기 생성(job) 서비스.
+ *
+ * <p><b>흐름</b></p>
+ * <ol>
+ *   <li>PUT: 요청 검증 후 jobId를 즉시 반환하고, 생성은 {@link AiJobExecutor}에서 실행한다.</li>
+ *   <li>GET: Redis에 저장된 작업 상태/결과를 polling 조회한다.</li>
+ *   <li>SSE: 상태가 바뀔 때마다 이벤트를 내려주고, 종료 상태가 되면 스트림을 닫는다.</li>
+ * </ol>
+ *
+ * <p><b>중복 제출</b></p>
+ * (userId, 대상 날짜, additionalRequest) 해시가 같으면 기존 작업을 재사용한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WorkoutAiRoutineJobService {
+
+    static final String JOB_TYPE = "workout-routine";
+
+    private final WorkoutAiRoutinesFacade facade;
+    private final AiJobStore jobStore;
+    private final AiJobExecutor jobExecutor;
+    private final AiJobWatcher jobWatcher;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 생성 작업을 제출한다.
+     *
+     * @throws BusinessException 요청 날짜가 잘못되었으면 {@link ErrorCode#INVALID_REQUEST},
+     *                           실행 슬롯이 없으면 {@link ErrorCode#AI_JOB_REJECTED}
+     */
+    public AiWorkoutRoutineJobResponseDTO submit(Long userId, AiWorkoutRoutinesPutRequestDTO req) {
+        List<LocalDate> targetDates = facade.resolveTargetDates(req);
+
+        AiJobStore.Submission submission = jobStore.createOrReuse(JOB_TYPE, userId, requestHash(targetDates, req));
+        String jobId = submission.jobId();
+
+        if (submission.created()) {
+            try {
+                jobExecutor.submit(() -> run(userId, jobId, req));
+            } catch (BusinessException e) {
+                jobStore.fail(JOB_TYPE, jobId, e.getErrorCode().code());
+                throw e;
+            }
+        }
+
+        return getJob(userId, jobId);
+    }
+
+    /**
+     * 작업 상태를 조회한다.
+     *
+     * @throws BusinessException 작업이 없거나 만료되었거나 본인 작업이 아니면 {@link ErrorCode#AI_JOB_NOT_FOUND}
+     */
+    public AiWorkoutRoutineJobResponseDTO getJob(Long userId, String jobId) {
+        return toDto(findOwned(userId, jobId));
+    }
+
+    /**
+     * 작업 상태를 SSE로 스트리밍한다.
+     *
+     * <p>상태가 바뀔 때만 {@code status} 이벤트를 보내며, DONE/FAILED가 되면 스트림을 완료한다.
+     * 상태 조회는 {@link AiJobWatcher}가 노드 단위로 모아서 한다.</p>
+     */
+    public SseEmitter stream(Long userId, String jobId) {
+        // 소유자 확인은 스트림 시작 전에 동기적으로 수행(404를 일반 응답으로 돌려주기 위함)
+        AiJobStore.AiJobState first = findOwned(userId, jobId);
+        return jobWatcher.watch(JOB_TYPE, first, state -> ApiResponse.ok(toDto(state)));
+    }
+
+    // -------------------------
+    // Private helpers
+    // -------------------------
+
+    private AiJobStore.AiJobState findOwned(Long userId, String jobId) {
+        AiJobStore.AiJobState state = jobStore.find(JOB_TYPE, jobId);
+        if (state == null || state.userId() != userId) {
+            throw new BusinessException(ErrorCode.AI_JOB_NOT_FOUND);
+        }
+        return state;
+    }
+
+    private void run(Long userId, String jobId, AiWorkoutRoutinesPutRequestDTO req) {
+        jobStore.markRunning(JOB_TYPE, jobId);
+        try {
+            AiWorkoutRoutinesResponseDTO result = facade.replaceRoutines(userId, req);
+            jobStore.complete(JOB_TYPE, jobId, objectMapper.writeValueAsString(result));
+        } catch (BusinessException e) {
+            log.warn("AI workout job failed. jobId={}, code={}", jobId, e.getErrorCode().code());
+            jobStore.fail(JOB_TYPE, jobId, e.getErrorCode().code());
+        } catch (Exception e) {
+            log.error("AI workout job failed. jobId={}", jobId, e);
+            jobStore.fail(JOB_TYPE, jobId, ErrorCode.INTERNAL_ERROR.code());
+        }
+    }
+
+    private AiWorkoutRoutineJobResponseDTO toDto(AiJobStore.AiJobState state) {
+        AiWorkoutRoutinesResponseDTO result = null;
+        if (state.status() == AiJobStatus.DONE && state.resultJson() != null) {
+            try {
+                result = objectMapper.readValue(state.resultJson(), AiWorkoutRoutinesResponseDTO.class);
+            } catch (JsonProcessingException e) {
+                throw new BusinessException(ErrorCode.INTERNAL_ERROR);
+            }
+        }
+        return new AiWorkoutRoutineJobResponseDTO(state.jobId(), state.status(), result, state.errorCode());
+    }
+
+    private String requestHash(List<LocalDate> targetDates, AiWorkoutRoutinesPutRequestDTO req) {
+        String normalizedReq = req.additionalRequest() == null ? "" : req.additionalRequest().trim();
+        // 캐시 우회 요청은 완료된 기존 작업을 재사용하면 안 되므로 해시에 포함한다.
+        String raw = targetDates + "|" + normalizedReq + "|" + Boolean.TRUE.equals(req.bypassCache());
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return new String(Hex.encode(md.digest(raw.getBytes(StandardCharsets.UTF_8))));
+        } catch (Exception e) {
+            throw new IllegalStateException("SHA-256 unavailable", e);
+        }
+    }
+}
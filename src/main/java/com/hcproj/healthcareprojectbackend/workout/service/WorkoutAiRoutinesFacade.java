@@ -1,8 +1,8 @@
 package com.hcproj.healthcareprojectbackend.workout.service;
 
+import com.hcproj.healthcareprojectbackend.global.ai.AiSseStreamer;
 import com.hcproj.healthcareprojectbackend.global.exception.BusinessException;
 import com.hcproj.healthcareprojectbackend.global.exception.ErrorCode;
-import com.hcproj.healthcareprojectbackend.workout.ai.WorkoutAiExerciseCatalogService;
 import com.hcproj.healthcareprojectbackend.workout.ai.WorkoutAiService;
 import com.hcproj.healthcareprojectbackend.workout.ai.dto.WorkoutAiRoutineResult;
 import com.hcproj.healthcareprojectbackend.workout.dto.request.AiWorkoutRoutinesPutRequestDTO;
@@ -11,33 +11,120 @@ import com.hcproj.healthcareprojectbackend.workout.entity.ExerciseEntity;
 import com.hcproj.healthcareprojectbackend.workout.entity.WorkoutDayEntity;
 import com.hcproj.healthcareprojectbackend.workout.entity.WorkoutItemEntity;
 import com.hcproj.healthcareprojectbackend.workout.repository.ExerciseRepository;
-import com.hcproj.healthcareprojectbackend.workout.repository.WorkoutDayRepository;
-import com.hcproj.healthcareprojectbackend.workout.repository.WorkoutItemRepository;
+import com.hcproj.healthcareprojectbackend.workout.service.manager.WorkoutAiRoutinesManager;
+import com.hcproj.healthcareprojectbackend.workout.service.manager.WorkoutAiRoutinesManager.Persisted;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.DayOfWeek;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.*;
 import java.util.stream.Collectors;
 
+/**
+ * AI 운동 루틴 생성 유스케이스 파사드.
+ *
+ * <p><b>처리 단계</b></p>
+ * <ol>
+ *   <li>요청 검증: 날짜가 오늘~6일 후 윈도우 안인지 확인</li>
+ *   <li>생성: allowlist 구성 + AI 호출 + 서버 검증 (트랜잭션 없음)</li>
+ *   <li>쓰기: {@link WorkoutAiRoutinesManager}의 짧은 쓰기 트랜잭션에서 윈도우 교체</li>
+ * </ol>
+ *
+ * <p>
+ * 동기 API와 비동기 작업({@link WorkoutAiRoutineJobService})이 같은 경로를 사용한다.
+ * 스트리밍 경로({@link #streamRoutines})는 day 단위로 검증 후 SSE로 먼저 내려주고, 저장은 마지막에 한 번에 수행한다.
+ * </p>
+ */
 @Service
 @RequiredArgsConstructor
 public class WorkoutAiRoutinesFacade {
 
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
     private final WorkoutAiService workoutAiService;
+    private final WorkoutAiRoutinesManager routinesManager;
+    private final AiSseStreamer sseStreamer;
 
-    private final WorkoutDayRepository workoutDayRepository;
-    private final WorkoutItemRepository workoutItemRepository;
     private final ExerciseRepository exerciseRepository;
 
-    @Transactional
     public AiWorkoutRoutinesResponseDTO replaceRoutines(Long userId, AiWorkoutRoutinesPutRequestDTO req) {
+        List<LocalDate> targetDates = resolveTargetDates(req);
 
         // ✅ 정책: "오늘부터 7일(오늘 포함)" 윈도우
-        LocalDate startDate = LocalDate.now(java.time.ZoneId.of("Asia/Seoul"));
+        LocalDate startDate = LocalDate.now(ZONE);
+        LocalDate endDate = startDate.plusDays(6);
+
+        // ✅ AI 호출 (allowedExercises whitelist 포함) - 트랜잭션 밖
+        // ✅ 서버 검증 (exerciseId가 allowed 목록 안인지) - 통과한 응답만 캐시된다
+        WorkoutAiService.Generated generated = workoutAiService.generate(
+                userId,
+                targetDates,
+                req.additionalRequest(),
+                Boolean.TRUE.equals(req.bypassCache()),
+                this::validateDay,
+                result -> validateAiOutput(targetDates, result)
+        );
+        WorkoutAiRoutineResult ai = generated.result();
+
+        // ✅ 윈도우 전체 Replace + insert - 짧은 쓰기 트랜잭션
+        Persisted persisted = routinesManager.replaceRoutines(userId, startDate, endDate, ai);
+
+        // ✅ 응답 조립
+        return buildResponse(targetDates, ai, persisted);
+    }
+
+    /**
+     * 운동 루틴을 스트리밍으로 생성한다.
+     *
+     * <p>
+     * 날짜 검증은 스트림을 열기 전에 수행하여 400을 일반 응답으로 돌려준다.
+     * 이후 day가 완성될 때마다 검증 후 {@code day} 이벤트로 보내고,
+     * 전체 검증 → 저장 → {@code done} 이벤트 순으로 끝난다. 중간 실패 시 아무것도 저장하지 않는다.
+     * </p>
+     */
+    public SseEmitter streamRoutines(Long userId, AiWorkoutRoutinesPutRequestDTO req) {
+        List<LocalDate> targetDates = resolveTargetDates(req);
+
+        LocalDate startDate = LocalDate.now(ZONE);
+        LocalDate endDate = startDate.plusDays(6);
+
+        return sseStreamer.start("workout-routines", daySink -> {
+            Set<LocalDate> expected = new HashSet<>(targetDates);
+            Set<LocalDate> seenDates = new HashSet<>();
+
+            WorkoutAiService.Generated generated = workoutAiService.generateStreaming(
+                    userId,
+                    targetDates,
+                    req.additionalRequest(),
+                    this::validateDay,
+                    day -> {
+                        if (!expected.contains(day.logDate()) || !seenDates.add(day.logDate())) {
+                            throw new BusinessException(ErrorCode.AI_INVALID_OUTPUT);
+                        }
+                        daySink.accept(day);
+                    },
+                    result -> validateAiOutput(targetDates, result)
+            );
+            WorkoutAiRoutineResult ai = generated.result();
+
+            Persisted persisted = routinesManager.replaceRoutines(userId, startDate, endDate, ai);
+            return buildResponse(targetDates, ai, persisted);
+        });
+    }
+
+    /**
+     * 요청 날짜를 검증하고 중복 제거 + 정렬된 대상 날짜 목록을 반환한다.
+     *
+     * <p>비동기 작업 제출 시에도 AI 호출 전에 400을 바로 돌려주기 위해 분리했다.</p>
+     *
+     * @throws BusinessException dates가 비어 있거나 윈도우(오늘~6일 후) 밖 날짜가 있으면 {@link ErrorCode#INVALID_REQUEST}
+     */
+    List<LocalDate> resolveTargetDates(AiWorkoutRoutinesPutRequestDTO req) {
+        LocalDate startDate = LocalDate.now(ZONE);
         LocalDate endDate = startDate.plusDays(6);
 
         // ✅ 요청 검증: dates 필수
@@ -54,141 +141,41 @@ public class WorkoutAiRoutinesFacade {
         }
 
         // ✅ 중복 제거 + 정렬
-        List<LocalDate> targetDates = requestedDates.stream()
+        return requestedDates.stream()
                 .distinct()
                 .sorted()
                 .toList();
-
-        // ✅ 윈도우 전체 Replace: 오늘~6일후에 해당하는 기존 데이터 싹 제거
-        deleteExistingInWindow(userId, startDate, endDate);
-
-        // ✅ AI 호출 (allowedExercises whitelist 포함)
-        WorkoutAiService.Generated generated = workoutAiService.generate(targetDates, req.additionalRequest());
-        WorkoutAiRoutineResult ai = generated.result();
-
-        // ✅ 서버 검증 (exerciseId가 allowed 목록 안인지)
-        Set<Long> allowedExerciseIds = generated.allowedPayload().allowedExercises().stream()
-                .map(WorkoutAiExerciseCatalogService.AllowedExerciseDTO::id)
-                .collect(Collectors.toSet());
-        validateAiOutput(targetDates, ai, allowedExerciseIds);
-
-        // ✅ insert
-        Persisted persisted = persist(userId, ai);
-
-        // ✅ 응답 조립
-        return buildResponse(targetDates, ai, persisted);
-    }
-
-
-    private void deleteExistingInWindow(Long userId, LocalDate startDate, LocalDate endDate) {
-        List<WorkoutDayEntity> existing = workoutDayRepository
-                .findByUserIdAndLogDateBetween(userId, startDate, endDate);
-
-        if (existing.isEmpty()) return;
-
-        List<Long> dayIds = existing.stream()
-                .map(WorkoutDayEntity::getWorkoutDayId)
-                .toList();
-
-        // 1) items 삭제
-        workoutItemRepository.deleteByWorkoutDayIdIn(dayIds);
-
-        // 2) days도 삭제 (권장: "목금월화만 남는다"를 보장)
-        workoutDayRepository.deleteAllByIdInBatch(dayIds);
     }
 
-    private void validateAiOutput(List<LocalDate> targetDates, WorkoutAiRoutineResult ai, Set<Long> allowedIds) {
+    /**
+     * 날짜 구성만 검증한다. day 내부 규칙은 {@link #validateDay}로 응답을 읽는 도중 이미 검증된다.
+     */
+    private void validateAiOutput(List<LocalDate> targetDates, WorkoutAiRoutineResult ai) {
         if (ai == null || ai.days() == null) throw new BusinessException(ErrorCode.AI_INVALID_OUTPUT);
 
         // 날짜 set 비교: AI가 targetDates 외 날짜를 만들면 invalid
         Set<LocalDate> expected = new HashSet<>(targetDates);
         Set<LocalDate> got = ai.days().stream().map(WorkoutAiRoutineResult.Day::logDate).collect(Collectors.toSet());
         if (!got.equals(expected)) throw new BusinessException(ErrorCode.AI_INVALID_OUTPUT);
-
-        for (var day : ai.days()) {
-            if (day.title() == null || day.title().isBlank()) throw new BusinessException(ErrorCode.AI_INVALID_OUTPUT);
-            if (day.items() == null || day.items().isEmpty()) throw new BusinessException(ErrorCode.AI_INVALID_OUTPUT);
-
-            int order = 0;
-            for (var item : day.items()) {
-                if (item.displayOrder() == null || item.displayOrder() != order) throw new BusinessException(ErrorCode.AI_INVALID_OUTPUT);
-                order++;
-
-                if (item.exerciseId() == null || !allowedIds.contains(item.exerciseId()))
-                    throw new BusinessException(ErrorCode.AI_INVALID_OUTPUT);
-
-                // sets/reps/duration/distance 중 최소 하나는 있어야 의미있게
-                boolean hasAny = item.sets() != null || item.reps() != null || item.durationMinutes() != null || item.distanceKm() != null;
-                if (!hasAny) throw new BusinessException(ErrorCode.AI_INVALID_OUTPUT);
-            }
-        }
     }
 
-    private Persisted persist(Long userId, WorkoutAiRoutineResult ai) {
-        // 0) AI days를 날짜 기준으로 정렬(안 해도 되지만 안정성↑)
-        List<WorkoutAiRoutineResult.Day> aiDays = ai.days().stream()
-                .sorted(Comparator.comparing(WorkoutAiRoutineResult.Day::logDate))
-                .toList();
+    private void validateDay(WorkoutAiRoutineResult.Day day, Set<Long> allowedIds) {
+        if (day == null || day.logDate() == null) throw new BusinessException(ErrorCode.AI_INVALID_OUTPUT);
+        if (day.title() == null || day.title().isBlank()) throw new BusinessException(ErrorCode.AI_INVALID_OUTPUT);
+        if (day.items() == null || day.items().isEmpty()) throw new BusinessException(ErrorCode.AI_INVALID_OUTPUT);
 
-        List<LocalDate> dates = aiDays.stream()
-                .map(WorkoutAiRoutineResult.Day::logDate)
-                .toList();
+        int order = 0;
+        for (var item : day.items()) {
+            if (item.displayOrder() == null || item.displayOrder() != order) throw new BusinessException(ErrorCode.AI_INVALID_OUTPUT);
+            order++;
 
-        // 1) 기존 day 조회
-        Map<LocalDate, WorkoutDayEntity> existing =
-                workoutDayRepository.findByUserIdAndLogDateIn(userId, dates).stream()
-                        .collect(Collectors.toMap(WorkoutDayEntity::getLogDate, d -> d));
-
-        // 2) day 업서트(있으면 title 갱신, 없으면 생성)
-        List<WorkoutDayEntity> daysToSave = new ArrayList<>();
-        for (var d : aiDays) {
-            WorkoutDayEntity day = existing.get(d.logDate());
-            if (day == null) {
-                day = WorkoutDayEntity.builder()
-                        .userId(userId)
-                        .logDate(d.logDate())
-                        .totalMinutes(d.totalMinutes())
-                        .title(d.title())
-                        .build();
-            } else {
-                day.replaceTitle(d.title()); // 엔티티에 메서드 필요
-            }
-            daysToSave.add(day);
-        }
+            if (item.exerciseId() == null || !allowedIds.contains(item.exerciseId()))
+                throw new BusinessException(ErrorCode.AI_INVALID_OUTPUT);
 
-        List<WorkoutDayEntity> savedDays = workoutDayRepository.saveAll(daysToSave);
-
-        // 3) 날짜 -> dayId 매핑
-        Map<LocalDate, Long> dateToDayId = savedDays.stream()
-                .collect(Collectors.toMap(WorkoutDayEntity::getLogDate, WorkoutDayEntity::getWorkoutDayId));
-
-        // 5) item 재삽입
-        List<WorkoutItemEntity> itemEntities = new ArrayList<>();
-        for (var day : aiDays) {
-            Long dayId = dateToDayId.get(day.logDate());
-            if (dayId == null) {
-                throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
-            }
-
-            for (var it : day.items()) {
-                itemEntities.add(WorkoutItemEntity.builder()
-                        .workoutDayId(dayId)
-                        .exerciseId(it.exerciseId())
-                        .sortOrder(it.displayOrder())
-                        .sets(it.sets())
-                        .reps(it.reps())
-                        .restSecond(it.restSecond())
-                        .durationMinutes(it.durationMinutes())
-                        .distanceKm(it.distanceKm())
-                        .rpe(it.rpe())
-                        .amount(it.amount())
-                        .isChecked(false) // 정책: 새로 생성된 루틴은 미체크
-                        .build());
-            }
+            // sets/reps/duration/distance 중 최소 하나는 있어야 의미있게
+            boolean hasAny = item.sets() != null || item.reps() != null || item.durationMinutes() != null || item.distanceKm() != null;
+            if (!hasAny) throw new BusinessException(ErrorCode.AI_INVALID_OUTPUT);
         }
-
-        List<WorkoutItemEntity> savedItems = workoutItemRepository.saveAll(itemEntities);
-        return new Persisted(savedDays, savedItems);
     }
 
     private AiWorkoutRoutinesResponseDTO buildResponse(
@@ -199,18 +186,18 @@ public class WorkoutAiRoutinesFacade {
         Instant now = Instant.now();
 
         // exerciseName map
-        Set<Long> exerciseIds = persisted.items.stream().map(WorkoutItemEntity::getExerciseId).collect(Collectors.toSet());
+        Set<Long> exerciseIds = persisted.items().stream().map(WorkoutItemEntity::getExerciseId).collect(Collectors.toSet());
         Map<Long, ExerciseEntity> exerciseMap = exerciseRepository.findByExerciseIdIn(exerciseIds).stream()
                 .collect(Collectors.toMap(ExerciseEntity::getExerciseId, e -> e));
 
-        Map<Long, List<WorkoutItemEntity>> itemsByDayId = persisted.items.stream()
+        Map<Long, List<WorkoutItemEntity>> itemsByDayId = persisted.items().stream()
                 .collect(Collectors.groupingBy(WorkoutItemEntity::getWorkoutDayId));
 
         // ai day info를 logDate로 빠르게 찾기
         Map<LocalDate, WorkoutAiRoutineResult.Day> aiDayMap = ai.days().stream()
                 .collect(Collectors.toMap(WorkoutAiRoutineResult.Day::logDate, d -> d));
 
-        List<AiWorkoutRoutinesResponseDTO.Day> days = persisted.days.stream()
+        List<AiWorkoutRoutinesResponseDTO.Day> days = persisted.days().stream()
                 .sorted(Comparator.comparing(WorkoutDayEntity::getLogDate))
                 .map(day -> {
                     LocalDate logDate = day.getLogDate();
@@ -282,6 +269,4 @@ public class WorkoutAiRoutinesFacade {
             case SUNDAY -> "SUN";
         };
     }
-
-    private record Persisted(List<WorkoutDayEntity> days, List<WorkoutItemEntity> items) {}
 }
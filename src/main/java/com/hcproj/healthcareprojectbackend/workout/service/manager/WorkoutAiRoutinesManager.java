@@ -0,0 +1,136 @@
+package com.hcproj.healthcareprojectbackend.workout.service.manager;
+
+import com.hcproj.healthcareprojectbackend.global.exception.BusinessException;
+import com.hcproj.healthcareprojectbackend.global.exception.ErrorCode;
+import com.hcproj.healthcareprojectbackend.workout.ai.dto.WorkoutAiRoutineResult;
+import com.hcproj.healthcareprojectbackend.workout.entity.WorkoutDayEntity;
+import com.hcproj.healthcareprojectbackend.workout.entity.WorkoutItemEntity;
+import com.hcproj.healthcareprojectbackend.workout.repository.WorkoutDayRepository;
+import com.hcproj.healthcareprojectbackend.workout.repository.WorkoutItemRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * AI 운동 루틴의 "쓰기 단계"만 담당하는 매니저.
+ *
+ * <p>
+ * AI 호출은 트랜잭션 밖에서 끝내고, 검증된 결과만 이 매니저의 짧은 쓰기 트랜잭션에서
+ * 윈도우 삭제 + insert로 교체한다. (동기/비동기 호출 경로가 동일하게 사용한다)
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class WorkoutAiRoutinesManager {
+
+    private final WorkoutDayRepository workoutDayRepository;
+    private final WorkoutItemRepository workoutItemRepository;
+
+    /**
+     * 윈도우 내 기존 루틴을 지우고 AI 결과로 교체한다.
+     *
+     * @param userId    사용자 ID
+     * @param startDate 윈도우 시작일(포함)
+     * @param endDate   윈도우 종료일(포함)
+     * @param ai        검증을 통과한 AI 결과
+     * @return 저장된 day/item 엔티티 묶음
+     */
+    @Transactional
+    public Persisted replaceRoutines(Long userId, LocalDate startDate, LocalDate endDate, WorkoutAiRoutineResult ai) {
+        deleteExistingInWindow(userId, startDate, endDate);
+        return persist(userId, ai);
+    }
+
+    private void deleteExistingInWindow(Long userId, LocalDate startDate, LocalDate endDate) {
+        List<WorkoutDayEntity> existing = workoutDayRepository
+                .findByUserIdAndLogDateBetween(userId, startDate, endDate);
+
+        if (existing.isEmpty()) return;
+
+        List<Long> dayIds = existing.stream()
+                .map(WorkoutDayEntity::getWorkoutDayId)
+                .toList();
+
+        // 1) items 삭제
+        workoutItemRepository.deleteByWorkoutDayIdIn(dayIds);
+
+        // 2) days도 삭제 (권장: "목금월화만 남는다"를 보장)
+        workoutDayRepository.deleteAllByIdInBatch(dayIds);
+    }
+
+    private Persisted persist(Long userId, WorkoutAiRoutineResult ai) {
+        // 0) AI days를 날짜 기준으로 정렬(안 해도 되지만 안정성↑)
+        List<WorkoutAiRoutineResult.Day> aiDays = ai.days().stream()
+                .sorted(Comparator.comparing(WorkoutAiRoutineResult.Day::logDate))
+                .toList();
+
+        List<LocalDate> dates = aiDays.stream()
+                .map(WorkoutAiRoutineResult.Day::logDate)
+                .toList();
+
+        // 1) 기존 day 조회
+        Map<LocalDate, WorkoutDayEntity> existing =
+                workoutDayRepository.findByUserIdAndLogDateIn(userId, dates).stream()
+                        .collect(Collectors.toMap(WorkoutDayEntity::getLogDate, d -> d));
+
+        // 2) day 업서트(있으면 title 갱신, 없으면 생성)
+        List<WorkoutDayEntity> daysToSave = new ArrayList<>();
+        for (var d : aiDays) {
+            WorkoutDayEntity day = existing.get(d.logDate());
+            if (day == null) {
+                day = WorkoutDayEntity.builder()
+                        .userId(userId)
+                        .logDate(d.logDate())
+                        .totalMinutes(d.totalMinutes())
+                        .title(d.title())
+                        .build();
+            } else {
+                day.replaceTitle(d.title()); // 엔티티에 메서드 필요
+            }
+            daysToSave.add(day);
+        }
+
+        List<WorkoutDayEntity> savedDays = workoutDayRepository.saveAll(daysToSave);
+
+        // 3) 날짜 -> dayId 매핑
+        Map<LocalDate, Long> dateToDayId = savedDays.stream()
+                .collect(Collectors.toMap(WorkoutDayEntity::getLogDate, WorkoutDayEntity::getWorkoutDayId));
+
+        // 4) item 재삽입
+        List<WorkoutItemEntity> itemEntities = new ArrayList<>();
+        for (var day : aiDays) {
+            Long dayId = dateToDayId.get(day.logDate());
+            if (dayId == null) {
+                throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+            }
+
+            for (var it : day.items()) {
+                itemEntities.add(WorkoutItemEntity.builder()
+                        .workoutDayId(dayId)
+                        .exerciseId(it.exerciseId())
+                        .sortOrder(it.displayOrder())
+                        .sets(it.sets())
+                        .reps(it.reps())
+                        .restSecond(it.restSecond())
+                        .durationMinutes(it.durationMinutes())
+                        .distanceKm(it.distanceKm())
+                        .rpe(it.rpe())
+                        .amount(it.amount())
+                        .isChecked(false) // 정책: 새로 생성된 루틴은 미체크
+                        .build());
+            }
+        }
+
+        List<WorkoutItemEntity> savedItems = workoutItemRepository.saveAll(itemEntities);
+        return new Persisted(savedDays, savedItems);
+    }
+
+    /**
+     * 쓰기 단계에서 저장된 엔티티 묶음(응답 조립용).
+     */
+    public record Persisted(List<WorkoutDayEntity> days, List<WorkoutItemEntity> items) {}
+}
@@ -0,0 +1,27 @@
+-- V10__add_users_search_key.sql
+
+-- users.search_key: 닉네임에서 공백 제거 + 소문자 (UtilityProvider.toSearchKey와 같은 규칙)
+alter table users
+    add column if not exists search_key varchar(50);
+
+update users
+set search_key = replace(lower(nickname), ' ', '');
+
+alter table users
+    alter column search_key set not null;
+
+-- 작성자/관리자 검색
+--   기본(부분 일치): search_key like '%kw%' -> trigram GIN (3글자 미만은 trigram이 없어 스캔)
+--   match=PREFIX:     search_key like 'kw%'  -> B-tree (collation과 무관하게 LIKE 앞부분 일치에 쓰이도록 pattern_ops)
+create index if not exists idx_users_search_key_trgm
+    on users using gin (search_key gin_trgm_ops);
+
+create index if not exists idx_users_search_key_prefix
+    on users (search_key varchar_pattern_ops);
+
+-- 관리자 이메일 검색: lower(email) like ...
+create index if not exists idx_users_email_lower_trgm
+    on users using gin (lower(email) gin_trgm_ops);
+
+create index if not exists idx_users_email_lower_prefix
+    on users (lower(email) text_pattern_ops);
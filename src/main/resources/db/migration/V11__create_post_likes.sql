@@ -0,0 +1,27 @@
+-- V11__create_post_likes.sql
+
+-- 게시글 좋아요: 사용자당 1행. (post_id, user_id) unique로 중복 좋아요를 막는다.
+create table if not exists post_likes (
+    post_like_id bigserial primary key,
+    post_id bigint not null,
+    user_id bigint not null,
+    created_at timestamptz not null,
+    constraint uk_post_likes_post_user unique (post_id, user_id)
+);
+
+alter table post_likes
+    add constraint fk_post_likes_post
+        foreign key (post_id) references posts(post_id)
+            on delete restrict;
+
+alter table post_likes
+    add constraint fk_post_likes_user
+        foreign key (user_id) references users(user_id)
+            on delete restrict;
+
+-- 사용자 기준 조회(내가 좋아요한 글)와 FK 검사용
+create index if not exists idx_post_likes_user_id on post_likes(user_id);
+
+-- posts.like_count: 좋아요 수 (Redis shard 카운터의 누적분을 주기적으로 batch 반영하는 비정규화 컬럼)
+alter table posts
+    add column if not exists like_count bigint not null default 0;
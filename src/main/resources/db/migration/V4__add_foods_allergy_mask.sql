@@ -0,0 +1,30 @@
+-- V4__add_foods_allergy_mask.sql
+
+-- foods.allergy_codes(CSV)를 AllergyType 비트 마스크로 정규화한다.
+-- 비트 위치 = AllergyType 선언 순서(ordinal). NUT/SHELLFISH는 과거 포괄 코드 별칭.
+alter table foods add column if not exists allergy_mask bigint not null default 0;
+
+update foods
+set allergy_mask =
+    (case when ',' || upper(replace(coalesce(allergy_codes, ''), ' ', '')) || ',' like '%,WHEAT,%' then 1 else 0 end)
+  | (case when ',' || upper(replace(coalesce(allergy_codes, ''), ' ', '')) || ',' like '%,BUCKWHEAT,%' then 2 else 0 end)
+  | (case when ',' || upper(replace(coalesce(allergy_codes, ''), ' ', '')) || ',' like '%,PEANUT,%' then 4 else 0 end)
+  | (case when ',' || upper(replace(coalesce(allergy_codes, ''), ' ', '')) || ',' like '%,TREE_NUT,%' then 8 else 0 end)
+  | (case when ',' || upper(replace(coalesce(allergy_codes, ''), ' ', '')) || ',' like '%,CRUSTACEAN,%' then 16 else 0 end)
+  | (case when ',' || upper(replace(coalesce(allergy_codes, ''), ' ', '')) || ',' like '%,MOLLUSK,%' then 32 else 0 end)
+  | (case when ',' || upper(replace(coalesce(allergy_codes, ''), ' ', '')) || ',' like '%,EGG,%' then 64 else 0 end)
+  | (case when ',' || upper(replace(coalesce(allergy_codes, ''), ' ', '')) || ',' like '%,MILK,%' then 128 else 0 end)
+  | (case when ',' || upper(replace(coalesce(allergy_codes, ''), ' ', '')) || ',' like '%,BEEF,%' then 256 else 0 end)
+  | (case when ',' || upper(replace(coalesce(allergy_codes, ''), ' ', '')) || ',' like '%,PORK,%' then 512 else 0 end)
+  | (case when ',' || upper(replace(coalesce(allergy_codes, ''), ' ', '')) || ',' like '%,CHICKEN,%' then 1024 else 0 end)
+  | (case when ',' || upper(replace(coalesce(allergy_codes, ''), ' ', '')) || ',' like '%,SOY,%' then 2048 else 0 end)
+  | (case when ',' || upper(replace(coalesce(allergy_codes, ''), ' ', '')) || ',' like '%,SESAME,%' then 4096 else 0 end)
+  | (case when ',' || upper(replace(coalesce(allergy_codes, ''), ' ', '')) || ',' like '%,FISH,%' then 8192 else 0 end)
+  | (case when ',' || upper(replace(coalesce(allergy_codes, ''), ' ', '')) || ',' like '%,SULFITE,%' then 16384 else 0 end)
+  | (case when ',' || upper(replace(coalesce(allergy_codes, ''), ' ', '')) || ',' like '%,NUT,%' then 12 else 0 end)
+  | (case when ',' || upper(replace(coalesce(allergy_codes, ''), ' ', '')) || ',' like '%,SHELLFISH,%' then 48 else 0 end)
+where allergy_codes is not null and allergy_codes <> '';
+
+-- AI 허용 목록 구성: 활성 음식을 food_id 순으로 (마스크와 함께) 읽는다.
+create index if not exists idx_foods_active_food_id
+    on foods(is_active, food_id) include (allergy_mask);
@@ -0,0 +1,18 @@
+-- V5__pooled_sequences_for_plan_tables.sql
+
+-- AI 식단/루틴 저장 시 JDBC batch insert를 위해 IDENTITY 대신 pooled sequence(allocationSize=50)를 사용한다.
+-- bigserial이 만든 기존 시퀀스를 그대로 쓰되, increment를 엔티티의 allocationSize와 맞춘다.
+-- (Hibernate pooled optimizer: nextval 한 번으로 [value-49, value] 구간을 메모리에서 발급)
+-- 현재 값 이후부터 50씩 증가하므로 기존 id와 충돌하지 않는다.
+alter sequence diet_days_diet_day_id_seq increment by 50;
+alter sequence diet_meals_diet_meal_id_seq increment by 50;
+alter sequence diet_meal_items_diet_meal_item_id_seq increment by 50;
+alter sequence workout_days_workout_day_id_seq increment by 50;
+alter sequence workout_items_workout_item_id_seq increment by 50;
+
+-- 시퀀스 현재 값이 기존 최대 id보다 작으면(수동 insert 등) 최대 id로 맞춘다.
+select setval('diet_days_diet_day_id_seq', greatest((select coalesce(max(diet_day_id), 0) from diet_days), (select last_value from diet_days_diet_day_id_seq)));
+select setval('diet_meals_diet_meal_id_seq', greatest((select coalesce(max(diet_meal_id), 0) from diet_meals), (select last_value from diet_meals_diet_meal_id_seq)));
+select setval('diet_meal_items_diet_meal_item_id_seq', greatest((select coalesce(max(diet_meal_item_id), 0) from diet_meal_items), (select last_value from diet_meal_items_diet_meal_item_id_seq)));
+select setval('workout_days_workout_day_id_seq', greatest((select coalesce(max(workout_day_id), 0) from workout_days), (select last_value from workout_days_workout_day_id_seq)));
+select setval('workout_items_workout_item_id_seq', greatest((select coalesce(max(workout_item_id), 0) from workout_items), (select last_value from workout_items_workout_item_id_seq)));
@@ -0,0 +1,18 @@
+-- V6__create_email_outbox.sql
+
+-- 요청 경로에서 SMTP를 직접 호출하지 않도록, 발송할 메일을 outbox에 적재하고
+-- 백그라운드 dispatcher가 묶음 발송한다. 발송에 성공한 행은 삭제된다.
+create table if not exists email_outbox (
+    email_outbox_id bigserial primary key,
+    recipient varchar(320) not null,
+    subject varchar(255) not null,
+    text_body text,
+    html_body text,
+    status varchar(20) not null,
+    attempts int not null,
+    next_attempt_at timestamptz not null,
+    last_error text,
+    created_at timestamptz not null
+);
+
+create index if not exists idx_email_outbox_status_next on email_outbox(status, next_attempt_at);
@@ -0,0 +1,14 @@
+-- V7__add_post_search_trigram_indexes.sql
+
+-- 게시글 검색: REPLACE(LOWER(col), ' ', '') LIKE '%kw%' 조건을 trigram GIN 인덱스로 처리한다.
+-- 인덱스 식은 PostRepository 쿼리의 식과 글자 그대로 같아야 planner가 사용한다.
+-- 검색어가 3글자 미만이면 trigram을 뽑을 수 없어 planner가 (status, post_id desc) 인덱스 역순 스캔을 택한다.
+create extension if not exists pg_trgm;
+
+-- 사용자/어드민 제목 검색
+create index if not exists idx_posts_title_search_trgm
+    on posts using gin (replace(lower(title), ' ', '') gin_trgm_ops);
+
+-- 어드민 본문 검색
+create index if not exists idx_posts_content_search_trgm
+    on posts using gin (replace(lower(content), ' ', '') gin_trgm_ops);
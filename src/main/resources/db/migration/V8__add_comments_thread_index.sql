@@ -0,0 +1,9 @@
+-- V8__add_comments_thread_index.sql
+
+-- comments: 게시글별 최상위 댓글/대댓글 cursor 페이지 조회 + 부모별 대댓글 수 집계
+--   where post_id = ? and parent_comment_id is null|= ? and comment_id > ? order by comment_id
+create index if not exists idx_comments_post_parent_comment
+    on comments(post_id, parent_comment_id, comment_id);
+
+-- post_id 단일 인덱스는 위 인덱스의 선두 컬럼과 겹치므로 제거한다.
+drop index if exists idx_comments_post_id;
@@ -0,0 +1,8 @@
+-- V9__add_posts_comment_count.sql
+
+-- posts.comment_count: 삭제되지 않은 댓글 수 (목록/상세에서 GROUP BY 없이 읽기 위한 비정규화 컬럼)
+alter table posts
+    add column if not exists comment_count bigint not null default 0;
+
+update posts p
+set comment_count = (select count(*) from comments c where c.post_id = p.post_id and c.status <> 'DELETED');
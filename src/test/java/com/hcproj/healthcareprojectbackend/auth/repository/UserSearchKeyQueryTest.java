@@ -0,0 +1,69 @@
+package com.hcproj.healthcareprojectbackend.auth.repository;
+
+import com.hcproj.healthcareprojectbackend.auth.entity.UserEntity;
+import com.hcproj.healthcareprojectbackend.global.config.JpaConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static com.hcproj.healthcareprojectbackend.global.util.UtilityProvider.toSearchKeyPattern;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 관리자 사용자 검색이 검색어 길이와 무관하게 부분 일치로 동작하고,
+ * PREFIX를 명시했을 때만 앞부분 일치로 좁혀지는지 검증한다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaConfig.class)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:user-search-key;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false"
+})
+class UserSearchKeyQueryTest {
+
+    @Autowired
+    UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        save("kim@test.com", "김 철수");
+        save("lee@test.com", "철수리");
+        save("park@test.com", "박영희");
+    }
+
+    @Test
+    void shortKeyword_matchesAnywhereByDefault() {
+        assertThat(nicknames(toSearchKeyPattern("철수", null))).containsExactlyInAnyOrder("김 철수", "철수리");
+        assertThat(userRepository.countAllWithFiltersAndKeyword(null, toSearchKeyPattern("철수", null))).isEqualTo(2);
+    }
+
+    @Test
+    void keywordIgnoresSpacesAndCase() {
+        assertThat(nicknames(toSearchKeyPattern("김철 수", "contains"))).containsExactly("김 철수");
+        assertThat(nicknames(toSearchKeyPattern("KIM@", null))).containsExactly("김 철수");
+    }
+
+    @Test
+    void prefixMode_matchesOnlyLeadingKeyword() {
+        assertThat(nicknames(toSearchKeyPattern("철수", "prefix"))).containsExactly("철수리");
+        assertThat(nicknames(toSearchKeyPattern("박영희", "PREFIX"))).containsExactly("박영희");
+    }
+
+    private List<String> nicknames(String pattern) {
+        return userRepository.findAllWithFiltersAndKeyword(null, pattern, 10, 0).stream()
+                .map(UserEntity::getNickname)
+                .toList();
+    }
+
+    private void save(String email, String nickname) {
+        userRepository.save(UserEntity.localRegister(email, UserEntity.newHandle(), "hash", nickname, null, null));
+    }
+}
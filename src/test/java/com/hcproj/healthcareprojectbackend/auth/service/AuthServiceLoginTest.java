@@ -0,0 +1,192 @@
+package com.hcproj.healthcareprojectbackend.auth.service;
+
+import com.hcproj.healthcareprojectbackend.auth.dto.request.LoginRequestDTO;
+import com.hcproj.healthcareprojectbackend.auth.dto.request.SignupRequestDTO;
+import com.hcproj.healthcareprojectbackend.auth.dto.response.TokenResponseDTO;
+import com.hcproj.healthcareprojectbackend.auth.entity.UserEntity;
+import com.hcproj.healthcareprojectbackend.auth.repository.UserRepository;
+import com.hcproj.healthcareprojectbackend.auth.social.SocialOAuthClient;
+import com.hcproj.healthcareprojectbackend.global.config.JpaConfig;
+import com.hcproj.healthcareprojectbackend.global.exception.BusinessException;
+import com.hcproj.healthcareprojectbackend.global.exception.ErrorCode;
+import com.hcproj.healthcareprojectbackend.global.security.jwt.JwtProperties;
+import com.hcproj.healthcareprojectbackend.global.security.jwt.JwtTokenProvider;
+import com.hcproj.healthcareprojectbackend.global.security.jwt.RefreshTokenStore;
+import com.hcproj.healthcareprojectbackend.global.security.jwt.TokenVersionStore;
+import com.hcproj.healthcareprojectbackend.global.security.password.PasswordHashingService;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+/**
+ * 로그인/회원가입의 BCrypt 검증/해시가 DB 커넥션을 잡지 않은 채 수행되고,
+ * 재해시 저장이 조건부 UPDATE로 동작하는지 검증한다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaConfig.class, AuthService.class, AuthServiceLoginTest.JwtConfig.class})
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:auth-login;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AuthServiceLoginTest {
+
+    private static final String PASSWORD = "password1!";
+    private static final String OLD_HASH = "$2a$10$old";
+    private static final String NEW_HASH = "$2a$12$new";
+
+    @TestConfiguration
+    static class JwtConfig {
+
+        @Bean
+        JwtProperties jwtProperties() {
+            return new JwtProperties("test-secret-test-secret-test-secret-test-secret-0123456789", 900, 3600);
+        }
+
+        @Bean
+        JwtTokenProvider jwtTokenProvider(JwtProperties jwtProperties) {
+            return new JwtTokenProvider(jwtProperties);
+        }
+    }
+
+    @MockitoBean
+    PasswordHashingService passwordHashingService;
+    @MockitoBean
+    RefreshTokenStore refreshTokenStore;
+    @MockitoBean
+    TokenVersionStore tokenVersionStore;
+    @MockitoBean
+    SocialOAuthClient socialOAuthClient;
+
+    @Autowired
+    AuthService authService;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    DataSource dataSource;
+
+    private HikariPoolMXBean pool;
+    private final List<Integer> activeDuringHashing = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+        when(tokenVersionStore.getOrInit(anyLong())).thenReturn(1);
+    }
+
+    @Test
+    void login_verifiesPasswordWithoutHoldingConnection() {
+        UserEntity user = newVerifiedUser();
+        when(passwordHashingService.matches(PASSWORD, OLD_HASH)).thenAnswer(invocation -> {
+            activeDuringHashing.add(pool.getActiveConnections());
+            return true;
+        });
+        when(passwordHashingService.needsRehash(OLD_HASH)).thenReturn(false);
+
+        authService.login(new LoginRequestDTO(user.getEmail(), PASSWORD));
+
+        assertThat(activeDuringHashing).containsExactly(0);
+        assertThat(storedHash(user)).isEqualTo(OLD_HASH);
+    }
+
+    @Test
+    void login_rehashesOutsideTransactionWithConditionalUpdate() {
+        UserEntity user = newVerifiedUser();
+        when(passwordHashingService.matches(PASSWORD, OLD_HASH)).thenReturn(true);
+        when(passwordHashingService.needsRehash(OLD_HASH)).thenReturn(true);
+        when(passwordHashingService.encode(PASSWORD)).thenAnswer(invocation -> {
+            activeDuringHashing.add(pool.getActiveConnections());
+            return NEW_HASH;
+        });
+
+        authService.login(new LoginRequestDTO(user.getEmail(), PASSWORD));
+
+        assertThat(activeDuringHashing).containsExactly(0);
+        assertThat(storedHash(user)).isEqualTo(NEW_HASH);
+    }
+
+    @Test
+    void login_doesNotOverwritePasswordChangedDuringRehash() {
+        UserEntity user = newVerifiedUser();
+        when(passwordHashingService.matches(PASSWORD, OLD_HASH)).thenReturn(true);
+        when(passwordHashingService.needsRehash(OLD_HASH)).thenReturn(true);
+        when(passwordHashingService.encode(eq(PASSWORD))).thenAnswer(invocation -> {
+            // 재해시 도중 비밀번호 재설정이 먼저 커밋된 상황
+            jdbcTemplate.update("update users set password_hash = ? where user_id = ?", "$2a$12$reset", user.getId());
+            return NEW_HASH;
+        });
+
+        authService.login(new LoginRequestDTO(user.getEmail(), PASSWORD));
+
+        assertThat(storedHash(user)).isEqualTo("$2a$12$reset");
+    }
+
+    @Test
+    void login_issuesTokensWhenRehashQueueIsFull() {
+        UserEntity user = newVerifiedUser();
+        when(passwordHashingService.matches(PASSWORD, OLD_HASH)).thenReturn(true);
+        when(passwordHashingService.needsRehash(OLD_HASH)).thenReturn(true);
+        when(passwordHashingService.encode(PASSWORD))
+                .thenThrow(new BusinessException(ErrorCode.PASSWORD_HASHING_BUSY));
+
+        TokenResponseDTO tokens = authService.login(new LoginRequestDTO(user.getEmail(), PASSWORD));
+
+        assertThat(tokens.accessToken()).isNotBlank();
+        assertThat(storedHash(user)).isEqualTo(OLD_HASH);
+    }
+
+    @Test
+    void signup_hashesPasswordWithoutHoldingConnection() {
+        String email = UUID.randomUUID().toString().substring(0, 8) + "@test.com";
+        when(passwordHashingService.encode(PASSWORD)).thenAnswer(invocation -> {
+            activeDuringHashing.add(pool.getActiveConnections());
+            return NEW_HASH;
+        });
+
+        TokenResponseDTO tokens = authService.signup(new SignupRequestDTO(email, PASSWORD, "nick", null, null));
+
+        assertThat(activeDuringHashing).containsExactly(0);
+        assertThat(tokens.accessToken()).isNotBlank();
+        assertThat(userRepository.findByEmail(email)).get()
+                .extracting(UserEntity::getPasswordHash).isEqualTo(NEW_HASH);
+    }
+
+    private UserEntity newVerifiedUser() {
+        String unique = UUID.randomUUID().toString().substring(0, 8);
+        UserEntity user = UserEntity.localRegister(
+                unique + "@test.com", UserEntity.newHandle(), OLD_HASH, "user" + unique, null, null);
+        user.markVerified();
+        return userRepository.save(user);
+    }
+
+    private String storedHash(UserEntity user) {
+        return jdbcTemplate.queryForObject(
+                "select password_hash from users where user_id = ?", String.class, user.getId());
+    }
+}
@@ -0,0 +1,128 @@
+package com.hcproj.healthcareprojectbackend.auth.service;
+
+import com.hcproj.healthcareprojectbackend.auth.dto.request.TokenReissueRequestDTO;
+import com.hcproj.healthcareprojectbackend.auth.dto.response.TokenResponseDTO;
+import com.hcproj.healthcareprojectbackend.auth.repository.SocialAccountRepository;
+import com.hcproj.healthcareprojectbackend.auth.repository.UserRepository;
+import com.hcproj.healthcareprojectbackend.auth.social.SocialOAuthClient;
+import com.hcproj.healthcareprojectbackend.global.exception.BusinessException;
+import com.hcproj.healthcareprojectbackend.global.exception.ErrorCode;
+import com.hcproj.healthcareprojectbackend.global.security.jwt.JwtProperties;
+import com.hcproj.healthcareprojectbackend.global.security.jwt.JwtTokenProvider;
+import com.hcproj.healthcareprojectbackend.global.security.jwt.RefreshTokenStore;
+import com.hcproj.healthcareprojectbackend.global.security.jwt.TokenVersionStore;
+import com.hcproj.healthcareprojectbackend.global.security.password.PasswordHashingService;
+import com.hcproj.healthcareprojectbackend.support.RedisContainerSupport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 같은 refresh token으로 동시에 재발급할 때의 동작을 고정한다.
+ *
+ * <p>
+ * 1건만 새 토큰을 받고 나머지는 재사용으로 {@link ErrorCode#INVALID_TOKEN}을 받는다.
+ * 유저 토큰 버전은 한 번만 올라가며, 승자가 받은 refresh도 이후 재발급되지 않는다(전체 로그아웃).
+ * </p>
+ */
+class AuthServiceReissueConcurrencyTest extends RedisContainerSupport {
+
+    private static final long USER_ID = 42L;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private TokenVersionStore tokenVersionStore;
+    private RefreshTokenStore refreshTokenStore;
+    private AuthService authService;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties("test-secret-test-secret-test-secret-test-secret-0123456789", 900, 3600);
+        jwtTokenProvider = new JwtTokenProvider(jwtProperties);
+        tokenVersionStore = new TokenVersionStore(redis, new SimpleMeterRegistry());
+        refreshTokenStore = new RefreshTokenStore(redis);
+        authService = new AuthService(
+                mock(UserRepository.class),
+                mock(PasswordHashingService.class),
+                jwtTokenProvider,
+                jwtProperties,
+                refreshTokenStore,
+                tokenVersionStore,
+                mock(SocialAccountRepository.class),
+                mock(SocialOAuthClient.class));
+    }
+
+    @Test
+    void parallelReissueWithSameRefresh_oneSucceeds_restRejected_versionBumpedOnce() throws Exception {
+        String refreshToken = issueRefresh();
+
+        int callers = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<TokenResponseDTO> issued = new ArrayList<>();
+        List<ErrorCode> rejected = new ArrayList<>();
+        try {
+            List<Future<TokenResponseDTO>> futures = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    return authService.reissue(new TokenReissueRequestDTO(refreshToken));
+                }));
+            }
+            start.countDown();
+
+            for (Future<TokenResponseDTO> f : futures) {
+                try {
+                    issued.add(f.get(10, TimeUnit.SECONDS));
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause()).isInstanceOf(BusinessException.class);
+                    rejected.add(((BusinessException) e.getCause()).getErrorCode());
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(issued).hasSize(1);
+        assertThat(rejected).hasSize(callers - 1).containsOnly(ErrorCode.INVALID_TOKEN);
+        assertThat(tokenVersionStore.getOrInit(USER_ID)).isEqualTo(2);
+
+        // 승자가 받은 refresh도 이전 버전이라 재발급되지 않는다.
+        String winnerRefresh = issued.get(0).refreshToken();
+        assertThatThrownBy(() -> authService.reissue(new TokenReissueRequestDTO(winnerRefresh)))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_TOKEN);
+        assertThat(tokenVersionStore.getOrInit(USER_ID)).isEqualTo(2);
+    }
+
+    @Test
+    void sequentialReissue_rotatesEachTime() {
+        String refreshToken = issueRefresh();
+
+        TokenResponseDTO first = authService.reissue(new TokenReissueRequestDTO(refreshToken));
+        TokenResponseDTO second = authService.reissue(new TokenReissueRequestDTO(first.refreshToken()));
+
+        assertThat(second.refreshToken()).isNotEqualTo(first.refreshToken());
+        assertThat(tokenVersionStore.getOrInit(USER_ID)).isEqualTo(1);
+    }
+
+    private String issueRefresh() {
+        int version = tokenVersionStore.getOrInit(USER_ID);
+        String jti = "jti-" + System.nanoTime();
+        refreshTokenStore.save(USER_ID, jti, 3600);
+        return jwtTokenProvider.createRefreshToken(USER_ID, "u_test", "USER", jti, version);
+    }
+}
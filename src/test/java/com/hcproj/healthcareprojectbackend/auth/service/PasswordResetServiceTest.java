@@ -0,0 +1,125 @@
+package com.hcproj.healthcareprojectbackend.auth.service;
+
+import com.hcproj.healthcareprojectbackend.auth.entity.UserEntity;
+import com.hcproj.healthcareprojectbackend.auth.repository.UserRepository;
+import com.hcproj.healthcareprojectbackend.global.config.JpaConfig;
+import com.hcproj.healthcareprojectbackend.global.exception.BusinessException;
+import com.hcproj.healthcareprojectbackend.global.exception.ErrorCode;
+import com.hcproj.healthcareprojectbackend.global.mail.port.EmailSender;
+import com.hcproj.healthcareprojectbackend.global.mail.template.EmailTemplateLoader;
+import com.hcproj.healthcareprojectbackend.global.security.password.PasswordHashingService;
+import com.hcproj.healthcareprojectbackend.global.store.resetpassword.PasswordResetStore;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 비밀번호 재설정의 BCrypt 해시가 DB 커넥션을 잡지 않은 채 수행되는지 검증한다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaConfig.class, PasswordResetService.class})
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:password-reset;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PasswordResetServiceTest {
+
+    private static final String TOKEN = "reset-token";
+    private static final String PASSWORD = "newpass1!";
+    private static final String OLD_HASH = "$2a$12$old";
+    private static final String NEW_HASH = "$2a$12$new";
+
+    @MockitoBean
+    PasswordHashingService passwordHashingService;
+    @MockitoBean
+    PasswordResetStore passwordResetStore;
+    @MockitoBean
+    EmailSender emailSender;
+    @MockitoBean
+    EmailTemplateLoader templateLoader;
+    @MockitoBean
+    StringRedisTemplate redis;
+
+    @Autowired
+    PasswordResetService passwordResetService;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    DataSource dataSource;
+
+    private HikariPoolMXBean pool;
+    private final List<Integer> activeDuringHashing = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+    }
+
+    @Test
+    void resetPassword_hashesWithoutHoldingConnectionAndConsumesToken() {
+        UserEntity user = newUser();
+        when(passwordResetStore.getTokenValue(TOKEN)).thenReturn(String.valueOf(user.getId()));
+        when(passwordHashingService.encode(PASSWORD)).thenAnswer(invocation -> {
+            activeDuringHashing.add(pool.getActiveConnections());
+            return NEW_HASH;
+        });
+
+        passwordResetService.resetPassword(TOKEN, user.getEmail(), PASSWORD);
+
+        assertThat(activeDuringHashing).containsExactly(0);
+        assertThat(storedHash(user)).isEqualTo(NEW_HASH);
+        verify(passwordResetStore).deleteToken(TOKEN);
+    }
+
+    @Test
+    void resetPassword_rejectsEmailMismatchBeforeHashing() {
+        UserEntity user = newUser();
+        when(passwordResetStore.getTokenValue(TOKEN)).thenReturn(String.valueOf(user.getId()));
+
+        assertThatThrownBy(() -> passwordResetService.resetPassword(TOKEN, "other@test.com", PASSWORD))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_INPUT);
+        verify(passwordHashingService, never()).encode(anyString());
+        assertThat(storedHash(user)).isEqualTo(OLD_HASH);
+    }
+
+    private UserEntity newUser() {
+        String unique = UUID.randomUUID().toString().substring(0, 8);
+        return userRepository.save(UserEntity.localRegister(
+                unique + "@test.com", UserEntity.newHandle(), OLD_HASH, "user" + unique, null, null));
+    }
+
+    private String storedHash(UserEntity user) {
+        return jdbcTemplate.queryForObject(
+                "select password_hash from users where user_id = ?", String.class, user.getId());
+    }
+}
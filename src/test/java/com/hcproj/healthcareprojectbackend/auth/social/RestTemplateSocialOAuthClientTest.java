@@ -0,0 +1,135 @@
+package com.hcproj.healthcareprojectbackend.auth.social;
+
+import com.hcproj.healthcareprojectbackend.auth.entity.SocialProvider;
+import com.hcproj.healthcareprojectbackend.global.config.RestTemplateConfig;
+import com.hcproj.healthcareprojectbackend.global.config.properties.SocialOAuthProperties;
+import com.hcproj.healthcareprojectbackend.global.exception.BusinessException;
+import com.hcproj.healthcareprojectbackend.global.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.SocketTimeoutException;
+import java.net.http.HttpClient;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withException;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * 소셜 공급자 호출 실패가 원인에 따라 토큰 오류(401)와 일시 장애(503)로 나뉘는지 검증한다.
+ * 호스트별 동시 요청 한도는 {@link RestTemplateConfig}의 인터셉터를 그대로 사용한다.
+ */
+class RestTemplateSocialOAuthClientTest {
+
+    private static final String USERINFO_URL = "https://oauth.test/userinfo";
+    private static final String TOKEN_URL = "https://oauth.test/token";
+    private static final String PROFILE_JSON = "{\"sub\":\"sub-1\",\"email\":\"a@test.com\"}";
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private MockRestServiceServer server;
+    private RestTemplateSocialOAuthClient client;
+
+    @BeforeEach
+    void setUp() {
+        // 호스트당 1건, 한도 대기 100ms
+        RestTemplate restTemplate = new RestTemplateConfig().restTemplate(HttpClient.newHttpClient(), 100, 1000, 1);
+        server = MockRestServiceServer.bindTo(restTemplate).ignoreExpectOrder(true).build();
+
+        SocialOAuthProperties props = new SocialOAuthProperties();
+        props.getGoogle().setUserinfoUrl(USERINFO_URL);
+        props.getGoogle().setTokenUrl(TOKEN_URL);
+        client = new RestTemplateSocialOAuthClient(restTemplate, props);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void successfulLookupReturnsProfile() {
+        server.expect(requestTo(USERINFO_URL)).andRespond(withSuccess(PROFILE_JSON, MediaType.APPLICATION_JSON));
+
+        SocialProfile profile = client.fetchProfile(SocialProvider.GOOGLE, "token");
+
+        assertThat(profile.providerUserId()).isEqualTo("sub-1");
+        assertThat(profile.email()).isEqualTo("a@test.com");
+    }
+
+    @Test
+    void providerRejectingTokenIsInvalidToken() {
+        server.expect(requestTo(USERINFO_URL)).andRespond(withStatus(HttpStatus.UNAUTHORIZED));
+
+        assertErrorCode(() -> client.fetchProfile(SocialProvider.GOOGLE, "token"), ErrorCode.INVALID_TOKEN);
+    }
+
+    @Test
+    void providerServerErrorIsUnavailable() {
+        server.expect(requestTo(USERINFO_URL)).andRespond(withServerError());
+
+        assertErrorCode(() -> client.fetchProfile(SocialProvider.GOOGLE, "token"), ErrorCode.SOCIAL_PROVIDER_UNAVAILABLE);
+    }
+
+    @Test
+    void timeoutIsUnavailable() {
+        server.expect(requestTo(USERINFO_URL)).andRespond(withException(new SocketTimeoutException("read timed out")));
+
+        assertErrorCode(() -> client.fetchProfile(SocialProvider.GOOGLE, "token"), ErrorCode.SOCIAL_PROVIDER_UNAVAILABLE);
+    }
+
+    @Test
+    void tokenExchangeTimeoutIsUnavailable() {
+        server.expect(requestTo(TOKEN_URL)).andExpect(method(HttpMethod.POST))
+                .andRespond(withException(new SocketTimeoutException("connect timed out")));
+
+        assertErrorCode(() -> client.fetchProfileByCode(SocialProvider.GOOGLE, "code", "https://app.test/cb", null),
+                ErrorCode.SOCIAL_PROVIDER_UNAVAILABLE);
+    }
+
+    @Test
+    void perHostLimitExhaustionIsUnavailable() throws Exception {
+        CountDownLatch inFlight = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        server.expect(requestTo(USERINFO_URL)).andRespond(request -> {
+            inFlight.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return withSuccess(PROFILE_JSON, MediaType.APPLICATION_JSON).createResponse(request);
+        });
+
+        Future<SocialProfile> first = executor.submit(() -> client.fetchProfile(SocialProvider.GOOGLE, "token"));
+        assertThat(inFlight.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 같은 호스트의 유일한 permit을 첫 요청이 잡고 있다
+        assertErrorCode(() -> client.fetchProfile(SocialProvider.GOOGLE, "token"), ErrorCode.SOCIAL_PROVIDER_UNAVAILABLE);
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS).providerUserId()).isEqualTo("sub-1");
+    }
+
+    private static void assertErrorCode(Runnable call, ErrorCode expected) {
+        assertThatThrownBy(call::run)
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(expected);
+    }
+}
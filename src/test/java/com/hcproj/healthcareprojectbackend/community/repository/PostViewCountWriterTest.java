@@ -0,0 +1,100 @@
+package com.hcproj.healthcareprojectbackend.community.repository;
+
+import com.hcproj.healthcareprojectbackend.auth.entity.UserEntity;
+import com.hcproj.healthcareprojectbackend.auth.repository.UserRepository;
+import com.hcproj.healthcareprojectbackend.community.entity.PostEntity;
+import com.hcproj.healthcareprojectbackend.community.entity.PostStatus;
+import com.hcproj.healthcareprojectbackend.global.config.JpaConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.TreeMap;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 모아둔 조회수 증가분이 batch UPDATE로 상대 갱신되는지 검증한다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaConfig.class, PostViewCountWriter.class})
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:post-view-writer;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PostViewCountWriterTest {
+
+    @Autowired
+    PostViewCountWriter writer;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    PostRepository postRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    void addViewsAddsDeltasToCurrentCounts() {
+        Long userId = newUser();
+        Long first = newPost(userId, 10L);
+        Long second = newPost(userId, 0L);
+        Long untouched = newPost(userId, 3L);
+
+        TreeMap<Long, Long> deltas = new TreeMap<>();
+        deltas.put(first, 5L);
+        deltas.put(second, 2L);
+        writer.addViews(deltas);
+        // 다른 노드가 같은 글의 증가분을 따로 flush해도 합산된다
+        writer.addViews(deltas);
+
+        assertThat(viewCount(first)).isEqualTo(20L);
+        assertThat(viewCount(second)).isEqualTo(4L);
+        assertThat(viewCount(untouched)).isEqualTo(3L);
+    }
+
+    @Test
+    void addViewsIgnoresDeletedPost() {
+        Long postId = newPost(newUser(), 1L);
+
+        TreeMap<Long, Long> deltas = new TreeMap<>();
+        deltas.put(postId, 1L);
+        deltas.put(Long.MAX_VALUE, 1L);
+        writer.addViews(deltas);
+
+        assertThat(viewCount(postId)).isEqualTo(2L);
+    }
+
+    private Long newUser() {
+        String unique = UUID.randomUUID().toString().substring(0, 8);
+        return userRepository.save(UserEntity.localRegister(
+                unique + "@test.com", UserEntity.newHandle(), "hash", "user" + unique, null, null)).getId();
+    }
+
+    private Long newPost(Long userId, long viewCount) {
+        return postRepository.save(PostEntity.builder()
+                .userId(userId)
+                .category("FREE")
+                .title("title")
+                .content("content")
+                .status(PostStatus.POSTED)
+                .viewCount(viewCount)
+                .commentCount(0L)
+                .likeCount(0L)
+                .isNotice(false)
+                .build()).getPostId();
+    }
+
+    private Long viewCount(Long postId) {
+        return jdbcTemplate.queryForObject("select view_count from posts where post_id = ?", Long.class, postId);
+    }
+}
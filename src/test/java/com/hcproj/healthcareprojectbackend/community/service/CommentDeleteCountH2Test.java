@@ -0,0 +1,14 @@
+package com.hcproj.healthcareprojectbackend.community.service;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * H2(MODE=PostgreSQL, dev 프로필과 같은 create-drop 스키마)에서의 댓글 수 차감 검증.
+ */
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:comment-delete-count;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false"
+})
+class CommentDeleteCountH2Test extends CommentDeleteCountTests {
+}
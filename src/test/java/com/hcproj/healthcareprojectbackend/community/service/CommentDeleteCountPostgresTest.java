@@ -0,0 +1,18 @@
+package com.hcproj.healthcareprojectbackend.community.service;
+
+import com.hcproj.healthcareprojectbackend.support.PostgresContainerSupport;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * PostgreSQL(READ COMMITTED에서 잠긴 row를 기다린 뒤 조건을 다시 평가)에서의 댓글 수 차감 검증.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class CommentDeleteCountPostgresTest extends CommentDeleteCountTests {
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        PostgresContainerSupport.register(registry);
+    }
+}
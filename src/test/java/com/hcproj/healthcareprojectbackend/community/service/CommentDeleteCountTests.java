@@ -0,0 +1,181 @@
+package com.hcproj.healthcareprojectbackend.community.service;
+
+import com.hcproj.healthcareprojectbackend.admin.dto.request.ReportStatusUpdateRequestDTO;
+import com.hcproj.healthcareprojectbackend.admin.service.AdminReportService;
+import com.hcproj.healthcareprojectbackend.auth.entity.UserEntity;
+import com.hcproj.healthcareprojectbackend.auth.repository.UserRepository;
+import com.hcproj.healthcareprojectbackend.community.entity.CommentEntity;
+import com.hcproj.healthcareprojectbackend.community.entity.CommentStatus;
+import com.hcproj.healthcareprojectbackend.community.entity.PostEntity;
+import com.hcproj.healthcareprojectbackend.community.entity.PostStatus;
+import com.hcproj.healthcareprojectbackend.community.entity.ReportEntity;
+import com.hcproj.healthcareprojectbackend.community.entity.ReportStatus;
+import com.hcproj.healthcareprojectbackend.community.entity.ReportType;
+import com.hcproj.healthcareprojectbackend.community.repository.CommentRepository;
+import com.hcproj.healthcareprojectbackend.community.repository.PostRepository;
+import com.hcproj.healthcareprojectbackend.community.repository.ReportRepository;
+import com.hcproj.healthcareprojectbackend.global.config.JpaConfig;
+import com.hcproj.healthcareprojectbackend.global.store.feed.FeedVersionStore;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 댓글 삭제(작성자 삭제, 신고 처리)가 겹쳐도 posts.comment_count가 한 번만 줄어드는지 검증한다.
+ *
+ * <p>
+ * 각 서비스 호출이 자기 트랜잭션으로 커밋되도록 테스트 트랜잭션은 끈다.
+ * DB별 설정은 하위 클래스(H2, PostgreSQL)가 정한다.
+ * </p>
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaConfig.class, CommentService.class, AdminReportService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+abstract class CommentDeleteCountTests {
+
+    @Autowired
+    CommentService commentService;
+    @Autowired
+    AdminReportService adminReportService;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    PostRepository postRepository;
+    @Autowired
+    CommentRepository commentRepository;
+    @Autowired
+    ReportRepository reportRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    FeedVersionStore feedVersionStore;
+
+    @Test
+    void deletingTwice_decrementsOnce() {
+        Long userId = newUser();
+        Long postId = newPost(userId, 2);
+        Long commentId = newComment(postId, userId);
+
+        commentService.deleteComment(userId, postId, commentId);
+        commentService.deleteComment(userId, postId, commentId);
+
+        assertThat(commentCount(postId)).isEqualTo(1);
+        assertThat(commentRepository.findById(commentId).orElseThrow().getStatus()).isEqualTo(CommentStatus.DELETED);
+        assertThat(commentRepository.findById(commentId).orElseThrow().getDeletedAt()).isNotNull();
+    }
+
+    @Test
+    void reportProcessedAfterAuthorDelete_doesNotDecrementAgain() {
+        Long authorId = newUser();
+        Long reporterId = newUser();
+        Long postId = newPost(authorId, 1);
+        Long commentId = newComment(postId, authorId);
+        Long reportId = newReport(reporterId, commentId);
+
+        commentService.deleteComment(authorId, postId, commentId);
+        adminReportService.updateReportStatus(reportId, new ReportStatusUpdateRequestDTO("PROCESSED"));
+
+        assertThat(commentCount(postId)).isZero();
+        assertThat(reportRepository.findById(reportId).orElseThrow().getStatus()).isEqualTo(ReportStatus.PROCESSED);
+    }
+
+    @Test
+    void concurrentAuthorDeletesAndReportProcessing_decrementOnce() throws Exception {
+        Long authorId = newUser();
+        Long reporterId = newUser();
+        Long postId = newPost(authorId, 3);
+        Long commentId = newComment(postId, authorId);
+        Long reportId = newReport(reporterId, commentId);
+
+        int authorDeletes = 7;
+        ExecutorService pool = Executors.newFixedThreadPool(authorDeletes + 1);
+        CountDownLatch go = new CountDownLatch(1);
+        try {
+            List<Callable<Object>> tasks = new ArrayList<>();
+            for (int i = 0; i < authorDeletes; i++) {
+                tasks.add(() -> commentService.deleteComment(authorId, postId, commentId));
+            }
+            tasks.add(() -> {
+                adminReportService.updateReportStatus(reportId, new ReportStatusUpdateRequestDTO("PROCESSED"));
+                return null;
+            });
+
+            List<Future<Object>> futures = new ArrayList<>();
+            for (Callable<Object> task : tasks) {
+                futures.add(pool.submit(() -> {
+                    go.await();
+                    return task.call();
+                }));
+            }
+            go.countDown();
+            for (Future<Object> f : futures) f.get(30, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(commentCount(postId)).isEqualTo(2);
+    }
+
+    private long commentCount(Long postId) {
+        return jdbcTemplate.queryForObject("select comment_count from posts where post_id = ?", Long.class, postId);
+    }
+
+    private Long newUser() {
+        String unique = UUID.randomUUID().toString().substring(0, 8);
+        return userRepository.save(UserEntity.localRegister(
+                unique + "@test.com", UserEntity.newHandle(), "hash", "user" + unique, null, null)).getId();
+    }
+
+    private Long newPost(Long userId, long commentCount) {
+        return postRepository.save(PostEntity.builder()
+                .userId(userId)
+                .category("FREE")
+                .title("title")
+                .content("content")
+                .status(PostStatus.POSTED)
+                .viewCount(0L)
+                .commentCount(commentCount)
+                .likeCount(0L)
+                .isNotice(false)
+                .build()).getPostId();
+    }
+
+    private Long newComment(Long postId, Long userId) {
+        return commentRepository.save(CommentEntity.builder()
+                .postId(postId)
+                .userId(userId)
+                .content("comment")
+                .status(CommentStatus.POSTED)
+                .build()).getCommentId();
+    }
+
+    private Long newReport(Long reporterId, Long commentId) {
+        return reportRepository.save(ReportEntity.builder()
+                .reporterId(reporterId)
+                .type(ReportType.COMMENT)
+                .targetId(commentId)
+                .reason("spam")
+                .status(ReportStatus.PENDING)
+                .build()).getReportId();
+    }
+}
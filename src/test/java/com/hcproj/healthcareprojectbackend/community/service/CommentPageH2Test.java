@@ -0,0 +1,212 @@
+package com.hcproj.healthcareprojectbackend.community.service;
+
+import com.hcproj.healthcareprojectbackend.auth.entity.UserEntity;
+import com.hcproj.healthcareprojectbackend.auth.repository.UserRepository;
+import com.hcproj.healthcareprojectbackend.community.dto.response.CommentPageResponseDTO;
+import com.hcproj.healthcareprojectbackend.community.dto.response.PostResponseDTO;
+import com.hcproj.healthcareprojectbackend.community.entity.CommentEntity;
+import com.hcproj.healthcareprojectbackend.community.entity.CommentStatus;
+import com.hcproj.healthcareprojectbackend.community.entity.PostEntity;
+import com.hcproj.healthcareprojectbackend.community.entity.PostStatus;
+import com.hcproj.healthcareprojectbackend.community.repository.CommentRepository;
+import com.hcproj.healthcareprojectbackend.community.repository.PostRepository;
+import com.hcproj.healthcareprojectbackend.global.config.JpaConfig;
+import com.hcproj.healthcareprojectbackend.global.exception.BusinessException;
+import com.hcproj.healthcareprojectbackend.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 최상위 댓글/대댓글 cursor 페이지 조회를 검증한다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaConfig.class, CommentService.class})
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:comment-page;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CommentPageH2Test {
+
+    @Autowired
+    CommentService commentService;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    PostRepository postRepository;
+    @Autowired
+    CommentRepository commentRepository;
+
+    private Long userId;
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        userId = newUser();
+        postId = newPost(userId);
+    }
+
+    @Test
+    void rootPagesWalkInCreationOrderWithoutOverlap() {
+        List<Long> roots = new ArrayList<>();
+        for (int i = 0; i < 5; i++) roots.add(newComment(postId, null));
+        newComment(postId, roots.get(0)); // 대댓글은 최상위 페이지에 나오지 않는다
+
+        CommentPageResponseDTO first = commentService.getRootComments(postId, null, 2);
+        CommentPageResponseDTO second = commentService.getRootComments(postId, first.pageInfo().nextCursorId(), 2);
+        CommentPageResponseDTO last = commentService.getRootComments(postId, second.pageInfo().nextCursorId(), 2);
+
+        assertThat(ids(first)).containsExactly(roots.get(0), roots.get(1));
+        assertThat(first.pageInfo().hasNext()).isTrue();
+        assertThat(first.pageInfo().nextCursorId()).isEqualTo(roots.get(1));
+
+        assertThat(ids(second)).containsExactly(roots.get(2), roots.get(3));
+        assertThat(second.pageInfo().hasNext()).isTrue();
+
+        assertThat(ids(last)).containsExactly(roots.get(4));
+        assertThat(last.pageInfo().hasNext()).isFalse();
+        assertThat(last.pageInfo().nextCursorId()).isNull();
+    }
+
+    @Test
+    void pageExactlyFillingRemainderHasNoNext() {
+        Long first = newComment(postId, null);
+        Long second = newComment(postId, null);
+
+        CommentPageResponseDTO page = commentService.getRootComments(postId, null, 2);
+
+        assertThat(ids(page)).containsExactly(first, second);
+        assertThat(page.pageInfo().hasNext()).isFalse();
+        assertThat(page.pageInfo().nextCursorId()).isNull();
+    }
+
+    @Test
+    void otherPostsCommentsAreExcluded() {
+        Long mine = newComment(postId, null);
+        newComment(newPost(userId), null);
+
+        assertThat(ids(commentService.getRootComments(postId, null, 10))).containsExactly(mine);
+    }
+
+    @Test
+    void rootCommentsCarryDirectReplyCount() {
+        Long withReplies = newComment(postId, null);
+        Long withoutReplies = newComment(postId, null);
+        Long reply = newComment(postId, withReplies);
+        newComment(postId, withReplies);
+        newComment(postId, reply); // 손자 댓글은 직계가 아니다
+
+        List<PostResponseDTO.CommentDTO> comments = commentService.getRootComments(postId, null, 10).comments();
+
+        assertThat(comments).extracting(PostResponseDTO.CommentDTO::commentId).containsExactly(withReplies, withoutReplies);
+        assertThat(comments).extracting(PostResponseDTO.CommentDTO::replyCount).containsExactly(2L, 0L);
+        assertThat(comments).allSatisfy(c -> assertThat(c.children()).isEmpty());
+    }
+
+    @Test
+    void repliesArePagedUnderTheirParent() {
+        Long parent = newComment(postId, null);
+        Long otherParent = newComment(postId, null);
+        List<Long> replies = new ArrayList<>();
+        for (int i = 0; i < 3; i++) replies.add(newComment(postId, parent));
+        newComment(postId, otherParent);
+
+        CommentPageResponseDTO first = commentService.getReplies(postId, parent, null, 2);
+        CommentPageResponseDTO second = commentService.getReplies(postId, parent, first.pageInfo().nextCursorId(), 2);
+
+        assertThat(ids(first)).containsExactly(replies.get(0), replies.get(1));
+        assertThat(first.pageInfo().hasNext()).isTrue();
+        assertThat(ids(second)).containsExactly(replies.get(2));
+        assertThat(second.pageInfo().hasNext()).isFalse();
+    }
+
+    @Test
+    void repliesOfCommentFromAnotherPostAreNotFound() {
+        Long foreignParent = newComment(newPost(userId), null);
+
+        assertThatThrownBy(() -> commentService.getReplies(postId, foreignParent, null, 10))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.COMMENT_NOT_FOUND);
+        assertThatThrownBy(() -> commentService.getReplies(postId, Long.MAX_VALUE, null, 10))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.COMMENT_NOT_FOUND);
+    }
+
+    @Test
+    void deletedCommentsStayInPlaceWithMaskedContent() {
+        Long deleted = newComment(postId, null);
+        Long kept = newComment(postId, null);
+        newComment(postId, deleted);
+        commentService.deleteComment(userId, postId, deleted);
+
+        List<PostResponseDTO.CommentDTO> comments = commentService.getRootComments(postId, null, 10).comments();
+
+        assertThat(comments).extracting(PostResponseDTO.CommentDTO::commentId).containsExactly(deleted, kept);
+        assertThat(comments.get(0).content()).isEqualTo("삭제된 댓글입니다.");
+        assertThat(comments.get(0).deletedAt()).isNotNull();
+        assertThat(comments.get(0).replyCount()).isEqualTo(1L);
+        assertThat(comments.get(1).content()).isEqualTo("comment");
+    }
+
+    @Test
+    void nonPositiveSizeFallsBackToDefault() {
+        for (int i = 0; i < 21; i++) newComment(postId, null);
+
+        CommentPageResponseDTO page = commentService.getRootComments(postId, null, 0);
+
+        assertThat(page.comments()).hasSize(20);
+        assertThat(page.pageInfo().hasNext()).isTrue();
+    }
+
+    private static List<Long> ids(CommentPageResponseDTO page) {
+        return page.comments().stream().map(PostResponseDTO.CommentDTO::commentId).toList();
+    }
+
+    private Long newUser() {
+        String unique = UUID.randomUUID().toString().substring(0, 8);
+        return userRepository.save(UserEntity.localRegister(
+                unique + "@test.com", UserEntity.newHandle(), "hash", "user" + unique, null, null)).getId();
+    }
+
+    private Long newPost(Long authorId) {
+        return postRepository.save(PostEntity.builder()
+                .userId(authorId)
+                .category("FREE")
+                .title("title")
+                .content("content")
+                .status(PostStatus.POSTED)
+                .viewCount(0L)
+                .commentCount(0L)
+                .likeCount(0L)
+                .isNotice(false)
+                .build()).getPostId();
+    }
+
+    private Long newComment(Long targetPostId, Long parentId) {
+        return commentRepository.save(CommentEntity.builder()
+                .postId(targetPostId)
+                .userId(userId)
+                .parentCommentId(parentId)
+                .content("comment")
+                .status(CommentStatus.POSTED)
+                .build()).getCommentId();
+    }
+}
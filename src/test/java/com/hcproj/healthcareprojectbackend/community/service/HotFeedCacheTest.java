@@ -0,0 +1,155 @@
+package com.hcproj.healthcareprojectbackend.community.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hcproj.healthcareprojectbackend.community.dto.response.PostSummaryDto;
+import com.hcproj.healthcareprojectbackend.global.config.properties.HotFeedProperties;
+import com.hcproj.healthcareprojectbackend.global.store.feed.FeedVersionStore;
+import com.hcproj.healthcareprojectbackend.support.RedisContainerSupport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class HotFeedCacheTest extends RedisContainerSupport {
+
+    /** pages=2, size=3 → window 7건 */
+    private static final int SIZE = 3;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final HotFeedProperties props = new HotFeedProperties();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private FeedVersionStore versionStore;
+    private HotFeedCache cache;
+
+    @BeforeEach
+    void setUp() {
+        props.setPages(2);
+        versionStore = new FeedVersionStore(redis);
+        cache = newCache(redis, versionStore);
+    }
+
+    @Test
+    void firstPageIsCutFromWindow() {
+        HotFeedCache.Page page = cache.find(null, null, SIZE, posts(100, 7));
+
+        assertThat(ids(page)).containsExactly(100L, 99L, 98L);
+        assertThat(page.hasNext()).isTrue();
+    }
+
+    @Test
+    void cursorInsideWindowIsServedFromCache() {
+        cache.find(null, null, SIZE, posts(100, 7));
+
+        HotFeedCache.Page page = cache.find(null, 98L, SIZE, posts(100, 7));
+
+        assertThat(ids(page)).containsExactly(97L, 96L, 95L);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void pageReachingIncompleteWindowEdgeFallsBackToDb() {
+        // 마지막 1건(94)만 남아 다음 페이지가 window 밖으로 나간다
+        assertThat(cache.find(null, 95L, SIZE, posts(100, 7))).isNull();
+    }
+
+    @Test
+    void cursorOutsideWindowFallsBackToDb() {
+        assertThat(cache.find(null, 50L, SIZE, posts(100, 7))).isNull();
+    }
+
+    @Test
+    void completeWindowEndsWithoutNext() {
+        // 6건 < window 7건이므로 뒤에 더 이상 글이 없다
+        HotFeedCache.Page last = cache.find(null, 98L, SIZE, posts(100, 6));
+        HotFeedCache.Page afterLast = cache.find(null, 95L, SIZE, posts(100, 6));
+
+        assertThat(ids(last)).containsExactly(97L, 96L, 95L);
+        assertThat(last.hasNext()).isFalse();
+        assertThat(afterLast.items()).isEmpty();
+        assertThat(afterLast.hasNext()).isFalse();
+    }
+
+    @Test
+    void otherNodeReadsWindowFromRedis() {
+        cache.find(null, null, SIZE, posts(100, 7));
+
+        HotFeedCache otherNode = newCache(redis, new FeedVersionStore(redis));
+        HotFeedCache.Page page = otherNode.find(null, 98L, SIZE, posts(100, 7));
+
+        assertThat(ids(page)).containsExactly(97L, 96L, 95L);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void categoriesAndPageSizesUseSeparateWindows() {
+        cache.find(null, null, SIZE, posts(100, 7));
+        cache.find("FREE", null, SIZE, posts(100, 7));
+        cache.find(null, null, 2, posts(100, 5));
+
+        assertThat(loads).hasValue(3);
+        assertThat(redis.keys("feed:0:*")).containsExactlyInAnyOrder("feed:0:ALL:3", "feed:0:FREE:3", "feed:0:ALL:2");
+    }
+
+    @Test
+    void versionBumpChangesKeyAndReloads() {
+        cache.find(null, null, SIZE, posts(100, 7));
+
+        versionStore.bumpAfterCommit();
+        HotFeedCache.Page page = cache.find(null, null, SIZE, posts(101, 7));
+
+        assertThat(ids(page)).containsExactly(101L, 100L, 99L);
+        assertThat(loads).hasValue(2);
+        assertThat(redis.hasKey("feed:1:ALL:3")).isTrue();
+    }
+
+    @Test
+    void redisDownBypassesCache() {
+        StringRedisTemplate down = mock(StringRedisTemplate.class);
+        when(down.opsForValue()).thenThrow(new RedisConnectionFailureException("down"));
+        HotFeedCache bypassing = newCache(down, new FeedVersionStore(down));
+
+        assertThat(bypassing.find(null, null, SIZE, posts(100, 7))).isNull();
+        assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    void disabledOrOversizedRequestBypassesCache() {
+        assertThat(cache.find(null, null, props.getMaxPageSize() + 1, posts(100, 7))).isNull();
+
+        props.setEnabled(false);
+        assertThat(cache.find(null, null, SIZE, posts(100, 7))).isNull();
+        assertThat(loads).hasValue(0);
+    }
+
+    private HotFeedCache newCache(StringRedisTemplate template, FeedVersionStore store) {
+        return new HotFeedCache(template, objectMapper, store, props, new SimpleMeterRegistry());
+    }
+
+    /** {@code newestId}부터 내림차순으로 {@code count}건을 만드는 loader */
+    private Supplier<List<PostSummaryDto>> posts(long newestId, int count) {
+        return () -> {
+            loads.incrementAndGet();
+            return LongStream.range(0, count)
+                    .mapToObj(i -> new PostSummaryDto(newestId - i, "FREE", false, "title", "nick", "handle",
+                            Instant.parse("2026-01-01T00:00:00Z"), 0L, 0L, null))
+                    .toList();
+        };
+    }
+
+    private static List<Long> ids(HotFeedCache.Page page) {
+        return page.items().stream().map(PostSummaryDto::postId).toList();
+    }
+}
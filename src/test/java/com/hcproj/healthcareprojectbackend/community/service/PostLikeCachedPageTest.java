@@ -0,0 +1,121 @@
+package com.hcproj.healthcareprojectbackend.community.service;
+
+import com.hcproj.healthcareprojectbackend.community.dto.response.PostSummaryDto;
+import com.hcproj.healthcareprojectbackend.community.entity.PostEntity;
+import com.hcproj.healthcareprojectbackend.community.entity.PostStatus;
+import com.hcproj.healthcareprojectbackend.community.repository.PostLikeWriter;
+import com.hcproj.healthcareprojectbackend.community.repository.PostRepository;
+import com.hcproj.healthcareprojectbackend.global.config.JpaConfig;
+import com.hcproj.healthcareprojectbackend.global.config.properties.PostLikeProperties;
+import com.hcproj.healthcareprojectbackend.global.store.postlike.PostLikeCounterStore;
+import com.hcproj.healthcareprojectbackend.support.RedisContainerSupport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 캐시된 목록 페이지의 좋아요 수가 flush 전후로 같게 보이는지 검증한다.
+ *
+ * <p>
+ * window에 담긴 옛 like_count를 쓰면 flush 후 미반영분만큼 수가 줄어 보인다.
+ * 좋아요 수는 응답 시 DB 값 + 미반영분으로 채우므로 feed 캐시 무효화 없이도 일정해야 한다.
+ * </p>
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaConfig.class, PostLikeService.class, PostLikeWriter.class, PostLikeCachedPageTest.CounterConfig.class})
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:post-like-cached-page;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PostLikeCachedPageTest extends RedisContainerSupport {
+
+    @TestConfiguration
+    static class CounterConfig {
+        @Bean
+        PostLikeProperties postLikeProperties() {
+            return new PostLikeProperties();
+        }
+
+        @Bean
+        PostLikeCounterStore postLikeCounterStore(PostLikeProperties props) {
+            return new PostLikeCounterStore(redis, props);
+        }
+
+        @Bean
+        PostLikeCounter postLikeCounter(PostLikeCounterStore store, PostLikeWriter writer, PostLikeProperties props) {
+            return new PostLikeCounter(store, writer, props, new SimpleMeterRegistry());
+        }
+    }
+
+    @Autowired
+    PostLikeService postLikeService;
+    @Autowired
+    PostLikeCounter postLikeCounter;
+    @Autowired
+    PostRepository postRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    void cachedPageKeepsLikeCountAcrossFlush() {
+        Long postId = newPost(5);
+        for (int i = 0; i < 3; i++) postLikeCounter.addAfterCommit(postId, 1);
+
+        // 캐시 window에는 좋아요 수가 없다.
+        List<PostSummaryDto> cachedPage = List.of(summary(postId));
+
+        assertThat(postLikeService.withCurrentLikes(cachedPage)).extracting(PostSummaryDto::likeCount).containsExactly(8L);
+
+        postLikeCounter.flush();
+
+        assertThat(storedLikeCount(postId)).isEqualTo(8);
+        assertThat(postLikeCounter.pendingOf(postId)).isZero();
+        assertThat(postLikeService.withCurrentLikes(cachedPage)).extracting(PostSummaryDto::likeCount).containsExactly(8L);
+    }
+
+    @Test
+    void unknownPostInCachedPageShowsZero() {
+        List<PostSummaryDto> cachedPage = List.of(summary(Long.MAX_VALUE));
+
+        assertThat(postLikeService.withCurrentLikes(cachedPage)).extracting(PostSummaryDto::likeCount).containsExactly(0L);
+    }
+
+    private long storedLikeCount(Long postId) {
+        return jdbcTemplate.queryForObject("select like_count from posts where post_id = ?", Long.class, postId);
+    }
+
+    private Long newPost(long likeCount) {
+        return postRepository.save(PostEntity.builder()
+                .userId(1L)
+                .category("FREE")
+                .title("title")
+                .content("content")
+                .status(PostStatus.POSTED)
+                .viewCount(0L)
+                .commentCount(0L)
+                .likeCount(likeCount)
+                .isNotice(false)
+                .build()).getPostId();
+    }
+
+    private static PostSummaryDto summary(Long postId) {
+        return new PostSummaryDto(postId, "FREE", false, "title", "nick", "handle", Instant.now(), 0L, 0L, null);
+    }
+}
@@ -0,0 +1,145 @@
+package com.hcproj.healthcareprojectbackend.community.service;
+
+import com.hcproj.healthcareprojectbackend.community.repository.PostViewCountWriter;
+import com.hcproj.healthcareprojectbackend.global.config.properties.PostViewProperties;
+import com.hcproj.healthcareprojectbackend.global.store.postview.PostViewDedupStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PostViewCounterTest {
+
+    private final PostViewDedupStore dedupStore = mock(PostViewDedupStore.class);
+    private final PostViewCountWriter writer = mock(PostViewCountWriter.class);
+    private final PostViewProperties props = new PostViewProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Map<Long, Long>> written = new ArrayList<>();
+
+    private PostViewCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        counter = new PostViewCounter(dedupStore, writer, props, meterRegistry);
+        // 호출 시점의 맵 내용을 남긴다(flush 실패 후 재시도 검증용)
+        doAnswer(invocation -> {
+            written.add(Map.copyOf(invocation.getArgument(0)));
+            return null;
+        }).when(writer).addViews(anyMap());
+    }
+
+    @Test
+    void recordAccumulatesUntilFlush() {
+        assertThat(counter.record(1L, null)).isEqualTo(1);
+        assertThat(counter.record(1L, null)).isEqualTo(2);
+        counter.record(2L, null);
+
+        assertThat(counter.pendingOf(1L)).isEqualTo(2);
+        assertThat(counter.pendingOf(3L)).isZero();
+    }
+
+    @Test
+    void flushWritesOneBatchInPostIdOrderAndClearsPending() {
+        counter.record(5L, null);
+        counter.record(2L, null);
+        counter.record(2L, null);
+        counter.record(9L, null);
+
+        counter.flush();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<Long, Long>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(writer, times(1)).addViews(captor.capture());
+        assertThat(captor.getValue()).containsExactly(Map.entry(2L, 2L), Map.entry(5L, 1L), Map.entry(9L, 1L));
+        assertThat(counter.pendingOf(2L)).isZero();
+        assertThat(meterRegistry.counter("community.post.view.flushed").count()).isEqualTo(4.0);
+    }
+
+    @Test
+    void flushWithoutNewViewsDoesNotWrite() {
+        counter.flush();
+        counter.record(1L, null);
+        counter.flush();
+        counter.flush();
+
+        verify(writer, times(1)).addViews(anyMap());
+    }
+
+    @Test
+    void failedFlushRestoresDeltasForNextFlush() {
+        counter.record(1L, null);
+        counter.record(1L, null);
+        doThrow(new QueryTimeoutException("db down")).doAnswer(invocation -> {
+            written.add(Map.copyOf(invocation.getArgument(0)));
+            return null;
+        }).when(writer).addViews(anyMap());
+
+        counter.flush();
+
+        assertThat(counter.pendingOf(1L)).isEqualTo(2);
+
+        counter.record(1L, null);
+        counter.flush();
+
+        assertThat(written).containsExactly(Map.of(1L, 3L));
+        assertThat(counter.pendingOf(1L)).isZero();
+    }
+
+    @Test
+    void repeatedViewWithinDedupWindowIsIgnored() {
+        when(dedupStore.markViewed(1L, 10L)).thenReturn(true, false);
+
+        assertThat(counter.record(1L, 10L)).isEqualTo(1);
+        assertThat(counter.record(1L, 10L)).isEqualTo(1);
+
+        assertThat(counter.pendingOf(1L)).isEqualTo(1);
+        assertThat(meterRegistry.counter("community.post.view.deduped").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void anonymousViewsAreNotDeduped() {
+        counter.record(1L, null);
+        counter.record(1L, null);
+
+        assertThat(counter.pendingOf(1L)).isEqualTo(2);
+        verify(dedupStore, never()).markViewed(anyLong(), anyLong());
+    }
+
+    @Test
+    void dedupDisabledCountsEveryView() {
+        props.setDedupSeconds(0);
+
+        counter.record(1L, 10L);
+        counter.record(1L, 10L);
+
+        assertThat(counter.pendingOf(1L)).isEqualTo(2);
+        verify(dedupStore, never()).markViewed(anyLong(), anyLong());
+    }
+
+    @Test
+    void dedupStoreFailureCountsTheView() {
+        when(dedupStore.markViewed(1L, 10L)).thenThrow(new RedisConnectionFailureException("down"));
+
+        counter.record(1L, 10L);
+        counter.record(1L, 10L);
+
+        assertThat(counter.pendingOf(1L)).isEqualTo(2);
+    }
+}
@@ -0,0 +1,18 @@
+package com.hcproj.healthcareprojectbackend.diet.repository;
+
+import com.hcproj.healthcareprojectbackend.support.PostgresContainerSupport;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * PostgreSQL(Flyway V5로 increment 50이 적용된 시퀀스)에서의 id 충돌 검증.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class DietPlanIdAllocationPostgresTest extends DietPlanIdAllocationTests {
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        PostgresContainerSupport.register(registry);
+    }
+}
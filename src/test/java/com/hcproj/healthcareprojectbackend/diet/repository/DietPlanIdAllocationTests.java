@@ -0,0 +1,272 @@
+package com.hcproj.healthcareprojectbackend.diet.repository;
+
+import com.hcproj.healthcareprojectbackend.auth.entity.UserEntity;
+import com.hcproj.healthcareprojectbackend.auth.repository.UserRepository;
+import com.hcproj.healthcareprojectbackend.diet.ai.dto.DietAiWeekPlanResult;
+import com.hcproj.healthcareprojectbackend.diet.entity.DietDayEntity;
+import com.hcproj.healthcareprojectbackend.diet.entity.DietMealEntity;
+import com.hcproj.healthcareprojectbackend.diet.entity.DietMealItemEntity;
+import com.hcproj.healthcareprojectbackend.diet.entity.FoodEntity;
+import com.hcproj.healthcareprojectbackend.global.config.JpaConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link DietPlanBulkWriter}와 JPA(pooled sequence)가 같은 시퀀스에서 id를 나눠 쓸 때 겹치지 않는지 검증한다.
+ *
+ * <p>
+ * 두 경로를 번갈아/동시에 실행한 뒤, 양쪽이 발급한 id를 모아 중복이 없고 DB row 수와 같은지 본다.
+ * DB별 설정은 하위 클래스(H2, PostgreSQL)가 정한다.
+ * </p>
+ *
+ * <p>
+ * Hibernate pooled optimizer는 시퀀스가 시작값(1)을 돌려준 첫 호출에서 nextval을 한 번 더 부르고
+ * [1, 두 번째 값] 전체를 쓴다. 그 사이 다른 노드가 nextval을 가져가면 구간이 겹칠 수 있으므로
+ * (writer와 무관한 Hibernate 자체 동작), 동시성 테스트는 시퀀스를 먼저 한 번씩 소비한 뒤 시작한다.
+ * prod는 V5의 setval로 시퀀스가 시작값을 돌려주지 않는다.
+ * </p>
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaConfig.class, DietPlanBulkWriter.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+abstract class DietPlanIdAllocationTests {
+
+    private static final int MEALS_PER_DAY = 3;
+    private static final int ITEMS_PER_MEAL = 4;
+
+    @Autowired
+    DietPlanBulkWriter writer;
+    @Autowired
+    DietDayRepository dietDayRepository;
+    @Autowired
+    DietMealRepository dietMealRepository;
+    @Autowired
+    DietMealItemRepository dietMealItemRepository;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    FoodRepository foodRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+    private Long foodId;
+    private final List<Long> dayIds = new ArrayList<>();
+    private final List<Long> mealIds = new ArrayList<>();
+    private final List<Long> itemIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        foodId = foodRepository.save(FoodEntity.builder()
+                .name("현미밥")
+                .nutritionUnit("G")
+                .nutritionAmount(210)
+                .calories(300)
+                .isActive(true)
+                .build()).getFoodId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        dayIds.clear();
+        mealIds.clear();
+        itemIds.clear();
+    }
+
+    @Test
+    void writerAndJpaInterleaved_doNotReuseIds() {
+        Long userId = newUser();
+        LocalDate start = LocalDate.of(2026, 1, 5);
+
+        for (int week = 0; week < 6; week++) {
+            LocalDate weekStart = start.plusWeeks(week);
+            if (week % 2 == 0) {
+                writeWithBulkWriter(userId, weekStart);
+            } else {
+                writeWithJpa(userId, weekStart);
+            }
+        }
+
+        assertNoCollisions();
+    }
+
+    @Test
+    void writerDays_fillAuditColumnsLikeJpa() {
+        Long userId = newUser();
+        writeWithBulkWriter(userId, LocalDate.of(2026, 3, 2));
+
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "select created_at, updated_at from diet_days where user_id = ?", userId);
+
+        assertThat(rows).hasSize(7).allSatisfy(row -> {
+            assertThat(row.get("updated_at")).isNotNull();
+            assertThat(row.get("updated_at")).isEqualTo(row.get("created_at"));
+        });
+    }
+
+    @Test
+    void writerAndJpaConcurrent_doNotReuseIds() throws Exception {
+        // 시퀀스 시작값 구간을 먼저 소비한다(클래스 Javadoc 참고).
+        Long warmUpUser = newUser();
+        writeWithJpa(warmUpUser, LocalDate.of(2025, 1, 6));
+        writeWithBulkWriter(warmUpUser, LocalDate.of(2025, 1, 13));
+
+        int workers = 8;
+        List<Long> users = new ArrayList<>();
+        for (int i = 0; i < workers; i++) users.add(newUser());
+
+        ExecutorService pool = Executors.newFixedThreadPool(workers);
+        CountDownLatch go = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < workers; i++) {
+                Long userId = users.get(i);
+                boolean useWriter = i % 2 == 0;
+                futures.add(pool.submit(() -> {
+                    go.await();
+                    for (int week = 0; week < 3; week++) {
+                        LocalDate weekStart = LocalDate.of(2026, 3, 2).plusWeeks(week);
+                        if (useWriter) {
+                            writeWithBulkWriter(userId, weekStart);
+                        } else {
+                            writeWithJpa(userId, weekStart);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            go.countDown();
+            for (Future<?> f : futures) f.get(60, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertNoCollisions();
+    }
+
+    private void writeWithBulkWriter(Long userId, LocalDate weekStart) {
+        List<DietAiWeekPlanResult.Day> days = new ArrayList<>();
+        for (int d = 0; d < 7; d++) {
+            List<DietAiWeekPlanResult.Meal> meals = new ArrayList<>();
+            for (int m = 0; m < MEALS_PER_DAY; m++) {
+                List<DietAiWeekPlanResult.Item> items = new ArrayList<>();
+                for (int i = 0; i < ITEMS_PER_MEAL; i++) items.add(new DietAiWeekPlanResult.Item(foodId, i + 1));
+                meals.add(new DietAiWeekPlanResult.Meal(m, "끼니 " + m, items));
+            }
+            days.add(new DietAiWeekPlanResult.Day(weekStart.plusDays(d), meals));
+        }
+
+        DietPlanBulkWriter.Written written = tx.execute(status ->
+                writer.replaceRange(userId, weekStart, weekStart.plusDays(6), days));
+
+        record(written.days().stream().map(DietDayEntity::getDietDayId).toList(),
+                written.meals().stream().map(DietMealEntity::getDietMealId).toList(),
+                written.items().stream().map(DietMealItemEntity::getDietMealItemId).toList());
+    }
+
+    private void writeWithJpa(Long userId, LocalDate weekStart) {
+        List<List<Long>> ids = tx.execute(status -> {
+            List<DietDayEntity> days = new ArrayList<>();
+            for (int d = 0; d < 7; d++) {
+                days.add(DietDayEntity.builder().userId(userId).logDate(weekStart.plusDays(d)).build());
+            }
+            days = dietDayRepository.saveAll(days);
+
+            List<DietMealEntity> meals = new ArrayList<>();
+            for (DietDayEntity day : days) {
+                for (int m = 0; m < MEALS_PER_DAY; m++) {
+                    meals.add(DietMealEntity.builder()
+                            .dietDayId(day.getDietDayId())
+                            .title("끼니 " + m)
+                            .sortOrder(m)
+                            .build());
+                }
+            }
+            meals = dietMealRepository.saveAll(meals);
+
+            List<DietMealItemEntity> items = new ArrayList<>();
+            for (DietMealEntity meal : meals) {
+                for (int i = 0; i < ITEMS_PER_MEAL; i++) {
+                    items.add(DietMealItemEntity.builder()
+                            .dietMealId(meal.getDietMealId())
+                            .foodId(foodId)
+                            .count(i + 1)
+                            .isChecked(false)
+                            .build());
+                }
+            }
+            items = dietMealItemRepository.saveAll(items);
+
+            return List.of(
+                    days.stream().map(DietDayEntity::getDietDayId).toList(),
+                    meals.stream().map(DietMealEntity::getDietMealId).toList(),
+                    items.stream().map(DietMealItemEntity::getDietMealItemId).toList());
+        });
+
+        record(ids.get(0), ids.get(1), ids.get(2));
+    }
+
+    private synchronized void record(List<Long> days, List<Long> meals, List<Long> items) {
+        dayIds.addAll(days);
+        mealIds.addAll(meals);
+        itemIds.addAll(items);
+    }
+
+    private void assertNoCollisions() {
+        assertThat(dayIds).doesNotHaveDuplicates().allMatch(id -> id > 0);
+        assertThat(mealIds).doesNotHaveDuplicates().allMatch(id -> id > 0);
+        assertThat(itemIds).doesNotHaveDuplicates().allMatch(id -> id > 0);
+
+        // 발급된 id가 모두 실제 row로 남아 있어야 한다(덮어쓰기/유실 없음).
+        assertThat(countIn("diet_days", "diet_day_id", dayIds)).isEqualTo(dayIds.size());
+        assertThat(countIn("diet_meals", "diet_meal_id", mealIds)).isEqualTo(mealIds.size());
+        assertThat(countIn("diet_meal_items", "diet_meal_item_id", itemIds)).isEqualTo(itemIds.size());
+    }
+
+    private int countIn(String table, String idColumn, List<Long> ids) {
+        int total = 0;
+        for (int from = 0; from < ids.size(); from += 500) {
+            List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + 500));
+            String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+            Integer count = jdbcTemplate.queryForObject(
+                    "select count(*) from " + table + " where " + idColumn + " in (" + placeholders + ")",
+                    Integer.class, chunk.toArray());
+            total += count == null ? 0 : count;
+        }
+        return total;
+    }
+
+    private Long newUser() {
+        String unique = UUID.randomUUID().toString().substring(0, 8);
+        return userRepository.save(UserEntity.localRegister(
+                unique + "@test.com", UserEntity.newHandle(), "hash", "user" + unique, null, null)).getId();
+    }
+}
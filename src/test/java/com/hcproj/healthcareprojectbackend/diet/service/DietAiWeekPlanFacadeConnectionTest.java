@@ -0,0 +1,200 @@
+package com.hcproj.healthcareprojectbackend.diet.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hcproj.healthcareprojectbackend.diet.ai.DietAiFoodCatalogService;
+import com.hcproj.healthcareprojectbackend.diet.ai.DietAiOutputValidator;
+import com.hcproj.healthcareprojectbackend.diet.ai.DietAiPrompts;
+import com.hcproj.healthcareprojectbackend.diet.ai.dto.AiDietWeekPlanPutRequestDTO;
+import com.hcproj.healthcareprojectbackend.diet.ai.dto.DietAiWeekPlanResult;
+import com.hcproj.healthcareprojectbackend.diet.dto.response.AiDietWeekPlanResponseDTO;
+import com.hcproj.healthcareprojectbackend.diet.entity.FoodEntity;
+import com.hcproj.healthcareprojectbackend.diet.repository.DietPlanBulkWriter;
+import com.hcproj.healthcareprojectbackend.diet.repository.FoodRepository;
+import com.hcproj.healthcareprojectbackend.diet.service.manager.DietAiWeekPlanManager;
+import com.hcproj.healthcareprojectbackend.global.ai.AiGateway;
+import com.hcproj.healthcareprojectbackend.global.ai.AiJsonCaller;
+import com.hcproj.healthcareprojectbackend.global.ai.AiResponseCache;
+import com.hcproj.healthcareprojectbackend.global.ai.AiSseStreamer;
+import com.hcproj.healthcareprojectbackend.global.ai.PromptLoader;
+import com.hcproj.healthcareprojectbackend.global.config.JpaConfig;
+import com.hcproj.healthcareprojectbackend.global.config.properties.AiGatewayProperties;
+import com.hcproj.healthcareprojectbackend.global.store.airate.AiRateLimitStore;
+import com.hcproj.healthcareprojectbackend.global.store.catalog.CatalogVersionStore;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * AI 주간 식단 교체가 LLM 응답을 기다리는 동안 DB 커넥션을 잡지 않는지 검증한다.
+ *
+ * <p>
+ * ChatClient를 latch로 멈춰 두고, 그 사이 Hikari pool의 active connection이 0인지 확인한 뒤
+ * 응답을 풀어 짧은 쓰기 트랜잭션에서 7일치가 저장되는지 본다.
+ * </p>
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({
+        JpaConfig.class,
+        DietAiWeekPlanFacade.class,
+        DietAiWeekPlanManager.class,
+        DietPlanBulkWriter.class,
+        DietAiFoodCatalogService.class,
+        DietAiOutputValidator.class,
+        DietAiPrompts.class,
+        PromptLoader.class,
+        AiGateway.class,
+        AiJsonCaller.class,
+        DietAiWeekPlanFacadeConnectionTest.SlowChatClientConfig.class
+})
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:diet-ai-connection;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.hikari.maximum-pool-size=4",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false",
+        "app.ai.gateway.rate-limit.enabled=false",
+        "app.ai.gateway.timeout-seconds=30"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DietAiWeekPlanFacadeConnectionTest {
+
+    private static final long USER_ID = 1L;
+
+    @TestConfiguration
+    @EnableConfigurationProperties(AiGatewayProperties.class)
+    static class SlowChatClientConfig {
+
+        @Bean
+        SlowChat slowChat() {
+            return new SlowChat();
+        }
+
+        /** 응답 전에 release latch가 풀릴 때까지 막히는 ChatClient */
+        @Bean
+        ChatClient chatClient(SlowChat slowChat) {
+            ChatClient chatClient = mock(ChatClient.class, RETURNS_DEEP_STUBS);
+            when(chatClient.prompt().system(anyString()).user(anyString()).call().content())
+                    .thenAnswer(invocation -> slowChat.respond());
+            return chatClient;
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    static class SlowChat {
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        volatile String response;
+
+        String respond() throws InterruptedException {
+            entered.countDown();
+            if (!release.await(30, TimeUnit.SECONDS)) throw new IllegalStateException("stub was never released");
+            return response;
+        }
+    }
+
+    @MockitoBean
+    AiResponseCache aiResponseCache;
+    @MockitoBean
+    AiRateLimitStore aiRateLimitStore;
+    @MockitoBean
+    CatalogVersionStore catalogVersionStore;
+    @MockitoBean
+    AiSseStreamer aiSseStreamer;
+
+    @Autowired
+    DietAiWeekPlanFacade facade;
+    @Autowired
+    FoodRepository foodRepository;
+    @Autowired
+    SlowChat slowChat;
+    @Autowired
+    ObjectMapper objectMapper;
+    @Autowired
+    DataSource dataSource;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private final ExecutorService caller = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        slowChat.release.countDown();
+        caller.shutdownNow();
+    }
+
+    @Test
+    void replaceWeekPlan_holdsNoConnectionWhileWaitingForModel() throws Exception {
+        Long foodId = foodRepository.save(FoodEntity.builder()
+                .name("현미밥")
+                .nutritionUnit("G")
+                .nutritionAmount(210)
+                .calories(300)
+                .isActive(true)
+                .build()).getFoodId();
+        slowChat.response = objectMapper.writeValueAsString(weekPlan(LocalDate.now(), foodId));
+
+        Future<AiDietWeekPlanResponseDTO> result = caller.submit(() -> facade.replaceWeekPlan(
+                USER_ID, new AiDietWeekPlanPutRequestDTO(List.of(), null, false)));
+
+        assertThat(slowChat.entered.await(10, TimeUnit.SECONDS)).isTrue();
+        var pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+        assertThat(pool.getActiveConnections()).isZero();
+
+        slowChat.release.countDown();
+        AiDietWeekPlanResponseDTO response = result.get(10, TimeUnit.SECONDS);
+
+        assertThat(response.days()).hasSize(7);
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from diet_days where user_id = ?", Integer.class, USER_ID)).isEqualTo(7);
+        assertThat(pool.getActiveConnections()).isZero();
+    }
+
+    private static DietAiWeekPlanResult weekPlan(LocalDate start, Long foodId) {
+        List<DietAiWeekPlanResult.Day> days = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            days.add(new DietAiWeekPlanResult.Day(start.plusDays(i), List.of(
+                    new DietAiWeekPlanResult.Meal(0, "아침", List.of(new DietAiWeekPlanResult.Item(foodId, 1))),
+                    new DietAiWeekPlanResult.Meal(1, "점심", List.of(new DietAiWeekPlanResult.Item(foodId, 2)))
+            )));
+        }
+        return new DietAiWeekPlanResult(start, start.plusDays(6), List.of(), days);
+    }
+}
@@ -0,0 +1,107 @@
+package com.hcproj.healthcareprojectbackend.global.ai;
+
+import com.hcproj.healthcareprojectbackend.global.config.properties.AiGatewayProperties;
+import com.hcproj.healthcareprojectbackend.global.exception.BusinessException;
+import com.hcproj.healthcareprojectbackend.global.exception.ErrorCode;
+import com.hcproj.healthcareprojectbackend.global.store.airate.AiRateLimitStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AiGatewayTest {
+
+    private static final AiJsonSpec<String, Void> SPEC = AiJsonSpec.of(String.class);
+
+    private final AiJsonCaller aiJsonCaller = mock(AiJsonCaller.class);
+    private final AiRateLimitStore rateLimitStore = mock(AiRateLimitStore.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch upstream = new CountDownLatch(1);
+
+    private AiGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        AiGatewayProperties props = new AiGatewayProperties();
+        props.setTimeoutSeconds(1);
+        props.getBulkhead().setMaxConcurrent(1);
+        props.getBulkhead().setMaxWaitMillis(0);
+        gateway = new AiGateway(aiJsonCaller, rateLimitStore, props, meterRegistry);
+
+        when(rateLimitStore.tryTake(anyLong())).thenReturn(true);
+        // 블로킹 HTTP 호출처럼 interrupt를 무시하고 latch가 풀릴 때까지 끝나지 않는 upstream
+        when(aiJsonCaller.generate(anyString(), anyString(), any(), anyBoolean())).thenAnswer(invocation -> {
+            while (true) {
+                try {
+                    if (upstream.await(10, TimeUnit.SECONDS)) return "ok";
+                } catch (InterruptedException ignored) {
+                    // cancel(true)로는 멈추지 않는다
+                }
+            }
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        upstream.countDown();
+        gateway.shutdown();
+    }
+
+    @Test
+    void timedOutCallKeepsBulkheadSlotUntilUpstreamFinishes() throws InterruptedException {
+        assertThatThrownBy(() -> gateway.callJson(1L, "system", "user", SPEC, false))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.AI_TIMEOUT);
+
+        // 호출 측은 돌아갔지만 upstream 호출은 아직 진행 중이므로 슬롯이 없어야 한다.
+        assertThatThrownBy(() -> gateway.callJson(1L, "system", "user", SPEC, false))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.AI_BUSY);
+        assertThat(meterRegistry.get("ai.gateway.inflight").gauge().value()).isEqualTo(1.0);
+
+        upstream.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("ai.gateway.inflight").gauge().value() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(meterRegistry.get("ai.gateway.inflight").gauge().value()).isZero();
+
+        assertThat(gateway.callJson(1L, "system", "user", SPEC, false)).isEqualTo("ok");
+    }
+
+    @Test
+    void cacheHitSkipsRateLimitAndBulkhead() {
+        when(aiJsonCaller.findCached("system", "user", SPEC)).thenReturn("cached");
+        when(rateLimitStore.tryTake(anyLong())).thenReturn(false);
+
+        assertThat(gateway.callJson(1L, "system", "user", SPEC, false)).isEqualTo("cached");
+
+        verify(rateLimitStore, never()).tryTake(anyLong());
+        verify(aiJsonCaller, never()).generate(anyString(), anyString(), any(), anyBoolean());
+    }
+
+    @Test
+    void bypassCacheDoesNotLookUpCache() {
+        upstream.countDown();
+
+        assertThat(gateway.callJson(1L, "system", "user", SPEC, true)).isEqualTo("ok");
+
+        verify(aiJsonCaller, never()).findCached(anyString(), anyString(), any());
+    }
+}
@@ -0,0 +1,63 @@
+package com.hcproj.healthcareprojectbackend.global.ai;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AiJsonCallerTest {
+
+    record Answer(String name) {}
+
+    record Day(int day) {}
+
+    record Plan(List<Day> days) {}
+
+    private final ChatClient chatClient = mock(ChatClient.class, RETURNS_DEEP_STUBS);
+    private final AiResponseCache responseCache = mock(AiResponseCache.class);
+
+    private AiJsonCaller caller;
+
+    @BeforeEach
+    void setUp() {
+        caller = new AiJsonCaller(chatClient, new ObjectMapper(), responseCache);
+        when(responseCache.isEnabled()).thenReturn(true);
+        when(responseCache.keyOf(anyString(), anyString())).thenReturn("hash");
+        doThrow(new RedisConnectionFailureException("down")).when(responseCache).put(anyString(), anyString());
+    }
+
+    @Test
+    void generate_returnsResultWhenCacheWriteFails() {
+        when(chatClient.prompt().system(anyString()).user(anyString()).call().content())
+                .thenReturn("```json\n{\"name\":\"ok\"}\n```");
+
+        Answer answer = caller.generate("system", "user", AiJsonSpec.of(Answer.class), false);
+
+        assertThat(answer).isEqualTo(new Answer("ok"));
+    }
+
+    @Test
+    void streamJson_returnsResultWhenCacheWriteFails() {
+        when(chatClient.prompt().system(anyString()).user(anyString()).stream().content())
+                .thenReturn(Flux.just("{\"days\":[{\"day\"", ":1},{\"day\":2}", "]}"));
+        List<Day> sent = new ArrayList<>();
+
+        Plan plan = caller.streamJson("system", "user",
+                new AiJsonSpec<>(Plan.class, "days", Day.class, null, null), sent::add);
+
+        assertThat(sent).containsExactly(new Day(1), new Day(2));
+        assertThat(plan.days()).hasSize(2);
+    }
+}
@@ -0,0 +1,179 @@
+package com.hcproj.healthcareprojectbackend.global.ai;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hcproj.healthcareprojectbackend.global.exception.BusinessException;
+import com.hcproj.healthcareprojectbackend.global.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IncrementalJsonReaderTest {
+
+    record Day(int day, String title, List<List<Integer>> grid) {}
+
+    record Plan(String note, List<Day> days) {}
+
+    private static final AiJsonSpec<Plan, Day> SPEC = new AiJsonSpec<>(Plan.class, "days", Day.class, null, null);
+
+    /** 원소 안에 중첩 배열, 한글(3바이트)과 이모지(4바이트, 서로게이트 쌍)가 섞인 응답 */
+    private static final String JSON = """
+            ```json
+            {"note":"주간 💪 루틴","days":[
+              {"day":1,"title":"닭가슴살 샐러드","grid":[[1,2],[3]]},
+              {"day":2,"title":"🥗 현미밥","grid":[[],[4,5]]}
+            ]}
+            ```
+            """;
+
+    private static final List<Day> EXPECTED = List.of(
+            new Day(1, "닭가슴살 샐러드", List.of(List.of(1, 2), List.of(3))),
+            new Day(2, "🥗 현미밥", List.of(List.of(), List.of(4, 5))));
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void wholeInput() {
+        List<Day> emitted = new ArrayList<>();
+        IncrementalJsonReader<Plan, Day> reader = new IncrementalJsonReader<>(objectMapper, SPEC, emitted::add);
+
+        reader.feed(JSON);
+
+        assertThat(emitted).isEqualTo(EXPECTED);
+        assertThat(reader.finish()).isEqualTo(new Plan("주간 💪 루틴", EXPECTED));
+    }
+
+    @Test
+    void bytesSplitAtEveryBoundary_includingInsideMultibyteCharacters() {
+        byte[] bytes = JSON.getBytes(StandardCharsets.UTF_8);
+        for (int cut = 1; cut < bytes.length; cut++) {
+            List<Day> emitted = new ArrayList<>();
+            IncrementalJsonReader<Plan, Day> reader = new IncrementalJsonReader<>(objectMapper, SPEC, emitted::add);
+
+            reader.feed(Arrays.copyOfRange(bytes, 0, cut), 0, cut);
+            reader.feed(Arrays.copyOfRange(bytes, cut, bytes.length), 0, bytes.length - cut);
+
+            assertThat(emitted).as("cut at byte %d", cut).isEqualTo(EXPECTED);
+            assertThat(reader.finish().days()).as("cut at byte %d", cut).isEqualTo(EXPECTED);
+        }
+    }
+
+    @Test
+    void randomByteChunks() {
+        byte[] bytes = JSON.getBytes(StandardCharsets.UTF_8);
+        Random random = new Random(42);
+        for (int run = 0; run < 200; run++) {
+            List<Day> emitted = new ArrayList<>();
+            IncrementalJsonReader<Plan, Day> reader = new IncrementalJsonReader<>(objectMapper, SPEC, emitted::add);
+
+            int pos = 0;
+            while (pos < bytes.length) {
+                int end = Math.min(bytes.length, pos + 1 + random.nextInt(7));
+                reader.feed(Arrays.copyOfRange(bytes, pos, end), 0, end - pos);
+                pos = end;
+            }
+
+            assertThat(emitted).isEqualTo(EXPECTED);
+            assertThat(reader.finish().note()).isEqualTo("주간 💪 루틴");
+        }
+    }
+
+    @Test
+    void stringSplitAtEveryCharBoundary_includingBetweenSurrogateHalves() {
+        for (int cut = 1; cut < JSON.length(); cut++) {
+            List<Day> emitted = new ArrayList<>();
+            IncrementalJsonReader<Plan, Day> reader = new IncrementalJsonReader<>(objectMapper, SPEC, emitted::add);
+
+            reader.feed(JSON.substring(0, cut));
+            reader.feed(JSON.substring(cut));
+
+            assertThat(emitted).as("cut at char %d", cut).isEqualTo(EXPECTED);
+            assertThat(reader.finish()).as("cut at char %d", cut).isEqualTo(new Plan("주간 💪 루틴", EXPECTED));
+        }
+    }
+
+    @Test
+    void nullElementIsNotEmittedButKeptInResult() {
+        List<Day> emitted = new ArrayList<>();
+        IncrementalJsonReader<Plan, Day> reader = new IncrementalJsonReader<>(objectMapper, SPEC, emitted::add);
+
+        reader.feed("{\"days\":[{\"day\":1},null,{\"day\":2}]}");
+
+        assertThat(emitted).extracting(Day::day).containsExactly(1, 2);
+        assertThat(reader.finish().days()).hasSize(3).containsNull();
+    }
+
+    @Test
+    void truncatedInput_emitsCompletedElementsThenFailsOnFinish() {
+        List<Day> emitted = new ArrayList<>();
+        IncrementalJsonReader<Plan, Day> reader = new IncrementalJsonReader<>(objectMapper, SPEC, emitted::add);
+
+        reader.feed("{\"days\":[{\"day\":1},{\"day\":2,\"title\":\"닭가");
+
+        assertThat(emitted).extracting(Day::day).containsExactly(1);
+        assertThatThrownBy(reader::finish)
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.AI_JSON_PARSE_FAILED);
+    }
+
+    @Test
+    void noRootObject_failsOnFinish() {
+        IncrementalJsonReader<Plan, Day> reader = new IncrementalJsonReader<>(objectMapper, SPEC, null);
+
+        reader.feed("죄송하지만 식단을 만들 수 없습니다.");
+
+        assertThatThrownBy(reader::finish).isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    void malformedJson_failsOnFeed() {
+        IncrementalJsonReader<Plan, Day> reader = new IncrementalJsonReader<>(objectMapper, SPEC, null);
+
+        assertThatThrownBy(() -> reader.feed("{\"days\":[{\"day\":1,,}]}"))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.AI_JSON_PARSE_FAILED);
+    }
+
+    @Test
+    void elementValidatorFailure_stopsBeforeLaterElements() {
+        List<Day> emitted = new ArrayList<>();
+        AiJsonSpec<Plan, Day> spec = new AiJsonSpec<>(Plan.class, "days", Day.class, day -> {
+            if (day.day() == 2) throw new IllegalArgumentException("bad day");
+        }, null);
+        IncrementalJsonReader<Plan, Day> reader = new IncrementalJsonReader<>(objectMapper, spec, emitted::add);
+
+        assertThatThrownBy(() -> reader.feed("{\"days\":[{\"day\":1},{\"day\":2},{\"day\":3}]}"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(emitted).extracting(Day::day).containsExactly(1);
+    }
+
+    @Test
+    void inputAfterRootObjectIsIgnored() {
+        IncrementalJsonReader<Plan, Day> reader = new IncrementalJsonReader<>(objectMapper, SPEC, null);
+
+        reader.feed("{\"note\":\"a\",\"days\":[]}");
+        reader.feed("\n```\n그 밖의 설명 {\"days\":");
+
+        assertThat(reader.finish()).isEqualTo(new Plan("a", List.of()));
+    }
+
+    @Test
+    void arrayFieldOnlyMatchesAtRootLevel() {
+        List<Day> emitted = new ArrayList<>();
+        IncrementalJsonReader<Plan, Day> reader = new IncrementalJsonReader<>(objectMapper,
+                new AiJsonSpec<>(Plan.class, "grid", Day.class, null, null), emitted::add);
+
+        reader.feed("{\"days\":[{\"day\":1,\"grid\":[[1]]}]}");
+
+        assertThat(emitted).isEmpty();
+        assertThat(reader.finish().days()).hasSize(1);
+    }
+}
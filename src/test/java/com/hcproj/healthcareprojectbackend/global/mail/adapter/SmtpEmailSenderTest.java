@@ -0,0 +1,93 @@
+package com.hcproj.healthcareprojectbackend.global.mail.adapter;
+
+import com.hcproj.healthcareprojectbackend.global.config.properties.MailFromProperties;
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.Message;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link SmtpEmailSender#sendAll}의 묶음 발송과 실패 매핑을 GreenMail SMTP 서버로 검증한다.
+ */
+class SmtpEmailSenderTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP)
+            .withConfiguration(GreenMailConfiguration.aConfig().withDisabledAuthentication());
+
+    private SmtpEmailSender sender;
+
+    @BeforeEach
+    void setUp() {
+        sender = newSender(ServerSetupTest.SMTP.getPort());
+    }
+
+    @Test
+    void sendAll_deliversEveryMessageOverOneConnection() throws Exception {
+        List<MimeMessage> messages = List.of(
+                sender.createMessage("a@test.com", "인증 코드", "123456", null),
+                sender.createMessage("b@test.com", "비밀번호 재설정", null, "<p>link</p>"),
+                sender.createMessage("c@test.com", "인증 코드", "654321", null));
+
+        Map<MimeMessage, Exception> failures = sender.sendAll(messages);
+
+        assertThat(failures).isEmpty();
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(3);
+        assertThat(received[1].getFrom()[0].toString()).contains("noreply@test.com");
+    }
+
+    @Test
+    void sendAll_mapsOnlyFailedMessages() throws Exception {
+        MimeMessage ok1 = sender.createMessage("a@test.com", "first", "body", null);
+        MimeMessage broken = sender.createMessage("b@test.com", "broken", "body", null);
+        broken.setRecipients(Message.RecipientType.TO, (String) null); // 수신자 없음 → 이 메시지만 실패
+        MimeMessage ok2 = sender.createMessage("c@test.com", "third", "body", null);
+
+        Map<MimeMessage, Exception> failures = sender.sendAll(List.of(ok1, broken, ok2));
+
+        assertThat(failures).containsOnlyKeys(broken);
+        assertThat(greenMail.getReceivedMessages()).hasSize(2);
+    }
+
+    @Test
+    void sendAll_connectionFailure_failsEveryMessage() throws Exception {
+        SmtpEmailSender unreachable = newSender(1); // 열려 있지 않은 포트
+        List<MimeMessage> messages = List.of(
+                unreachable.createMessage("a@test.com", "first", "body", null),
+                unreachable.createMessage("b@test.com", "second", "body", null));
+
+        Map<MimeMessage, Exception> failures = unreachable.sendAll(messages);
+
+        assertThat(failures).hasSize(2);
+        assertThat(greenMail.getReceivedMessages()).isEmpty();
+    }
+
+    @Test
+    void sendAll_emptyBatch_doesNotConnect() {
+        assertThat(sender.sendAll(List.of())).isEmpty();
+    }
+
+    static SmtpEmailSender newSender(int port) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(port);
+        mailSender.getJavaMailProperties().put("mail.smtp.connectiontimeout", "2000");
+        mailSender.getJavaMailProperties().put("mail.smtp.timeout", "2000");
+
+        MailFromProperties from = new MailFromProperties();
+        from.setFromAddress("noreply@test.com");
+        from.setFromName("헬스케어");
+        return new SmtpEmailSender(mailSender, from);
+    }
+}
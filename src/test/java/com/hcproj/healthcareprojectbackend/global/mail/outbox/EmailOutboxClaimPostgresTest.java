@@ -0,0 +1,114 @@
+package com.hcproj.healthcareprojectbackend.global.mail.outbox;
+
+import com.hcproj.healthcareprojectbackend.global.config.properties.MailOutboxProperties;
+import com.hcproj.healthcareprojectbackend.support.PostgresContainerSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 여러 노드의 dispatcher가 동시에 선점할 때 SKIP LOCKED로 서로 다른 행을 가져가는지
+ * 실제 PostgreSQL에서 검증한다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({EmailOutboxManager.class, EmailOutboxClaimPostgresTest.OutboxTestConfig.class})
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EmailOutboxClaimPostgresTest {
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        PostgresContainerSupport.register(registry);
+    }
+
+    @TestConfiguration
+    static class OutboxTestConfig {
+
+        @Bean
+        MailOutboxProperties mailOutboxProperties() {
+            return new MailOutboxProperties();
+        }
+    }
+
+    @Autowired
+    EmailOutboxManager manager;
+    @Autowired
+    EmailOutboxRepository repository;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAllInBatch();
+        for (int i = 0; i < 10; i++) {
+            repository.save(EmailOutboxEntity.pending("user" + i + "@test.com", "인증 코드", "code " + i, null));
+        }
+    }
+
+    @Test
+    void concurrentClaims_skipLockedRowsInsteadOfWaiting() throws Exception {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        CountDownLatch firstClaimed = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            // 노드 A: 5건을 선점하고 커밋하지 않은 채 행 잠금을 유지
+            Future<List<EmailOutboxManager.Claimed>> nodeA = pool.submit(() -> tx.execute(status -> {
+                List<EmailOutboxManager.Claimed> claimed = manager.claimDue(5);
+                firstClaimed.countDown();
+                try {
+                    releaseFirst.await(30, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return claimed;
+            }));
+            assertThat(firstClaimed.await(10, TimeUnit.SECONDS)).isTrue();
+
+            // 노드 B: 잠긴 행을 기다리지 않고 나머지를 가져간다.
+            Future<List<EmailOutboxManager.Claimed>> nodeB = pool.submit(() -> manager.claimDue(10));
+            List<EmailOutboxManager.Claimed> claimedByB = nodeB.get(5, TimeUnit.SECONDS);
+
+            releaseFirst.countDown();
+            List<EmailOutboxManager.Claimed> claimedByA = nodeA.get(10, TimeUnit.SECONDS);
+
+            assertThat(claimedByA).hasSize(5);
+            assertThat(claimedByB).hasSize(5);
+            Set<Long> ids = new HashSet<>();
+            claimedByA.forEach(c -> ids.add(c.id()));
+            claimedByB.forEach(c -> ids.add(c.id()));
+            assertThat(ids).hasSize(10);
+        } finally {
+            releaseFirst.countDown();
+            pool.shutdownNow();
+        }
+
+        // 커밋된 lease 동안에는 어느 노드도 다시 가져가지 않는다.
+        assertThat(manager.claimDue(10)).isEmpty();
+        assertThat(repository.findAll()).allSatisfy(o -> assertThat(o.getAttempts()).isEqualTo(1));
+    }
+}
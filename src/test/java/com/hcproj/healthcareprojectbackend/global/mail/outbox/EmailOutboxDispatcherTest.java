@@ -0,0 +1,197 @@
+package com.hcproj.healthcareprojectbackend.global.mail.outbox;
+
+import com.hcproj.healthcareprojectbackend.global.config.properties.MailFromProperties;
+import com.hcproj.healthcareprojectbackend.global.config.properties.MailOutboxProperties;
+import com.hcproj.healthcareprojectbackend.global.mail.adapter.SmtpEmailSender;
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * outbox 발송 라운드(선점 → SMTP 묶음 발송 → 결과 기록)를 H2 + GreenMail로 검증한다.
+ *
+ * <p>{@link EmailOutboxDispatcher#drain}을 테스트 스레드에서 직접 호출한다.</p>
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({
+        EmailOutboxManager.class,
+        EmailOutboxDispatcher.class,
+        SmtpEmailSender.class,
+        EmailOutboxDispatcherTest.MailTestConfig.class
+})
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:mail-outbox;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EmailOutboxDispatcherTest {
+
+    /** createMessage 단계에서 항상 실패하는 수신자(주소 2개) */
+    private static final String INVALID_RECIPIENT = "a@test.com,b@test.com";
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP)
+            .withConfiguration(GreenMailConfiguration.aConfig().withDisabledAuthentication());
+
+    @TestConfiguration
+    static class MailTestConfig {
+
+        @Bean
+        JavaMailSender javaMailSender() {
+            JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+            mailSender.setHost("127.0.0.1");
+            mailSender.setPort(ServerSetupTest.SMTP.getPort());
+            return mailSender;
+        }
+
+        @Bean
+        MailFromProperties mailFromProperties() {
+            MailFromProperties from = new MailFromProperties();
+            from.setFromAddress("noreply@test.com");
+            from.setFromName("헬스케어");
+            return from;
+        }
+
+        @Bean
+        MailOutboxProperties mailOutboxProperties() {
+            MailOutboxProperties props = new MailOutboxProperties();
+            props.setBatchSize(2);
+            props.setMaxAttempts(3);
+            props.setBackoffBaseSeconds(30);
+            props.setBackoffMaxSeconds(3600);
+            props.setLeaseSeconds(120);
+            return props;
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    EmailOutboxDispatcher dispatcher;
+    @Autowired
+    EmailOutboxManager manager;
+    @Autowired
+    EmailOutboxRepository repository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAllInBatch();
+    }
+
+    @Test
+    void drain_sendsEveryBatchAndDeletesSentRows() {
+        // batchSize=2이므로 3통은 두 라운드로 나뉘어 나간다.
+        repository.save(EmailOutboxEntity.pending("a@test.com", "인증 코드", "123456", null));
+        repository.save(EmailOutboxEntity.pending("b@test.com", "인증 코드", "654321", null));
+        repository.save(EmailOutboxEntity.pending("c@test.com", "재설정", null, "<p>link</p>"));
+
+        dispatcher.drain();
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(3);
+        assertThat(repository.count()).isZero();
+        assertThat(meterRegistry.get("mail.outbox.pending").gauge().value()).isZero();
+    }
+
+    @Test
+    void drain_partialFailure_keepsOnlyFailedRowForRetry() {
+        repository.save(EmailOutboxEntity.pending("a@test.com", "ok", "body", null));
+        Long failedId = repository.save(EmailOutboxEntity.pending(INVALID_RECIPIENT, "broken", "body", null))
+                .getEmailOutboxId();
+
+        Instant before = Instant.now();
+        dispatcher.drain();
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+        assertThat(repository.findAll()).singleElement().satisfies(o -> {
+            assertThat(o.getEmailOutboxId()).isEqualTo(failedId);
+            assertThat(o.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+            assertThat(o.getAttempts()).isEqualTo(1);
+            assertThat(o.getLastError()).contains("AddressException");
+            assertThat(o.getNextAttemptAt()).isCloseTo(before.plusSeconds(30), within(5, ChronoUnit.SECONDS));
+        });
+    }
+
+    @Test
+    void drain_retriesWithExponentialBackoffUntilFailed() {
+        Long id = repository.save(EmailOutboxEntity.pending(INVALID_RECIPIENT, "broken", "body", null))
+                .getEmailOutboxId();
+
+        // 1회차 실패 → 30초 뒤
+        Instant first = Instant.now();
+        dispatcher.drain();
+        assertThat(find(id).getNextAttemptAt()).isCloseTo(first.plusSeconds(30), within(5, ChronoUnit.SECONDS));
+
+        // 재시도 시각 전에는 다시 가져가지 않는다.
+        dispatcher.drain();
+        assertThat(find(id).getAttempts()).isEqualTo(1);
+
+        // 2회차 실패 → 60초 뒤
+        makeDue(id);
+        Instant second = Instant.now();
+        dispatcher.drain();
+        assertThat(find(id).getAttempts()).isEqualTo(2);
+        assertThat(find(id).getNextAttemptAt()).isCloseTo(second.plusSeconds(60), within(5, ChronoUnit.SECONDS));
+
+        // 3회차(maxAttempts) 실패 → FAILED, 이후 선점 대상 아님
+        makeDue(id);
+        dispatcher.drain();
+        assertThat(find(id).getStatus()).isEqualTo(EmailOutboxStatus.FAILED);
+        assertThat(find(id).getAttempts()).isEqualTo(3);
+
+        makeDue(id);
+        dispatcher.drain();
+        assertThat(find(id).getAttempts()).isEqualTo(3);
+        assertThat(greenMail.getReceivedMessages()).isEmpty();
+    }
+
+    @Test
+    void claimDue_leasesRowsUntilResultIsRecorded() {
+        repository.save(EmailOutboxEntity.pending("a@test.com", "ok", "body", null));
+
+        assertThat(manager.claimDue(10)).hasSize(1);
+        // 결과 기록 전(노드가 발송 중이거나 죽은 상태)에는 lease 동안 다시 선점되지 않는다.
+        assertThat(manager.claimDue(10)).isEmpty();
+    }
+
+    private EmailOutboxEntity find(Long id) {
+        return repository.findById(id).orElseThrow();
+    }
+
+    private void makeDue(Long id) {
+        jdbcTemplate.update("update email_outbox set next_attempt_at = ? where email_outbox_id = ?",
+                Timestamp.from(Instant.now().minusSeconds(1)), id);
+    }
+}
@@ -0,0 +1,139 @@
+package com.hcproj.healthcareprojectbackend.global.ratelimit;
+
+import com.hcproj.healthcareprojectbackend.global.config.properties.RateLimitProperties;
+import com.hcproj.healthcareprojectbackend.global.exception.BusinessException;
+import com.hcproj.healthcareprojectbackend.global.store.ratelimit.SlidingWindowRateLimitStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RateLimitInterceptorTest {
+
+    static class Handlers {
+        @RateLimited(policy = "post-write", ipPolicy = "post-write-ip", keys = {RateLimitKey.USER, RateLimitKey.IP})
+        void write() {}
+    }
+
+    private final SlidingWindowRateLimitStore store = mock(SlidingWindowRateLimitStore.class);
+    private RateLimitInterceptor interceptor;
+    private HandlerMethod handler;
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        RateLimitProperties props = new RateLimitProperties();
+        props.getPolicies().put("post-write", policy(2));
+        props.getPolicies().put("post-write-ip", policy(50));
+        interceptor = new RateLimitInterceptor(props, store, new SimpleMeterRegistry());
+        handler = new HandlerMethod(new Handlers(), Handlers.class.getDeclaredMethod("write"));
+        request = new MockHttpServletRequest();
+        request.setRemoteAddr("10.0.0.1");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void userAndIpKeys_useSeparatePoliciesInOneCheck() {
+        authenticate(7L);
+
+        assertThat(interceptor.preHandle(request, new MockHttpServletResponse(), handler)).isTrue();
+
+        verify(store).hitAll(List.of(
+                new SlidingWindowRateLimitStore.Limit("rl:post-write:user:7", 2, 60_000),
+                new SlidingWindowRateLimitStore.Limit("rl:post-write-ip:ip:10.0.0.1", 50, 60_000)));
+    }
+
+    @Test
+    void anonymousRequest_countsIpOnce() {
+        interceptor.preHandle(request, new MockHttpServletResponse(), handler);
+
+        verify(store).hitAll(List.of(
+                new SlidingWindowRateLimitStore.Limit("rl:post-write-ip:ip:10.0.0.1", 50, 60_000)));
+    }
+
+    @Test
+    void forwardedHeader_isNotReadDirectly() {
+        // 헤더 해석은 컨테이너(RemoteIpValve)가 신뢰 프록시에 한해 remoteAddr에 반영한다.
+        request.addHeader("X-Forwarded-For", "203.0.113.9");
+
+        interceptor.preHandle(request, new MockHttpServletResponse(), handler);
+
+        verify(store).hitAll(List.of(
+                new SlidingWindowRateLimitStore.Limit("rl:post-write-ip:ip:10.0.0.1", 50, 60_000)));
+    }
+
+    @Test
+    void redisRejection_setsRetryAfterAndIsNotRecordedLocally() {
+        authenticate(7L);
+        when(store.hitAll(anyList())).thenReturn(1500L);
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertThatThrownBy(() -> interceptor.preHandle(request, response, handler))
+                .isInstanceOf(BusinessException.class);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+
+        // 거절된 요청은 로컬 카운트에도 잡히지 않으므로 Redis가 허용하면 바로 통과한다.
+        when(store.hitAll(anyList())).thenReturn(0L);
+        for (int i = 0; i < 2; i++) {
+            assertThat(interceptor.preHandle(request, new MockHttpServletResponse(), handler)).isTrue();
+        }
+        verify(store, times(3)).hitAll(anyList());
+    }
+
+    @Test
+    void localPreFilter_rejectsWithoutRedisOnceThisNodeAloneIsOverLimit() {
+        authenticate(7L);
+
+        for (int i = 0; i < 2; i++) {
+            interceptor.preHandle(request, new MockHttpServletResponse(), handler);
+        }
+        assertThatThrownBy(() -> interceptor.preHandle(request, new MockHttpServletResponse(), handler))
+                .isInstanceOf(BusinessException.class);
+
+        verify(store, times(2)).hitAll(anyList());
+    }
+
+    @Test
+    void disabled_skipsEverything() {
+        RateLimitProperties props = new RateLimitProperties();
+        props.setEnabled(false);
+        RateLimitInterceptor off = new RateLimitInterceptor(props, store, new SimpleMeterRegistry());
+
+        assertThat(off.preHandle(request, new MockHttpServletResponse(), handler)).isTrue();
+        verify(store, never()).hitAll(anyList());
+    }
+
+    private static RateLimitProperties.Policy policy(int limit) {
+        RateLimitProperties.Policy policy = new RateLimitProperties.Policy();
+        policy.setLimit(limit);
+        policy.setWindowSeconds(60);
+        return policy;
+    }
+
+    private static void authenticate(long userId) {
+        UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken("u", null, List.of());
+        auth.setDetails(userId);
+        SecurityContextHolder.getContext().setAuthentication(auth);
+    }
+}
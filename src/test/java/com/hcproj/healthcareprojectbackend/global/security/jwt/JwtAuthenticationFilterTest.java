@@ -0,0 +1,85 @@
+package com.hcproj.healthcareprojectbackend.global.security.jwt;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JwtAuthenticationFilterTest {
+
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(
+            new JwtProperties("test-secret-test-secret-test-secret-test-secret-0123456789", 900, 3600));
+    private final TokenVersionStore tokenVersionStore = mock(TokenVersionStore.class);
+    private final JwtAuthenticationFilter filter =
+            new JwtAuthenticationFilter(jwtTokenProvider, tokenVersionStore, new ObjectMapper());
+
+    private MockHttpServletResponse response;
+    private MockFilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        response = new MockHttpServletResponse();
+        chain = new MockFilterChain();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void staleVersionIsRejected() throws Exception {
+        when(tokenVersionStore.currentVersion(7L)).thenReturn(2);
+
+        filter.doFilter(request(jwtTokenProvider.createAccessToken(7L, "h", "USER", 1)), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(response.getContentAsString()).contains("AUTH-003");
+        assertThat(chain.getRequest()).isNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void currentVersionIsAuthenticated() throws Exception {
+        when(tokenVersionStore.currentVersion(7L)).thenReturn(2);
+
+        filter.doFilter(request(jwtTokenProvider.createAccessToken(7L, "h", "USER", 2)), response, chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getDetails()).isEqualTo(7L);
+    }
+
+    @Test
+    void unknownVersionBecauseRedisIsDown_isAllowed() throws Exception {
+        when(tokenVersionStore.currentVersion(7L)).thenReturn(null);
+
+        filter.doFilter(request(jwtTokenProvider.createAccessToken(7L, "h", "USER", 1)), response, chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    @Test
+    void tokenWithoutVersionClaimSkipsCheck() throws Exception {
+        filter.doFilter(request(jwtTokenProvider.createAccessToken(7L, "h", "USER", null)), response, chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+        verify(tokenVersionStore, never()).currentVersion(anyLong());
+    }
+
+    private static MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/board/posts");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+}
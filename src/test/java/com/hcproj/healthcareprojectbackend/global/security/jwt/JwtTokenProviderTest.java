@@ -0,0 +1,79 @@
+package com.hcproj.healthcareprojectbackend.global.security.jwt;
+
+import com.hcproj.healthcareprojectbackend.global.exception.BusinessException;
+import com.hcproj.healthcareprojectbackend.global.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret-test-secret-test-secret-test-secret-0123456789";
+
+    private final JwtTokenProvider provider = new JwtTokenProvider(new JwtProperties(SECRET, 900, 3600));
+
+    @Test
+    void cachedTokenYieldsSameClaimsAndFreshAuthentication() {
+        String token = provider.createAccessToken(7L, "handle7", "USER", 3);
+
+        JwtTokenProvider.AccessToken first = provider.parseAccessToken(token);
+        JwtTokenProvider.AccessToken second = provider.parseAccessToken(token);
+
+        assertThat(second.userId()).isEqualTo(7L);
+        assertThat(second.version()).isEqualTo(3);
+        assertThat(second.authentication().getName()).isEqualTo("handle7");
+        assertThat(second.authentication().getDetails()).isEqualTo(7L);
+        assertThat(second.authentication().getAuthorities()).extracting(Object::toString).containsExactly("ROLE_USER");
+        assertThat(second.authentication()).isNotSameAs(first.authentication());
+    }
+
+    @Test
+    void cachedTokenPastExpiryIsRejected() throws InterruptedException {
+        JwtTokenProvider shortLived = new JwtTokenProvider(new JwtProperties(SECRET, 1, 3600));
+        String token = shortLived.createAccessToken(7L, "handle7", "USER", 1);
+        shortLived.parseAccessToken(token);
+
+        // exp는 초 단위로 기록되므로 1초 토큰은 늦어도 1초 안에 만료된다
+        Thread.sleep(1_500);
+
+        assertThatThrownBy(() -> shortLived.parseAccessToken(token))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.EXPIRED_TOKEN);
+    }
+
+    @Test
+    void tamperedCopyOfCachedTokenIsVerifiedAndRejected() {
+        String token = provider.createAccessToken(7L, "handle7", "USER", 1);
+        provider.parseAccessToken(token);
+
+        String[] parts = token.split("\\.");
+        String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8);
+        assertThat(payload).contains("\"uid\":7");
+        String forgedPayload = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(payload.replace("\"uid\":7", "\"uid\":8").getBytes(StandardCharsets.UTF_8));
+        String forged = parts[0] + "." + forgedPayload + "." + parts[2];
+
+        assertThatThrownBy(() -> provider.parseAccessToken(forged))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_TOKEN);
+        assertThat(provider.parseAccessToken(token).userId()).isEqualTo(7L);
+    }
+
+    @Test
+    void tokenSignedWithOtherKeyIsRejected() {
+        JwtTokenProvider other = new JwtTokenProvider(
+                new JwtProperties("other-secret-other-secret-other-secret-0123456789", 900, 3600));
+        String token = other.createAccessToken(7L, "handle7", "USER", 1);
+
+        assertThatThrownBy(() -> provider.parseAccessToken(token))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_TOKEN);
+    }
+}
@@ -0,0 +1,87 @@
+package com.hcproj.healthcareprojectbackend.global.security.jwt;
+
+import com.hcproj.healthcareprojectbackend.support.RedisContainerSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RefreshTokenStoreTest extends RedisContainerSupport {
+
+    private static final long USER_ID = 7L;
+    private static final long TTL_SECONDS = 600;
+
+    private RefreshTokenStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new RefreshTokenStore(redis);
+        redis.opsForValue().set(TokenVersionStore.key(USER_ID), "1");
+        store.save(USER_ID, "old", TTL_SECONDS);
+    }
+
+    @Test
+    void concurrentRotations_oneRotatesRestAreReuse_versionBumpedOnce() throws Exception {
+        int callers = 16;
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<RefreshTokenStore.RotateResult>> futures = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                String newJti = "new-" + i;
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    return store.rotate(USER_ID, "old", newJti, 1, TTL_SECONDS);
+                }));
+            }
+            start.countDown();
+
+            List<RefreshTokenStore.RotateResult> results = new ArrayList<>();
+            for (Future<RefreshTokenStore.RotateResult> f : futures) results.add(f.get(10, TimeUnit.SECONDS));
+
+            assertThat(results).filteredOn(r -> r == RefreshTokenStore.RotateResult.ROTATED).hasSize(1);
+            assertThat(results).filteredOn(r -> r == RefreshTokenStore.RotateResult.REUSED).hasSize(callers - 1);
+            assertThat(redis.opsForValue().get(TokenVersionStore.key(USER_ID))).isEqualTo("2");
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void rotatedTokenFromWinner_isRejectedAfterReuse() {
+        assertThat(store.rotate(USER_ID, "old", "new", 1, TTL_SECONDS)).isEqualTo(RefreshTokenStore.RotateResult.ROTATED);
+        assertThat(store.rotate(USER_ID, "old", "other", 1, TTL_SECONDS)).isEqualTo(RefreshTokenStore.RotateResult.REUSED);
+
+        // 승자가 받은 새 refresh도 이전 버전이므로 더 이상 회전되지 않는다(전체 로그아웃).
+        assertThat(store.rotate(USER_ID, "new", "newer", 1, TTL_SECONDS))
+                .isEqualTo(RefreshTokenStore.RotateResult.VERSION_MISMATCH);
+    }
+
+    @Test
+    void repeatedReuse_keepsReportingReuseWithoutBumpingAgain() {
+        store.rotate(USER_ID, "old", "new", 1, TTL_SECONDS);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(store.rotate(USER_ID, "old", "x-" + i, 1, TTL_SECONDS))
+                    .isEqualTo(RefreshTokenStore.RotateResult.REUSED);
+        }
+
+        assertThat(redis.opsForValue().get(TokenVersionStore.key(USER_ID))).isEqualTo("2");
+        assertThat(redis.getExpire("rtu:%d:old".formatted(USER_ID))).isPositive();
+    }
+
+    @Test
+    void unknownJti_isNotFoundAndDoesNotBump() {
+        assertThat(store.rotate(USER_ID, "never-issued", "new", 1, TTL_SECONDS))
+                .isEqualTo(RefreshTokenStore.RotateResult.NOT_FOUND);
+        assertThat(redis.opsForValue().get(TokenVersionStore.key(USER_ID))).isEqualTo("1");
+    }
+}
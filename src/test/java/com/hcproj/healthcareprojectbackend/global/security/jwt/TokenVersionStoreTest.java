@@ -0,0 +1,79 @@
+package com.hcproj.healthcareprojectbackend.global.security.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenVersionStoreTest {
+
+    private final StringRedisTemplate redis = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> ops = mock(ValueOperations.class);
+
+    private TokenVersionStore store;
+
+    @BeforeEach
+    void setUp() {
+        when(redis.opsForValue()).thenReturn(ops);
+        store = new TokenVersionStore(redis, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void staleRedisReadDoesNotOverwriteNewerInvalidate() {
+        // GET이 bump 이전 값(2)을 읽은 뒤, 캐시에 넣기 전에 bump 메시지(3)가 먼저 도착한다.
+        when(ops.get(TokenVersionStore.key(1L))).thenAnswer(invocation -> {
+            store.onInvalidate("1:3");
+            return "2";
+        });
+
+        assertThat(store.currentVersion(1L)).isEqualTo(3);
+        assertThat(store.currentVersion(1L)).isEqualTo(3);
+        verify(ops, times(1)).get(TokenVersionStore.key(1L));
+    }
+
+    @Test
+    void outOfOrderInvalidateCannotLowerCachedVersion() {
+        store.onInvalidate("1:5");
+        store.onInvalidate("1:4");
+
+        assertThat(store.currentVersion(1L)).isEqualTo(5);
+        verify(ops, never()).get(anyString());
+    }
+
+    @Test
+    void bumpIsVisibleLocallyAndOlderMessageIsIgnored() {
+        when(ops.increment(TokenVersionStore.key(1L))).thenReturn(7L);
+
+        store.bump(1L);
+        store.onInvalidate("1:6");
+
+        assertThat(store.currentVersion(1L)).isEqualTo(7);
+        verify(redis).convertAndSend(TokenVersionStore.CHANNEL, "1:7");
+    }
+
+    @Test
+    void malformedMessageIsIgnored() {
+        store.onInvalidate("garbage");
+        when(ops.get(TokenVersionStore.key(1L))).thenReturn("2");
+
+        assertThat(store.currentVersion(1L)).isEqualTo(2);
+    }
+
+    @Test
+    void redisFailureOnMissSkipsCheck() {
+        when(ops.get(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(store.currentVersion(1L)).isNull();
+    }
+}
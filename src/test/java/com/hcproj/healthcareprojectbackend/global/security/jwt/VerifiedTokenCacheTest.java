@@ -0,0 +1,60 @@
+package com.hcproj.healthcareprojectbackend.global.security.jwt;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+
+    private static final long NOW = 1_000_000L;
+
+    @Test
+    void entryIsServedUntilExpiry() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        VerifiedTokenCache.Verified verified = verified(NOW + 1000);
+        cache.put("a", verified, NOW);
+
+        assertThat(cache.get("a", NOW + 999)).isEqualTo(verified);
+        assertThat(cache.get("a", NOW + 1000)).isNull();
+        // 만료 항목은 조회 시 제거되므로 시계가 되돌아가도 다시 나오지 않는다
+        assertThat(cache.get("a", NOW)).isNull();
+    }
+
+    @Test
+    void fullCacheEvictsExpiredEntriesFirst() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(2);
+        cache.put("expired", verified(NOW - 1), NOW - 10);
+        cache.put("live", verified(NOW + 1000), NOW - 10);
+
+        cache.put("new", verified(NOW + 1000), NOW);
+
+        assertThat(cache.get("live", NOW)).isNotNull();
+        assertThat(cache.get("new", NOW)).isNotNull();
+    }
+
+    @Test
+    void fullCacheOfLiveEntriesIsCleared() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(2);
+        cache.put("a", verified(NOW + 1000), NOW);
+        cache.put("b", verified(NOW + 1000), NOW);
+
+        cache.put("c", verified(NOW + 1000), NOW);
+
+        assertThat(cache.get("a", NOW)).isNull();
+        assertThat(cache.get("b", NOW)).isNull();
+        assertThat(cache.get("c", NOW)).isNotNull();
+    }
+
+    @Test
+    void digestDiffersForAnyChangeAndDoesNotContainToken() {
+        String digest = VerifiedTokenCache.digest("header.payload.signature");
+
+        assertThat(digest).hasSize(64).doesNotContain("payload");
+        assertThat(VerifiedTokenCache.digest("header.payload.signaturf")).isNotEqualTo(digest);
+        assertThat(VerifiedTokenCache.digest("header.payload.signature")).isEqualTo(digest);
+    }
+
+    private static VerifiedTokenCache.Verified verified(long expiresAtMillis) {
+        return new VerifiedTokenCache.Verified("handle", 1L, "USER", 1, expiresAtMillis);
+    }
+}
@@ -0,0 +1,99 @@
+package com.hcproj.healthcareprojectbackend.global.store.aijob;
+
+import com.hcproj.healthcareprojectbackend.global.config.properties.AiJobProperties;
+import com.hcproj.healthcareprojectbackend.support.RedisContainerSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AiJobStoreTest extends RedisContainerSupport {
+
+    private static final String TYPE = "workout-routine";
+
+    private AiJobStore store;
+    private AiJobProperties props;
+
+    @BeforeEach
+    void setUp() {
+        props = new AiJobProperties();
+        store = new AiJobStore(redis, props);
+    }
+
+    @Test
+    void concurrentSubmissionsCreateExactlyOneJob() throws Exception {
+        int callers = 16;
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<AiJobStore.Submission>> futures = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    return store.createOrReuse(TYPE, 1L, "same-request");
+                }));
+            }
+            start.countDown();
+
+            List<AiJobStore.Submission> submissions = new ArrayList<>();
+            for (Future<AiJobStore.Submission> f : futures) submissions.add(f.get(10, TimeUnit.SECONDS));
+
+            assertThat(submissions).filteredOn(AiJobStore.Submission::created).hasSize(1);
+            assertThat(submissions).extracting(AiJobStore.Submission::jobId).containsOnly(submissions.get(0).jobId());
+            assertThat(store.find(TYPE, submissions.get(0).jobId()).status()).isEqualTo(AiJobStatus.PENDING);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void failedJobIsReplacedByNewJob() {
+        AiJobStore.Submission first = store.createOrReuse(TYPE, 1L, "req");
+        store.fail(TYPE, first.jobId(), "AI-001");
+
+        AiJobStore.Submission second = store.createOrReuse(TYPE, 1L, "req");
+
+        assertThat(second.created()).isTrue();
+        assertThat(second.jobId()).isNotEqualTo(first.jobId());
+    }
+
+    @Test
+    void doneJobIsReused() {
+        AiJobStore.Submission first = store.createOrReuse(TYPE, 1L, "req");
+        store.complete(TYPE, first.jobId(), "{}");
+
+        AiJobStore.Submission second = store.createOrReuse(TYPE, 1L, "req");
+
+        assertThat(second.created()).isFalse();
+        assertThat(second.jobId()).isEqualTo(first.jobId());
+    }
+
+    @Test
+    void liveDedupKeyWithoutJobHashIsTreatedAsPending() {
+        AiJobStore.Submission first = store.createOrReuse(TYPE, 1L, "req");
+        redis.delete(props.getPrefix() + TYPE + ":" + first.jobId());
+
+        AiJobStore.Submission second = store.createOrReuse(TYPE, 1L, "req");
+
+        assertThat(second.created()).isFalse();
+        assertThat(second.jobId()).isEqualTo(first.jobId());
+    }
+
+    @Test
+    void differentUsersGetDifferentJobs() {
+        AiJobStore.Submission a = store.createOrReuse(TYPE, 1L, "req");
+        AiJobStore.Submission b = store.createOrReuse(TYPE, 2L, "req");
+
+        assertThat(a.created()).isTrue();
+        assertThat(b.created()).isTrue();
+        assertThat(a.jobId()).isNotEqualTo(b.jobId());
+    }
+}
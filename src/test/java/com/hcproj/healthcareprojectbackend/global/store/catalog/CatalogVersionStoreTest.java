@@ -0,0 +1,116 @@
+package com.hcproj.healthcareprojectbackend.global.store.catalog;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CatalogVersionStoreTest {
+
+    private static final String FOOD_KEY = "catalog:ver:FOOD";
+    private static final long INTERVAL = CatalogVersionStore.RECHECK_INTERVAL.toMillis();
+
+    private final StringRedisTemplate redis = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> ops = mock(ValueOperations.class);
+
+    private CatalogVersionStore store;
+    private long now;
+
+    @BeforeEach
+    void setUp() {
+        when(redis.opsForValue()).thenReturn(ops);
+        store = new CatalogVersionStore(redis);
+        now = 1_000_000L;
+    }
+
+    @Test
+    void missedMessageIsPickedUpOnNextRecheck() {
+        when(ops.get(FOOD_KEY)).thenReturn("3");
+        long initial = store.generation(CatalogType.FOOD, now);
+
+        // 다른 노드의 변경 메시지를 놓쳐 Redis 버전만 올라간 상황
+        when(ops.get(FOOD_KEY)).thenReturn("4");
+        assertThat(store.generation(CatalogType.FOOD, now + INTERVAL - 1)).isEqualTo(initial);
+        assertThat(store.generation(CatalogType.FOOD, now + INTERVAL)).isEqualTo(initial + 1);
+        verify(ops, times(2)).get(FOOD_KEY);
+    }
+
+    @Test
+    void recheckIsSkippedWithinInterval() {
+        when(ops.get(FOOD_KEY)).thenReturn("1");
+
+        store.generation(CatalogType.FOOD, now);
+        store.generation(CatalogType.FOOD, now + 1);
+        store.generation(CatalogType.FOOD, now + INTERVAL / 2);
+
+        verify(ops, times(1)).get(FOOD_KEY);
+    }
+
+    @Test
+    void receivedMessageIsNotCountedAgainOnRecheck() {
+        when(ops.get(FOOD_KEY)).thenReturn("3");
+        long initial = store.generation(CatalogType.FOOD, now);
+
+        store.onInvalidate("FOOD:4");
+        when(ops.get(FOOD_KEY)).thenReturn("4");
+
+        assertThat(store.generation(CatalogType.FOOD, now + INTERVAL)).isEqualTo(initial + 1);
+    }
+
+    @Test
+    void ownBumpIsNotCountedAgainOnRecheck() {
+        when(ops.get(FOOD_KEY)).thenReturn("3");
+        long initial = store.generation(CatalogType.FOOD, now);
+        when(ops.increment(FOOD_KEY)).thenReturn(4L);
+
+        store.bumpAfterCommit(CatalogType.FOOD);
+        when(ops.get(FOOD_KEY)).thenReturn("4");
+
+        assertThat(store.generation(CatalogType.FOOD, now + INTERVAL)).isEqualTo(initial + 1);
+        verify(redis).convertAndSend(CatalogVersionStore.CHANNEL, "FOOD:4");
+    }
+
+    @Test
+    void redisResetInvalidatesSnapshot() {
+        when(ops.get(FOOD_KEY)).thenReturn("10");
+        long initial = store.generation(CatalogType.FOOD, now);
+
+        when(ops.get(FOOD_KEY)).thenReturn(null);
+
+        assertThat(store.generation(CatalogType.FOOD, now + INTERVAL)).isEqualTo(initial + 1);
+    }
+
+    @Test
+    void redisFailureKeepsCurrentGenerationAndRetriesLater() {
+        when(ops.get(FOOD_KEY)).thenReturn("2");
+        long initial = store.generation(CatalogType.FOOD, now);
+
+        when(ops.get(FOOD_KEY)).thenThrow(new RedisConnectionFailureException("down"));
+        assertThat(store.generation(CatalogType.FOOD, now + INTERVAL)).isEqualTo(initial);
+
+        doReturn("3").when(ops).get(FOOD_KEY);
+        assertThat(store.generation(CatalogType.FOOD, now + 2 * INTERVAL)).isEqualTo(initial + 1);
+    }
+
+    @Test
+    void typesAreTrackedIndependently() {
+        when(ops.get(FOOD_KEY)).thenReturn("1");
+        when(ops.get("catalog:ver:EXERCISE")).thenReturn("1");
+        long food = store.generation(CatalogType.FOOD, now);
+        long exercise = store.generation(CatalogType.EXERCISE, now);
+
+        store.onInvalidate("EXERCISE:2");
+
+        assertThat(store.generation(CatalogType.FOOD, now + 1)).isEqualTo(food);
+        assertThat(store.generation(CatalogType.EXERCISE, now + 1)).isEqualTo(exercise + 1);
+    }
+}
@@ -0,0 +1,91 @@
+package com.hcproj.healthcareprojectbackend.global.store.feed;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FeedVersionStoreTest {
+
+    private static final String VERSION_KEY = "feed:ver";
+
+    private final StringRedisTemplate redis = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> ops = mock(ValueOperations.class);
+
+    private FeedVersionStore store;
+
+    @BeforeEach
+    void setUp() {
+        when(redis.opsForValue()).thenReturn(ops);
+        store = new FeedVersionStore(redis);
+    }
+
+    @Test
+    void firstReadLoadsFromRedisOnce() {
+        when(ops.get(VERSION_KEY)).thenReturn("4");
+
+        assertThat(store.version()).isEqualTo(4);
+        assertThat(store.version()).isEqualTo(4);
+        verify(ops, times(1)).get(VERSION_KEY);
+    }
+
+    @Test
+    void missingKeyStartsAtZero() {
+        when(ops.get(VERSION_KEY)).thenReturn(null);
+
+        assertThat(store.version()).isZero();
+    }
+
+    @Test
+    void redisDownReturnsUnknownAndRetriesOnNextCall() {
+        when(ops.get(VERSION_KEY)).thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(store.version()).isEqualTo(-1);
+
+        doReturn("2").when(ops).get(VERSION_KEY);
+        assertThat(store.version()).isEqualTo(2);
+    }
+
+    @Test
+    void bumpAdvancesLocalVersionAndPublishes() {
+        when(ops.get(VERSION_KEY)).thenReturn("4");
+        when(ops.increment(VERSION_KEY)).thenReturn(5L);
+        store.version();
+
+        store.bumpAfterCommit();
+
+        assertThat(store.version()).isEqualTo(5);
+        verify(redis).convertAndSend(FeedVersionStore.CHANNEL, "5");
+    }
+
+    @Test
+    void failedBumpFallsBackToRedisRead() {
+        when(ops.get(VERSION_KEY)).thenReturn("4");
+        store.version();
+        when(ops.increment(VERSION_KEY)).thenThrow(new RedisConnectionFailureException("down"));
+
+        store.bumpAfterCommit();
+        doReturn("6").when(ops).get(VERSION_KEY);
+
+        assertThat(store.version()).isEqualTo(6);
+        verify(ops, times(2)).get(VERSION_KEY);
+    }
+
+    @Test
+    void outOfOrderInvalidateDoesNotLowerVersion() {
+        store.onInvalidate("7");
+        store.onInvalidate("6");
+        store.onInvalidate("not-a-number");
+
+        assertThat(store.version()).isEqualTo(7);
+    }
+}
@@ -0,0 +1,66 @@
+package com.hcproj.healthcareprojectbackend.global.store.postlike;
+
+import com.hcproj.healthcareprojectbackend.global.config.properties.PostLikeProperties;
+import com.hcproj.healthcareprojectbackend.support.RedisContainerSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostLikeCounterStoreTest extends RedisContainerSupport {
+
+    private PostLikeCounterStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new PostLikeCounterStore(redis, new PostLikeProperties());
+    }
+
+    @Test
+    void addsOfOnePostGoToOneCounterKey() {
+        for (int i = 0; i < 40; i++) store.add(7L, 1);
+
+        assertThat(redis.keys("like:c:*")).containsExactly("like:c:7");
+        assertThat(redis.opsForValue().get("like:c:7")).isEqualTo("40");
+    }
+
+    @Test
+    void pendingReturnsNonZeroDeltasPerPost() {
+        for (int i = 0; i < 10; i++) store.add(1L, 1);
+        store.add(2L, 1);
+        store.add(2L, -1);
+        store.add(3L, -2);
+
+        Map<Long, Long> pending = store.pending(List.of(1L, 2L, 3L, 4L));
+
+        assertThat(pending).containsOnly(Map.entry(1L, 10L), Map.entry(3L, -2L));
+    }
+
+    @Test
+    void drainTakesEachDeltaOnce() {
+        for (int i = 0; i < 5; i++) store.add(1L, 1);
+        store.add(2L, 3);
+
+        SortedMap<Long, Long> first = store.drain(10);
+        SortedMap<Long, Long> second = store.drain(10);
+
+        assertThat(first).containsExactly(Map.entry(1L, 5L), Map.entry(2L, 3L));
+        assertThat(second).isEmpty();
+        assertThat(store.pending(List.of(1L, 2L))).isEmpty();
+    }
+
+    @Test
+    void restoredDeltasAreDrainedAgain() {
+        store.add(1L, 2);
+        SortedMap<Long, Long> drained = store.drain(10);
+
+        store.restore(drained);
+
+        assertThat(store.pending(List.of(1L))).containsOnly(Map.entry(1L, 2L));
+        assertThat(store.drain(10)).containsExactly(Map.entry(1L, 2L));
+    }
+}
@@ -0,0 +1,71 @@
+package com.hcproj.healthcareprojectbackend.global.store.ratelimit;
+
+import com.hcproj.healthcareprojectbackend.support.RedisContainerSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlidingWindowRateLimitStoreTest extends RedisContainerSupport {
+
+    private static final long WINDOW_MS = 60_000;
+    private static final String USER_KEY = "rl:post-write:user:1";
+    private static final String IP_KEY = "rl:post-write-ip:ip:10.0.0.1";
+
+    private SlidingWindowRateLimitStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new SlidingWindowRateLimitStore(redis);
+    }
+
+    @Test
+    void hit_allowsUpToLimitThenRejectsWithRetryAfter() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(store.hit(USER_KEY, 3, WINDOW_MS)).isZero();
+        }
+
+        long retryAfter = store.hit(USER_KEY, 3, WINDOW_MS);
+
+        assertThat(retryAfter).isBetween(1L, WINDOW_MS);
+        assertThat(count(USER_KEY)).isEqualTo(3);
+    }
+
+    @Test
+    void hitAll_allowed_incrementsEveryKey() {
+        assertThat(store.hitAll(limits(5, 10))).isZero();
+        assertThat(store.hitAll(limits(5, 10))).isZero();
+
+        assertThat(count(USER_KEY)).isEqualTo(2);
+        assertThat(count(IP_KEY)).isEqualTo(2);
+    }
+
+    @Test
+    void hitAll_rejectedByOneKey_doesNotSpendOtherKeys() {
+        // IP 한도(2)가 USER 한도(5)보다 먼저 찬다.
+        assertThat(store.hitAll(limits(5, 2))).isZero();
+        assertThat(store.hitAll(limits(5, 2))).isZero();
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(store.hitAll(limits(5, 2))).isPositive();
+        }
+
+        assertThat(count(USER_KEY)).isEqualTo(2);
+        assertThat(count(IP_KEY)).isEqualTo(2);
+        // 같은 사용자가 다른 IP에서 오면 USER 한도는 그대로 남아 있다.
+        assertThat(store.hit(USER_KEY, 5, WINDOW_MS)).isZero();
+    }
+
+    private static List<SlidingWindowRateLimitStore.Limit> limits(int userLimit, int ipLimit) {
+        return List.of(
+                new SlidingWindowRateLimitStore.Limit(USER_KEY, userLimit, WINDOW_MS),
+                new SlidingWindowRateLimitStore.Limit(IP_KEY, ipLimit, WINDOW_MS));
+    }
+
+    private static long count(String key) {
+        Object cur = redis.opsForHash().get(key, "cur");
+        return cur == null ? 0 : Long.parseLong(cur.toString());
+    }
+}
@@ -0,0 +1,136 @@
+package com.hcproj.healthcareprojectbackend.me.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hcproj.healthcareprojectbackend.auth.entity.UserEntity;
+import com.hcproj.healthcareprojectbackend.auth.repository.UserRepository;
+import com.hcproj.healthcareprojectbackend.global.config.JpaConfig;
+import com.hcproj.healthcareprojectbackend.global.exception.BusinessException;
+import com.hcproj.healthcareprojectbackend.global.exception.ErrorCode;
+import com.hcproj.healthcareprojectbackend.global.security.jwt.TokenVersionStore;
+import com.hcproj.healthcareprojectbackend.global.security.password.PasswordHashingService;
+import com.hcproj.healthcareprojectbackend.me.dto.request.PasswordChangeRequestDTO;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+/**
+ * 비밀번호 변경의 BCrypt 검증/해시가 DB 커넥션을 잡지 않은 채 수행되고,
+ * 저장이 조건부 UPDATE로 동작하는지 검증한다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaConfig.class, MeService.class})
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:me-password;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MeServicePasswordTest {
+
+    private static final String CURRENT = "current1!";
+    private static final String NEXT = "next1234!";
+    private static final String OLD_HASH = "$2a$12$old";
+    private static final String NEW_HASH = "$2a$12$new";
+
+    @MockitoBean
+    PasswordHashingService passwordHashingService;
+    @MockitoBean
+    TokenVersionStore tokenVersionStore;
+    @MockitoBean
+    ObjectMapper objectMapper;
+
+    @Autowired
+    MeService meService;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    DataSource dataSource;
+
+    private HikariPoolMXBean pool;
+    private final List<Integer> activeDuringHashing = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+    }
+
+    @Test
+    void changePassword_hashesWithoutHoldingConnection() {
+        UserEntity user = newUser();
+        when(passwordHashingService.matches(CURRENT, OLD_HASH)).thenAnswer(invocation -> {
+            activeDuringHashing.add(pool.getActiveConnections());
+            return true;
+        });
+        when(passwordHashingService.encode(NEXT)).thenAnswer(invocation -> {
+            activeDuringHashing.add(pool.getActiveConnections());
+            return NEW_HASH;
+        });
+
+        meService.changePassword(user.getId(), new PasswordChangeRequestDTO(CURRENT, NEXT));
+
+        assertThat(activeDuringHashing).containsExactly(0, 0);
+        assertThat(storedHash(user)).isEqualTo(NEW_HASH);
+    }
+
+    @Test
+    void changePassword_rejectsWhenPasswordChangedDuringHashing() {
+        UserEntity user = newUser();
+        when(passwordHashingService.matches(CURRENT, OLD_HASH)).thenReturn(true);
+        when(passwordHashingService.encode(NEXT)).thenAnswer(invocation -> {
+            // 해시 계산 도중 다른 요청의 비밀번호 변경이 먼저 커밋된 상황
+            jdbcTemplate.update("update users set password_hash = ? where user_id = ?", "$2a$12$other", user.getId());
+            return NEW_HASH;
+        });
+
+        assertThatThrownBy(() -> meService.changePassword(user.getId(), new PasswordChangeRequestDTO(CURRENT, NEXT)))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_PASSWORD);
+        assertThat(storedHash(user)).isEqualTo("$2a$12$other");
+    }
+
+    @Test
+    void changePassword_rejectsWrongCurrentPassword() {
+        UserEntity user = newUser();
+        when(passwordHashingService.matches(CURRENT, OLD_HASH)).thenReturn(false);
+
+        assertThatThrownBy(() -> meService.changePassword(user.getId(), new PasswordChangeRequestDTO(CURRENT, NEXT)))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_PASSWORD);
+        assertThat(storedHash(user)).isEqualTo(OLD_HASH);
+    }
+
+    private UserEntity newUser() {
+        String unique = UUID.randomUUID().toString().substring(0, 8);
+        return userRepository.save(UserEntity.localRegister(
+                unique + "@test.com", UserEntity.newHandle(), OLD_HASH, "user" + unique, null, null));
+    }
+
+    private String storedHash(UserEntity user) {
+        return jdbcTemplate.queryForObject(
+                "select password_hash from users where user_id = ?", String.class, user.getId());
+    }
+}
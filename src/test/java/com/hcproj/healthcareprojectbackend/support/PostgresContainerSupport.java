@@ -0,0 +1,45 @@
+package com.hcproj.healthcareprojectbackend.support;
+
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * 실제 PostgreSQL(Testcontainers)에 Flyway 마이그레이션을 적용해 붙는 JPA 테스트용 컨테이너.
+ *
+ * <p>
+ * 컨테이너는 JVM당 한 번만 띄우고 테스트 클래스끼리 공유한다(종료는 Testcontainers가 처리).
+ * 스키마는 prod와 같이 Flyway로 만들고 {@code ddl-auto=validate}로 엔티티와 맞는지 확인한다.
+ * 데이터는 비우지 않으므로 테스트는 서로 겹치지 않는 사용자/날짜를 써야 한다.
+ * </p>
+ *
+ * <p>
+ * 사용하는 테스트 클래스는 {@code @Testcontainers(disabledWithoutDocker = true)}를 붙이고
+ * {@code @DynamicPropertySource}에서 {@link #register}를 호출한다.
+ * </p>
+ */
+public final class PostgresContainerSupport {
+
+    private static PostgreSQLContainer<?> container;
+
+    private PostgresContainerSupport() {}
+
+    public static void register(DynamicPropertyRegistry registry) {
+        PostgreSQLContainer<?> postgres = start();
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.flyway.locations", () -> "classpath:db/migration");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+    }
+
+    private static synchronized PostgreSQLContainer<?> start() {
+        if (container == null) {
+            container = new PostgreSQLContainer<>(DockerImageName.parse("postgres:16-alpine"));
+            container.start();
+        }
+        return container;
+    }
+}
@@ -0,0 +1,49 @@
+package com.hcproj.healthcareprojectbackend.support;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * 실제 Redis(Testcontainers)에 붙는 스토어 테스트의 공통 기반.
+ *
+ * <p>
+ * 컨테이너는 JVM당 한 번만 띄우고 테스트 클래스끼리 공유한다(종료는 Testcontainers가 처리).
+ * 각 테스트 전에 FLUSHALL로 비운다. Docker가 없으면 테스트를 건너뛴다.
+ * </p>
+ */
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class RedisContainerSupport {
+
+    private static GenericContainer<?> container;
+
+    protected static StringRedisTemplate redis;
+
+    @BeforeAll
+    static void startRedis() {
+        if (container != null) return;
+
+        container = new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+        container.start();
+
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(container.getHost(), container.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redis = new StringRedisTemplate(connectionFactory);
+    }
+
+    @BeforeEach
+    void flushRedis() {
+        redis.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+    }
+}
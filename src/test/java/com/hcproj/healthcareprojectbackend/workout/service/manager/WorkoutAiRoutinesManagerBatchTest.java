@@ -0,0 +1,110 @@
+package com.hcproj.healthcareprojectbackend.workout.service.manager;
+
+import com.hcproj.healthcareprojectbackend.global.config.JpaConfig;
+import com.hcproj.healthcareprojectbackend.workout.ai.dto.WorkoutAiRoutineResult;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AI 주간 루틴 저장이 pooled sequence + JDBC batch로 몇 번의 statement 안에 끝나는지 검증한다.
+ *
+ * <p>
+ * Hibernate {@link Statistics}의 prepared statement 수를 센다. batch는 SQL당 statement 1개로 잡히므로,
+ * IDENTITY였다면 행 수만큼 나오던 값이 조회 + sequence + 테이블별 insert 수준으로 줄어야 한다.
+ * </p>
+ *
+ * <p>
+ * batch 설정(batch_size/order_inserts)은 덮어쓰지 않고 배포되는 application.properties 값을 그대로 쓴다.
+ * </p>
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaConfig.class, WorkoutAiRoutinesManager.class})
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:workout-batch;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class WorkoutAiRoutinesManagerBatchTest {
+
+    private static final long USER_ID = 1L;
+    private static final int DAYS = 7;
+    private static final int ITEMS_PER_DAY = 6;
+
+    @Autowired
+    WorkoutAiRoutinesManager manager;
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void shippedBatchSettingsAreInEffect() {
+        assertThat(entityManagerFactory.getProperties().get("hibernate.jdbc.batch_size")).hasToString("50");
+        assertThat(entityManagerFactory.getProperties().get("hibernate.order_inserts")).hasToString("true");
+    }
+
+    @Test
+    void replaceRoutines_insertsWeekInBatches() {
+        LocalDate start = LocalDate.of(2026, 1, 5);
+
+        WorkoutAiRoutinesManager.Persisted persisted =
+                manager.replaceRoutines(USER_ID, start, start.plusDays(DAYS - 1), week(start));
+
+        int rows = DAYS + DAYS * ITEMS_PER_DAY;
+        assertThat(persisted.items()).hasSize(DAYS * ITEMS_PER_DAY);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(rows);
+
+        // 조회 2 + sequence(테이블당 최대 2) + insert batch(테이블당 1)
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(8);
+    }
+
+    @Test
+    void replaceRoutines_secondRunReusesSequenceBlock() {
+        LocalDate start = LocalDate.of(2026, 2, 2);
+        manager.replaceRoutines(USER_ID, start, start.plusDays(DAYS - 1), week(start));
+        statistics.clear();
+
+        manager.replaceRoutines(USER_ID, start, start.plusDays(DAYS - 1), week(start));
+
+        // 조회 3 + 삭제 2 + sequence(테이블당 최대 1) + insert batch(테이블당 1)
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(DAYS + DAYS * ITEMS_PER_DAY);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(9);
+    }
+
+    private static WorkoutAiRoutineResult week(LocalDate start) {
+        List<WorkoutAiRoutineResult.Day> days = new ArrayList<>();
+        for (int d = 0; d < DAYS; d++) {
+            List<WorkoutAiRoutineResult.Item> items = new ArrayList<>();
+            for (int i = 0; i < ITEMS_PER_DAY; i++) {
+                items.add(new WorkoutAiRoutineResult.Item(i + 1, (long) (i + 1), 3, 10, 60, null, null, 7, null));
+            }
+            days.add(new WorkoutAiRoutineResult.Day(start.plusDays(d), "루틴 " + (d + 1), 60, items));
+        }
+        return new WorkoutAiRoutineResult(List.of(), days);
+    }
+}